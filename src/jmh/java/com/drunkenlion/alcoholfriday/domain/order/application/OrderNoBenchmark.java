@@ -0,0 +1,52 @@
+package com.drunkenlion.alcoholfriday.domain.order.application;
+
+import com.drunkenlion.alcoholfriday.domain.order.util.OrderUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문 고유번호 생성 비교
+ * - legacy : 기존 Order.genOrderNo (저장 후 생성 일자와 식별자로 조합)
+ * - snowflake : OrderNoGenerator (저장 전 발급)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class OrderNoBenchmark {
+    private final OrderNoGenerator orderNoGenerator = new OrderNoGenerator(0L);
+    // 기존 방식의 주문 식별자 (DB IDENTITY 대신)
+    private final AtomicLong orderId = new AtomicLong();
+
+    @Benchmark
+    public String legacy() {
+        LocalDateTime createdAt = LocalDateTime.now();
+
+        StringBuilder orderNo = new StringBuilder();
+        orderNo.append(OrderUtil.date.getDate(createdAt)).append("-");
+        orderNo.append(OrderUtil.date.getTime()).append("-");
+        orderNo.append(OrderUtil.date.getTimeMillis(createdAt)).append("-");
+        orderNo.append(orderId.incrementAndGet());
+
+        return orderNo.toString();
+    }
+
+    @Benchmark
+    public String snowflake() {
+        return orderNoGenerator.next();
+    }
+
+    @Benchmark
+    public long decode() {
+        return OrderNoGenerator.getEpochMilli(orderNoGenerator.next());
+    }
+}
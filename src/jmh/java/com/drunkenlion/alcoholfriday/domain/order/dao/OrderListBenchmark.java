@@ -0,0 +1,140 @@
+package com.drunkenlion.alcoholfriday.domain.order.dao;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 관리자 주문 목록의 마지막 결제 조인 비교 (주문 100만 건 x 결제 3건)
+ * - antiJoin : 기존 방식 (주문의 결제 중 더 큰 식별자가 없는 결제를 self anti-join 으로 찾음)
+ * - latestPayment : orders.latest_payment_id 로 한 번만 조인
+ * MySQL 이 필요하다. 접속 정보는 -Dbenchmark.jdbc.url, -Dbenchmark.jdbc.username, -Dbenchmark.jdbc.password 로 바꾼다.
+ * 처음 실행할 때 전용 테이블(bench_orders, bench_payment)에 데이터를 만들고, 다음부터는 그대로 쓴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OrderListBenchmark {
+    private static final int ORDER_COUNT = 1_000_000;
+    private static final int PAYMENTS_PER_ORDER = 3;
+    private static final int PAGE_SIZE = 20;
+    private static final int BATCH_SIZE = 10_000;
+
+    private static final String ANTI_JOIN =
+            "SELECT o.id, p.id FROM bench_orders o "
+                    + "LEFT JOIN bench_payment p ON p.order_id = o.id "
+                    + "LEFT JOIN bench_payment p2 ON p2.order_id = o.id AND p.id < p2.id "
+                    + "WHERE p2.id IS NULL "
+                    + "ORDER BY o.id DESC LIMIT ?, ?";
+    private static final String LATEST_PAYMENT =
+            "SELECT o.id, p.id FROM bench_orders o "
+                    + "LEFT JOIN bench_payment p ON p.id = o.latest_payment_id "
+                    + "ORDER BY o.id DESC LIMIT ?, ?";
+
+    @Param({"0", "1000"})
+    private int page;
+
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.jdbc.url", "jdbc:mysql://localhost:3306/alcohol_friday_bench?rewriteBatchedStatements=true"),
+                System.getProperty("benchmark.jdbc.username", "root"),
+                System.getProperty("benchmark.jdbc.password", ""));
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS bench_orders "
+                    + "(id BIGINT PRIMARY KEY, latest_payment_id BIGINT)");
+            statement.execute("CREATE TABLE IF NOT EXISTS bench_payment "
+                    + "(id BIGINT PRIMARY KEY, order_id BIGINT, INDEX idx_bench_payment_order (order_id))");
+
+            try (ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM bench_orders")) {
+                rs.next();
+                if (rs.getLong(1) == ORDER_COUNT) {
+                    return;
+                }
+            }
+
+            statement.execute("TRUNCATE TABLE bench_orders");
+            statement.execute("TRUNCATE TABLE bench_payment");
+        }
+
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public long antiJoin() throws SQLException {
+        return query(ANTI_JOIN);
+    }
+
+    @Benchmark
+    public long latestPayment() throws SQLException {
+        return query(LATEST_PAYMENT);
+    }
+
+    private long query(String sql) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setInt(1, page * PAGE_SIZE);
+            ps.setInt(2, PAGE_SIZE);
+
+            long sum = 0L;
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    sum += rs.getLong(2);
+                }
+            }
+            return sum;
+        }
+    }
+
+    // 주문마다 결제 3건, 마지막 결제를 latest_payment_id 로 가리킨다.
+    private void seed() throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement orders = connection.prepareStatement("INSERT INTO bench_orders (id, latest_payment_id) VALUES (?, ?)");
+             PreparedStatement payments = connection.prepareStatement("INSERT INTO bench_payment (id, order_id) VALUES (?, ?)")) {
+            long paymentId = 0L;
+            for (long orderId = 1; orderId <= ORDER_COUNT; orderId++) {
+                for (int i = 0; i < PAYMENTS_PER_ORDER; i++) {
+                    payments.setLong(1, ++paymentId);
+                    payments.setLong(2, orderId);
+                    payments.addBatch();
+                }
+                orders.setLong(1, orderId);
+                orders.setLong(2, paymentId);
+                orders.addBatch();
+
+                if (orderId % BATCH_SIZE == 0) {
+                    orders.executeBatch();
+                    payments.executeBatch();
+                    connection.commit();
+                }
+            }
+            orders.executeBatch();
+            payments.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+}
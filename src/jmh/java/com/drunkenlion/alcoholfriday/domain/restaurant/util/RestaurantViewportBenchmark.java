@@ -0,0 +1,173 @@
+package com.drunkenlion.alcoholfriday.domain.restaurant.util;
+
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지도 영역 조회 비교 (서울 시내 영역에 무작위 매장)
+ * - index : RestaurantSpatialIndex (메모리 격자 색인)
+ * - sql : 기존 SQL 조회와 같은 ST_Intersects (restaurant.location 처럼 공간 색인 없음)
+ * - sqlSpatialIndex : 같은 조회를 SPATIAL INDEX 가 있는 테이블에 실행
+ * MySQL 이 필요하다. 접속 정보는 -Dbenchmark.jdbc.url, -Dbenchmark.jdbc.username, -Dbenchmark.jdbc.password 로 바꾼다.
+ * 처음 실행할 때 전용 테이블(bench_restaurant, bench_restaurant_spatial)에 데이터를 만들고, 매장 수가 같으면 다음부터는 그대로 쓴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RestaurantViewportBenchmark {
+    private static final double MIN_LATITUDE = 37.45;
+    private static final double MAX_LATITUDE = 37.70;
+    private static final double MIN_LONGITUDE = 126.80;
+    private static final double MAX_LONGITUDE = 127.15;
+    private static final int VIEWPORT_COUNT = 1024;
+    private static final int BATCH_SIZE = 10_000;
+
+    private static final String SELECT_IN_VIEWPORT =
+            "SELECT id FROM %s WHERE ST_Intersects(ST_PolygonFromText(?), location) ORDER BY id";
+
+    @Param({"10000", "100000"})
+    private int restaurantCount;
+
+    // 동네 단위 화면, 구 단위 화면
+    @Param({"0.01", "0.05"})
+    private double span;
+
+    private final RestaurantSpatialIndex index = new RestaurantSpatialIndex();
+    private final List<double[]> viewports = new ArrayList<>();
+    private int next;
+
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        Random random = new Random(restaurantCount);
+        List<RestaurantPoint> points = new ArrayList<>();
+        for (long id = 1; id <= restaurantCount; id++) {
+            points.add(new RestaurantPoint(id,
+                    MIN_LATITUDE + random.nextDouble() * (MAX_LATITUDE - MIN_LATITUDE),
+                    MIN_LONGITUDE + random.nextDouble() * (MAX_LONGITUDE - MIN_LONGITUDE)));
+        }
+        index.rebuild(points);
+
+        for (int i = 0; i < VIEWPORT_COUNT; i++) {
+            double swLatitude = MIN_LATITUDE + random.nextDouble() * (MAX_LATITUDE - MIN_LATITUDE - span);
+            double swLongitude = MIN_LONGITUDE + random.nextDouble() * (MAX_LONGITUDE - MIN_LONGITUDE - span);
+            viewports.add(new double[]{swLatitude + span, swLongitude + span, swLatitude, swLongitude});
+        }
+
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.jdbc.url", "jdbc:mysql://localhost:3306/alcohol_friday_bench?rewriteBatchedStatements=true"),
+                System.getProperty("benchmark.jdbc.username", "root"),
+                System.getProperty("benchmark.jdbc.password", ""));
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS bench_restaurant "
+                    + "(id BIGINT PRIMARY KEY, location POINT)");
+            statement.execute("CREATE TABLE IF NOT EXISTS bench_restaurant_spatial "
+                    + "(id BIGINT PRIMARY KEY, location POINT NOT NULL SRID 0, SPATIAL INDEX idx_bench_restaurant_location (location))");
+
+            try (ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM bench_restaurant")) {
+                rs.next();
+                if (rs.getLong(1) == restaurantCount) {
+                    return;
+                }
+            }
+
+            statement.execute("TRUNCATE TABLE bench_restaurant");
+            statement.execute("TRUNCATE TABLE bench_restaurant_spatial");
+        }
+
+        seed("bench_restaurant", points);
+        seed("bench_restaurant_spatial", points);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public int index() {
+        double[] viewport = nextViewport();
+        return index.search(viewport[0], viewport[1], viewport[2], viewport[3]).size();
+    }
+
+    @Benchmark
+    public int sql() throws SQLException {
+        return query("bench_restaurant");
+    }
+
+    @Benchmark
+    public int sqlSpatialIndex() throws SQLException {
+        return query("bench_restaurant_spatial");
+    }
+
+    private double[] nextViewport() {
+        next = (next + 1) % VIEWPORT_COUNT;
+        return viewports.get(next);
+    }
+
+    private int query(String table) throws SQLException {
+        double[] viewport = nextViewport();
+        // RestaurantRepositoryImpl.getRestaurant 와 같은 (경도 위도) 순서의 사각형
+        String polygon = String.format("POLYGON((%s %s, %s %s, %s %s, %s %s, %s %s))",
+                viewport[3], viewport[0],
+                viewport[1], viewport[0],
+                viewport[1], viewport[2],
+                viewport[3], viewport[2],
+                viewport[3], viewport[0]);
+
+        try (PreparedStatement ps = connection.prepareStatement(SELECT_IN_VIEWPORT.formatted(table))) {
+            ps.setString(1, polygon);
+
+            int count = 0;
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    private void seed(String table, List<RestaurantPoint> points) throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO " + table + " (id, location) VALUES (?, ST_GeomFromText(?))")) {
+            for (RestaurantPoint point : points) {
+                ps.setLong(1, point.getRestaurantId());
+                ps.setString(2, "POINT(" + point.getLongitude() + " " + point.getLatitude() + ")");
+                ps.addBatch();
+
+                if (point.getRestaurantId() % BATCH_SIZE == 0) {
+                    ps.executeBatch();
+                    connection.commit();
+                }
+            }
+            ps.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.drunkenlion.alcoholfriday.global.common.vo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 금액 계산 비교 (상품 가격 x 수량의 합 + 배송비)
+ * - bigDecimal : 기존 BigDecimal multiply / add
+ * - money : 원 단위 long 계산 후 한 번만 BigDecimal 로 변환
+ * - scale 3 은 DECIMAL(64, 3) 컬럼에서 읽은 값과 같다.
+ * 할당량은 gc 프로파일러의 gc.alloc.rate.norm (연산 한 번당 할당 바이트)으로 비교한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MoneyBenchmark {
+    @Param({"1", "20"})
+    private int lines;
+
+    @Param({"0", "3"})
+    private int scale;
+
+    private BigDecimal[] prices;
+    private long[] quantities;
+    private BigDecimal deliveryPrice;
+
+    @Setup
+    public void setup() {
+        prices = new BigDecimal[lines];
+        quantities = new long[lines];
+        for (int i = 0; i < lines; i++) {
+            prices[i] = BigDecimal.valueOf(10_000L + i * 500L).setScale(scale);
+            quantities[i] = i % 3 + 1;
+        }
+        deliveryPrice = BigDecimal.valueOf(2500).setScale(scale);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        BigDecimal price = BigDecimal.ZERO;
+        for (int i = 0; i < lines; i++) {
+            price = price.add(BigDecimal.valueOf(quantities[i]).multiply(prices[i]));
+        }
+        return price.add(deliveryPrice);
+    }
+
+    @Benchmark
+    public BigDecimal money() {
+        Money price = Money.ZERO;
+        for (int i = 0; i < lines; i++) {
+            price = price.plus(Money.of(prices[i]).times(quantities[i]));
+        }
+        return price.plus(Money.of(deliveryPrice)).toBigDecimal();
+    }
+}
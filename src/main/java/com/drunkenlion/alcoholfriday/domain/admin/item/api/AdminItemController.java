@@ -6,6 +6,10 @@ import com.drunkenlion.alcoholfriday.domain.admin.item.dto.ItemDetailResponse;
 import com.drunkenlion.alcoholfriday.domain.admin.item.dto.ItemListResponse;
 import com.drunkenlion.alcoholfriday.domain.admin.item.dto.ItemModifyRequest;
 import com.drunkenlion.alcoholfriday.global.common.response.PageResponse;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadCompleteRequest;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadRequest;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadResponse;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.NcpFileResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -50,7 +54,7 @@ public class AdminItemController {
     @PostMapping
     public ResponseEntity<ItemDetailResponse> createItem(
             @Valid @RequestPart("itemRequest") ItemCreateRequest itemCreateRequest,
-            @RequestPart("files") List<MultipartFile> files
+            @RequestPart(value = "files", required = false) List<MultipartFile> files
     ) {
         ItemDetailResponse itemDetailResponse = adminItemService.createItem(itemCreateRequest, files);
 
@@ -68,12 +72,32 @@ public class AdminItemController {
     public ResponseEntity<ItemDetailResponse> modifyItem(
             @PathVariable("id") Long id,
             @Valid @RequestPart("itemRequest") ItemModifyRequest itemModifyRequest,
-            @RequestPart("files") List<MultipartFile> files
+            @RequestPart(value = "files", required = false) List<MultipartFile> files
     ) {
         ItemDetailResponse itemDetailResponse = adminItemService.modifyItem(id, itemModifyRequest, itemModifyRequest.getRemove(), files);
         return ResponseEntity.ok().body(itemDetailResponse);
     }
 
+    @Operation(summary = "상품 이미지 직접 업로드 URL 발급", description = "발급한 URL 로 파일을 PUT 한 후 업로드 완료를 요청")
+    @PostMapping("{id}/uploads")
+    public ResponseEntity<List<FileUploadResponse>> createUploads(
+            @PathVariable("id") Long id,
+            @Valid @RequestBody FileUploadRequest fileUploadRequest
+    ) {
+        List<FileUploadResponse> fileUploadResponses = adminItemService.createUploads(id, fileUploadRequest);
+        return ResponseEntity.ok().body(fileUploadResponses);
+    }
+
+    @Operation(summary = "상품 이미지 직접 업로드 완료", description = "업로드한 파일을 확인하고 상품 이미지 뒤에 추가")
+    @PostMapping("{id}/uploads/complete")
+    public ResponseEntity<NcpFileResponse> completeUploads(
+            @PathVariable("id") Long id,
+            @Valid @RequestBody FileUploadCompleteRequest fileUploadCompleteRequest
+    ) {
+        NcpFileResponse ncpFileResponse = adminItemService.completeUploads(id, fileUploadCompleteRequest);
+        return ResponseEntity.ok().body(ncpFileResponse);
+    }
+
     @Operation(summary = "상품 삭제", description = "관리자 권한에 대한 상품 삭제")
     @DeleteMapping("{id}")
     public ResponseEntity<Void> deleteItem(
@@ -4,6 +4,10 @@ import com.drunkenlion.alcoholfriday.domain.admin.item.dto.ItemCreateRequest;
 import com.drunkenlion.alcoholfriday.domain.admin.item.dto.ItemDetailResponse;
 import com.drunkenlion.alcoholfriday.domain.admin.item.dto.ItemListResponse;
 import com.drunkenlion.alcoholfriday.domain.admin.item.dto.ItemModifyRequest;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadCompleteRequest;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadRequest;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadResponse;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.NcpFileResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -15,4 +19,6 @@ public interface AdminItemService {
     ItemDetailResponse createItem(ItemCreateRequest itemCreateRequest, List<MultipartFile> files);
     ItemDetailResponse modifyItem(Long id, ItemModifyRequest itemModifyRequest, List<Integer> remove, List<MultipartFile> files);
     void deleteItem(Long id);
+    List<FileUploadResponse> createUploads(Long id, FileUploadRequest request);
+    NcpFileResponse completeUploads(Long id, FileUploadCompleteRequest request);
 }
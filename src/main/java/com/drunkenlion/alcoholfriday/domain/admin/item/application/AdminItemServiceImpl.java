@@ -9,13 +9,19 @@ import com.drunkenlion.alcoholfriday.domain.item.dao.ItemProductRepository;
 import com.drunkenlion.alcoholfriday.domain.item.dao.ItemRepository;
 import com.drunkenlion.alcoholfriday.domain.item.entity.Item;
 import com.drunkenlion.alcoholfriday.domain.item.entity.ItemProduct;
+import com.drunkenlion.alcoholfriday.domain.item.vo.ItemSearchIndexEvent;
 import com.drunkenlion.alcoholfriday.domain.product.dao.ProductRepository;
 import com.drunkenlion.alcoholfriday.domain.product.entity.Product;
 import com.drunkenlion.alcoholfriday.global.common.response.HttpResponse;
+import com.drunkenlion.alcoholfriday.global.common.vo.Money;
 import com.drunkenlion.alcoholfriday.global.exception.BusinessException;
 import com.drunkenlion.alcoholfriday.global.file.application.FileService;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadCompleteRequest;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadRequest;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadResponse;
 import com.drunkenlion.alcoholfriday.global.ncp.dto.NcpFileResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -38,6 +44,7 @@ public class AdminItemServiceImpl implements AdminItemService {
     private final ItemProductRepository itemProductRepository;
     private final CartDetailRepository cartDetailRepository;
     private final FileService fileService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Page<ItemListResponse> getItems(int page, int size) {
@@ -87,6 +94,7 @@ public class AdminItemServiceImpl implements AdminItemService {
         itemProductRepository.saveAll(itemProducts);
 
         NcpFileResponse file = fileService.saveFiles(item, files);
+        eventPublisher.publishEvent(ItemSearchIndexEvent.ofItem(item.getId()));
 
         return ItemDetailResponse.of(item, file);
     }
@@ -130,7 +138,7 @@ public class AdminItemServiceImpl implements AdminItemService {
         item = item.toBuilder()
                 .type(itemModifyRequest.getType())
                 .name(itemModifyRequest.getName())
-                .price(itemModifyRequest.getPrice())
+                .price(Money.requireWon(itemModifyRequest.getPrice()))
                 .info(itemModifyRequest.getInfo())
                 .category(category)
                 .itemProducts(newItemProducts)
@@ -140,6 +148,7 @@ public class AdminItemServiceImpl implements AdminItemService {
         itemRepository.save(item);
 
         NcpFileResponse file = fileService.updateFiles(item, remove, files);
+        eventPublisher.publishEvent(ItemSearchIndexEvent.ofItem(item.getId()));
 
         return ItemDetailResponse.of(item, file);
     }
@@ -181,5 +190,27 @@ public class AdminItemServiceImpl implements AdminItemService {
                 .build();
 
         itemRepository.save(item);
+        eventPublisher.publishEvent(ItemSearchIndexEvent.ofItem(item.getId()));
+    }
+
+    @Override
+    public List<FileUploadResponse> createUploads(Long id, FileUploadRequest request) {
+        Item item = itemRepository.findByIdAndDeletedAtIsNull(id)
+                .orElseThrow(() -> BusinessException.builder()
+                        .response(HttpResponse.Fail.NOT_FOUND_ITEM)
+                        .build());
+
+        return fileService.createUploads(item, request.getFiles());
+    }
+
+    @Override
+    @Transactional
+    public NcpFileResponse completeUploads(Long id, FileUploadCompleteRequest request) {
+        Item item = itemRepository.findByIdAndDeletedAtIsNull(id)
+                .orElseThrow(() -> BusinessException.builder()
+                        .response(HttpResponse.Fail.NOT_FOUND_ITEM)
+                        .build());
+
+        return fileService.completeUploads(item, request.getKeyNames());
     }
 }
@@ -3,6 +3,7 @@ package com.drunkenlion.alcoholfriday.domain.admin.item.dto;
 import com.drunkenlion.alcoholfriday.domain.category.entity.Category;
 import com.drunkenlion.alcoholfriday.domain.item.entity.Item;
 import com.drunkenlion.alcoholfriday.global.common.enumerated.ItemType;
+import com.drunkenlion.alcoholfriday.global.common.vo.Money;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.*;
@@ -39,7 +40,7 @@ public class ItemCreateRequest {
         return Item.builder()
                 .category(category)
                 .name(request.getName())
-                .price(request.getPrice())
+                .price(Money.requireWon(request.getPrice()))
                 .info(request.getInfo())
                 .type(request.getType())
                 .build();
@@ -3,12 +3,14 @@ package com.drunkenlion.alcoholfriday.domain.admin.maker.application;
 import com.drunkenlion.alcoholfriday.domain.admin.maker.dto.MakerDetailResponse;
 import com.drunkenlion.alcoholfriday.domain.admin.maker.dto.MakerListResponse;
 import com.drunkenlion.alcoholfriday.domain.admin.maker.dto.MakerRequest;
+import com.drunkenlion.alcoholfriday.domain.item.vo.ItemSearchIndexEvent;
 import com.drunkenlion.alcoholfriday.domain.maker.dao.MakerRepository;
 import com.drunkenlion.alcoholfriday.domain.maker.entity.Maker;
 import com.drunkenlion.alcoholfriday.domain.product.dao.ProductRepository;
 import com.drunkenlion.alcoholfriday.global.common.response.HttpResponse;
 import com.drunkenlion.alcoholfriday.global.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -23,6 +25,7 @@ import java.time.LocalDateTime;
 public class AdminMakerServiceImpl implements AdminMakerService {
     private final MakerRepository makerRepository;
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Page<MakerListResponse> getMakers(int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
@@ -62,6 +65,7 @@ public class AdminMakerServiceImpl implements AdminMakerService {
                 .build();
 
         makerRepository.save(maker);
+        eventPublisher.publishEvent(ItemSearchIndexEvent.ofMaker(maker.getId()));
 
         return MakerDetailResponse.of(maker);
     }
@@ -85,6 +89,7 @@ public class AdminMakerServiceImpl implements AdminMakerService {
                 .build();
 
         makerRepository.save(maker);
+        eventPublisher.publishEvent(ItemSearchIndexEvent.ofMaker(maker.getId()));
 
         return MakerDetailResponse.of(maker);
     }
@@ -4,6 +4,7 @@ import com.drunkenlion.alcoholfriday.domain.admin.order.application.AdminOrderSe
 import com.drunkenlion.alcoholfriday.domain.admin.order.dto.OrderDetailResponse;
 import com.drunkenlion.alcoholfriday.domain.admin.order.dto.OrderListResponse;
 import com.drunkenlion.alcoholfriday.domain.admin.order.dto.OrderModifyRequest;
+import com.drunkenlion.alcoholfriday.domain.admin.order.dto.OrderStatusModifyRequest;
 import com.drunkenlion.alcoholfriday.global.common.enumerated.OrderStatus;
 import com.drunkenlion.alcoholfriday.global.common.response.PageResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -51,4 +52,14 @@ public class AdminOrderController {
         OrderDetailResponse orderDetailResponse = adminOrderService.modifyOrder(id, orderModifyRequest);
         return ResponseEntity.ok().body(orderDetailResponse);
     }
+
+    @Operation(summary = "주문 상태 변경", description = "관리자 권한에 대한 주문 상태 변경")
+    @PutMapping("{id}/status")
+    public ResponseEntity<OrderDetailResponse> modifyOrderStatus(
+            @PathVariable("id") Long id,
+            @RequestBody OrderStatusModifyRequest orderStatusModifyRequest
+    ) {
+        OrderDetailResponse orderDetailResponse = adminOrderService.modifyOrderStatus(id, orderStatusModifyRequest);
+        return ResponseEntity.ok().body(orderDetailResponse);
+    }
 }
@@ -4,11 +4,12 @@ import com.drunkenlion.alcoholfriday.domain.admin.order.dto.OrderDetailResponse;
 import com.drunkenlion.alcoholfriday.domain.admin.order.dto.OrderItemResponse;
 import com.drunkenlion.alcoholfriday.domain.admin.order.dto.OrderListResponse;
 import com.drunkenlion.alcoholfriday.domain.admin.order.dto.OrderModifyRequest;
+import com.drunkenlion.alcoholfriday.domain.admin.order.dto.OrderStatusModifyRequest;
 import com.drunkenlion.alcoholfriday.domain.order.dao.OrderDetailRepository;
 import com.drunkenlion.alcoholfriday.domain.order.dao.OrderRepository;
 import com.drunkenlion.alcoholfriday.domain.order.entity.Order;
 import com.drunkenlion.alcoholfriday.domain.order.entity.OrderDetail;
-import com.drunkenlion.alcoholfriday.domain.payment.dao.PaymentRepository;
+import com.drunkenlion.alcoholfriday.domain.order.vo.OrderStatusEvent;
 import com.drunkenlion.alcoholfriday.domain.payment.entity.Payment;
 import com.drunkenlion.alcoholfriday.global.common.enumerated.EntityType;
 import com.drunkenlion.alcoholfriday.global.common.enumerated.OrderStatus;
@@ -17,6 +18,7 @@ import com.drunkenlion.alcoholfriday.global.exception.BusinessException;
 import com.drunkenlion.alcoholfriday.global.file.application.FileService;
 import com.drunkenlion.alcoholfriday.global.ncp.dto.NcpFileResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -34,8 +36,8 @@ import java.util.stream.Collectors;
 public class AdminOrderServiceImpl implements AdminOrderService {
     private final OrderRepository orderRepository;
     private final OrderDetailRepository orderDetailRepository;
-    private final PaymentRepository paymentRepository;
     private final FileService fileService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Page<OrderListResponse> getOrdersByOrderStatus(int page, int size, OrderStatus status) {
@@ -51,7 +53,7 @@ public class AdminOrderServiceImpl implements AdminOrderService {
                         .response(HttpResponse.Fail.NOT_FOUND_ORDER)
                         .build());
 
-        Payment payment = paymentRepository.findTopByOrderOrderByCreatedAtDesc(order)
+        Payment payment = Optional.ofNullable(order.getLatestPayment())
                 .orElse(Payment.builder().build());
 
         return OrderDetailResponse.of(order, payment, getOrderItemResponseList(order));
@@ -75,7 +77,43 @@ public class AdminOrderServiceImpl implements AdminOrderService {
 
         orderRepository.save(order);
 
-        Payment payment = paymentRepository.findTopByOrderOrderByCreatedAtDesc(order)
+        Payment payment = Optional.ofNullable(order.getLatestPayment())
+                .orElse(Payment.builder().build());
+
+        return OrderDetailResponse.of(order, payment, getOrderItemResponseList(order));
+    }
+
+    /**
+     * 주문 상태를 변경한다. 상태가 바뀌면 매출 집계 등에 반영되도록 주문 상태 변경 이벤트를 발행한다.
+     * - 주문을 잠그고 읽으므로, 같은 주문의 상태 변경은 차례로 검사된다.
+     */
+    @Override
+    @Transactional
+    public OrderDetailResponse modifyOrderStatus(Long id, OrderStatusModifyRequest request) {
+        if (request.getOrderStatus() == null) {
+            throw BusinessException.builder()
+                    .response(HttpResponse.Fail.INVALID_INPUT_VALUE)
+                    .build();
+        }
+
+        Order order = orderRepository.findForUpdateByIdAndDeletedAtIsNull(id)
+                .orElseThrow(() -> BusinessException.builder()
+                        .response(HttpResponse.Fail.NOT_FOUND_ORDER)
+                        .build());
+
+        OrderStatus from = order.getOrderStatus();
+        if (from != request.getOrderStatus()) {
+            if (from != null && !from.canChangeTo(request.getOrderStatus())) {
+                throw BusinessException.builder()
+                        .response(HttpResponse.Fail.INVALID_ORDER_STATUS_CHANGE)
+                        .build();
+            }
+
+            order.updateOrderStatus(request.getOrderStatus());
+            eventPublisher.publishEvent(OrderStatusEvent.of(order.getId(), from, request.getOrderStatus()));
+        }
+
+        Payment payment = Optional.ofNullable(order.getLatestPayment())
                 .orElse(Payment.builder().build());
 
         return OrderDetailResponse.of(order, payment, getOrderItemResponseList(order));
@@ -0,0 +1,15 @@
+package com.drunkenlion.alcoholfriday.domain.admin.order.dto;
+
+import com.drunkenlion.alcoholfriday.global.common.enumerated.OrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Schema(description = "주문 상태 변경 요청 항목")
+public class OrderStatusModifyRequest {
+    @Schema(description = "변경할 주문 상태", example = "PAYMENT_COMPLETED")
+    private OrderStatus orderStatus;
+}
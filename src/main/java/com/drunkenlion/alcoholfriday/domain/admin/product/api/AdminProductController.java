@@ -6,6 +6,10 @@ import com.drunkenlion.alcoholfriday.domain.admin.product.dto.ProductDetailRespo
 import com.drunkenlion.alcoholfriday.domain.admin.product.dto.ProductListResponse;
 import com.drunkenlion.alcoholfriday.domain.admin.product.dto.ProductModifyRequest;
 import com.drunkenlion.alcoholfriday.global.common.response.PageResponse;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadCompleteRequest;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadRequest;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadResponse;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.NcpFileResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -50,7 +54,7 @@ public class AdminProductController {
     @PostMapping
     public ResponseEntity<ProductDetailResponse> createProduct(
             @Valid @RequestPart("productRequest") ProductCreateRequest productCreateRequest,
-            @RequestPart("files") List<MultipartFile> files
+            @RequestPart(value = "files", required = false) List<MultipartFile> files
     ) {
         ProductDetailResponse productDetailResponse = adminProductService.createProduct(productCreateRequest, files);
 
@@ -68,12 +72,32 @@ public class AdminProductController {
     public ResponseEntity<ProductDetailResponse> modifyProduct(
             @PathVariable("id") Long id,
             @Valid @RequestPart("productRequest") ProductModifyRequest productModifyRequest,
-            @RequestPart("files") List<MultipartFile> files
+            @RequestPart(value = "files", required = false) List<MultipartFile> files
     ) {
         ProductDetailResponse productDetailResponse = adminProductService.modifyProduct(id, productModifyRequest, productModifyRequest.getRemove(), files);
         return ResponseEntity.ok().body(productDetailResponse);
     }
 
+    @Operation(summary = "제품 이미지 직접 업로드 URL 발급", description = "발급한 URL 로 파일을 PUT 한 후 업로드 완료를 요청")
+    @PostMapping("{id}/uploads")
+    public ResponseEntity<List<FileUploadResponse>> createUploads(
+            @PathVariable("id") Long id,
+            @Valid @RequestBody FileUploadRequest fileUploadRequest
+    ) {
+        List<FileUploadResponse> fileUploadResponses = adminProductService.createUploads(id, fileUploadRequest);
+        return ResponseEntity.ok().body(fileUploadResponses);
+    }
+
+    @Operation(summary = "제품 이미지 직접 업로드 완료", description = "업로드한 파일을 확인하고 제품 이미지 뒤에 추가")
+    @PostMapping("{id}/uploads/complete")
+    public ResponseEntity<NcpFileResponse> completeUploads(
+            @PathVariable("id") Long id,
+            @Valid @RequestBody FileUploadCompleteRequest fileUploadCompleteRequest
+    ) {
+        NcpFileResponse ncpFileResponse = adminProductService.completeUploads(id, fileUploadCompleteRequest);
+        return ResponseEntity.ok().body(ncpFileResponse);
+    }
+
     @Operation(summary = "제품 삭제", description = "관리자 권한에 대한 제품 삭제")
     @DeleteMapping("{id}")
     public ResponseEntity<Void> deleteProduct(
@@ -4,6 +4,10 @@ import com.drunkenlion.alcoholfriday.domain.admin.product.dto.ProductCreateReque
 import com.drunkenlion.alcoholfriday.domain.admin.product.dto.ProductDetailResponse;
 import com.drunkenlion.alcoholfriday.domain.admin.product.dto.ProductListResponse;
 import com.drunkenlion.alcoholfriday.domain.admin.product.dto.ProductModifyRequest;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadCompleteRequest;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadRequest;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadResponse;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.NcpFileResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -15,4 +19,6 @@ public interface AdminProductService {
     ProductDetailResponse createProduct(ProductCreateRequest productCreateRequest, List<MultipartFile> files);
     ProductDetailResponse modifyProduct(Long id, ProductModifyRequest productModifyRequest, List<Integer> remove, List<MultipartFile> files);
     void deleteProduct(Long id);
+    List<FileUploadResponse> createUploads(Long id, FileUploadRequest request);
+    NcpFileResponse completeUploads(Long id, FileUploadCompleteRequest request);
 }
@@ -7,15 +7,23 @@ import com.drunkenlion.alcoholfriday.domain.admin.product.dto.ProductModifyReque
 import com.drunkenlion.alcoholfriday.domain.category.dao.CategoryRepository;
 import com.drunkenlion.alcoholfriday.domain.category.entity.Category;
 import com.drunkenlion.alcoholfriday.domain.item.dao.ItemProductRepository;
+import com.drunkenlion.alcoholfriday.domain.item.vo.ItemSearchIndexEvent;
 import com.drunkenlion.alcoholfriday.domain.maker.dao.MakerRepository;
 import com.drunkenlion.alcoholfriday.domain.maker.entity.Maker;
+import com.drunkenlion.alcoholfriday.domain.product.application.HotStockLedger;
 import com.drunkenlion.alcoholfriday.domain.product.dao.ProductRepository;
 import com.drunkenlion.alcoholfriday.domain.product.entity.Product;
+import com.drunkenlion.alcoholfriday.domain.product.vo.ProductStockEvent;
 import com.drunkenlion.alcoholfriday.global.common.response.HttpResponse;
+import com.drunkenlion.alcoholfriday.global.common.vo.Money;
 import com.drunkenlion.alcoholfriday.global.exception.BusinessException;
 import com.drunkenlion.alcoholfriday.global.file.application.FileService;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadCompleteRequest;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadRequest;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadResponse;
 import com.drunkenlion.alcoholfriday.global.ncp.dto.NcpFileResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -34,7 +42,9 @@ public class AdminProductServiceImpl implements AdminProductService {
     private final CategoryRepository categoryRepository;
     private final MakerRepository makerRepository;
     private final ItemProductRepository itemProductRepository;
+    private final HotStockLedger hotStockLedger;
     private final FileService fileService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Page<ProductListResponse> getProducts(int page, int size) {
@@ -95,10 +105,14 @@ public class AdminProductServiceImpl implements AdminProductService {
                         .response(HttpResponse.Fail.NOT_FOUND_MAKER)
                         .build());
 
+        // 재고는 요청값과의 차이만 상대값으로 반영해, 그사이 판매된 수량을 덮어쓰지 않는다.
+        hotStockLedger.adjust(product.getId(), productModifyRequest.getQuantity() - product.getQuantity());
+
         product = product.toBuilder()
                 .name(productModifyRequest.getName())
-                .price(productModifyRequest.getPrice())
+                .price(Money.requireWon(productModifyRequest.getPrice()))
                 .quantity(productModifyRequest.getQuantity())
+                .hotStock(productModifyRequest.getHotStock() == null ? product.getHotStock() : productModifyRequest.getHotStock())
                 .alcohol(productModifyRequest.getAlcohol())
                 .ingredient(productModifyRequest.getIngredient())
                 .sweet(productModifyRequest.getSweet())
@@ -115,6 +129,8 @@ public class AdminProductServiceImpl implements AdminProductService {
         productRepository.save(product);
 
         NcpFileResponse file = fileService.updateFiles(product, remove, files);
+        eventPublisher.publishEvent(ItemSearchIndexEvent.ofProduct(product.getId()));
+        eventPublisher.publishEvent(ProductStockEvent.of(product));
 
         return ProductDetailResponse.of(product, file);
     }
@@ -139,5 +155,27 @@ public class AdminProductServiceImpl implements AdminProductService {
                 .build();
 
         productRepository.save(product);
+        eventPublisher.publishEvent(ItemSearchIndexEvent.ofProduct(product.getId()));
+    }
+
+    @Override
+    public List<FileUploadResponse> createUploads(Long id, FileUploadRequest request) {
+        Product product = productRepository.findByIdAndDeletedAtIsNull(id)
+                .orElseThrow(() -> BusinessException.builder()
+                        .response(HttpResponse.Fail.NOT_FOUND_PRODUCT)
+                        .build());
+
+        return fileService.createUploads(product, request.getFiles());
+    }
+
+    @Override
+    @Transactional
+    public NcpFileResponse completeUploads(Long id, FileUploadCompleteRequest request) {
+        Product product = productRepository.findByIdAndDeletedAtIsNull(id)
+                .orElseThrow(() -> BusinessException.builder()
+                        .response(HttpResponse.Fail.NOT_FOUND_PRODUCT)
+                        .build());
+
+        return fileService.completeUploads(product, request.getKeyNames());
     }
 }
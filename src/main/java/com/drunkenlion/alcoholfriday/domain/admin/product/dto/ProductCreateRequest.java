@@ -3,6 +3,7 @@ package com.drunkenlion.alcoholfriday.domain.admin.product.dto;
 import com.drunkenlion.alcoholfriday.domain.category.entity.Category;
 import com.drunkenlion.alcoholfriday.domain.maker.entity.Maker;
 import com.drunkenlion.alcoholfriday.domain.product.entity.Product;
+import com.drunkenlion.alcoholfriday.global.common.vo.Money;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
@@ -59,7 +60,7 @@ public class ProductCreateRequest {
     public static Product toEntity(ProductCreateRequest request, Category category, Maker maker) {
         return Product.builder()
                 .name(request.getName())
-                .price(request.getPrice())
+                .price(Money.requireWon(request.getPrice()))
                 .quantity(request.getQuantity())
                 .alcohol(request.getAlcohol())
                 .ingredient(request.getIngredient())
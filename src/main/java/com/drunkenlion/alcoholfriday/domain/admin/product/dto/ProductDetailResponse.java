@@ -41,6 +41,9 @@ public class ProductDetailResponse {
     @Schema(description = "재고 수량")
     private Long quantity;
 
+    @Schema(description = "재고 분산 관리 여부")
+    private Boolean hotStock;
+
     @Schema(description = "술 도수")
     private Double alcohol;
 
@@ -91,6 +94,7 @@ public class ProductDetailResponse {
                 .makerName(product.getMaker().getName())
                 .price(product.getPrice())
                 .quantity(product.getQuantity())
+                .hotStock(product.getHotStock())
                 .alcohol(product.getAlcohol())
                 .ingredient(product.getIngredient())
                 .sweet(product.getSweet())
@@ -30,6 +30,9 @@ public class ProductModifyRequest {
     @Schema(description = "재고 수량")
     private Long quantity;
 
+    @Schema(description = "재고 분산 관리 여부 (선착순 판매 제품), 없으면 기존 값 유지")
+    private Boolean hotStock;
+
     @Schema(description = "술 도수")
     private Double alcohol;
 
@@ -43,11 +43,12 @@ public class RestaurantOrderServiceImpl implements RestaurantOrderService {
         Pageable pageable = PageRequest.of(page, size);
 
         Page<RestaurantOrder> orders = restaurantOrderRepository.findAllRestaurantOrders(pageable);
+        Map<Long, NcpFileResponse> images = findProductImages(orders.getContent());
 
         return orders.map(order -> {
             List<RestaurantOrderDetailResponse> detailResponses =
                     order.getDetails().stream().map(detail ->
-                            RestaurantOrderDetailResponse.of(detail, fileService.findOne(detail.getProduct()))).toList();
+                            RestaurantOrderDetailResponse.of(detail, images.get(detail.getProduct().getId()))).toList();
 
             return RestaurantOrderListResponse.of(order, detailResponses);
         });
@@ -64,6 +65,7 @@ public class RestaurantOrderServiceImpl implements RestaurantOrderService {
 
         Page<RestaurantOrder> restaurantOrders =
                 restaurantOrderRepository.findRestaurantOrdersByOwner(member, restaurant, pageable);
+        Map<Long, NcpFileResponse> images = findProductImages(restaurantOrders.getContent());
 
         return restaurantOrders.map(restaurantOrder -> {
             List<OwnerRestaurantOrderDetailResponse> detailResponses = new ArrayList<>();
@@ -85,7 +87,7 @@ public class RestaurantOrderServiceImpl implements RestaurantOrderService {
                 refundableQuantity -= productRefundQuantities.getOrDefault(
                         orderDetail.getProduct().getId(), 0L);
 
-                NcpFileResponse ncpFileResponse = fileService.findOne(orderDetail.getProduct());
+                NcpFileResponse ncpFileResponse = images.get(orderDetail.getProduct().getId());
 
                 OwnerRestaurantOrderDetailResponse response =
                         OwnerRestaurantOrderDetailResponse.of(orderDetail, refundableQuantity, ncpFileResponse);
@@ -96,4 +98,12 @@ public class RestaurantOrderServiceImpl implements RestaurantOrderService {
             return OwnerRestaurantOrderListResponse.of(restaurantOrder, detailResponses);
         });
     }
+
+    // 페이지에 포함된 발주 상세의 제품 이미지를 한 번에 조회
+    private Map<Long, NcpFileResponse> findProductImages(List<RestaurantOrder> orders) {
+        return fileService.findFirstImages(orders.stream()
+                .flatMap(order -> order.getDetails().stream())
+                .map(RestaurantOrderDetail::getProduct)
+                .toList());
+    }
 }
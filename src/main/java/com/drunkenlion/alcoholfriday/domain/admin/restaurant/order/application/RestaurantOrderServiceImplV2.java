@@ -14,7 +14,7 @@ import com.drunkenlion.alcoholfriday.domain.admin.restaurant.order.entity.Restau
 import com.drunkenlion.alcoholfriday.domain.admin.restaurant.order.enumerated.RestaurantOrderStatus;
 import com.drunkenlion.alcoholfriday.domain.admin.restaurant.order.util.RestaurantOrderValidator;
 import com.drunkenlion.alcoholfriday.domain.member.entity.Member;
-import com.drunkenlion.alcoholfriday.domain.product.dao.ProductRepository;
+import com.drunkenlion.alcoholfriday.domain.product.application.HotStockLedger;
 import com.drunkenlion.alcoholfriday.domain.product.entity.Product;
 import com.drunkenlion.alcoholfriday.domain.admin.restaurant.cart.dao.RestaurantOrderCartDetailRepository;
 import com.drunkenlion.alcoholfriday.domain.admin.restaurant.cart.dao.RestaurantOrderCartRepository;
@@ -24,12 +24,15 @@ import com.drunkenlion.alcoholfriday.domain.restaurant.dao.RestaurantRepository;
 import com.drunkenlion.alcoholfriday.domain.restaurant.dao.RestaurantStockRepository;
 import com.drunkenlion.alcoholfriday.domain.restaurant.entity.Restaurant;
 import com.drunkenlion.alcoholfriday.domain.restaurant.entity.RestaurantStock;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantStockEvent;
 import com.drunkenlion.alcoholfriday.global.common.response.HttpResponse.Fail;
+import com.drunkenlion.alcoholfriday.global.common.vo.Money;
 import com.drunkenlion.alcoholfriday.global.exception.BusinessException;
 import com.drunkenlion.alcoholfriday.global.file.application.FileService;
 import com.drunkenlion.alcoholfriday.global.ncp.dto.NcpFileResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -38,7 +41,11 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -51,12 +58,13 @@ public class RestaurantOrderServiceImplV2 {
 
     private final RestaurantOrderRepository restaurantOrderRepository;
     private final RestaurantOrderDetailRepository restaurantOrderDetailRepository;
-    private final ProductRepository productRepository;
+    private final HotStockLedger hotStockLedger;
     private final RestaurantRepository restaurantRepository;
     private final RestaurantOrderCartRepository restaurantOrderCartRepository;
     private final RestaurantOrderCartDetailRepository restaurantOrderCartDetailRepository;
     private final RestaurantStockRepository restaurantStockRepository;
     private final FileService fileService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 발주 정보 임시 저장 ID 값을 return 하고 장바구니 내 product 수량 차감 (Owner)
@@ -88,31 +96,40 @@ public class RestaurantOrderServiceImplV2 {
         }
 
         List<RestaurantOrderDetailResponse> restaurantOrderDetails = new ArrayList<>();
+        Map<Long, NcpFileResponse> images = fileService.findFirstImages(cartDetails.stream()
+                .map(RestaurantOrderCartDetail::getProduct)
+                .toList());
+
+        // 상품 수량 체크 및 감소 - 재고가 충분할 때만 상대값으로 차감한다.
+        SortedMap<Long, Long> quantitiesByProductId = new TreeMap<>();
+        cartDetails.forEach(cart -> quantitiesByProductId.merge(cart.getProduct().getId(), cart.getQuantity(), Long::sum));
+        if (!hotStockLedger.decrease(quantitiesByProductId)) {
+            throw new BusinessException(Fail.OUT_OF_ITEM_STOCK);
+        }
 
         // 장바구니 Product 처리
+        Money totalPrice = Money.ZERO;
         for (RestaurantOrderCartDetail cart : cartDetails) {
             Product product = cart.getProduct();
 
-            // 상품 수량 체크 및 감소
-            RestaurantOrderValidator.checkedQuantity(product, cart.getQuantity());
-            product.minusQuantity(cart.getQuantity());
-            productRepository.save(product);
+            Money detailTotalPrice = Money.of(product.getDistributionPrice()).times(cart.getQuantity());
 
             RestaurantOrderDetail detail = RestaurantOrderDetail.builder()
                     .product(product)
                     .price(product.getDistributionPrice())
                     .quantity(cart.getQuantity())
-                    .totalPrice(product.getDistributionPrice().multiply(BigDecimal.valueOf(cart.getQuantity())))
+                    .totalPrice(detailTotalPrice.toBigDecimal())
                     .build();
             detail.addOrder(restaurantOrder);
 
             restaurantOrderDetailRepository.save(detail);
-            restaurantOrder.addTotalPrice(detail.getTotalPrice());
+            totalPrice = totalPrice.plus(detailTotalPrice);
 
-            NcpFileResponse findImage = fileService.findOne(product);
+            NcpFileResponse findImage = images.get(product.getId());
             restaurantOrderDetails.add(RestaurantOrderDetailResponse.of(detail, findImage));
         }
 
+        restaurantOrder.addTotalPrice(totalPrice.toBigDecimal());
         restaurantOrderRepository.save(restaurantOrder);
         return RestaurantOrderSaveCodeResponse.of(restaurantOrder, restaurantOrderDetails);
     }
@@ -136,8 +153,11 @@ public class RestaurantOrderServiceImplV2 {
 
         restaurantOrderRepository.save(restaurantOrder);
 
+        Map<Long, NcpFileResponse> images = fileService.findFirstImages(restaurantOrder.getDetails().stream()
+                .map(RestaurantOrderDetail::getProduct)
+                .toList());
         List<RestaurantOrderDetailResponse> restaurantOrderDetails = restaurantOrder.getDetails().stream()
-                .map(detail -> RestaurantOrderDetailResponse.of(detail, fileService.findOne(detail.getProduct())))
+                .map(detail -> RestaurantOrderDetailResponse.of(detail, images.get(detail.getProduct().getId())))
                 .collect(Collectors.toList());
 
         // Cart Detail Data 차감 로직
@@ -195,13 +215,7 @@ public class RestaurantOrderServiceImplV2 {
         restaurantOrder.updateStatus(RestaurantOrderStatus.REJECTED_APPROVAL);
         restaurantOrderRepository.save(restaurantOrder);
 
-        List<Product> products = new ArrayList<>();
-        for (RestaurantOrderDetail orderDetail : restaurantOrder.getDetails()) {
-            Product product = orderDetail.getProduct();
-            product.plusQuantity(orderDetail.getQuantity());
-            products.add(product);
-        }
-        productRepository.saveAll(products);
+        increaseProductQuantities(restaurantOrder);
 
         return RestaurantOrderResultResponse.of(restaurantOrder);
     }
@@ -219,13 +233,7 @@ public class RestaurantOrderServiceImplV2 {
         restaurantOrder.updateStatus(RestaurantOrderStatus.CANCELLED);
         restaurantOrderRepository.save(restaurantOrder);
 
-        List<Product> products = new ArrayList<>();
-        for (RestaurantOrderDetail orderDetail : restaurantOrder.getDetails()) {
-            Product product = orderDetail.getProduct();
-            product.plusQuantity(orderDetail.getQuantity());
-            products.add(product);
-        }
-        productRepository.saveAll(products);
+        increaseProductQuantities(restaurantOrder);
 
         return RestaurantOrderResultResponse.of(restaurantOrder);
     }
@@ -249,11 +257,7 @@ public class RestaurantOrderServiceImplV2 {
             restaurantOrder.updateStatus(RestaurantOrderStatus.CANCELLED);
             restaurantOrderRepository.save(restaurantOrder);
 
-            for (RestaurantOrderDetail orderDetail : restaurantOrder.getDetails()) {
-                Product product = orderDetail.getProduct();
-                product.plusQuantity(orderDetail.getQuantity());
-                productRepository.save(product);
-            }
+            increaseProductQuantities(restaurantOrder);
         }
 
         long endTime = System.nanoTime();
@@ -264,6 +268,14 @@ public class RestaurantOrderServiceImplV2 {
         );
     }
 
+    // 발주로 차감한 제품 재고를 상대값으로 되돌린다.
+    private void increaseProductQuantities(RestaurantOrder restaurantOrder) {
+        Map<Long, Long> quantitiesByProductId = new HashMap<>();
+        restaurantOrder.getDetails().forEach(orderDetail ->
+                quantitiesByProductId.merge(orderDetail.getProduct().getId(), orderDetail.getQuantity(), Long::sum));
+        hotStockLedger.increase(quantitiesByProductId);
+    }
+
     private void orderCompleted(RestaurantOrder order) {
         order.updateStatus(RestaurantOrderStatus.COMPLETED);
 
@@ -278,6 +290,7 @@ public class RestaurantOrderServiceImplV2 {
 
             restaurantStock.plusQuantity(detail.getQuantity());
             restaurantStockRepository.save(restaurantStock);
+            eventPublisher.publishEvent(RestaurantStockEvent.of(restaurantStock));
         }
     }
 }
@@ -4,6 +4,7 @@ import com.drunkenlion.alcoholfriday.domain.admin.restaurant.order.entity.Restau
 import com.drunkenlion.alcoholfriday.domain.admin.restaurant.order.enumerated.RestaurantOrderStatus;
 import com.drunkenlion.alcoholfriday.domain.member.entity.Member;
 import com.drunkenlion.alcoholfriday.domain.restaurant.entity.Restaurant;
+import com.drunkenlion.alcoholfriday.global.common.util.IdFirstPaging;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
@@ -11,7 +12,6 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.support.PageableExecutionUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -30,28 +30,16 @@ public class RestaurantOrderRepositoryImpl implements RestaurantOrderRepositoryC
 
     @Override
     public Page<RestaurantOrder> findAllRestaurantOrders(Pageable pageable) {
-        List<RestaurantOrder> restaurantOrders = jpaQueryFactory
-                .selectFrom(restaurantOrder)
-                .leftJoin(restaurantOrder.member, member).fetchJoin()
-                .leftJoin(restaurantOrder.restaurant, restaurant).fetchJoin()
-                .leftJoin(restaurantOrder.details, restaurantOrderDetail).fetchJoin()
-                .leftJoin(restaurantOrderDetail.product, product).fetchJoin()
-                .leftJoin(product.maker, maker).fetchJoin()
-                .orderBy(restaurantOrder.createdAt.desc(), restaurantOrder.id.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+        JPAQuery<Long> ids = jpaQueryFactory
+                .select(restaurantOrder.id)
+                .from(restaurantOrder)
+                .orderBy(restaurantOrder.createdAt.desc(), restaurantOrder.id.desc());
 
         JPAQuery<Long> total = jpaQueryFactory
                 .select(restaurantOrder.count())
-                .from(restaurantOrder)
-                .leftJoin(restaurantOrder.member, member)
-                .leftJoin(restaurantOrder.restaurant, restaurant)
-                .leftJoin(restaurantOrder.details, restaurantOrderDetail)
-                .leftJoin(restaurantOrderDetail.product, product)
-                .leftJoin(product.maker, maker);
+                .from(restaurantOrder);
 
-        return PageableExecutionUtils.getPage(restaurantOrders, pageable, total::fetchOne);
+        return IdFirstPaging.fetchPage(pageable, ids, total, this::findAllWithDetails, RestaurantOrder::getId);
     }
 
     @Override
@@ -62,28 +50,31 @@ public class RestaurantOrderRepositoryImpl implements RestaurantOrderRepositoryC
                 .and(restaurantOrder.restaurant.eq(ownerRestaurant))
                 .and(restaurantOrder.deletedAt.isNull());
 
-        List<RestaurantOrder> restaurantOrders = jpaQueryFactory
-                .selectFrom(restaurantOrder)
-                .leftJoin(restaurantOrder.member, member).fetchJoin()
-                .leftJoin(restaurantOrder.restaurant, restaurant).fetchJoin()
-                .leftJoin(restaurantOrder.details, restaurantOrderDetail).fetchJoin()
-                .leftJoin(restaurantOrderDetail.product, product).fetchJoin()
+        JPAQuery<Long> ids = jpaQueryFactory
+                .select(restaurantOrder.id)
+                .from(restaurantOrder)
                 .where(booleanBuilder)
-                .orderBy(restaurantOrder.createdAt.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+                .orderBy(restaurantOrder.createdAt.desc(), restaurantOrder.id.desc());
 
         JPAQuery<Long> total = jpaQueryFactory
                 .select(restaurantOrder.count())
                 .from(restaurantOrder)
-                .leftJoin(restaurantOrder.member, member)
-                .leftJoin(restaurantOrder.restaurant, restaurant)
-                .leftJoin(restaurantOrder.details, restaurantOrderDetail)
-                .leftJoin(restaurantOrderDetail.product, product)
                 .where(booleanBuilder);
 
-        return PageableExecutionUtils.getPage(restaurantOrders, pageable, total::fetchOne);
+        return IdFirstPaging.fetchPage(pageable, ids, total, this::findAllWithDetails, RestaurantOrder::getId);
+    }
+
+    // 발주 상세, 제품, 제조사까지 fetch join 조회
+    private List<RestaurantOrder> findAllWithDetails(List<Long> ids) {
+        return jpaQueryFactory
+                .selectFrom(restaurantOrder)
+                .leftJoin(restaurantOrder.member, member).fetchJoin()
+                .leftJoin(restaurantOrder.restaurant, restaurant).fetchJoin()
+                .leftJoin(restaurantOrder.details, restaurantOrderDetail).fetchJoin()
+                .leftJoin(restaurantOrderDetail.product, product).fetchJoin()
+                .leftJoin(product.maker, maker).fetchJoin()
+                .where(restaurantOrder.id.in(ids))
+                .fetch();
     }
 
     @Override
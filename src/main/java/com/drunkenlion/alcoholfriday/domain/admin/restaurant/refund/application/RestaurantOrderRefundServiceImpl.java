@@ -17,11 +17,13 @@ import com.drunkenlion.alcoholfriday.domain.product.dao.ProductRepository;
 import com.drunkenlion.alcoholfriday.domain.product.entity.Product;
 import com.drunkenlion.alcoholfriday.domain.restaurant.dao.RestaurantStockRepository;
 import com.drunkenlion.alcoholfriday.domain.restaurant.entity.RestaurantStock;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantStockEvent;
 import com.drunkenlion.alcoholfriday.global.common.response.HttpResponse;
 import com.drunkenlion.alcoholfriday.global.exception.BusinessException;
 import com.drunkenlion.alcoholfriday.global.file.application.FileService;
 import com.drunkenlion.alcoholfriday.global.ncp.dto.NcpFileResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -32,7 +34,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -45,26 +49,36 @@ public class RestaurantOrderRefundServiceImpl implements RestaurantOrderRefundSe
     private final RestaurantOrderRepository restaurantOrderRepository;
     private final RestaurantStockRepository restaurantStockRepository;
     private final FileService fileService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Page<RestaurantOrderRefundResponse> getRestaurantOrderRefunds(Long restaurantId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
         Page<RestaurantOrderRefund> refundPage = restaurantOrderRefundRepository.findByRestaurantIdAndDeletedAtIsNull(restaurantId, pageable);
 
-        List<RestaurantOrderRefundResponse> refundResponses = refundPage.getContent().stream()
-                .map(refund -> {
-                    List<RestaurantOrderRefundDetail> refundDetails = restaurantOrderRefundDetailRepository
-                            .findByRestaurantOrderRefundAndDeletedAtIsNull(refund);
-                    List<RestaurantOrderRefundDetailResponse> refundDetailResponses = refundDetails.stream()
-                            .map(refundDetail -> {
-                                NcpFileResponse file = fileService.findOne(refundDetail.getProduct());
-                                return RestaurantOrderRefundDetailResponse.of(refundDetail, file);
-                            })
-                            .collect(Collectors.toList());
-
-                    return RestaurantOrderRefundResponse.of(refund, refundDetailResponses);
-                })
-                .collect(Collectors.toList());
+        // 페이지에 포함된 환불의 환불 제품을 한 번에 조회해 환불별로 나눈다.
+        List<RestaurantOrderRefund> refunds = refundPage.getContent();
+        List<RestaurantOrderRefundDetail> refundDetails = restaurantOrderRefundDetailRepository.findAllWithProductByRefundIn(refunds);
+        Map<Long, List<RestaurantOrderRefundDetail>> refundDetailsByRefundId = refundDetails.stream()
+                .collect(Collectors.groupingBy(refundDetail -> refundDetail.getRestaurantOrderRefund().getId()));
+
+        // 페이지에 포함된 환불 제품 이미지를 한 번에 조회
+        Map<Long, NcpFileResponse> images = fileService.findFirstImages(refundDetails.stream()
+                .map(RestaurantOrderRefundDetail::getProduct)
+                .toList());
+
+        List<RestaurantOrderRefundResponse> refundResponses = new ArrayList<>();
+        for (RestaurantOrderRefund refund : refunds) {
+            List<RestaurantOrderRefundDetailResponse> refundDetailResponses = refundDetailsByRefundId
+                    .getOrDefault(refund.getId(), Collections.emptyList()).stream()
+                    .map(refundDetail -> {
+                        NcpFileResponse file = images.get(refundDetail.getProduct().getId());
+                        return RestaurantOrderRefundDetailResponse.of(refundDetail, file);
+                    })
+                    .collect(Collectors.toList());
+
+            refundResponses.add(RestaurantOrderRefundResponse.of(refund, refundDetailResponses));
+        }
 
         return new PageImpl<>(refundResponses, pageable, refundPage.getTotalElements());
     }
@@ -119,6 +133,7 @@ public class RestaurantOrderRefundServiceImpl implements RestaurantOrderRefundSe
 
         restaurantOrderRefundDetailRepository.saveAll(refundDetails);
         restaurantStockRepository.saveAll(stocks);
+        stocks.forEach(stock -> eventPublisher.publishEvent(RestaurantStockEvent.of(stock)));
 
         return RestaurantOrderRefundResponse.of(refund, refundDetailResponses);
     }
@@ -160,6 +175,7 @@ public class RestaurantOrderRefundServiceImpl implements RestaurantOrderRefundSe
         }
 
         restaurantStockRepository.saveAll(stocks);
+        stocks.forEach(stock -> eventPublisher.publishEvent(RestaurantStockEvent.of(stock)));
 
         // 환불 상태 취소로 변경
         refund = refund.toBuilder()
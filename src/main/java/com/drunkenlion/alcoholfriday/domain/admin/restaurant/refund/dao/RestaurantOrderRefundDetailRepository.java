@@ -6,6 +6,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
 
-public interface RestaurantOrderRefundDetailRepository extends JpaRepository<RestaurantOrderRefundDetail, Long> {
+public interface RestaurantOrderRefundDetailRepository extends JpaRepository<RestaurantOrderRefundDetail, Long>, RestaurantOrderRefundDetailRepositoryCustom {
     List<RestaurantOrderRefundDetail> findByRestaurantOrderRefundAndDeletedAtIsNull(RestaurantOrderRefund refund);
 }
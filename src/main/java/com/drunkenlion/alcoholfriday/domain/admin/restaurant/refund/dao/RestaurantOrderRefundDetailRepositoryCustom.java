@@ -0,0 +1,11 @@
+package com.drunkenlion.alcoholfriday.domain.admin.restaurant.refund.dao;
+
+import com.drunkenlion.alcoholfriday.domain.admin.restaurant.refund.entity.RestaurantOrderRefund;
+import com.drunkenlion.alcoholfriday.domain.admin.restaurant.refund.entity.RestaurantOrderRefundDetail;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface RestaurantOrderRefundDetailRepositoryCustom {
+    List<RestaurantOrderRefundDetail> findAllWithProductByRefundIn(Collection<RestaurantOrderRefund> refunds);
+}
@@ -0,0 +1,37 @@
+package com.drunkenlion.alcoholfriday.domain.admin.restaurant.refund.dao;
+
+import com.drunkenlion.alcoholfriday.domain.admin.restaurant.refund.entity.RestaurantOrderRefund;
+import com.drunkenlion.alcoholfriday.domain.admin.restaurant.refund.entity.RestaurantOrderRefundDetail;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static com.drunkenlion.alcoholfriday.domain.admin.restaurant.refund.entity.QRestaurantOrderRefundDetail.restaurantOrderRefundDetail;
+import static com.drunkenlion.alcoholfriday.domain.product.entity.QProduct.product;
+
+@RequiredArgsConstructor
+public class RestaurantOrderRefundDetailRepositoryImpl implements RestaurantOrderRefundDetailRepositoryCustom {
+    private final JPAQueryFactory jpaQueryFactory;
+
+    /**
+     * 여러 환불의 삭제되지 않은 환불 제품을 제품과 함께 한 번에 조회한다.
+     */
+    @Override
+    public List<RestaurantOrderRefundDetail> findAllWithProductByRefundIn(Collection<RestaurantOrderRefund> refunds) {
+        if (refunds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return jpaQueryFactory
+                .select(restaurantOrderRefundDetail)
+                .from(restaurantOrderRefundDetail)
+                .join(restaurantOrderRefundDetail.product, product).fetchJoin()
+                .where(restaurantOrderRefundDetail.restaurantOrderRefund.in(refunds),
+                        restaurantOrderRefundDetail.deletedAt.isNull())
+                .orderBy(restaurantOrderRefundDetail.id.asc())
+                .fetch();
+    }
+}
@@ -13,11 +13,13 @@ import com.drunkenlion.alcoholfriday.domain.restaurant.dao.RestaurantRepository;
 import com.drunkenlion.alcoholfriday.domain.restaurant.dao.RestaurantStockRepository;
 import com.drunkenlion.alcoholfriday.domain.restaurant.entity.Restaurant;
 import com.drunkenlion.alcoholfriday.domain.restaurant.entity.RestaurantStock;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantIndexEvent;
 import com.drunkenlion.alcoholfriday.global.common.response.HttpResponse;
 import com.drunkenlion.alcoholfriday.global.exception.BusinessException;
 import com.drunkenlion.alcoholfriday.global.file.application.FileService;
 import com.drunkenlion.alcoholfriday.global.ncp.dto.NcpFileResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -27,6 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -37,6 +40,7 @@ public class AdminRestaurantServiceImpl implements AdminRestaurantService {
     private final RestaurantStockRepository restaurantStockRepository;
     private final MemberRepository memberRepository;
     private final FileService fileService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Page<RestaurantListResponse> getRestaurants(Member authMember, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
@@ -80,6 +84,7 @@ public class AdminRestaurantServiceImpl implements AdminRestaurantService {
 
         Restaurant restaurant = RestaurantRequest.toEntity(restaurantRequest, member);
         restaurantRepository.save(restaurant);
+        eventPublisher.publishEvent(RestaurantIndexEvent.of(restaurant.getId()));
 
         return RestaurantDetailResponse.of(restaurant, getRestaurantStockItemResponseList(restaurant));
     }
@@ -128,6 +133,7 @@ public class AdminRestaurantServiceImpl implements AdminRestaurantService {
         }
 
         restaurantRepository.save(restaurant);
+        eventPublisher.publishEvent(RestaurantIndexEvent.of(restaurant.getId()));
 
         return RestaurantDetailResponse.of(restaurant, getRestaurantStockItemResponseList(restaurant));
     }
@@ -162,6 +168,7 @@ public class AdminRestaurantServiceImpl implements AdminRestaurantService {
                 .build();
 
         restaurantRepository.save(restaurant);
+        eventPublisher.publishEvent(RestaurantIndexEvent.of(restaurant.getId()));
     }
 
     private List<RestaurantStockProductResponse> getRestaurantStockItemResponseList(Restaurant restaurant) {
@@ -169,9 +176,13 @@ public class AdminRestaurantServiceImpl implements AdminRestaurantService {
         List<RestaurantStockProductResponse> stockProductInfos = new ArrayList<>();
 
         if (!restaurantStocks.isEmpty()) {
+            Map<Long, NcpFileResponse> images = fileService.findFirstImages(restaurantStocks.stream()
+                    .map(RestaurantStock::getProduct)
+                    .toList());
+
             for (RestaurantStock restaurantStock: restaurantStocks) {
                 Product product = restaurantStock.getProduct();
-                NcpFileResponse ncpResponse = fileService.findOne(product);
+                NcpFileResponse ncpResponse = images.get(product.getId());
 
                 stockProductInfos.add(RestaurantStockProductResponse.of(restaurantStock, ncpResponse));
             }
@@ -0,0 +1,35 @@
+package com.drunkenlion.alcoholfriday.domain.admin.sales.api;
+
+import com.drunkenlion.alcoholfriday.domain.admin.sales.application.AdminSalesService;
+import com.drunkenlion.alcoholfriday.domain.admin.sales.dto.SalesRollupResponse;
+import com.drunkenlion.alcoholfriday.domain.sales.enumerated.SalesDimension;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/v1/admin/sales")
+@Tag(name = "v1-admin-sales", description = "관리자 매출 집계 API")
+@SecurityRequirement(name = "bearerAuth")
+public class AdminSalesController {
+    private final AdminSalesService adminSalesService;
+
+    @Operation(summary = "일별 매출 조회", description = "관리자 권한에 대한 일별 매출 조회 (전체, 상품, 카테고리, 제조사별)")
+    @GetMapping
+    public ResponseEntity<List<SalesRollupResponse>> getSales(
+            @RequestParam(name = "dimension", defaultValue = "TOTAL") SalesDimension dimension,
+            @RequestParam(name = "startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(name = "endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        List<SalesRollupResponse> responses = adminSalesService.getSales(dimension, startDate, endDate);
+        return ResponseEntity.ok().body(responses);
+    }
+}
@@ -0,0 +1,11 @@
+package com.drunkenlion.alcoholfriday.domain.admin.sales.application;
+
+import com.drunkenlion.alcoholfriday.domain.admin.sales.dto.SalesRollupResponse;
+import com.drunkenlion.alcoholfriday.domain.sales.enumerated.SalesDimension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface AdminSalesService {
+    List<SalesRollupResponse> getSales(SalesDimension dimension, LocalDate startDate, LocalDate endDate);
+}
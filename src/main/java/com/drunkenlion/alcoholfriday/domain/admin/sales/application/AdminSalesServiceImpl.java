@@ -0,0 +1,41 @@
+package com.drunkenlion.alcoholfriday.domain.admin.sales.application;
+
+import com.drunkenlion.alcoholfriday.domain.admin.sales.dto.SalesRollupResponse;
+import com.drunkenlion.alcoholfriday.domain.sales.dao.SalesDailyRollupRepository;
+import com.drunkenlion.alcoholfriday.domain.sales.enumerated.SalesDimension;
+import com.drunkenlion.alcoholfriday.global.common.response.HttpResponse;
+import com.drunkenlion.alcoholfriday.global.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class AdminSalesServiceImpl implements AdminSalesService {
+    // 한 번에 조회할 수 있는 최대 기간 (일)
+    private static final long MAX_PERIOD_DAYS = 366;
+
+    private final SalesDailyRollupRepository salesDailyRollupRepository;
+
+    /**
+     * 일별 매출 집계 조회 - 주문을 다시 합산하지 않고 집계 row 만 읽는다.
+     */
+    @Override
+    public List<SalesRollupResponse> getSales(SalesDimension dimension, LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate) || startDate.plusDays(MAX_PERIOD_DAYS).isBefore(endDate)) {
+            throw BusinessException.builder()
+                    .response(HttpResponse.Fail.INVALID_INPUT_VALUE)
+                    .build();
+        }
+
+        return salesDailyRollupRepository
+                .findAllByDimensionAndSalesDateBetweenOrderBySalesDateAscDimensionIdAsc(dimension, startDate, endDate)
+                .stream()
+                .map(SalesRollupResponse::of)
+                .toList();
+    }
+}
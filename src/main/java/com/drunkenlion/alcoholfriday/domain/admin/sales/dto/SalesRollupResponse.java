@@ -0,0 +1,45 @@
+package com.drunkenlion.alcoholfriday.domain.admin.sales.dto;
+
+import com.drunkenlion.alcoholfriday.domain.sales.entity.SalesDailyRollup;
+import com.drunkenlion.alcoholfriday.domain.sales.enumerated.SalesDimension;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Schema(description = "일별 매출 집계 항목")
+public class SalesRollupResponse {
+    @Schema(description = "집계 기준")
+    private SalesDimension dimension;
+
+    @Schema(description = "주문일")
+    private LocalDate salesDate;
+
+    @Schema(description = "집계 대상 고유 아이디 (전체 : 0)")
+    private Long dimensionId;
+
+    @Schema(description = "주문 수")
+    private Long orderCount;
+
+    @Schema(description = "판매 수량")
+    private Long quantity;
+
+    @Schema(description = "판매 금액")
+    private BigDecimal amount;
+
+    public static SalesRollupResponse of(SalesDailyRollup rollup) {
+        return SalesRollupResponse.builder()
+                .dimension(rollup.getDimension())
+                .salesDate(rollup.getSalesDate())
+                .dimensionId(rollup.getDimensionId())
+                .orderCount(rollup.getOrderCount())
+                .quantity(rollup.getQuantity())
+                .amount(rollup.getAmount())
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.drunkenlion.alcoholfriday.domain.cart.application;
+
+import com.drunkenlion.alcoholfriday.domain.cart.dao.CartDetailRepository;
+import com.drunkenlion.alcoholfriday.domain.cart.entity.CartDetail;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 장바구니 상세 (cart_id, item_id) unique key 확인
+ * - 장바구니 담기는 unique key 로 INSERT ... ON DUPLICATE KEY UPDATE 가 합쳐지므로, 없으면 같은 상품이 여러 번 담긴다.
+ * - unique key 는 배포 때 만든다. (CartDetail 에 선언되어 있어 새 스키마에는 함께 만들어진다.)
+ *   기존 DB 는 중복을 먼저 담긴 장바구니 상세로 합친 뒤 unique key 를 추가한다.
+ *   ALTER TABLE cart_detail ADD CONSTRAINT uk_cart_detail_cart_item UNIQUE (cart_id, item_id)
+ * - unique key 가 없으면 요청을 받기 전에 애플리케이션 시작을 멈춘다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CartDetailUniqueKeyVerifier {
+    private final CartDetailRepository cartDetailRepository;
+
+    @PostConstruct
+    public void verify() {
+        if (!cartDetailRepository.existsUniqueKey(CartDetail.CART_ITEM_UNIQUE_KEY)) {
+            throw new IllegalStateException("cart_detail 에 unique key " + CartDetail.CART_ITEM_UNIQUE_KEY
+                    + " (cart_id, item_id) 가 없습니다. 중복된 장바구니 상세를 합치고 unique key 를 추가한 뒤 시작해야 합니다.");
+        }
+    }
+}
@@ -19,9 +19,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
@@ -39,31 +46,61 @@ public class CartServiceImpl implements CartService {
                         .member(member)
                         .build()));
 
-        List<CartDetailResponse> cartDetailResponseList = cartRequestList.stream()
-                .map(cartRequest -> addCart(cartRequest, cart))
-                .toList();
-
         return CartResponse.builder()
                 .cartId(cart.getId())
-                .cartDetailResponseList(cartDetailResponseList)
+                .cartDetailResponseList(addCartDetails(cartRequestList, cart))
                 .build();
     }
 
     @Override
     @Transactional
     public CartDetailResponse addCart(CartRequest addCart, Cart cart) {
-        Item item = itemRepository.findById(addCart.getItemId()).orElseThrow(() -> BusinessException.builder()
-                .response(HttpResponse.Fail.NOT_FOUND_ITEM).build());
-
-        CartDetail cartDetail = CartDetail.builder()
-                .cart(cart)
-                .item(item)
-                .quantity(addCart.getQuantity())
-                .build();
-
-        cartDetailRepository.save(cartDetail);
+        return addCartDetails(List.of(addCart), cart).get(0);
+    }
 
-        return CartDetailResponse.of(cartDetail);
+    /**
+     * 장바구니에 상품(들)을 담는다.
+     * - 요청의 같은 상품은 수량을 합치고, 이미 담긴 상품은 담긴 수량에 더한다.
+     * - 상품과 담긴 장바구니 상세를 각각 한 번에 조회하고, 추가/수량 변경은 상대값으로 한 번에 반영한다.
+     */
+    private List<CartDetailResponse> addCartDetails(List<CartRequest> cartRequests, Cart cart) {
+        Map<Long, Long> quantitiesByItemId = new LinkedHashMap<>();
+        for (CartRequest cartRequest : cartRequests) {
+            if (cartRequest.getQuantity() == null) {
+                throw BusinessException.builder()
+                        .response(HttpResponse.Fail.INVALID_INPUT_VALUE).build();
+            }
+            quantitiesByItemId.merge(cartRequest.getItemId(), cartRequest.getQuantity(), Long::sum);
+        }
+
+        Map<Long, Item> items = itemRepository.findAllWithProductsByIdIn(quantitiesByItemId.keySet()).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        if (items.size() != quantitiesByItemId.size()) {
+            throw BusinessException.builder()
+                    .response(HttpResponse.Fail.NOT_FOUND_ITEM).build();
+        }
+
+        // 응답에 담을 수량 - 반영 전에 담겨 있던 수량에 더한다.
+        Map<Long, CartDetail> savedDetails = cartDetailRepository.findAllByCartAndItemIdIn(cart, quantitiesByItemId.keySet()).stream()
+                .collect(Collectors.toMap(cartDetail -> cartDetail.getItem().getId(), Function.identity(), (first, second) -> first));
+
+        cartDetailRepository.addQuantitiesInBatch(cart.getId(), quantitiesByItemId);
+
+        List<CartDetailResponse> cartDetailResponses = new ArrayList<>();
+        quantitiesByItemId.forEach((itemId, quantity) -> {
+            CartDetail savedDetail = savedDetails.get(itemId);
+            CartDetail cartDetail = CartDetail.builder()
+                    .id(savedDetail == null ? null : savedDetail.getId())
+                    .cart(cart)
+                    .item(items.get(itemId))
+                    .quantity(savedDetail == null ? quantity : savedDetail.getQuantity() + quantity)
+                    .build();
+
+            cartDetailResponses.add(CartDetailResponse.of(cartDetail));
+        });
+
+        return cartDetailResponses;
     }
 
     // 상품 수량만 변경할 경우
@@ -126,19 +163,31 @@ public class CartServiceImpl implements CartService {
         Cart cart = addFirstCart(member).orElseThrow(() -> BusinessException.builder()
                 .response(HttpResponse.Fail.NOT_FOUND_CART).build());
 
-        deleteCartRequests.forEach(deleteCartRequest -> deleteCart(deleteCartRequest, cart));
+        deleteCartDetails(deleteCartRequests, cart);
     }
 
     @Override
     @Transactional
     public void deleteCart(DeleteCartRequest deleteCartItem, Cart cart) {
-        Item item = itemRepository.findById(deleteCartItem.getItemId()).orElseThrow(() -> BusinessException.builder()
-                .response(HttpResponse.Fail.NOT_FOUND_ITEM).build());
-
-        // 장바구니에 item이 없는 경우
-        cartDetailRepository.findByItemAndCart(item, cart).orElseThrow(() -> BusinessException.builder()
-                .response(HttpResponse.Fail.NOT_FOUND_CART).build());
+        deleteCartDetails(List.of(deleteCartItem), cart);
+    }
 
-        cartDetailRepository.deleteByItemAndCart(item, cart);
+    /**
+     * 장바구니에서 상품(들)을 한 번의 DELETE 로 삭제한다.
+     * 장바구니에 없는 상품이 하나라도 있으면 삭제하지 않고 예외를 던진다.
+     */
+    private void deleteCartDetails(List<DeleteCartRequest> deleteCartRequests, Cart cart) {
+        Set<Long> itemIds = deleteCartRequests.stream()
+                .map(DeleteCartRequest::getItemId)
+                .collect(Collectors.toSet());
+
+        // 장바구니에 item이 없는 경우 - 삭제된 수가 아니라 상품마다 담겨 있는지 확인한다.
+        Set<Long> cartItemIds = new HashSet<>(cartDetailRepository.findItemIdsByCartAndItemIdIn(cart, itemIds));
+        if (!cartItemIds.containsAll(itemIds)) {
+            throw BusinessException.builder()
+                    .response(HttpResponse.Fail.NOT_FOUND_CART).build();
+        }
+
+        cartDetailRepository.deleteAllByCartAndItemIds(cart, itemIds);
     }
 }
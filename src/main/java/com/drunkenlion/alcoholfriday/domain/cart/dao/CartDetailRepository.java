@@ -5,12 +5,13 @@ import com.drunkenlion.alcoholfriday.domain.cart.entity.CartDetail;
 import com.drunkenlion.alcoholfriday.domain.item.entity.Item;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface CartDetailRepository extends JpaRepository<CartDetail, Long> {
+public interface CartDetailRepository extends JpaRepository<CartDetail, Long>, CartDetailRepositoryCustom {
     Optional<CartDetail> findByItemAndCart(Item item, Cart cart);
     List<CartDetail> findAllByCart(Cart cart);
+    List<CartDetail> findAllByCartAndItemIdIn(Cart cart, Collection<Long> itemIds);
     List<CartDetail> findByItemAndDeletedAtIsNull(Item item);
-    void deleteByItemAndCart(Item item, Cart cart);
 }
@@ -0,0 +1,17 @@
+package com.drunkenlion.alcoholfriday.domain.cart.dao;
+
+import com.drunkenlion.alcoholfriday.domain.cart.entity.Cart;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface CartDetailRepositoryCustom {
+    void addQuantitiesInBatch(Long cartId, Map<Long, Long> quantitiesByItemId);
+
+    List<Long> findItemIdsByCartAndItemIdIn(Cart cart, Collection<Long> itemIds);
+
+    long deleteAllByCartAndItemIds(Cart cart, Collection<Long> itemIds);
+
+    boolean existsUniqueKey(String keyName);
+}
@@ -0,0 +1,81 @@
+package com.drunkenlion.alcoholfriday.domain.cart.dao;
+
+import com.drunkenlion.alcoholfriday.domain.cart.entity.Cart;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static com.drunkenlion.alcoholfriday.domain.cart.entity.QCartDetail.cartDetail;
+
+@RequiredArgsConstructor
+public class CartDetailRepositoryImpl implements CartDetailRepositoryCustom {
+    // (cart_id, item_id) unique key - 담겨 있지 않으면 추가하고, 담겨 있으면 담긴 수량에 더한다.
+    private static final String UPSERT_CART_DETAIL =
+            "INSERT INTO cart_detail (cart_id, item_id, quantity, created_at) VALUES (?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE quantity = quantity + VALUES(quantity), updated_at = VALUES(created_at)";
+    private static final String COUNT_INDEX =
+            "SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'cart_detail' AND index_name = ?";
+    private static final int BATCH_SIZE = 100;
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 장바구니에 상품(들)을 담는다.
+     * - 읽은 수량을 덮어쓰지 않고 한 번의 INSERT ... ON DUPLICATE KEY UPDATE 로 더하므로,
+     *   같은 상품을 동시에 담아도 장바구니 상세가 하나만 생기고 수량이 누락되지 않는다.
+     * - IDENTITY 전략이라 Hibernate 는 insert 를 묶지 못하므로 JDBC batch 로 반영한다.
+     */
+    @Override
+    public void addQuantitiesInBatch(Long cartId, Map<Long, Long> quantitiesByItemId) {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(UPSERT_CART_DETAIL, new ArrayList<>(quantitiesByItemId.entrySet()), BATCH_SIZE,
+                (ps, quantity) -> {
+                    ps.setLong(1, cartId);
+                    ps.setLong(2, quantity.getKey());
+                    ps.setLong(3, quantity.getValue());
+                    ps.setTimestamp(4, createdAt);
+                });
+    }
+
+    /**
+     * 장바구니에 담긴 상품 식별자
+     */
+    @Override
+    public List<Long> findItemIdsByCartAndItemIdIn(Cart cart, Collection<Long> itemIds) {
+        return jpaQueryFactory
+                .select(cartDetail.item.id)
+                .from(cartDetail)
+                .where(cartDetail.cart.eq(cart),
+                        cartDetail.item.id.in(itemIds))
+                .fetch();
+    }
+
+    /**
+     * 장바구니에서 상품(들)을 한 번에 삭제한다.
+     *
+     * @return 삭제된 장바구니 상세 수
+     */
+    @Override
+    public long deleteAllByCartAndItemIds(Cart cart, Collection<Long> itemIds) {
+        return jpaQueryFactory
+                .delete(cartDetail)
+                .where(cartDetail.cart.eq(cart),
+                        cartDetail.item.id.in(itemIds))
+                .execute();
+    }
+
+    @Override
+    public boolean existsUniqueKey(String keyName) {
+        Long count = jdbcTemplate.queryForObject(COUNT_INDEX, Long.class, keyName);
+        return count != null && count > 0;
+    }
+}
@@ -2,6 +2,7 @@ package com.drunkenlion.alcoholfriday.domain.cart.entity;
 
 import com.drunkenlion.alcoholfriday.domain.member.entity.Member;
 import com.drunkenlion.alcoholfriday.global.common.entity.BaseEntity;
+import com.drunkenlion.alcoholfriday.global.common.vo.Money;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
@@ -45,13 +46,7 @@ public class Cart extends BaseEntity {
     }
 
     public BigDecimal getTotalCartPrice(List<CartDetail> cartDetails) {
-        if (cartDetails.isEmpty()) {
-            return BigDecimal.ZERO;
-        } else {
-            return cartDetails.stream()
-                    .map(cartDetail -> cartDetail.getItem().getPrice())
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-        }
+        return Money.sum(cartDetails, cartDetail -> cartDetail.getItem().getPrice()).toBigDecimal();
     }
 
     public Long getTotalCartQuantity(List<CartDetail> cartDetails) {
@@ -16,8 +16,12 @@ import org.hibernate.annotations.Comment;
 @SuperBuilder(toBuilder = true)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "cart_detail")
+@Table(name = "cart_detail",
+        uniqueConstraints = @UniqueConstraint(name = CartDetail.CART_ITEM_UNIQUE_KEY, columnNames = {"cart_id", "item_id"}))
 public class CartDetail extends BaseEntity {
+    // 장바구니마다 상품은 한 번만 담긴다. (같은 상품은 수량을 더한다)
+    public static final String CART_ITEM_UNIQUE_KEY = "uk_cart_detail_cart_item";
+
     @Comment("장바구니 정보")
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "cart_id", columnDefinition = "BIGINT", foreignKey = @ForeignKey(value = ConstraintMode.NO_CONSTRAINT))
@@ -5,6 +5,11 @@ import com.drunkenlion.alcoholfriday.domain.customerservice.question.dto.request
 import com.drunkenlion.alcoholfriday.domain.customerservice.question.dto.response.QuestionResponse;
 import com.drunkenlion.alcoholfriday.domain.customerservice.question.dto.response.QuestionSaveResponse;
 import com.drunkenlion.alcoholfriday.domain.member.entity.Member;
+import com.drunkenlion.alcoholfriday.global.common.response.CursorPage;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadCompleteRequest;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadRequest;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadResponse;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.NcpFileResponse;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.web.multipart.MultipartFile;
@@ -15,8 +20,14 @@ public interface QuestionService {
     QuestionResponse findQuestion(Member member, Long id);
 
     Page<QuestionResponse> findQuestions(Member member, int page, int size);
+
+    CursorPage<QuestionResponse> findQuestionsByCursor(Member member, String cursor, int size);
     
     QuestionResponse updateQuestion(Long id, Member member, QuestionModifyRequest request, List<MultipartFile> files);
 
     void deleteQuestion(Long id, Member member);
+
+    List<FileUploadResponse> createUploads(Long id, Member member, FileUploadRequest request);
+
+    NcpFileResponse completeUploads(Long id, Member member, FileUploadCompleteRequest request);
 }
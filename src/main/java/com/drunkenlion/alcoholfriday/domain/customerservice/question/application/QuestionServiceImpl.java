@@ -9,9 +9,14 @@ import com.drunkenlion.alcoholfriday.domain.customerservice.question.entity.Ques
 import com.drunkenlion.alcoholfriday.domain.customerservice.question.enumerated.QuestionStatus;
 import com.drunkenlion.alcoholfriday.domain.customerservice.question.util.validate.QuestionValidator;
 import com.drunkenlion.alcoholfriday.domain.member.entity.Member;
+import com.drunkenlion.alcoholfriday.global.common.response.CursorPage;
 import com.drunkenlion.alcoholfriday.global.common.response.HttpResponse.Fail;
+import com.drunkenlion.alcoholfriday.global.common.util.Cursor;
 import com.drunkenlion.alcoholfriday.global.exception.BusinessException;
 import com.drunkenlion.alcoholfriday.global.file.application.FileService;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadCompleteRequest;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadRequest;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadResponse;
 import com.drunkenlion.alcoholfriday.global.ncp.dto.NcpFileResponse;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -60,6 +65,14 @@ public class QuestionServiceImpl implements QuestionService {
         return findAll.map(QuestionResponse::of);
     }
 
+    @Override
+    public CursorPage<QuestionResponse> findQuestionsByCursor(Member member, String cursor, int size) {
+        log.info("[QuestionServiceImpl.findQuestionsByCursor] : 접근");
+        List<Question> rows = questionRepository.findMemberByCursor(member, Cursor.decode(cursor), size + 1);
+        return CursorPage.of(rows, size, question -> Cursor.of(question.getCreatedAt(), question.getId()))
+                .map(QuestionResponse::of);
+    }
+
     @Override
     @Transactional
     public QuestionResponse updateQuestion(Long id, Member member, QuestionModifyRequest request,
@@ -98,4 +111,37 @@ public class QuestionServiceImpl implements QuestionService {
         question.deleteEntity();
         questionRepository.save(question);
     }
+
+    /**
+     * 문의사항 이미지 직접 업로드 URL 발급
+     */
+    @Override
+    public List<FileUploadResponse> createUploads(Long id, Member member, FileUploadRequest request) {
+        log.info("[QuestionServiceImpl.createUploads] : 접근");
+        return fileService.createUploads(findModifiableQuestion(id, member), request.getFiles());
+    }
+
+    /**
+     * 문의사항 이미지 직접 업로드 완료
+     */
+    @Override
+    @Transactional
+    public NcpFileResponse completeUploads(Long id, Member member, FileUploadCompleteRequest request) {
+        log.info("[QuestionServiceImpl.completeUploads] : 접근");
+        return fileService.completeUploads(findModifiableQuestion(id, member), request.getKeyNames());
+    }
+
+    // 답변이 끝난 문의사항은 수정할 수 없다.
+    private Question findModifiableQuestion(Long id, Member member) {
+        Question question =
+                questionRepository.findByIdAndDeletedAtIsNull(id).orElseThrow(() -> new BusinessException(Fail.NOT_FOUND_QUESTION));
+
+        QuestionValidator.compareEntityIdToMemberId(question, member);
+
+        if (question.getStatus().equals(QuestionStatus.COMPLETE)) {
+            throw new BusinessException(Fail.BAD_REQUEST);
+        }
+
+        return question;
+    }
 }
@@ -2,6 +2,8 @@ package com.drunkenlion.alcoholfriday.domain.customerservice.question.dao;
 
 import com.drunkenlion.alcoholfriday.domain.customerservice.question.entity.Question;
 import com.drunkenlion.alcoholfriday.domain.member.entity.Member;
+import com.drunkenlion.alcoholfriday.global.common.util.Cursor;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,6 +11,8 @@ import org.springframework.data.domain.Pageable;
 public interface QuestionCustomRepository {
     Page<Question> findMember(Member member, Pageable pageable);
 
+    List<Question> findMemberByCursor(Member member, Cursor cursor, int limit);
+
     Optional<Question> findQuestion(Long id);
 
     Optional<Question> adminFindQuestion(Long id);
@@ -5,6 +5,7 @@ import static com.drunkenlion.alcoholfriday.domain.customerservice.question.enti
 
 import com.drunkenlion.alcoholfriday.domain.customerservice.question.entity.Question;
 import com.drunkenlion.alcoholfriday.domain.member.entity.Member;
+import com.drunkenlion.alcoholfriday.global.common.util.Cursor;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -41,6 +42,23 @@ public class QuestionRepositoryImpl implements QuestionCustomRepository {
         return PageableExecutionUtils.getPage(questions, pageable, total::fetchOne);
     }
 
+    /**
+     * 회원 문의사항 커서 조회 - 최신순 (createdAt desc, id desc), 전체 개수는 조회하지 않는다.
+     */
+    @Override
+    public List<Question> findMemberByCursor(Member member, Cursor cursor, int limit) {
+        return jpaQueryFactory
+                .selectFrom(question)
+                .where(
+                        question.member.eq(member),
+                        question.deletedAt.isNull(),
+                        Cursor.createdAtBefore(cursor, question.createdAt, question.id)
+                )
+                .orderBy(question.createdAt.desc(), question.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
     @Override
     public Optional<Question> findQuestion(Long id) {
         BooleanExpression conditions =
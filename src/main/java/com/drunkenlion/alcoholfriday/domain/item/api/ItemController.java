@@ -4,6 +4,7 @@ import com.drunkenlion.alcoholfriday.domain.item.application.ItemService;
 import com.drunkenlion.alcoholfriday.domain.item.dto.FindItemResponse;
 import com.drunkenlion.alcoholfriday.domain.item.dto.ItemReviewResponse;
 import com.drunkenlion.alcoholfriday.domain.item.dto.SearchItemResponse;
+import com.drunkenlion.alcoholfriday.global.common.response.CursorPageResponse;
 import com.drunkenlion.alcoholfriday.global.common.response.PageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -39,6 +40,22 @@ public class ItemController {
         return ResponseEntity.ok().body(pageResponse);
     }
 
+    @GetMapping(params = "cursor")
+    @Operation(summary = "검색어로 전체 상품 조회 (커서)", description = "cursor 파라미터가 있으면 커서 기반으로 조회한다. 첫 페이지는 빈 값을 전달한다.")
+    public ResponseEntity<CursorPageResponse<SearchItemResponse>> searchByCursor(
+            @RequestParam(name = "cursor") String cursor,
+            @RequestParam(name = "size", defaultValue = "12") int size,
+            @RequestParam(name = "keyword") String keyword,
+            @RequestParam(name = "categories") @Schema(example = "탁주/막걸리 또는 과실주/와인") String categories
+    ) {
+        List<String> parseType = categories == null || categories.isBlank()
+                ? Collections.emptyList()
+                : List.of(categories.split(","));
+
+        CursorPageResponse<SearchItemResponse> response = CursorPageResponse.of(this.itemService.searchByCursor(cursor, size, keyword, parseType));
+        return ResponseEntity.ok().body(response);
+    }
+
     @GetMapping("{id}")
     @Operation(summary = "상품 상세 조회", description = "상품의 식별자를 통해 상품을 하나만 조회한다.")
     public ResponseEntity<FindItemResponse> get(
@@ -56,4 +73,13 @@ public class ItemController {
         PageResponse<ItemReviewResponse> response = PageResponse.of(itemService.getReviews(id, page, size));
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping(value = "{id}/reviews", params = "cursor")
+    @Operation(summary = "상품 리뷰 조회 (커서)", description = "cursor 파라미터가 있으면 최신순 커서 기반으로 조회한다. 첫 페이지는 빈 값을 전달한다.")
+    public ResponseEntity<CursorPageResponse<ItemReviewResponse>> getReviewByCursor(@PathVariable("id") Long id,
+                                                                                    @RequestParam(name = "cursor") String cursor,
+                                                                                    @RequestParam(name = "size", defaultValue = "10") int size) {
+        CursorPageResponse<ItemReviewResponse> response = CursorPageResponse.of(itemService.getReviewsByCursor(id, cursor, size));
+        return ResponseEntity.ok(response);
+    }
 }
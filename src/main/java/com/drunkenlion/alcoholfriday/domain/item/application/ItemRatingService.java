@@ -0,0 +1,21 @@
+package com.drunkenlion.alcoholfriday.domain.item.application;
+
+import com.drunkenlion.alcoholfriday.domain.item.dto.ItemRating;
+import com.drunkenlion.alcoholfriday.domain.review.entity.Review;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface ItemRatingService {
+    void addReview(Review review);
+
+    void changeReview(Review review, Double beforeScore);
+
+    void removeReview(Review review);
+
+    ItemRating getItemRating(Long itemId);
+
+    Map<Long, ItemRating> getItemRatings(Collection<Long> itemIds);
+
+    void recalculateAll();
+}
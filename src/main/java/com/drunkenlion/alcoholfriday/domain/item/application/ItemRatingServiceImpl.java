@@ -0,0 +1,151 @@
+package com.drunkenlion.alcoholfriday.domain.item.application;
+
+import com.drunkenlion.alcoholfriday.domain.item.dao.ItemRatingSummaryRepository;
+import com.drunkenlion.alcoholfriday.domain.item.dao.ItemRepository;
+import com.drunkenlion.alcoholfriday.domain.item.dto.ItemRating;
+import com.drunkenlion.alcoholfriday.domain.item.entity.Item;
+import com.drunkenlion.alcoholfriday.domain.item.entity.ItemRatingSummary;
+import com.drunkenlion.alcoholfriday.domain.review.entity.Review;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class ItemRatingServiceImpl implements ItemRatingService {
+    private static final int RECALCULATE_CHUNK_SIZE = 500;
+    private static final int HISTOGRAM_SIZE = ItemRatingSummary.MAX_SCORE;
+
+    private final ItemRatingSummaryRepository itemRatingSummaryRepository;
+    private final ItemRepository itemRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 리뷰 등록 시 평점 집계 반영
+     */
+    @Override
+    @Transactional
+    public void addReview(Review review) {
+        if (review.getItem() == null) {
+            return;
+        }
+
+        long[] histogram = new long[HISTOGRAM_SIZE];
+        histogram[ItemRatingSummary.bucket(review.getScore()) - 1]++;
+
+        apply(review.getItem(), 1, score(review.getScore()), histogram);
+    }
+
+    /**
+     * 리뷰 점수 수정 시 평점 집계 반영
+     */
+    @Override
+    @Transactional
+    public void changeReview(Review review, Double beforeScore) {
+        if (review.getItem() == null || Objects.equals(beforeScore, review.getScore())) {
+            return;
+        }
+
+        long[] histogram = new long[HISTOGRAM_SIZE];
+        histogram[ItemRatingSummary.bucket(beforeScore) - 1]--;
+        histogram[ItemRatingSummary.bucket(review.getScore()) - 1]++;
+
+        apply(review.getItem(), 0, score(review.getScore()) - score(beforeScore), histogram);
+    }
+
+    /**
+     * 리뷰 삭제 시 평점 집계 반영
+     */
+    @Override
+    @Transactional
+    public void removeReview(Review review) {
+        if (review.getItem() == null) {
+            return;
+        }
+
+        long[] histogram = new long[HISTOGRAM_SIZE];
+        histogram[ItemRatingSummary.bucket(review.getScore()) - 1]--;
+
+        apply(review.getItem(), -1, -score(review.getScore()), histogram);
+    }
+
+    @Override
+    public ItemRating getItemRating(Long itemId) {
+        return itemRatingSummaryRepository.findByItemId(itemId)
+                .map(ItemRating::of)
+                .orElse(null);
+    }
+
+    /**
+     * 여러 상품의 평점을 한 번에 조회 (리뷰가 없는 상품은 결과에 포함되지 않는다)
+     */
+    @Override
+    public Map<Long, ItemRating> getItemRatings(Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        return itemRatingSummaryRepository.findAllByItemIdIn(itemIds).stream()
+                .map(ItemRating::of)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toMap(ItemRating::getItemId, Function.identity()));
+    }
+
+    /**
+     * 리뷰 테이블 기준으로 전체 상품의 평점 집계를 다시 계산
+     * - 상품 식별자 순으로 일정 개수씩 나누어 개별 트랜잭션에서 처리한다.
+     * - 상품마다 한 문장(INSERT ... SELECT)으로 다시 계산하므로 그사이 반영된 리뷰를 덮어쓰지 않는다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Scheduled(cron = "0 0 4 * * ?")
+    public void recalculateAll() {
+        long startTime = System.nanoTime();
+        long lastItemId = 0L;
+        int count = 0;
+
+        while (true) {
+            List<Long> itemIds = itemRepository.findIdsAfter(lastItemId, RECALCULATE_CHUNK_SIZE);
+            if (itemIds.isEmpty()) {
+                break;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> itemRatingSummaryRepository.recalculate(itemIds));
+
+            lastItemId = itemIds.get(itemIds.size() - 1);
+            count += itemIds.size();
+        }
+
+        long endTime = System.nanoTime();
+        log.info("[상품 평점 집계 재계산] 상품 수 : {}, 소요 시간 : {}ms", count, (endTime - startTime) / 1_000_000);
+    }
+
+    /**
+     * 집계가 있으면 증감하고, 없으면 이번 변경까지 반영된 리뷰 테이블 기준으로 만든다.
+     * - 집계 없이 쌓인 이전 리뷰가 빠지지 않고, 첫 변경이 삭제여도 리뷰 수가 음수가 되지 않는다.
+     * - 리뷰 저장/삭제는 JPA 로 미뤄져 있으므로 리뷰 테이블을 읽기 전에 flush 한다.
+     */
+    private void apply(Item item, long countDelta, double scoreDelta, long[] histogramDelta) {
+        if (itemRatingSummaryRepository.existsByItemId(item.getId())) {
+            itemRatingSummaryRepository.increase(item.getId(), countDelta, scoreDelta, histogramDelta);
+            return;
+        }
+
+        itemRatingSummaryRepository.flush();
+        itemRatingSummaryRepository.create(item.getId(), countDelta, scoreDelta, histogramDelta);
+    }
+
+    private static double score(Double score) {
+        return score == null ? 0D : score;
+    }
+}
@@ -0,0 +1,131 @@
+package com.drunkenlion.alcoholfriday.domain.item.application;
+
+import com.drunkenlion.alcoholfriday.domain.item.dao.ItemRepository;
+import com.drunkenlion.alcoholfriday.domain.item.util.ItemSearchIndex;
+import com.drunkenlion.alcoholfriday.domain.item.vo.ItemSearchDocument;
+import com.drunkenlion.alcoholfriday.domain.item.vo.ItemSearchHit;
+import com.drunkenlion.alcoholfriday.domain.item.vo.ItemSearchIndexEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 상품 검색 색인 관리
+ * - 애플리케이션 시작 시 전체 색인을 만들고, 관리자 상품/제품/제조사 변경 커밋 후 해당 상품만 다시 색인한다.
+ * - 관리자 API 이외의 경로로 변경된 데이터를 반영하기 위해 주기적으로 전체 색인을 다시 만든다.
+ * - 전체 색인을 만드는 동안 들어온 변경은 모아 두었다가, 색인을 교체한 뒤 다시 반영한다.
+ *   (전체 조회가 변경 커밋 전에 읽은 데이터로 색인을 덮어써 변경이 사라지지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemSearchIndexer {
+    private final ItemRepository itemRepository;
+    private final ItemSearchIndex itemSearchIndex = new ItemSearchIndex();
+
+    // 전체 색인 생성은 한 번에 하나만
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    // 변경 반영(DB 조회 + 색인 교체)과 전체 색인 교체를 순서대로 처리
+    private final ReentrantLock updateLock = new ReentrantLock();
+    // 전체 색인을 만드는 동안 들어온 변경 (만드는 중이 아니면 null)
+    private List<ItemSearchIndexEvent> pendingEvents;
+
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long[] search(String keyword, Collection<String> categories) {
+        return itemSearchIndex.search(keyword, categories);
+    }
+
+    public List<ItemSearchHit> searchAfter(String keyword, Collection<String> categories, int score, long itemId, int limit) {
+        return itemSearchIndex.searchAfter(keyword, categories, score, itemId, limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0/10 * * * ?")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long startTime = System.nanoTime();
+
+            updateLock.lock();
+            try {
+                pendingEvents = new ArrayList<>();
+            } finally {
+                updateLock.unlock();
+            }
+
+            List<ItemSearchDocument> documents;
+            try {
+                documents = itemRepository.findAllSearchDocuments();
+            } catch (RuntimeException e) {
+                updateLock.lock();
+                try {
+                    pendingEvents = null;
+                } finally {
+                    updateLock.unlock();
+                }
+                throw e;
+            }
+
+            int replayed;
+            updateLock.lock();
+            try {
+                itemSearchIndex.rebuild(documents);
+                List<ItemSearchIndexEvent> events = pendingEvents;
+                pendingEvents = null;
+                events.forEach(this::reindex);
+                replayed = events.size();
+                ready = true;
+            } finally {
+                updateLock.unlock();
+            }
+
+            long endTime = System.nanoTime();
+            log.info("[상품 검색 색인 생성] 상품 수 : {}, 다시 반영한 변경 수 : {}, 소요 시간 : {}ms",
+                    documents.size(), replayed, (endTime - startTime) / 1_000_000);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(ItemSearchIndexEvent event) {
+        updateLock.lock();
+        try {
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+            reindex(event);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private void reindex(ItemSearchIndexEvent event) {
+        Set<Long> itemIds = switch (event.getTarget()) {
+            case ITEM -> Set.of(event.getId());
+            case PRODUCT -> itemSearchIndex.findItemIdsByProductId(event.getId());
+            case MAKER -> itemSearchIndex.findItemIdsByMakerId(event.getId());
+        };
+
+        if (itemIds.isEmpty()) {
+            return;
+        }
+
+        itemSearchIndex.upsert(itemIds, itemRepository.findSearchDocuments(itemIds));
+    }
+}
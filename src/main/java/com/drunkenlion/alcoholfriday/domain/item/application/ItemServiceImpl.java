@@ -6,21 +6,32 @@ import com.drunkenlion.alcoholfriday.domain.item.dto.ItemRating;
 import com.drunkenlion.alcoholfriday.domain.item.dto.ItemReviewResponse;
 import com.drunkenlion.alcoholfriday.domain.item.dto.SearchItemResponse;
 import com.drunkenlion.alcoholfriday.domain.item.entity.Item;
+import com.drunkenlion.alcoholfriday.domain.item.vo.ItemSearchHit;
 import com.drunkenlion.alcoholfriday.domain.review.dao.ReviewRepository;
 import com.drunkenlion.alcoholfriday.domain.review.entity.Review;
+import com.drunkenlion.alcoholfriday.global.common.response.CursorPage;
 import com.drunkenlion.alcoholfriday.global.common.response.HttpResponse;
 import com.drunkenlion.alcoholfriday.global.common.response.HttpResponse.Fail;
+import com.drunkenlion.alcoholfriday.global.common.util.Cursor;
 import com.drunkenlion.alcoholfriday.global.exception.BusinessException;
 import com.drunkenlion.alcoholfriday.global.file.application.FileService;
 import com.drunkenlion.alcoholfriday.global.ncp.dto.NcpFileResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
@@ -29,22 +40,116 @@ public class ItemServiceImpl implements ItemService {
     private final ItemRepository itemRepository;
     private final ReviewRepository reviewRepository;
     private final FileService fileService;
+    private final ItemSearchIndexer itemSearchIndexer;
+    private final ItemRatingService itemRatingService;
 
     @Override
     public Page<SearchItemResponse> search(int page, Integer size, String keyword, List<String> categories) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Item> search = this.itemRepository.search(categories, keyword, pageable);
+        Page<Item> search = this.itemSearchIndexer.isReady()
+                ? searchByIndex(categories, keyword, pageable)
+                : this.itemRepository.search(categories, keyword, pageable);
 
         List<Item> searchItems = search.getContent();
-        List<NcpFileResponse> files = searchItems.stream()
-                .map(this.fileService::findAll)
+        List<NcpFileResponse> files = new ArrayList<>(this.fileService.findAllImages(searchItems).values());
+
+        Map<Long, ItemRating> itemRatings = this.itemRatingService.getItemRatings(
+                searchItems.stream().map(Item::getId).toList());
+        List<ItemRating> itemRatingList = new ArrayList<>(itemRatings.values());
+
+        return SearchItemResponse.of(search, files, itemRatingList);
+    }
+
+    /**
+     * 커서 기반 상품 검색 - 검색 색인의 순위 (score, id) 를 커서로 사용하고 전체 개수는 세지 않는다.
+     * 색인이 준비되기 전에는 모든 상품의 점수를 0으로 보고 식별자 순서로 DB에서 조회한다.
+     */
+    @Override
+    public CursorPage<SearchItemResponse> searchByCursor(String cursor, int size, String keyword, List<String> categories) {
+        Cursor after = Cursor.decode(cursor);
+
+        CursorPage<Item> search = isIndexCursor(after)
+                ? searchByIndex(categories, keyword, after, size)
+                : CursorPage.of(
+                        this.itemRepository.searchByCursor(categories, keyword, after == null ? null : after.getId(), size + 1),
+                        size,
+                        item -> Cursor.of(item.getId()));
+
+        List<Item> searchItems = search.getContent();
+        List<NcpFileResponse> files = new ArrayList<>(this.fileService.findAllImages(searchItems).values());
+
+        Map<Long, ItemRating> itemRatings = this.itemRatingService.getItemRatings(
+                searchItems.stream().map(Item::getId).toList());
+        List<ItemRating> itemRatingList = new ArrayList<>(itemRatings.values());
+
+        return search.map(item -> SearchItemResponse.of(item, files, itemRatingList));
+    }
+
+    /**
+     * 검색 색인 순위로 이어서 조회할지 여부
+     * - 첫 페이지는 색인이 준비되었으면 색인으로 조회한다.
+     * - 색인 준비 전에 발급한 식별자 순 커서는 정렬이 바뀌지 않도록 끝까지 DB 조회로 이어 간다.
+     * - 색인 순위 커서를 색인이 준비되지 않은 곳에서 받거나, 다른 목록의 커서를 받으면 잘못된 커서로 본다.
+     */
+    private boolean isIndexCursor(Cursor after) {
+        if (after == null) {
+            return this.itemSearchIndexer.isReady();
+        }
+
+        if (after.is(Cursor.Type.ID)) {
+            return false;
+        }
+
+        if (after.is(Cursor.Type.SCORE) && this.itemSearchIndexer.isReady()) {
+            return true;
+        }
+
+        throw new BusinessException(Fail.INVALID_CURSOR);
+    }
+
+    private CursorPage<Item> searchByIndex(List<String> categories, String keyword, Cursor after, int size) {
+        // 첫 페이지는 어떤 상품보다도 앞선 순위에서 시작
+        List<ItemSearchHit> hits = after == null
+                ? this.itemSearchIndexer.searchAfter(keyword, categories, Integer.MAX_VALUE, 0L, size + 1)
+                : this.itemSearchIndexer.searchAfter(keyword, categories, (int) after.getScore(), after.getId(), size + 1);
+
+        if (hits.isEmpty()) {
+            return CursorPage.of(Collections.emptyList(), size, item -> null);
+        }
+
+        Map<Long, Item> items = this.itemRepository.findAllByIdsWithCategory(
+                        hits.stream().map(ItemSearchHit::getItemId).toList()).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        List<ItemSearchHit> foundHits = hits.stream()
+                .filter(hit -> items.containsKey(hit.getItemId()))
                 .toList();
 
-        List<ItemRating> itemRatingList = searchItems.stream()
-                .map(this::itemRating)
+        return CursorPage.of(foundHits, size, hit -> Cursor.of(hit.getScore(), hit.getItemId()))
+                .map(hit -> items.get(hit.getItemId()));
+    }
+
+    // 검색 색인에서 정렬된 상품 식별자를 찾고, 요청한 페이지의 상품만 DB에서 조회
+    private Page<Item> searchByIndex(List<String> categories, String keyword, Pageable pageable) {
+        long[] itemIds = this.itemSearchIndexer.search(keyword, categories);
+
+        int from = (int) Math.min(pageable.getOffset(), itemIds.length);
+        int to = Math.min(from + pageable.getPageSize(), itemIds.length);
+        List<Long> pageIds = Arrays.stream(itemIds, from, to).boxed().toList();
+
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, itemIds.length);
+        }
+
+        Map<Long, Item> items = this.itemRepository.findAllByIdsWithCategory(pageIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        List<Item> content = pageIds.stream()
+                .map(items::get)
+                .filter(Objects::nonNull)
                 .toList();
 
-        return SearchItemResponse.of(search, files, itemRatingList);
+        return new PageImpl<>(content, pageable, itemIds.length);
     }
 
     @Override
@@ -57,35 +162,27 @@ public class ItemServiceImpl implements ItemService {
         NcpFileResponse file = this.fileService.findOne(item);
 
         // 리뷰 평점
-        ItemRating itemRating = itemRating(item);
+        ItemRating itemRating = this.itemRatingService.getItemRating(item.getId());
 
         return FindItemResponse.of(item, file, itemRating);
     }
 
-    // 리뷰 평점과 리뷰 개수 데이터
-    private ItemRating itemRating(Item item) {
-        List<Review> itemTotalReview = reviewRepository.findAllByItemIdAndDeletedAtIsNull(item.getId());
-
-        if (itemTotalReview.isEmpty())
-            return null;
-
-        double totalScore = itemTotalReview.stream()
-                .mapToDouble(Review::getScore)
-                .sum();
-        Double averageScore = totalScore / itemTotalReview.size();
-
-        return ItemRating.builder()
-                .itemId(item.getId())
-                .avgItemScore(averageScore)
-                .totalReviewCount(itemTotalReview.size())
-                .build();
-    }
-
     @Override
     public Page<ItemReviewResponse> getReviews(Long id, int page, int size) {
         Item item = itemRepository.findById(id).orElseThrow(() -> new BusinessException(Fail.NOT_FOUND_ITEM));
         Pageable pageable = PageRequest.of(page, size);
         Page<Review> reviews = reviewRepository.findItemDetailReview(item, pageable);
-        return reviews.map(review -> ItemReviewResponse.of(review, fileService.findAll(review)));
+        Map<Long, NcpFileResponse> images = fileService.findAllImages(reviews.getContent());
+        return reviews.map(review -> ItemReviewResponse.of(review, images.get(review.getId())));
+    }
+
+    @Override
+    public CursorPage<ItemReviewResponse> getReviewsByCursor(Long id, String cursor, int size) {
+        Item item = itemRepository.findById(id).orElseThrow(() -> new BusinessException(Fail.NOT_FOUND_ITEM));
+        List<Review> rows = reviewRepository.findItemDetailReviewByCursor(item, Cursor.decode(cursor), size + 1);
+
+        CursorPage<Review> reviews = CursorPage.of(rows, size, review -> Cursor.of(review.getCreatedAt(), review.getId()));
+        Map<Long, NcpFileResponse> images = fileService.findAllImages(reviews.getContent());
+        return reviews.map(review -> ItemReviewResponse.of(review, images.get(review.getId())));
     }
 }
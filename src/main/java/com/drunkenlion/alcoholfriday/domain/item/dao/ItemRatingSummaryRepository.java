@@ -0,0 +1,16 @@
+package com.drunkenlion.alcoholfriday.domain.item.dao;
+
+import com.drunkenlion.alcoholfriday.domain.item.entity.ItemRatingSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ItemRatingSummaryRepository extends JpaRepository<ItemRatingSummary, Long>, ItemRatingSummaryRepositoryCustom {
+    Optional<ItemRatingSummary> findByItemId(Long itemId);
+
+    boolean existsByItemId(Long itemId);
+
+    List<ItemRatingSummary> findAllByItemIdIn(Collection<Long> itemIds);
+}
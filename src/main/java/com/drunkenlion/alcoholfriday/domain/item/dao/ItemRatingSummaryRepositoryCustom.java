@@ -0,0 +1,11 @@
+package com.drunkenlion.alcoholfriday.domain.item.dao;
+
+import java.util.Collection;
+
+public interface ItemRatingSummaryRepositoryCustom {
+    void increase(Long itemId, long countDelta, double scoreDelta, long[] histogramDelta);
+
+    void create(Long itemId, long countDelta, double scoreDelta, long[] histogramDelta);
+
+    void recalculate(Collection<Long> itemIds);
+}
@@ -0,0 +1,103 @@
+package com.drunkenlion.alcoholfriday.domain.item.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+@RequiredArgsConstructor
+public class ItemRatingSummaryRepositoryImpl implements ItemRatingSummaryRepositoryCustom {
+    // 집계가 없으면 만들고, 있으면 증감한다. (item_id unique key)
+    private static final String UPSERT_INCREASE =
+            "INSERT INTO item_rating (item_id, review_count, score_sum, score1_count, score2_count, score3_count, score4_count, score5_count) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE review_count = review_count + VALUES(review_count), "
+                    + "score_sum = score_sum + VALUES(score_sum), "
+                    + "score1_count = score1_count + VALUES(score1_count), "
+                    + "score2_count = score2_count + VALUES(score2_count), "
+                    + "score3_count = score3_count + VALUES(score3_count), "
+                    + "score4_count = score4_count + VALUES(score4_count), "
+                    + "score5_count = score5_count + VALUES(score5_count)";
+    // 점수 구간은 ItemRatingSummary.bucket 과 같다. (반올림 후 1 ~ 5 로 자름, null 은 1점 구간 / 합계 0)
+    private static final String BUCKET = "GREATEST(1, LEAST(5, ROUND(COALESCE(score, 1))))";
+    private static final String UPSERT_RECALCULATE =
+            "INSERT INTO item_rating (item_id, review_count, score_sum, score1_count, score2_count, score3_count, score4_count, score5_count) "
+                    + "SELECT ?, COUNT(*), COALESCE(SUM(score), 0), "
+                    + "COALESCE(SUM(" + BUCKET + " = 1), 0), "
+                    + "COALESCE(SUM(" + BUCKET + " = 2), 0), "
+                    + "COALESCE(SUM(" + BUCKET + " = 3), 0), "
+                    + "COALESCE(SUM(" + BUCKET + " = 4), 0), "
+                    + "COALESCE(SUM(" + BUCKET + " = 5), 0) "
+                    + "FROM review WHERE item_id = ? AND deleted_at IS NULL "
+                    + "ON DUPLICATE KEY UPDATE review_count = VALUES(review_count), "
+                    + "score_sum = VALUES(score_sum), "
+                    + "score1_count = VALUES(score1_count), "
+                    + "score2_count = VALUES(score2_count), "
+                    + "score3_count = VALUES(score3_count), "
+                    + "score4_count = VALUES(score4_count), "
+                    + "score5_count = VALUES(score5_count)";
+    private static final String SELECT_AGGREGATE =
+            "SELECT COUNT(*), COALESCE(SUM(score), 0), "
+                    + "COALESCE(SUM(" + BUCKET + " = 1), 0), "
+                    + "COALESCE(SUM(" + BUCKET + " = 2), 0), "
+                    + "COALESCE(SUM(" + BUCKET + " = 3), 0), "
+                    + "COALESCE(SUM(" + BUCKET + " = 4), 0), "
+                    + "COALESCE(SUM(" + BUCKET + " = 5), 0) "
+                    + "FROM review WHERE item_id = ? AND deleted_at IS NULL";
+    // 없으면 리뷰 테이블 기준 값으로 만들고, 그사이 다른 트랜잭션이 만들었으면 이번 변경만 증감한다.
+    private static final String UPSERT_CREATE =
+            "INSERT INTO item_rating (item_id, review_count, score_sum, score1_count, score2_count, score3_count, score4_count, score5_count) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE review_count = review_count + ?, "
+                    + "score_sum = score_sum + ?, "
+                    + "score1_count = score1_count + ?, "
+                    + "score2_count = score2_count + ?, "
+                    + "score3_count = score3_count + ?, "
+                    + "score4_count = score4_count + ?, "
+                    + "score5_count = score5_count + ?";
+    private static final int BATCH_SIZE = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 조회 후 수정하지 않고 한 번의 INSERT ... ON DUPLICATE KEY UPDATE 로 증감하여,
+     * 집계가 없는 상품에 동시에 첫 리뷰가 작성되어도 row 가 하나만 생기고 누락되지 않는다.
+     */
+    @Override
+    public void increase(Long itemId, long countDelta, double scoreDelta, long[] histogramDelta) {
+        jdbcTemplate.update(UPSERT_INCREASE, itemId, countDelta, scoreDelta,
+                histogramDelta[0], histogramDelta[1], histogramDelta[2], histogramDelta[3], histogramDelta[4]);
+    }
+
+    /**
+     * 집계가 없는 상품의 집계를 리뷰 테이블 기준으로 만든다. (이번 변경이 리뷰 테이블에 반영된 뒤 호출한다.)
+     * - 리뷰는 잠그지 않고 읽으므로(consistent read) 동시에 리뷰를 쓰는 트랜잭션과 서로 기다리지 않는다.
+     * - 읽은 시점에 보이지 않던 다른 트랜잭션이 먼저 집계를 만들었다면 unique key 충돌로 이번 변경만 더한다.
+     *   집계는 리뷰와 같은 트랜잭션에서 만들어지므로, 보이지 않던 리뷰는 그 트랜잭션의 집계에 포함되어 있다.
+     */
+    @Override
+    public void create(Long itemId, long countDelta, double scoreDelta, long[] histogramDelta) {
+        Object[] aggregate = jdbcTemplate.queryForObject(SELECT_AGGREGATE, (rs, rowNum) -> new Object[]{
+                rs.getLong(1), rs.getDouble(2),
+                rs.getLong(3), rs.getLong(4), rs.getLong(5), rs.getLong(6), rs.getLong(7)}, itemId);
+
+        jdbcTemplate.update(UPSERT_CREATE, itemId,
+                aggregate[0], aggregate[1], aggregate[2], aggregate[3], aggregate[4], aggregate[5], aggregate[6],
+                countDelta, scoreDelta,
+                histogramDelta[0], histogramDelta[1], histogramDelta[2], histogramDelta[3], histogramDelta[4]);
+    }
+
+    /**
+     * 리뷰 테이블 기준으로 상품별 집계를 다시 계산해 덮어쓴다.
+     * - 상품마다 한 문장으로 읽고 쓰므로 엔티티로 읽었다가 저장하는 사이에 반영된 리뷰를 덮어쓰지 않는다.
+     * - REPEATABLE READ(MySQL 기본값)에서 INSERT ... SELECT 는 읽는 리뷰 row 를 잠그므로, 진행 중인 리뷰 트랜잭션은 끝난 뒤에 계산된다.
+     */
+    @Override
+    public void recalculate(Collection<Long> itemIds) {
+        jdbcTemplate.batchUpdate(UPSERT_RECALCULATE, new ArrayList<>(itemIds), BATCH_SIZE, (ps, itemId) -> {
+            ps.setLong(1, itemId);
+            ps.setLong(2, itemId);
+        });
+    }
+}
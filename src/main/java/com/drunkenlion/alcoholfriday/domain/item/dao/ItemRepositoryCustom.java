@@ -1,13 +1,21 @@
 package com.drunkenlion.alcoholfriday.domain.item.dao;
 
 import com.drunkenlion.alcoholfriday.domain.item.entity.Item;
+import com.drunkenlion.alcoholfriday.domain.item.vo.ItemSearchDocument;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ItemRepositoryCustom {
     Page<Item> search(List<String> categories, String keyword, Pageable pageable);
+    List<Item> searchByCursor(List<String> categories, String keyword, Long lastId, int limit);
     Optional<Item> get(Long id);
+    List<Item> findAllByIdsWithCategory(Collection<Long> ids);
+    List<Item> findAllWithProductsByIdIn(Collection<Long> ids);
+    List<ItemSearchDocument> findAllSearchDocuments();
+    List<ItemSearchDocument> findSearchDocuments(Collection<Long> ids);
+    List<Long> findIdsAfter(Long lastId, int limit);
 }
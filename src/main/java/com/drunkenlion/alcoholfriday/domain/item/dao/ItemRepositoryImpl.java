@@ -1,6 +1,8 @@
 package com.drunkenlion.alcoholfriday.domain.item.dao;
 
 import com.drunkenlion.alcoholfriday.domain.item.entity.Item;
+import com.drunkenlion.alcoholfriday.domain.item.vo.ItemSearchDocument;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -9,7 +11,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.drunkenlion.alcoholfriday.domain.category.entity.QCategory.category;
@@ -25,20 +31,7 @@ public class ItemRepositoryImpl implements ItemRepositoryCustom {
 
     @Override
     public Page<Item> search(List<String> categories, String keyword, Pageable pageable) {
-        // 카테고리 검색 조건 생성
-        BooleanExpression categoryPredicate = categories.isEmpty()
-                ? item.isNotNull() // 카테고리 조건이 없는 경우 기본적으로 모든 아이템을 선택
-                : categories.stream()
-                .map(category.lastName::eq) // categoryLastName -> category.lastName.eq(categoryLastName)
-                .reduce(BooleanExpression::or)
-                .orElse(null);
-
-        // 키워드 검색 조건 생성 - keyword가 없는 경우 카테고리로만 검색
-        BooleanExpression searchPredicate = keyword.isBlank()
-                ? categoryPredicate
-                : categoryPredicate.and(item.name.contains(keyword))
-                .or(categoryPredicate.and(product.name.contains(keyword)))
-                .or(categoryPredicate.and(maker.name.contains(keyword)));
+        BooleanExpression searchPredicate = searchPredicate(categories, keyword);
 
         List<Item> items = jpaQueryFactory
                 .select(item)
@@ -64,6 +57,43 @@ public class ItemRepositoryImpl implements ItemRepositoryCustom {
         return PageableExecutionUtils.getPage(items, pageable, total::fetchOne);
     }
 
+    /**
+     * 상품 검색 커서 조회 - 식별자 오름차순, 전체 개수는 조회하지 않는다.
+     */
+    @Override
+    public List<Item> searchByCursor(List<String> categories, String keyword, Long lastId, int limit) {
+        return jpaQueryFactory
+                .select(item).distinct()
+                .from(item)
+                .leftJoin(itemProduct).on(item.eq(itemProduct.item))
+                .leftJoin(product).on(itemProduct.product.eq(product))
+                .leftJoin(maker).on(product.maker.eq(maker))
+                .leftJoin(category).on(item.category.eq(category))
+                .where(searchPredicate(categories, keyword), lastId == null ? null : item.id.gt(lastId))
+                .orderBy(item.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanExpression searchPredicate(List<String> categories, String keyword) {
+        // 카테고리 검색 조건 생성
+        BooleanExpression categoryPredicate = categories.isEmpty()
+                ? item.isNotNull() // 카테고리 조건이 없는 경우 기본적으로 모든 아이템을 선택
+                : categories.stream()
+                .map(category.lastName::eq) // categoryLastName -> category.lastName.eq(categoryLastName)
+                .reduce(BooleanExpression::or)
+                .orElse(null);
+
+        // 키워드 검색 조건 생성 - keyword가 없는 경우 카테고리로만 검색
+        BooleanExpression searchPredicate = keyword.isBlank()
+                ? categoryPredicate
+                : categoryPredicate.and(item.name.contains(keyword))
+                .or(categoryPredicate.and(product.name.contains(keyword)))
+                .or(categoryPredicate.and(maker.name.contains(keyword)));
+
+        return searchPredicate;
+    }
+
     @Override
     public Optional<Item> get(Long id) {
         return Optional.ofNullable(
@@ -79,4 +109,88 @@ public class ItemRepositoryImpl implements ItemRepositoryCustom {
                         .fetchOne()
         );
     }
+
+    @Override
+    public List<Item> findAllByIdsWithCategory(Collection<Long> ids) {
+        return jpaQueryFactory
+                .selectFrom(item)
+                .leftJoin(item.category, category).fetchJoin()
+                .leftJoin(category.categoryClass, categoryClass).fetchJoin()
+                .where(item.id.in(ids))
+                .fetch();
+    }
+
+    /**
+     * 주문 접수용 상품 조회 - 카테고리, 구성 제품까지 한 번에 조회한다.
+     */
+    @Override
+    public List<Item> findAllWithProductsByIdIn(Collection<Long> ids) {
+        return jpaQueryFactory
+                .selectFrom(item).distinct()
+                .leftJoin(item.category, category).fetchJoin()
+                .leftJoin(category.categoryClass, categoryClass).fetchJoin()
+                .leftJoin(item.itemProducts, itemProduct).fetchJoin()
+                .leftJoin(itemProduct.product, product).fetchJoin()
+                .where(item.id.in(ids))
+                .fetch();
+    }
+
+    // 식별자 기준 keyset 페이징 - 삭제된 상품도 포함한다.
+    @Override
+    public List<Long> findIdsAfter(Long lastId, int limit) {
+        return jpaQueryFactory
+                .select(item.id)
+                .from(item)
+                .where(item.id.gt(lastId))
+                .orderBy(item.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<ItemSearchDocument> findAllSearchDocuments() {
+        return findSearchDocuments(item.deletedAt.isNull());
+    }
+
+    @Override
+    public List<ItemSearchDocument> findSearchDocuments(Collection<Long> ids) {
+        return findSearchDocuments(item.deletedAt.isNull().and(item.id.in(ids)));
+    }
+
+    // 상품 검색 색인용 데이터 - 상품 1건에 제품 수만큼 row가 조회되어 상품 단위로 묶는다.
+    private List<ItemSearchDocument> findSearchDocuments(BooleanExpression predicate) {
+        List<Tuple> rows = jpaQueryFactory
+                .select(item.id, item.name, category.lastName, product.id, product.name, maker.id, maker.name)
+                .from(item)
+                .leftJoin(category).on(item.category.eq(category))
+                .leftJoin(itemProduct).on(item.eq(itemProduct.item).and(itemProduct.deletedAt.isNull()))
+                .leftJoin(product).on(itemProduct.product.eq(product))
+                .leftJoin(maker).on(product.maker.eq(maker))
+                .where(predicate)
+                .orderBy(item.id.asc())
+                .fetch();
+
+        Map<Long, ItemSearchDocument> documents = new LinkedHashMap<>();
+        for (Tuple row : rows) {
+            ItemSearchDocument document = documents.computeIfAbsent(row.get(item.id), id -> ItemSearchDocument.builder()
+                    .itemId(id)
+                    .itemName(row.get(item.name))
+                    .categoryLastName(row.get(category.lastName))
+                    .build());
+
+            Long productId = row.get(product.id);
+            if (productId != null) {
+                document.getProductIds().add(productId);
+                document.getProductNames().add(row.get(product.name));
+            }
+
+            Long makerId = row.get(maker.id);
+            if (makerId != null) {
+                document.getMakerIds().add(makerId);
+                document.getMakerNames().add(row.get(maker.name));
+            }
+        }
+
+        return new ArrayList<>(documents.values());
+    }
 }
@@ -1,8 +1,12 @@
 package com.drunkenlion.alcoholfriday.domain.item.dto;
 
+import com.drunkenlion.alcoholfriday.domain.item.entity.ItemRatingSummary;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
+import java.util.Arrays;
+import java.util.List;
+
 @Getter
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -17,4 +21,21 @@ public class ItemRating {
 
     @Schema(description = "한 개 상품 리뷰 총 개수")
     private int totalReviewCount;
+
+    @Schema(description = "1 ~ 5점 리뷰 개수")
+    private List<Long> scoreCounts;
+
+    // 리뷰가 없는 상품은 평점을 내려주지 않는다.
+    public static ItemRating of(ItemRatingSummary summary) {
+        if (summary.getReviewCount() <= 0) {
+            return null;
+        }
+
+        return ItemRating.builder()
+                .itemId(summary.getItem().getId())
+                .avgItemScore(summary.getScoreSum() / summary.getReviewCount())
+                .totalReviewCount(summary.getReviewCount().intValue())
+                .scoreCounts(Arrays.stream(summary.getHistogram()).boxed().toList())
+                .build();
+    }
 }
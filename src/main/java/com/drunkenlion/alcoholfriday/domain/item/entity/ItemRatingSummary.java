@@ -0,0 +1,79 @@
+package com.drunkenlion.alcoholfriday.domain.item.entity;
+
+import com.drunkenlion.alcoholfriday.global.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Comment;
+
+@Entity
+@Getter
+@SuperBuilder(toBuilder = true)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "item_rating")
+public class ItemRatingSummary extends BaseEntity {
+    public static final int MIN_SCORE = 1;
+    public static final int MAX_SCORE = 5;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "item_id", unique = true, columnDefinition = "BIGINT", foreignKey = @ForeignKey(value = ConstraintMode.NO_CONSTRAINT))
+    private Item item;
+
+    @Comment("리뷰 개수")
+    @Column(name = "review_count", columnDefinition = "BIGINT")
+    @Builder.Default
+    private Long reviewCount = 0L;
+
+    @Comment("리뷰 점수 합계")
+    @Column(name = "score_sum", columnDefinition = "DOUBLE")
+    @Builder.Default
+    private Double scoreSum = 0D;
+
+    @Comment("1점 리뷰 개수")
+    @Column(name = "score1_count", columnDefinition = "BIGINT")
+    @Builder.Default
+    private Long score1Count = 0L;
+
+    @Comment("2점 리뷰 개수")
+    @Column(name = "score2_count", columnDefinition = "BIGINT")
+    @Builder.Default
+    private Long score2Count = 0L;
+
+    @Comment("3점 리뷰 개수")
+    @Column(name = "score3_count", columnDefinition = "BIGINT")
+    @Builder.Default
+    private Long score3Count = 0L;
+
+    @Comment("4점 리뷰 개수")
+    @Column(name = "score4_count", columnDefinition = "BIGINT")
+    @Builder.Default
+    private Long score4Count = 0L;
+
+    @Comment("5점 리뷰 개수")
+    @Column(name = "score5_count", columnDefinition = "BIGINT")
+    @Builder.Default
+    private Long score5Count = 0L;
+
+    /**
+     * 1 ~ 5점 구간 (반올림 후 범위를 벗어난 점수는 가까운 구간으로 보낸다)
+     */
+    public static int bucket(Double score) {
+        long rounded = Math.round(score == null ? MIN_SCORE : score);
+        return (int) Math.max(MIN_SCORE, Math.min(MAX_SCORE, rounded));
+    }
+
+    public long[] getHistogram() {
+        return new long[]{score1Count, score2Count, score3Count, score4Count, score5Count};
+    }
+
+    public void updateSummary(long reviewCount, double scoreSum, long[] histogram) {
+        this.reviewCount = reviewCount;
+        this.scoreSum = scoreSum;
+        this.score1Count = histogram[0];
+        this.score2Count = histogram[1];
+        this.score3Count = histogram[2];
+        this.score4Count = histogram[3];
+        this.score5Count = histogram[4];
+    }
+}
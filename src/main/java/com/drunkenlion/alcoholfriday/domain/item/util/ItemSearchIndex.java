@@ -0,0 +1,386 @@
+package com.drunkenlion.alcoholfriday.domain.item.util;
+
+import com.drunkenlion.alcoholfriday.domain.item.vo.ItemSearchDocument;
+import com.drunkenlion.alcoholfriday.domain.item.vo.ItemSearchHit;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 이름, 제품 이름, 제조사 이름에 대한 메모리 n-gram 역색인
+ * - 한 글자 검색어는 unigram, 두 글자 이상의 검색어는 bigram 목록의 교집합으로 후보를 찾는다.
+ * - 후보는 원문 포함 여부로 한 번 더 검증하기 때문에 LIKE '%keyword%' 와 같은 결과를 돌려준다.
+ * - 상품은 내부 번호(ordinal)로 관리하며, 수정/삭제된 번호는 제거 표시 후 일정 수가 쌓이면 재구성한다.
+ */
+public class ItemSearchIndex {
+    private static final int ITEM_NAME_SCORE = 4;
+    private static final int PRODUCT_NAME_SCORE = 2;
+    private static final int MAKER_NAME_SCORE = 1;
+    private static final int COMPACT_THRESHOLD = 1024;
+    private static final Comparator<ItemSearchHit> RANK_ORDER =
+            Comparator.comparingInt((ItemSearchHit hit) -> -hit.getScore()).thenComparingLong(ItemSearchHit::getItemId);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final List<Entry> entries = new ArrayList<>();
+    private final BitSet live = new BitSet();
+    private final Map<Long, Integer> ordinalByItemId = new HashMap<>();
+    private final Map<Long, Set<Long>> itemIdsByProductId = new HashMap<>();
+    private final Map<Long, Set<Long>> itemIdsByMakerId = new HashMap<>();
+
+    private final Map<Integer, Postings> unigrams = new HashMap<>();
+    private final Map<Integer, Postings> bigrams = new HashMap<>();
+
+    private int deleted = 0;
+
+    /**
+     * 전체 문서로 색인을 다시 만든다.
+     */
+    public void rebuild(Collection<ItemSearchDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            clear();
+            documents.forEach(document -> add(Entry.of(document)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * itemIds 에 해당하는 문서를 교체한다. documents 에 없는 상품은 색인에서 제거된다.
+     */
+    public void upsert(Collection<Long> itemIds, Collection<ItemSearchDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            itemIds.forEach(this::remove);
+            documents.forEach(document -> {
+                remove(document.getItemId());
+                add(Entry.of(document));
+            });
+
+            if (deleted > COMPACT_THRESHOLD && deleted > ordinalByItemId.size()) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Set<Long> findItemIdsByProductId(Long productId) {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(itemIdsByProductId.getOrDefault(productId, Collections.emptySet()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Set<Long> findItemIdsByMakerId(Long makerId) {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(itemIdsByMakerId.getOrDefault(makerId, Collections.emptySet()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinalByItemId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어와 카테고리 소분류로 상품 식별자를 찾는다.
+     * 상품 이름 > 제품 이름 > 제조사 이름 순으로 점수를 매기고, 점수가 같으면 식별자 오름차순으로 정렬한다.
+     */
+    public long[] search(String keyword, Collection<String> categories) {
+        return searchHits(keyword, categories).stream()
+                .mapToLong(ItemSearchHit::getItemId)
+                .toArray();
+    }
+
+    /**
+     * 검색 결과 중 (score, itemId) 다음 순위부터 limit 개를 찾는다. (커서 페이징)
+     */
+    public List<ItemSearchHit> searchAfter(String keyword, Collection<String> categories, int score, long itemId, int limit) {
+        List<ItemSearchHit> hits = searchHits(keyword, categories);
+
+        int from = Collections.binarySearch(hits, new ItemSearchHit(itemId, score), RANK_ORDER);
+        from = from >= 0 ? from + 1 : -(from + 1);
+
+        return hits.subList(from, Math.min(from + limit, hits.size()));
+    }
+
+    /**
+     * 검색어와 카테고리 소분류로 상품을 찾고 순위대로 정렬한다.
+     */
+    public List<ItemSearchHit> searchHits(String keyword, Collection<String> categories) {
+        String query = keyword == null ? "" : normalize(keyword.strip());
+        Set<String> categorySet = categories == null ? Collections.emptySet() : new HashSet<>(categories);
+
+        lock.readLock().lock();
+        try {
+            int[] candidates = query.isEmpty() ? null : candidates(query);
+            if (candidates != null && candidates.length == 0) {
+                return Collections.emptyList();
+            }
+
+            List<ItemSearchHit> hits = new ArrayList<>();
+            if (candidates == null) {
+                for (int ordinal = live.nextSetBit(0); ordinal >= 0; ordinal = live.nextSetBit(ordinal + 1)) {
+                    Entry entry = entries.get(ordinal);
+                    if (entry.matchesCategory(categorySet)) {
+                        hits.add(new ItemSearchHit(entry.itemId, 0));
+                    }
+                }
+            } else {
+                for (int ordinal : candidates) {
+                    if (!live.get(ordinal)) {
+                        continue;
+                    }
+
+                    Entry entry = entries.get(ordinal);
+                    if (!entry.matchesCategory(categorySet)) {
+                        continue;
+                    }
+
+                    int score = entry.score(query);
+                    if (score > 0) {
+                        hits.add(new ItemSearchHit(entry.itemId, score));
+                    }
+                }
+            }
+
+            hits.sort(RANK_ORDER);
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int[] candidates(String query) {
+        if (query.length() == 1) {
+            Postings postings = unigrams.get((int) query.charAt(0));
+            return postings == null ? new int[0] : postings.toArray();
+        }
+
+        List<Postings> lists = new ArrayList<>();
+        for (int i = 0; i < query.length() - 1; i++) {
+            Postings postings = bigrams.get(bigramKey(query.charAt(i), query.charAt(i + 1)));
+            if (postings == null) {
+                return new int[0];
+            }
+            lists.add(postings);
+        }
+
+        // 가장 짧은 목록부터 교집합을 구한다.
+        lists.sort(Comparator.comparingInt(Postings::size));
+
+        int[] result = lists.get(0).toArray();
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = lists.get(i).intersect(result);
+        }
+        return result;
+    }
+
+    private void add(Entry entry) {
+        int ordinal = entries.size();
+        entries.add(entry);
+        live.set(ordinal);
+        ordinalByItemId.put(entry.itemId, ordinal);
+
+        for (long productId : entry.productIds) {
+            itemIdsByProductId.computeIfAbsent(productId, key -> new HashSet<>()).add(entry.itemId);
+        }
+        for (long makerId : entry.makerIds) {
+            itemIdsByMakerId.computeIfAbsent(makerId, key -> new HashSet<>()).add(entry.itemId);
+        }
+
+        indexText(ordinal, entry.itemName);
+        for (String productName : entry.productNames) {
+            indexText(ordinal, productName);
+        }
+        for (String makerName : entry.makerNames) {
+            indexText(ordinal, makerName);
+        }
+    }
+
+    private void remove(Long itemId) {
+        Integer ordinal = ordinalByItemId.remove(itemId);
+        if (ordinal == null) {
+            return;
+        }
+
+        Entry entry = entries.get(ordinal);
+        for (long productId : entry.productIds) {
+            removeReverse(itemIdsByProductId, productId, itemId);
+        }
+        for (long makerId : entry.makerIds) {
+            removeReverse(itemIdsByMakerId, makerId, itemId);
+        }
+
+        live.clear(ordinal);
+        entries.set(ordinal, null);
+        deleted++;
+    }
+
+    private void compact() {
+        List<Entry> alive = new ArrayList<>(ordinalByItemId.size());
+        for (int ordinal = live.nextSetBit(0); ordinal >= 0; ordinal = live.nextSetBit(ordinal + 1)) {
+            alive.add(entries.get(ordinal));
+        }
+
+        clear();
+        alive.forEach(this::add);
+    }
+
+    private void clear() {
+        entries.clear();
+        live.clear();
+        ordinalByItemId.clear();
+        itemIdsByProductId.clear();
+        itemIdsByMakerId.clear();
+        unigrams.clear();
+        bigrams.clear();
+        deleted = 0;
+    }
+
+    private void indexText(int ordinal, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            unigrams.computeIfAbsent((int) text.charAt(i), key -> new Postings()).add(ordinal);
+
+            if (i < text.length() - 1) {
+                bigrams.computeIfAbsent(bigramKey(text.charAt(i), text.charAt(i + 1)), key -> new Postings()).add(ordinal);
+            }
+        }
+    }
+
+    private static void removeReverse(Map<Long, Set<Long>> reverse, long key, Long itemId) {
+        Set<Long> itemIds = reverse.get(key);
+        if (itemIds != null) {
+            itemIds.remove(itemId);
+            if (itemIds.isEmpty()) {
+                reverse.remove(key);
+            }
+        }
+    }
+
+    private static int bigramKey(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Entry {
+        private final long itemId;
+        private final String itemName;
+        private final String categoryLastName;
+        private final long[] productIds;
+        private final String[] productNames;
+        private final long[] makerIds;
+        private final String[] makerNames;
+
+        private Entry(long itemId, String itemName, String categoryLastName,
+                      long[] productIds, String[] productNames, long[] makerIds, String[] makerNames) {
+            this.itemId = itemId;
+            this.itemName = itemName;
+            this.categoryLastName = categoryLastName;
+            this.productIds = productIds;
+            this.productNames = productNames;
+            this.makerIds = makerIds;
+            this.makerNames = makerNames;
+        }
+
+        private static Entry of(ItemSearchDocument document) {
+            return new Entry(
+                    document.getItemId(),
+                    normalize(document.getItemName()),
+                    document.getCategoryLastName(),
+                    document.getProductIds().stream().mapToLong(Long::longValue).toArray(),
+                    document.getProductNames().stream().map(ItemSearchIndex::normalize).toArray(String[]::new),
+                    document.getMakerIds().stream().mapToLong(Long::longValue).toArray(),
+                    document.getMakerNames().stream().map(ItemSearchIndex::normalize).toArray(String[]::new)
+            );
+        }
+
+        private boolean matchesCategory(Set<String> categories) {
+            return categories.isEmpty() || categories.contains(categoryLastName);
+        }
+
+        private int score(String query) {
+            int score = 0;
+            if (itemName.contains(query)) {
+                score += ITEM_NAME_SCORE;
+            }
+            if (containsAny(productNames, query)) {
+                score += PRODUCT_NAME_SCORE;
+            }
+            if (containsAny(makerNames, query)) {
+                score += MAKER_NAME_SCORE;
+            }
+            return score;
+        }
+
+        private static boolean containsAny(String[] values, String query) {
+            for (String value : values) {
+                if (value.contains(query)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 오름차순으로 추가되는 ordinal 목록
+     */
+    private static final class Postings {
+        private int[] values = new int[4];
+        private int size = 0;
+
+        private void add(int ordinal) {
+            // 같은 문서에서 반복되는 n-gram 은 한 번만 저장한다.
+            if (size > 0 && values[size - 1] == ordinal) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = ordinal;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+
+        private int[] intersect(int[] other) {
+            int[] result = new int[Math.min(size, other.length)];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+
+            while (i < size && j < other.length) {
+                if (values[i] < other[j]) {
+                    i++;
+                } else if (values[i] > other[j]) {
+                    j++;
+                } else {
+                    result[count++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+    }
+}
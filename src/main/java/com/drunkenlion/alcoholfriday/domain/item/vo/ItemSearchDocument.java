@@ -0,0 +1,26 @@
+package com.drunkenlion.alcoholfriday.domain.item.vo;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemSearchDocument {
+    private Long itemId; // 상품 식별자
+    private String itemName; // 상품 이름
+    private String categoryLastName; // 카테고리 소분류 이름
+
+    @Builder.Default
+    private List<Long> productIds = new ArrayList<>(); // 상품에 포함된 제품 식별자
+    @Builder.Default
+    private List<String> productNames = new ArrayList<>(); // 상품에 포함된 제품 이름
+
+    @Builder.Default
+    private List<Long> makerIds = new ArrayList<>(); // 제품의 제조사 식별자
+    @Builder.Default
+    private List<String> makerNames = new ArrayList<>(); // 제품의 제조사 이름
+}
@@ -0,0 +1,14 @@
+package com.drunkenlion.alcoholfriday.domain.item.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 검색 색인 결과 (상품 식별자, 검색 점수)
+ */
+@Getter
+@AllArgsConstructor
+public class ItemSearchHit {
+    private final long itemId;
+    private final int score;
+}
@@ -0,0 +1,31 @@
+package com.drunkenlion.alcoholfriday.domain.item.vo;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 검색 색인을 갱신해야 하는 데이터 변경 이벤트
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ItemSearchIndexEvent {
+    private final Target target;
+    private final Long id;
+
+    public enum Target {
+        ITEM, PRODUCT, MAKER
+    }
+
+    public static ItemSearchIndexEvent ofItem(Long itemId) {
+        return new ItemSearchIndexEvent(Target.ITEM, itemId);
+    }
+
+    public static ItemSearchIndexEvent ofProduct(Long productId) {
+        return new ItemSearchIndexEvent(Target.PRODUCT, productId);
+    }
+
+    public static ItemSearchIndexEvent ofMaker(Long makerId) {
+        return new ItemSearchIndexEvent(Target.MAKER, makerId);
+    }
+}
@@ -18,7 +18,12 @@ import com.drunkenlion.alcoholfriday.domain.review.dto.response.ReviewModifyRequ
 import com.drunkenlion.alcoholfriday.domain.review.dto.response.ReviewModifyResponse;
 import com.drunkenlion.alcoholfriday.domain.review.dto.response.ReviewOrderDetailResponse;
 import com.drunkenlion.alcoholfriday.domain.review.dto.response.ReviewSaveResponse;
+import com.drunkenlion.alcoholfriday.global.common.response.CursorPageResponse;
 import com.drunkenlion.alcoholfriday.global.common.response.PageResponse;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadCompleteRequest;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadRequest;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadResponse;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.NcpFileResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
@@ -77,6 +82,19 @@ public class MemberController {
         return ResponseEntity.ok().body(pageResponse);
     }
 
+    @Operation(summary = "나의 주문 내역 (커서)", description = "cursor 파라미터가 있으면 최신순 커서 기반으로 조회한다. 첫 페이지는 빈 값을 전달한다.")
+    @GetMapping(value = "me/orders", params = "cursor")
+    public ResponseEntity<CursorPageResponse<OrderResponse>> getMyOrdersByCursor(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(name = "cursor") String cursor,
+            @RequestParam(name = "size", defaultValue = "10") int size) {
+
+        CursorPageResponse<OrderResponse> response =
+                CursorPageResponse.of(memberService.getMyOrdersByCursor(userPrincipal.getMember(), cursor, size));
+
+        return ResponseEntity.ok().body(response);
+    }
+
     @Operation(summary = "나의 배송지 목록", description = "내가 등록한 배송지 목록 (최대3개)")
     @GetMapping("me/addresses")
     public ResponseEntity<List<AddressResponse>> getMyAddresses(@AuthenticationPrincipal UserPrincipal userPrincipal) {
@@ -87,7 +105,7 @@ public class MemberController {
     @PostMapping("me/reviews")
     @Operation(summary = "리뷰 등록")
     public ResponseEntity<ReviewSaveResponse> saveReview(@Valid @RequestPart("request") ReviewSaveRequest request,
-                                                         @RequestPart("files") List<MultipartFile> files,
+                                                         @RequestPart(value = "files", required = false) List<MultipartFile> files,
                                                          @AuthenticationPrincipal UserPrincipal user) {
         ReviewSaveResponse response = reviewService.saveReview(request, files, user.getMember());
         URI location = ServletUriComponentsBuilder
@@ -120,12 +138,30 @@ public class MemberController {
     @Operation(summary = "리뷰 수정")
     public ResponseEntity<ReviewModifyResponse> updateReview(@PathVariable("id") Long id,
                                                              @RequestPart("request") ReviewModifyRequest request,
-                                                             @RequestPart("files") List<MultipartFile> files,
+                                                             @RequestPart(value = "files", required = false) List<MultipartFile> files,
                                                              @AuthenticationPrincipal UserPrincipal user) {
         ReviewModifyResponse response = reviewService.updateReview(id, request, user.getMember(), files);
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("me/reviews/{id}/uploads")
+    @Operation(summary = "리뷰 이미지 직접 업로드 URL 발급", description = "발급한 URL 로 파일을 PUT 한 후 업로드 완료를 요청")
+    public ResponseEntity<List<FileUploadResponse>> createReviewUploads(@PathVariable("id") Long id,
+                                                                        @Valid @RequestBody FileUploadRequest request,
+                                                                        @AuthenticationPrincipal UserPrincipal user) {
+        List<FileUploadResponse> response = reviewService.createUploads(id, request, user.getMember());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("me/reviews/{id}/uploads/complete")
+    @Operation(summary = "리뷰 이미지 직접 업로드 완료", description = "업로드한 파일을 확인하고 리뷰 이미지 뒤에 추가")
+    public ResponseEntity<NcpFileResponse> completeReviewUploads(@PathVariable("id") Long id,
+                                                                 @Valid @RequestBody FileUploadCompleteRequest request,
+                                                                 @AuthenticationPrincipal UserPrincipal user) {
+        NcpFileResponse response = reviewService.completeUploads(id, request, user.getMember());
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("me/reviews/{id}")
     @Operation(summary = "리뷰 삭제")
     public ResponseEntity<Void> deleteReview(@PathVariable("id") Long id,
@@ -137,7 +173,7 @@ public class MemberController {
     @PostMapping("me/questions")
     @Operation(summary = "문의사항 등록")
     public ResponseEntity<QuestionSaveResponse> saveQuestion(@Valid @RequestPart("request") QuestionSaveRequest request,
-                                                             @RequestPart("files") List<MultipartFile> files,
+                                                             @RequestPart(value = "files", required = false) List<MultipartFile> files,
                                                              @AuthenticationPrincipal UserPrincipal user) {
         QuestionSaveResponse response = questionService.saveQuestion(request, files, user.getMember());
         URI location = ServletUriComponentsBuilder
@@ -158,6 +194,15 @@ public class MemberController {
         return ResponseEntity.ok(findAll);
     }
 
+    @GetMapping(value = "me/questions", params = "cursor")
+    @Operation(summary = "문의사항 전체 조회 (커서)", description = "cursor 파라미터가 있으면 최신순 커서 기반으로 조회한다. 첫 페이지는 빈 값을 전달한다.")
+    public ResponseEntity<CursorPageResponse<QuestionResponse>> findQuestionsByCursor(@RequestParam(name = "cursor") String cursor,
+                                                                                      @RequestParam(name = "size", defaultValue = "10") int size,
+                                                                                      @AuthenticationPrincipal UserPrincipal user) {
+        CursorPageResponse<QuestionResponse> response = CursorPageResponse.of(questionService.findQuestionsByCursor(user.getMember(), cursor, size));
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("me/questions/{id}")
     @Operation(summary = "문의사항 상세 조회")
     public ResponseEntity<QuestionResponse> findQuestion(@PathVariable("id") Long id,
@@ -170,12 +215,30 @@ public class MemberController {
     @Operation(summary = "문의사항 수정")
     public ResponseEntity<QuestionResponse> updateQuestion(@PathVariable("id") Long id,
                                                    @RequestPart("request") QuestionModifyRequest request,
-                                                   @RequestPart("files") List<MultipartFile> files,
+                                                   @RequestPart(value = "files", required = false) List<MultipartFile> files,
                                                    @AuthenticationPrincipal UserPrincipal user) {
         QuestionResponse questionResponse = questionService.updateQuestion(id, user.getMember(), request, files);
         return ResponseEntity.ok(questionResponse);
     }
 
+    @PostMapping("me/questions/{id}/uploads")
+    @Operation(summary = "문의사항 이미지 직접 업로드 URL 발급", description = "발급한 URL 로 파일을 PUT 한 후 업로드 완료를 요청")
+    public ResponseEntity<List<FileUploadResponse>> createQuestionUploads(@PathVariable("id") Long id,
+                                                                          @Valid @RequestBody FileUploadRequest request,
+                                                                          @AuthenticationPrincipal UserPrincipal user) {
+        List<FileUploadResponse> response = questionService.createUploads(id, user.getMember(), request);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("me/questions/{id}/uploads/complete")
+    @Operation(summary = "문의사항 이미지 직접 업로드 완료", description = "업로드한 파일을 확인하고 문의사항 이미지 뒤에 추가")
+    public ResponseEntity<NcpFileResponse> completeQuestionUploads(@PathVariable("id") Long id,
+                                                                   @Valid @RequestBody FileUploadCompleteRequest request,
+                                                                   @AuthenticationPrincipal UserPrincipal user) {
+        NcpFileResponse response = questionService.completeUploads(id, user.getMember(), request);
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("me/questions/{id}")
     @Operation(summary = "문의사항 삭제")
     public ResponseEntity<Void> deleteQuestion(@PathVariable("id") Long id,
@@ -5,6 +5,7 @@ import com.drunkenlion.alcoholfriday.domain.member.dto.*;
 import com.drunkenlion.alcoholfriday.domain.member.entity.Member;
 import com.drunkenlion.alcoholfriday.domain.member.enumerated.ReviewStatus;
 import com.drunkenlion.alcoholfriday.domain.order.dto.OrderResponse;
+import com.drunkenlion.alcoholfriday.global.common.response.CursorPage;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
@@ -16,6 +17,8 @@ public interface MemberService {
 
     Page<OrderResponse> getMyOrders(Member member, int page, int size);
 
+    CursorPage<OrderResponse> getMyOrdersByCursor(Member member, String cursor, int size);
+
     List<AddressResponse> getMyAddresses(Long memberId);
 
     Page<MemberReviewResponse<?>> getMyReviews(Long memberId, ReviewStatus reviewStatus, int page, int size);
@@ -21,9 +21,12 @@ import com.drunkenlion.alcoholfriday.domain.order.entity.OrderDetail;
 import com.drunkenlion.alcoholfriday.domain.review.dao.ReviewRepository;
 import com.drunkenlion.alcoholfriday.domain.review.dto.response.ReviewResponse;
 import com.drunkenlion.alcoholfriday.domain.review.entity.Review;
+import com.drunkenlion.alcoholfriday.global.common.response.CursorPage;
 import com.drunkenlion.alcoholfriday.global.common.response.HttpResponse;
+import com.drunkenlion.alcoholfriday.global.common.util.Cursor;
 import com.drunkenlion.alcoholfriday.global.exception.BusinessException;
 import com.drunkenlion.alcoholfriday.global.file.application.FileService;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.NcpFileResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -33,6 +36,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -76,10 +80,34 @@ public class MemberServiceImpl implements MemberService {
         Pageable pageable = PageRequest.of(page, size);
         Page<Order> orderPage = orderRepository.findMyOrderList(member, pageable);
 
+        Map<Long, NcpFileResponse> images = fileService.findFirstImages(orderPage.getContent().stream()
+                .flatMap(order -> order.getOrderDetails().stream())
+                .map(OrderDetail::getItem)
+                .toList());
+
         return orderPage.map(order -> {
             List<OrderDetailResponse> orderDetailsResponses =
                     order.getOrderDetails().stream().map(orderDetail ->
-                            OrderDetailResponse.of(orderDetail, fileService.findOne(orderDetail.getItem()))).toList();
+                            OrderDetailResponse.of(orderDetail, images.get(orderDetail.getItem().getId()))).toList();
+
+            return OrderResponse.of(order, orderDetailsResponses);
+        });
+    }
+
+    @Override
+    public CursorPage<OrderResponse> getMyOrdersByCursor(Member member, String cursor, int size) {
+        List<Order> rows = orderRepository.findMyOrderListByCursor(member, Cursor.decode(cursor), size + 1);
+        CursorPage<Order> orders = CursorPage.of(rows, size, order -> Cursor.of(order.getCreatedAt(), order.getId()));
+
+        Map<Long, NcpFileResponse> images = fileService.findFirstImages(orders.getContent().stream()
+                .flatMap(order -> order.getOrderDetails().stream())
+                .map(OrderDetail::getItem)
+                .toList());
+
+        return orders.map(order -> {
+            List<OrderDetailResponse> orderDetailsResponses =
+                    order.getOrderDetails().stream().map(orderDetail ->
+                            OrderDetailResponse.of(orderDetail, images.get(orderDetail.getItem().getId()))).toList();
 
             return OrderResponse.of(order, orderDetailsResponses);
         });
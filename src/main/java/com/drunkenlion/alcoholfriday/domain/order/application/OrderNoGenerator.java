@@ -0,0 +1,76 @@
+package com.drunkenlion.alcoholfriday.domain.order.application;
+
+import com.drunkenlion.alcoholfriday.global.common.util.SnowflakeIdGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 주문 고유번호 생성
+ * - 저장 전에 발급하므로 주문 식별자나 생성 일자가 필요 없다.
+ * - 형식 : yyMMdd-HHmmss-{Snowflake 식별자}, 날짜/시각은 식별자의 시각으로 만든다.
+ * - 노드 번호(order.node-id)는 인스턴스마다 달라야 하며, 설정하지 않으면 애플리케이션이 시작하지 않는다.
+ *   (local, test 프로필은 인스턴스가 하나이므로 0 을 쓴다.)
+ */
+@Component
+public class OrderNoGenerator {
+    private final SnowflakeIdGenerator idGenerator;
+    private final ZoneId zoneId;
+
+    @Autowired
+    public OrderNoGenerator(@Value("${order.node-id:}") String nodeId) {
+        this(parseNodeId(nodeId));
+    }
+
+    public OrderNoGenerator(long nodeId) {
+        this(new SnowflakeIdGenerator(nodeId, Clock.systemUTC()), ZoneId.systemDefault());
+    }
+
+    OrderNoGenerator(SnowflakeIdGenerator idGenerator, ZoneId zoneId) {
+        this.idGenerator = idGenerator;
+        this.zoneId = zoneId;
+    }
+
+    public String next() {
+        long id = idGenerator.nextId();
+        LocalDateTime orderedAt = LocalDateTime.ofInstant(SnowflakeIdGenerator.getInstant(id), zoneId);
+
+        StringBuilder orderNo = new StringBuilder(34);
+        appendTwoDigits(orderNo, orderedAt.getYear() % 100);
+        appendTwoDigits(orderNo, orderedAt.getMonthValue());
+        appendTwoDigits(orderNo, orderedAt.getDayOfMonth());
+        orderNo.append('-');
+        appendTwoDigits(orderNo, orderedAt.getHour());
+        appendTwoDigits(orderNo, orderedAt.getMinute());
+        appendTwoDigits(orderNo, orderedAt.getSecond());
+        orderNo.append('-');
+        orderNo.append(id);
+
+        return orderNo.toString();
+    }
+
+    /**
+     * 주문 고유번호의 발급 시각 (epoch millisecond)
+     * - 이전 형식(yyMMdd-kkmmss-micro-id)의 주문 고유번호는 지원하지 않는다.
+     */
+    public static long getEpochMilli(String orderNo) {
+        return SnowflakeIdGenerator.getEpochMilli(Long.parseLong(orderNo.substring(orderNo.lastIndexOf('-') + 1)));
+    }
+
+    // 모든 인스턴스가 같은 기본 노드 번호로 발급하면 주문 고유번호가 중복되므로 기본값을 두지 않는다.
+    private static long parseNodeId(String nodeId) {
+        if (!StringUtils.hasText(nodeId)) {
+            throw new IllegalStateException("주문 고유번호 노드 번호(order.node-id, ORDER_NODE_ID)를 인스턴스마다 설정해야 합니다.");
+        }
+        return Long.parseLong(nodeId.trim());
+    }
+
+    private static void appendTwoDigits(StringBuilder builder, int value) {
+        builder.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+}
@@ -18,9 +18,11 @@ import com.drunkenlion.alcoholfriday.domain.order.entity.Order;
 import com.drunkenlion.alcoholfriday.domain.order.entity.OrderDetail;
 import com.drunkenlion.alcoholfriday.domain.order.util.OrderUtil;
 import com.drunkenlion.alcoholfriday.domain.order.util.OrderValidator;
-import com.drunkenlion.alcoholfriday.domain.product.entity.Product;
+import com.drunkenlion.alcoholfriday.domain.product.application.HotStockLedger;
+import com.drunkenlion.alcoholfriday.domain.product.dao.ProductRepository;
 import com.drunkenlion.alcoholfriday.global.common.enumerated.OrderStatus;
 import com.drunkenlion.alcoholfriday.global.common.response.HttpResponse;
+import com.drunkenlion.alcoholfriday.global.common.vo.Money;
 import com.drunkenlion.alcoholfriday.global.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -28,6 +30,11 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -37,11 +44,22 @@ public class OrderServiceImpl implements OrderService {
     private final OrderDetailRepository orderDetailRepository;
     private final AddressRepository addressRepository;
     private final ItemRepository itemRepository;
+    private final ProductRepository productRepository;
+    private final HotStockLedger hotStockLedger;
+    private final OrderNoGenerator orderNoGenerator;
 
     @Override
     @Transactional
     public OrderResponseList receive(OrderRequestList orderRequestList, Member member) {
+        // 주문할 상품을 구성 제품까지 한 번에 조회
+        List<OrderItemRequest> orderItemList = orderRequestList.getOrderItemList();
+        Map<Long, Item> items = itemRepository.findAllWithProductsByIdIn(
+                        orderItemList.stream().map(OrderItemRequest::getItemId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        // 주문 고유번호는 저장 전에 만들어 주문을 한 번만 저장한다.
         Order order = Order.builder()
+                .orderNo(orderNoGenerator.next())
                 .orderStatus(OrderStatus.ORDER_RECEIVED)
                 .price(BigDecimal.valueOf(0))
                 .deliveryPrice(OrderUtil.price.getDeliveryPrice())
@@ -49,18 +67,21 @@ public class OrderServiceImpl implements OrderService {
                 .member(member)
                 .build();
 
-        Order savedOrder = orderRepository.save(order);
-
-        List<OrderDetail> orderDetailList = orderRequestList.getOrderItemList().stream()
-                .map(orderItemRequest -> orderDetailSave(orderItemRequest, savedOrder))
+        List<OrderDetail> orderDetailList = orderItemList.stream()
+                .map(orderItemRequest -> createOrderDetail(orderItemRequest, items.get(orderItemRequest.getItemId()), order))
                 .toList();
 
-        // 주문 고유번호 만들기
-        savedOrder.genOrderNo();
         // 주문 총 금액
-        savedOrder.addPrice(orderDetailList);
+        order.addPrice(orderDetailList);
         // 주문 총 금액 + 배송비
-        savedOrder.addTotalPrice();
+        order.addTotalPrice();
+
+        Order savedOrder = orderRepository.save(order);
+
+        orderDetailRepository.saveAllInBatch(orderDetailList);
+
+        // 재고 줄이기
+        decreaseProductQuantities(savedOrder, orderDetailList);
 
         // 기본 배송지
         Address address = addressRepository.findByMemberAndIsPrimaryIsTrue(member)
@@ -76,54 +97,56 @@ public class OrderServiceImpl implements OrderService {
         );
     }
 
-    @Override
-    @Transactional
-    public OrderDetail orderDetailSave(OrderItemRequest orderItemRequest, Order order) {
-        Item item = itemRepository.findById(orderItemRequest.getItemId()).orElseThrow(() -> BusinessException.builder()
-                .response(HttpResponse.Fail.NOT_FOUND_ITEM).build());
+    private OrderDetail createOrderDetail(OrderItemRequest orderItemRequest, Item item, Order order) {
+        if (item == null) {
+            throw BusinessException.builder()
+                    .response(HttpResponse.Fail.NOT_FOUND_ITEM)
+                    .build();
+        }
 
         BigDecimal totalItemPrice = getTotalItemPrice(orderItemRequest, item);
 
-        OrderDetail orderDetail = OrderDetail.builder()
+        return OrderDetail.builder()
                 .itemPrice(item.getPrice())
                 .quantity(orderItemRequest.getQuantity())
                 .totalPrice(totalItemPrice)
+                .item(item)
+                .order(order)
                 .build();
-        orderDetail.addItem(item);
-        orderDetail.addOrder(order);
-
-        // 재고 줄이기
-        List<ItemProduct> itemProducts = item.getItemProducts();
-        itemProducts.forEach(itemProduct -> updateProductQuantity(orderItemRequest.getQuantity(), itemProduct));
-
-        return orderDetailRepository.save(orderDetail);
     }
 
     @Override
     public BigDecimal getTotalItemPrice(OrderItemRequest orderItemRequest, Item item) {
-        // Long 타입의 quantity를 BigDecimal로 변환
-        BigDecimal quantityBigDecimal = BigDecimal.valueOf(orderItemRequest.getQuantity());
-        // BigDecimal 타입의 price와 BigDecimal 타입의 quantity를 곱하기
-        return quantityBigDecimal.multiply(item.getPrice());
+        // 원 단위 정수로 곱한다.
+        return Money.of(item.getPrice()).times(orderItemRequest.getQuantity()).toBigDecimal();
     }
 
-    @Override
-    @Transactional
-    public void updateProductQuantity(Long orderItemRequestQuantity, ItemProduct itemProduct) {
-        Product product = itemProduct.getProduct();
-        Long productQuantity = product.getQuantity();
-
-        Long itemQuantity = itemProduct.getQuantity(); // item에 따른 개수
-        Long minusProductQuantity = orderItemRequestQuantity * itemQuantity;
+    /**
+     * 주문 상품의 구성 제품 재고를 조건부로 차감한다.
+     * 재고 분산 관리 제품은 메모리 재고 장부에서 확보하고, 나머지 제품은 DB 에서 바로 차감한다.
+     * 재고가 부족한 제품이 하나라도 있으면 예외로 주문 전체를 롤백한다.
+     */
+    private void decreaseProductQuantities(Order order, List<OrderDetail> orderDetailList) {
+        // 제품별 차감 수량 (item에 따른 개수 * 주문 수량), 제품 식별자 순서
+        SortedMap<Long, Long> hotQuantities = new TreeMap<>();
+        SortedMap<Long, Long> quantitiesByProductId = new TreeMap<>();
+        for (OrderDetail orderDetail : orderDetailList) {
+            for (ItemProduct itemProduct : orderDetail.getItem().getItemProducts()) {
+                Long productId = itemProduct.getProduct().getId();
+                SortedMap<Long, Long> quantities = hotStockLedger.isHot(productId) ? hotQuantities : quantitiesByProductId;
+                quantities.merge(productId, orderDetail.getQuantity() * itemProduct.getQuantity(), Long::sum);
+            }
+        }
 
         // 제품의 수량이 원하는 수량 보다 적을 때
-        if (productQuantity < minusProductQuantity) {
+        boolean decreased = (hotQuantities.isEmpty() || hotStockLedger.reserve(order.getId(), hotQuantities))
+                && productRepository.decreaseQuantities(quantitiesByProductId);
+
+        if (!decreased) {
             throw BusinessException.builder()
                     .response(HttpResponse.Fail.OUT_OF_ITEM_STOCK)
                     .build();
         }
-
-        product.updateQuantity(productQuantity - minusProductQuantity);
     }
 
     @Override
@@ -5,6 +5,10 @@ import com.drunkenlion.alcoholfriday.domain.order.entity.OrderDetail;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface OrderDetailCustomRepository {
     Page<OrderDetail> findOrderDetailsMember(Member member, Pageable pageable);
+
+    void saveAllInBatch(List<OrderDetail> orderDetails);
 }
@@ -10,15 +10,23 @@ import com.drunkenlion.alcoholfriday.global.common.enumerated.OrderStatus;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 @RequiredArgsConstructor
 public class OrderDetailCustomRepositoryImpl implements OrderDetailCustomRepository {
+    private static final String INSERT_ORDER_DETAIL =
+            "INSERT INTO order_detail (item_price, quantity, total_price, item_id, order_id, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final int BATCH_SIZE = 100;
+
     private final JPAQueryFactory jpaQueryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Page<OrderDetail> findOrderDetailsMember(Member member, Pageable pageable) {
@@ -47,4 +55,23 @@ public class OrderDetailCustomRepositoryImpl implements OrderDetailCustomReposit
 
         return PageableExecutionUtils.getPage(orderDetails, pageable, total::fetchOne);
     }
+
+    /**
+     * 주문 상세 일괄 저장
+     * - IDENTITY 전략이라 Hibernate 는 insert 를 묶지 못하므로 JDBC batch 로 저장한다.
+     * - 영속성 컨텍스트를 거치지 않으므로 저장한 주문 상세에는 식별자가 채워지지 않는다.
+     */
+    @Override
+    public void saveAllInBatch(List<OrderDetail> orderDetails) {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_ORDER_DETAIL, orderDetails, BATCH_SIZE, (ps, detail) -> {
+            ps.setBigDecimal(1, detail.getItemPrice());
+            ps.setLong(2, detail.getQuantity());
+            ps.setBigDecimal(3, detail.getTotalPrice());
+            ps.setLong(4, detail.getItem().getId());
+            ps.setLong(5, detail.getOrder().getId());
+            ps.setTimestamp(6, createdAt);
+        });
+    }
 }
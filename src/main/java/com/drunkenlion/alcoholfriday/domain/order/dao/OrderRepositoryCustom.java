@@ -4,10 +4,17 @@ import com.drunkenlion.alcoholfriday.domain.admin.order.dto.OrderListResponse;
 import com.drunkenlion.alcoholfriday.global.common.enumerated.OrderStatus;
 import com.drunkenlion.alcoholfriday.domain.member.entity.Member;
 import com.drunkenlion.alcoholfriday.domain.order.entity.Order;
+import com.drunkenlion.alcoholfriday.global.common.util.Cursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface OrderRepositoryCustom {
     Page<Order> findMyOrderList(Member member, Pageable pageable);
+    List<Order> findMyOrderListByCursor(Member member, Cursor cursor, int limit);
     Page<OrderListResponse> findOrderList(Pageable pageable, OrderStatus status);
+    long updateLatestPayment(Long orderId, Long paymentId);
+    Long backfillLatestPayments(long afterOrderId, int limit);
+    boolean updateSalesRecorded(Long orderId, boolean salesRecorded);
 }
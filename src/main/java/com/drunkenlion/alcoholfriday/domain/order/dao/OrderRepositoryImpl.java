@@ -4,6 +4,8 @@ import com.drunkenlion.alcoholfriday.domain.admin.order.dto.OrderListResponse;
 import com.drunkenlion.alcoholfriday.domain.order.entity.QOrder;
 import com.drunkenlion.alcoholfriday.domain.payment.entity.QPayment;
 import com.drunkenlion.alcoholfriday.global.common.enumerated.OrderStatus;
+import com.drunkenlion.alcoholfriday.global.common.util.Cursor;
+import com.drunkenlion.alcoholfriday.global.common.util.IdFirstPaging;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Projections;
 import com.drunkenlion.alcoholfriday.domain.member.entity.Member;
@@ -14,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.util.List;
 
@@ -23,7 +26,22 @@ import static com.drunkenlion.alcoholfriday.domain.order.entity.QOrderDetail.ord
 
 @RequiredArgsConstructor
 public class OrderRepositoryImpl implements OrderRepositoryCustom {
+    // 마지막 결제는 더 나중(식별자가 큰) 결제로만 바꾼다.
+    private static final String UPDATE_LATEST_PAYMENT =
+            "UPDATE orders SET latest_payment_id = ? WHERE id = ? AND (latest_payment_id IS NULL OR latest_payment_id < ?)";
+    private static final String SELECT_ORDER_IDS_AFTER =
+            "SELECT id FROM orders WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String BACKFILL_LATEST_PAYMENT =
+            "UPDATE orders o "
+                    + "JOIN (SELECT order_id, MAX(id) AS id FROM payment WHERE order_id BETWEEN ? AND ? GROUP BY order_id) p "
+                    + "ON p.order_id = o.id "
+                    + "SET o.latest_payment_id = p.id "
+                    + "WHERE o.latest_payment_id IS NULL OR o.latest_payment_id < p.id";
+    private static final String UPDATE_SALES_RECORDED =
+            "UPDATE orders SET sales_recorded = ? WHERE id = ? AND sales_recorded = ?";
+
     private final JPAQueryFactory jpaQueryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Page<Order> findMyOrderList(Member member, Pageable pageable) {
@@ -32,27 +50,49 @@ public class OrderRepositoryImpl implements OrderRepositoryCustom {
         builder.and(order.member.id.eq(member.getId()))
                 .and(order.deletedAt.isNull());
 
-        List<Order> orders = jpaQueryFactory
-                .select(order)
+        JPAQuery<Long> ids = jpaQueryFactory
+                .select(order.id)
                 .from(order)
-                .leftJoin(order.member).fetchJoin()
-                .leftJoin(order.orderDetails, orderDetail).fetchJoin()
-                .leftJoin(orderDetail.item, item).fetchJoin()
                 .where(builder)
-                .orderBy(order.createdAt.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+                .orderBy(order.createdAt.desc(), order.id.desc());
 
         JPAQuery<Long> total = jpaQueryFactory
                 .select(order.count())
                 .from(order)
-                .leftJoin(order.member)
-                .leftJoin(order.orderDetails, orderDetail)
-                .leftJoin(orderDetail.item, item)
                 .where(builder);
 
-        return PageableExecutionUtils.getPage(orders, pageable, total::fetchOne);
+        return IdFirstPaging.fetchPage(pageable, ids, total, this::findAllWithDetails, Order::getId);
+    }
+
+    /**
+     * 나의 주문 내역 커서 조회 - 최신순 (createdAt desc, id desc)
+     */
+    @Override
+    public List<Order> findMyOrderListByCursor(Member member, Cursor cursor, int limit) {
+        List<Long> orderIds = jpaQueryFactory
+                .select(order.id)
+                .from(order)
+                .where(
+                        order.member.id.eq(member.getId()),
+                        order.deletedAt.isNull(),
+                        Cursor.createdAtBefore(cursor, order.createdAt, order.id)
+                )
+                .orderBy(order.createdAt.desc(), order.id.desc())
+                .limit(limit)
+                .fetch();
+
+        return IdFirstPaging.fetchByIds(orderIds, this::findAllWithDetails, Order::getId);
+    }
+
+    // 주문 상세, 상품까지 fetch join 조회
+    private List<Order> findAllWithDetails(List<Long> ids) {
+        return jpaQueryFactory
+                .selectFrom(order)
+                .leftJoin(order.member).fetchJoin()
+                .leftJoin(order.orderDetails, orderDetail).fetchJoin()
+                .leftJoin(orderDetail.item, item).fetchJoin()
+                .where(order.id.in(ids))
+                .fetch();
     }
 
     @Override
@@ -61,12 +101,12 @@ public class OrderRepositoryImpl implements OrderRepositoryCustom {
 
         QOrder o = new QOrder("o");
         QPayment p = new QPayment("p");
-        QPayment p2 = new QPayment("p2");
 
         if (status != null) {
             builder.and(o.orderStatus.eq(status));
         }
 
+        // 마지막 결제는 주문이 가리키므로 결제 이력 수와 상관없이 한 번만 조인한다.
         List<OrderListResponse> orders = jpaQueryFactory
                 .select(Projections.constructor(
                         OrderListResponse.class,
@@ -74,9 +114,7 @@ public class OrderRepositoryImpl implements OrderRepositoryCustom {
                         p.issuerCode
                 ))
                 .from(o)
-                .leftJoin(p).on(p.order.eq(o))
-                .leftJoin(p2).on(p2.order.eq(p.order).and(p.id.lt(p2.id)))
-                .where(p2.id.isNull())
+                .leftJoin(o.latestPayment, p)
                 .where(builder)
                 .orderBy(o.id.desc())
                 .offset(pageable.getOffset())
@@ -90,4 +128,43 @@ public class OrderRepositoryImpl implements OrderRepositoryCustom {
 
         return PageableExecutionUtils.getPage(orders, pageable, total::fetchOne);
     }
+
+    /**
+     * 주문의 마지막 결제를 바꾼다.
+     * - 읽은 주문을 저장하지 않고 조건부 UPDATE 로 바꾸므로, 동시에 저장된 결제 중 식별자가 큰 결제가 남는다.
+     *
+     * @return 바뀐 주문 수 (이미 더 나중 결제를 가리키면 0)
+     */
+    @Override
+    public long updateLatestPayment(Long orderId, Long paymentId) {
+        return jdbcTemplate.update(UPDATE_LATEST_PAYMENT, paymentId, orderId, paymentId);
+    }
+
+    /**
+     * 주문 식별자 순으로 limit 개의 주문에 마지막 결제를 채운다. (이미 채워진 주문은 바꾸지 않는다)
+     *
+     * @return 처리한 마지막 주문 식별자, 더 처리할 주문이 없으면 null
+     */
+    @Override
+    public Long backfillLatestPayments(long afterOrderId, int limit) {
+        List<Long> orderIds = jdbcTemplate.queryForList(SELECT_ORDER_IDS_AFTER, Long.class, afterOrderId, limit);
+        if (orderIds.isEmpty()) {
+            return null;
+        }
+
+        Long lastOrderId = orderIds.get(orderIds.size() - 1);
+        jdbcTemplate.update(BACKFILL_LATEST_PAYMENT, orderIds.get(0), lastOrderId);
+        return lastOrderId;
+    }
+
+    /**
+     * 주문의 매출 집계 반영 여부를 바꾼다.
+     * - 반영 여부가 다를 때만 바꾸므로, 같은 주문을 동시에 여러 번 반영하려 해도 한 번만 성공한다.
+     *
+     * @return 바뀌었으면 true, 이미 같은 값이면 false
+     */
+    @Override
+    public boolean updateSalesRecorded(Long orderId, boolean salesRecorded) {
+        return jdbcTemplate.update(UPDATE_SALES_RECORDED, salesRecorded, orderId, !salesRecorded) > 0;
+    }
 }
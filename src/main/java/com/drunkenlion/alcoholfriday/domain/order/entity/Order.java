@@ -2,9 +2,10 @@ package com.drunkenlion.alcoholfriday.domain.order.entity;
 
 import com.drunkenlion.alcoholfriday.domain.member.entity.Member;
 import com.drunkenlion.alcoholfriday.domain.order.dto.request.OrderAddressRequest;
-import com.drunkenlion.alcoholfriday.domain.order.util.OrderUtil;
+import com.drunkenlion.alcoholfriday.domain.payment.entity.Payment;
 import com.drunkenlion.alcoholfriday.global.common.entity.BaseEntity;
 import com.drunkenlion.alcoholfriday.global.common.enumerated.OrderStatus;
+import com.drunkenlion.alcoholfriday.global.common.vo.Money;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
@@ -19,7 +20,7 @@ import java.util.List;
 @SuperBuilder(toBuilder = true)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "orders")
+@Table(name = "orders", uniqueConstraints = @UniqueConstraint(name = "uk_orders_order_no", columnNames = "order_no"))
 public class Order extends BaseEntity {
     @Comment("주문 고유번호")
     @Column(name = "order_no", columnDefinition = "VARCHAR(200)")
@@ -70,24 +71,28 @@ public class Order extends BaseEntity {
     @JoinColumn(name = "member_id", columnDefinition = "BIGINT", foreignKey = @ForeignKey(value = ConstraintMode.NO_CONSTRAINT))
     private Member member;
 
+    // 결제가 저장될 때 PaymentService 가 조건부 UPDATE 로 갱신하므로, 주문을 저장할 때는 쓰지 않는다.
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "latest_payment_id", columnDefinition = "BIGINT", updatable = false, foreignKey = @ForeignKey(value = ConstraintMode.NO_CONSTRAINT))
+    private Payment latestPayment;
+
+    // 매출 집계가 SalesRollupRecorder 의 조건부 UPDATE 로 바꾸므로, 주문을 저장할 때는 쓰지 않는다.
+    @Comment("일별 매출 집계 반영 여부")
+    @Column(name = "sales_recorded", columnDefinition = "TINYINT NOT NULL DEFAULT 0", insertable = false, updatable = false)
+    private Boolean salesRecorded;
+
     @OneToMany(mappedBy = "order")
     @Builder.Default
     private List<OrderDetail> orderDetails = new ArrayList<>();
 
-    public void genOrderNo() {
-        // orderNo를 주문 접수할 때 만들고 클라이언트에 내려주기 (결제 요청 전)
-        StringBuilder orderNo = new StringBuilder();
-
-        String date = OrderUtil.date.getDate(getCreatedAt());
-        String time = OrderUtil.date.getTime();
-        String timeMillis = OrderUtil.date.getTimeMillis(getCreatedAt());
-
-        orderNo.append(date).append("-");
-        orderNo.append(time).append("-");
-        orderNo.append(timeMillis).append("-");
-        orderNo.append(this.getId());
+    public void updateOrderStatus(OrderStatus orderStatus) {
+        this.orderStatus = orderStatus;
+    }
 
-        this.orderNo = orderNo.toString();
+    public void updateLatestPayment(Payment payment) {
+        if (this.latestPayment == null || this.latestPayment.getId() < payment.getId()) {
+            this.latestPayment = payment;
+        }
     }
 
     public void addPrice(List<OrderDetail> orderDetailList) {
@@ -95,17 +100,11 @@ public class Order extends BaseEntity {
     }
 
     public void addTotalPrice() {
-        this.totalPrice = this.getPrice().add(this.getDeliveryPrice());
+        this.totalPrice = Money.of(this.getPrice()).plus(Money.of(this.getDeliveryPrice())).toBigDecimal();
     }
 
     public BigDecimal getTotalOrderPrice(List<OrderDetail> orderDetailList) {
-        if (orderDetailList.isEmpty()) {
-            return BigDecimal.ZERO;
-        } else {
-            return orderDetailList.stream()
-                    .map(OrderDetail::getTotalPrice)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-        }
+        return Money.sum(orderDetailList, OrderDetail::getTotalPrice).toBigDecimal();
     }
 
     public Long getTotalOrderQuantity(List<OrderDetail> orderDetailList) {
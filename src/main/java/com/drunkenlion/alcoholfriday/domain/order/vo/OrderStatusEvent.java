@@ -0,0 +1,21 @@
+package com.drunkenlion.alcoholfriday.domain.order.vo;
+
+import com.drunkenlion.alcoholfriday.global.common.enumerated.OrderStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 주문 상태 변경 이벤트
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class OrderStatusEvent {
+    private final Long orderId;
+    private final OrderStatus from;
+    private final OrderStatus to;
+
+    public static OrderStatusEvent of(Long orderId, OrderStatus from, OrderStatus to) {
+        return new OrderStatusEvent(orderId, from, to);
+    }
+}
@@ -0,0 +1,72 @@
+package com.drunkenlion.alcoholfriday.domain.payment.application;
+
+import com.drunkenlion.alcoholfriday.domain.order.dao.OrderRepository;
+import com.drunkenlion.alcoholfriday.global.migration.dao.DataMigrationRepository;
+import com.drunkenlion.alcoholfriday.global.migration.entity.DataMigration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 주문의 마지막 결제(orders.latest_payment_id) 채우기
+ * - latest_payment_id 가 생기기 전에 저장된 결제를 주문에 반영한다. 이후 결제는 PaymentService 가 함께 채운다.
+ * - 주문 식별자 순으로 1000건씩 나눠 트랜잭션마다 처리하고, 이미 채워진 주문은 바꾸지 않는다.
+ * - 애플리케이션 시작 시 한 번만 실행하며, 끝까지 처리하면 완료를 기록해 다음 시작부터는 건너뛴다.
+ * - 더 나중 결제로만 바꾸므로 여러 인스턴스가 함께 실행하거나, 중간에 멈춰 다시 실행해도 결과가 같다.
+ */
+@Slf4j
+@Component
+public class LatestPaymentBackfiller {
+    private static final int BATCH_SIZE = 1000;
+    static final String MIGRATION_NAME = "orders.latest_payment_id";
+
+    private final OrderRepository orderRepository;
+    private final DataMigrationRepository dataMigrationRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public LatestPaymentBackfiller(OrderRepository orderRepository, DataMigrationRepository dataMigrationRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.dataMigrationRepository = dataMigrationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnce() {
+        if (dataMigrationRepository.existsByName(MIGRATION_NAME)) {
+            return;
+        }
+
+        backfill();
+
+        try {
+            dataMigrationRepository.save(DataMigration.builder()
+                    .name(MIGRATION_NAME)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 완료를 기록했다.
+            log.info("[주문 마지막 결제 채우기] 이미 완료가 기록되어 있습니다.");
+        }
+    }
+
+    public void backfill() {
+        long startTime = System.nanoTime();
+
+        long lastOrderId = 0L;
+        while (true) {
+            long cursor = lastOrderId;
+            Long processed = transactionTemplate.execute(status -> orderRepository.backfillLatestPayments(cursor, BATCH_SIZE));
+            if (processed == null) {
+                break;
+            }
+            lastOrderId = processed;
+        }
+
+        long endTime = System.nanoTime();
+        log.info("[주문 마지막 결제 채우기] 마지막 주문 식별자 : {}, 소요 시간 : {}ms", lastOrderId, (endTime - startTime) / 1_000_000);
+    }
+}
@@ -0,0 +1,7 @@
+package com.drunkenlion.alcoholfriday.domain.payment.application;
+
+import com.drunkenlion.alcoholfriday.domain.payment.entity.Payment;
+
+public interface PaymentService {
+    Payment savePayment(Payment payment);
+}
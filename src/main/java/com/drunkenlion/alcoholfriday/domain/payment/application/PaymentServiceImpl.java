@@ -0,0 +1,35 @@
+package com.drunkenlion.alcoholfriday.domain.payment.application;
+
+import com.drunkenlion.alcoholfriday.domain.order.dao.OrderRepository;
+import com.drunkenlion.alcoholfriday.domain.order.entity.Order;
+import com.drunkenlion.alcoholfriday.domain.payment.dao.PaymentRepository;
+import com.drunkenlion.alcoholfriday.domain.payment.entity.Payment;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class PaymentServiceImpl implements PaymentService {
+    private final PaymentRepository paymentRepository;
+    private final OrderRepository orderRepository;
+
+    /**
+     * 결제 저장 - 주문의 마지막 결제(orders.latest_payment_id)도 함께 갱신한다.
+     */
+    @Override
+    @Transactional
+    public Payment savePayment(Payment payment) {
+        Payment saved = paymentRepository.save(payment);
+
+        Order order = saved.getOrder();
+        if (order != null && order.getId() != null) {
+            orderRepository.updateLatestPayment(order.getId(), saved.getId());
+            // 같은 트랜잭션에서 읽는 주문에도 보이도록 영속성 컨텍스트의 주문도 바꾼다. (컬럼은 주문 저장 시 쓰지 않는다)
+            order.updateLatestPayment(saved);
+        }
+
+        return saved;
+    }
+}
@@ -1,11 +1,7 @@
 package com.drunkenlion.alcoholfriday.domain.payment.dao;
 
-import com.drunkenlion.alcoholfriday.domain.order.entity.Order;
 import com.drunkenlion.alcoholfriday.domain.payment.entity.Payment;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.Optional;
-
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
-    Optional<Payment> findTopByOrderOrderByCreatedAtDesc(Order order);
 }
@@ -26,7 +26,8 @@ import java.time.LocalDateTime;
 @SuperBuilder
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "payment")
+@Table(name = "payment",
+        indexes = @Index(name = "idx_payment_order", columnList = "order_id"))
 public class Payment extends BaseEntity {
 	@Comment("결제 번호")
 	@Column(name = "payment_no", columnDefinition = "VARCHAR(200)")
@@ -0,0 +1,426 @@
+package com.drunkenlion.alcoholfriday.domain.product.application;
+
+import com.drunkenlion.alcoholfriday.domain.product.dao.HotStockLeaseRepository;
+import com.drunkenlion.alcoholfriday.domain.product.dao.ProductRepository;
+import com.drunkenlion.alcoholfriday.domain.product.dao.ProductStockReservationRepository;
+import com.drunkenlion.alcoholfriday.domain.product.entity.Product;
+import com.drunkenlion.alcoholfriday.domain.product.entity.ProductStockReservation;
+import com.drunkenlion.alcoholfriday.domain.product.util.StripedStockCounter;
+import com.drunkenlion.alcoholfriday.domain.product.vo.ProductStockEvent;
+import com.drunkenlion.alcoholfriday.global.common.response.HttpResponse;
+import com.drunkenlion.alcoholfriday.global.exception.BusinessException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 재고 분산 관리(hot stock) 제품의 메모리 재고 장부
+ * - 선착순 판매처럼 같은 제품에 주문이 몰리면 조건부 UPDATE 도 같은 row 잠금을 기다리므로,
+ *   재고 분산 관리로 지정한 제품은 메모리의 나눠진 재고에서 먼저 확보(reserve)한다.
+ * - 확보한 수량은 주문과 같은 트랜잭션에서 차감 기록(product_stock_reservation)으로 저장하고,
+ *   주문이 커밋되면 확정, 롤백되면 메모리 재고로 되돌린다.
+ * - 차감 기록은 주기적으로 제품별로 합산해 product.quantity 에 반영(write-behind)한다.
+ * - 서버가 중단되어도 커밋된 차감 기록은 남으므로, 시작할 때 남은 기록을 먼저 반영하고 메모리 재고를 만든다.
+ * - 주문 외 재고 변경(발주, 취소, 관리자 수정)도 decrease/increase/adjust 를 거쳐 상대값 UPDATE 로만 반영하고 메모리 재고에 알린다.
+ * - 메모리 재고는 인스턴스마다 따로 가지므로 임대(hot_stock_lease)를 가진 인스턴스만 재고 분산 관리 제품을 판매한다.
+ *   임대가 없는 인스턴스는 해당 제품의 주문을 HOT_STOCK_UNAVAILABLE 로 거절한다.
+ * - 장부를 거치지 않은 변경은 1분마다 DB 기준으로 다시 맞추며(reconcile), 진행 중인 주문이 있는 제품은 다음으로 미룬다.
+ * - 다시 맞추는 동안 해당 제품의 확보와 커밋 확정을 막아, 커밋된 주문이 차감 기록과 진행 중 수량 양쪽에서 빠지지 않게 한다.
+ */
+@Slf4j
+@Component
+public class HotStockLedger {
+    private static final int STRIPE_COUNT = 16;
+    private static final int FLUSH_BATCH_SIZE = 1000;
+    private static final String LEASE_NAME = "hot_stock_ledger";
+    // 갱신 주기(10초)의 3배, 갱신하지 못하면 임대가 끝나기 전에 스스로 판매를 멈춘다.
+    private static final Duration LEASE_DURATION = Duration.ofSeconds(30);
+
+    private final ProductRepository productRepository;
+    private final ProductStockReservationRepository productStockReservationRepository;
+    private final HotStockLeaseRepository hotStockLeaseRepository;
+    // 커밋 이후 이벤트에서도 새 트랜잭션으로 반영할 수 있도록 항상 새 트랜잭션을 연다.
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, HotStock> stocks = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+
+    private final String leaseOwner = UUID.randomUUID().toString();
+    // 임대가 확실히 유효한 마지막 시각 (System.nanoTime), 갱신을 요청하기 전 시각 + 임대 기간
+    private volatile long leaseDeadline = System.nanoTime();
+    private volatile boolean leased = false;
+
+    public HotStockLedger(ProductRepository productRepository,
+                          ProductStockReservationRepository productStockReservationRepository,
+                          HotStockLeaseRepository hotStockLeaseRepository,
+                          PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.productStockReservationRepository = productStockReservationRepository;
+        this.hotStockLeaseRepository = hotStockLeaseRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public boolean isHot(Long productId) {
+        return stocks.containsKey(productId);
+    }
+
+    /**
+     * 이 인스턴스가 재고 분산 관리 제품을 판매할 수 있는지
+     */
+    public boolean isLeased() {
+        return leased && System.nanoTime() - leaseDeadline < 0;
+    }
+
+    public long getAvailable(Long productId) {
+        HotStock stock = stocks.get(productId);
+        return stock == null ? 0L : stock.counter.available();
+    }
+
+    /**
+     * 주문의 재고 분산 관리 제품 재고를 확보한다.
+     * 진행 중인 트랜잭션 안에서 호출해야 하며, 트랜잭션이 커밋되면 확정되고 롤백되면 되돌아간다.
+     *
+     * @param quantitiesByProductId 제품 식별자 : 차감할 수량
+     * @return 모든 제품의 재고를 확보했는지
+     */
+    public boolean reserve(Long orderId, SortedMap<Long, Long> quantitiesByProductId) {
+        if (!reserveInMemory(quantitiesByProductId)) {
+            return false;
+        }
+
+        productStockReservationRepository.saveAllInBatch(orderId, quantitiesByProductId);
+        return true;
+    }
+
+    /**
+     * 주문 외 재고 차감 (발주 등)
+     * - 재고 분산 관리 제품은 메모리 재고를 확보한 뒤 product.quantity 에서 바로 뺀다. (커밋되면 확정, 롤백되면 되돌림)
+     * - 나머지 제품은 재고가 충분할 때만 차감한다.
+     * 진행 중인 트랜잭션 안에서 호출해야 하며, false 면 호출한 트랜잭션을 롤백해야 한다.
+     *
+     * @return 모든 제품의 재고를 차감했는지
+     */
+    public boolean decrease(SortedMap<Long, Long> quantitiesByProductId) {
+        SortedMap<Long, Long> hotQuantities = new TreeMap<>();
+        SortedMap<Long, Long> quantities = new TreeMap<>();
+        quantitiesByProductId.forEach((productId, quantity) ->
+                (isHot(productId) ? hotQuantities : quantities).put(productId, quantity));
+
+        if (!hotQuantities.isEmpty()) {
+            if (!reserveInMemory(hotQuantities)) {
+                return false;
+            }
+            productRepository.subtractQuantities(hotQuantities);
+        }
+
+        return productRepository.decreaseQuantities(quantities);
+    }
+
+    /**
+     * 주문 외 재고 증가 (발주 취소, 반려 등)
+     * - product.quantity 에 상대값으로 더하고, 재고 분산 관리 제품은 커밋된 후 메모리 재고를 다시 맞춘다.
+     */
+    public void increase(Map<Long, Long> quantitiesByProductId) {
+        productRepository.addQuantities(quantitiesByProductId);
+
+        List<Long> hotProductIds = quantitiesByProductId.keySet().stream()
+                .filter(this::isHot)
+                .toList();
+        if (!hotProductIds.isEmpty()) {
+            afterCommit(() -> hotProductIds.forEach(this::reload));
+        }
+    }
+
+    /**
+     * 관리자 재고 수정 - 읽은 재고를 덮어쓰지 않고 차이(음수면 차감)만 반영한다.
+     * 재고 분산 관리 제품은 커밋된 후 ProductStockEvent 로 메모리 재고를 다시 맞춘다.
+     */
+    public void adjust(Long productId, long delta) {
+        if (delta != 0) {
+            productRepository.addQuantities(Map.of(productId, delta));
+        }
+    }
+
+    /**
+     * 메모리 재고를 확보하고, 트랜잭션이 커밋되면 확정, 롤백되면 되돌리도록 등록한다.
+     * 커밋 직전부터 확정까지 제품의 읽기 잠금을 잡아, reload 가 커밋된 차감 기록과 진행 중 수량을 함께 보게 한다.
+     */
+    private boolean reserveInMemory(SortedMap<Long, Long> quantitiesByProductId) {
+        if (!isLeased()) {
+            throw BusinessException.builder()
+                    .response(HttpResponse.Fail.HOT_STOCK_UNAVAILABLE)
+                    .build();
+        }
+
+        // 제품 식별자 순서
+        Map<HotStock, Long> reserved = new LinkedHashMap<>();
+
+        for (Map.Entry<Long, Long> quantity : quantitiesByProductId.entrySet()) {
+            HotStock stock = stocks.get(quantity.getKey());
+            if (stock == null || !stock.reserve(quantity.getValue())) {
+                reserved.forEach(HotStock::release);
+                return false;
+            }
+            reserved.merge(stock, quantity.getValue(), Long::sum);
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean locked = false;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                reserved.keySet().forEach(stock -> stock.lock.readLock().lock());
+                locked = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    reserved.forEach(HotStock::complete);
+                } else {
+                    reserved.forEach(HotStock::release);
+                }
+
+                if (locked) {
+                    reserved.keySet().forEach(stock -> stock.lock.readLock().unlock());
+                }
+            }
+        });
+        return true;
+    }
+
+    private void afterCommit(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long startTime = System.nanoTime();
+
+        renewLease();
+        int count = reconcile();
+
+        long endTime = System.nanoTime();
+        log.info("[재고 분산 관리 장부 생성] 제품 수 : {}, 임대 : {}, 소요 시간 : {}ms",
+                count, isLeased(), (endTime - startTime) / 1_000_000);
+    }
+
+    /**
+     * 임대를 얻거나 늘린다. 새로 얻은 경우에는 판매를 시작하기 전에 모든 메모리 재고를 DB 기준으로 다시 만든다.
+     *
+     * @return 임대를 가졌는지
+     */
+    @Scheduled(fixedDelay = 10_000, initialDelay = 10_000)
+    public boolean renewLease() {
+        long requestedAt = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = hotStockLeaseRepository.tryAcquire(LEASE_NAME, leaseOwner, LEASE_DURATION);
+        } catch (DataAccessException e) {
+            log.error("[재고 분산 관리 임대 갱신 실패]", e);
+            return isLeased();
+        }
+
+        if (!acquired) {
+            if (leased) {
+                log.warn("[재고 분산 관리 임대 만료] 다른 인스턴스가 임대를 가져갔습니다.");
+            }
+            leased = false;
+            return false;
+        }
+
+        leaseDeadline = requestedAt + LEASE_DURATION.toNanos();
+        if (!leased) {
+            stocks.keySet().forEach(this::reload);
+            leased = true;
+            log.info("[재고 분산 관리 임대 획득] {}", leaseOwner);
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void releaseLease() {
+        if (leased) {
+            leased = false;
+            hotStockLeaseRepository.release(LEASE_NAME, leaseOwner);
+        }
+    }
+
+    /**
+     * 모든 재고 분산 관리 제품의 메모리 재고를 DB 기준으로 다시 맞춘다.
+     * - 다른 인스턴스의 주문, 재고 수정처럼 이 인스턴스가 알지 못한 변경을 반영한다.
+     * - 새로 지정되거나 해제된 제품도 장부에 넣고 뺀다.
+     * - 진행 중인 주문이 있는 제품은 판매 중이므로 다음 주기로 미룬다. (재고 수정은 ProductStockEvent 로 바로 반영된다.)
+     *
+     * @return 재고 분산 관리 제품 수
+     */
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public int reconcile() {
+        flush();
+
+        Set<Long> productIds = new HashSet<>(stocks.keySet());
+        productRepository.findAllByHotStockIsTrueAndDeletedAtIsNull()
+                .forEach(product -> productIds.add(product.getId()));
+        productIds.stream()
+                .filter(productId -> {
+                    HotStock stock = stocks.get(productId);
+                    return stock == null || stock.inflight.get() == 0;
+                })
+                .forEach(this::reload);
+
+        return stocks.size();
+    }
+
+    /**
+     * 반영되지 않은 차감 기록을 제품별로 합산해 product.quantity 에 반영한다.
+     * 임대를 가진 인스턴스만 반영해, reload 가 읽는 동안 다른 인스턴스가 기록을 옮기지 않게 한다.
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void flush() {
+        if (!leased) {
+            return;
+        }
+
+        synchronized (flushLock) {
+            int flushed;
+            do {
+                flushed = transactionTemplate.execute(status -> flushBatch());
+            } while (flushed == FLUSH_BATCH_SIZE);
+        }
+    }
+
+    private int flushBatch() {
+        List<ProductStockReservation> reservations = productStockReservationRepository.findAllUnflushedForUpdate(FLUSH_BATCH_SIZE);
+        if (reservations.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> quantitiesByProductId = new HashMap<>();
+        List<Long> ids = new ArrayList<>(reservations.size());
+        for (ProductStockReservation reservation : reservations) {
+            quantitiesByProductId.merge(reservation.getProductId(), reservation.getQuantity(), Long::sum);
+            ids.add(reservation.getId());
+        }
+
+        productRepository.subtractQuantities(quantitiesByProductId);
+        productStockReservationRepository.markFlushed(ids);
+
+        // 메모리 재고가 어긋나 실제 재고보다 많이 판매된 경우 (차감 기록은 이미 커밋된 주문이므로 그대로 반영한다.)
+        productRepository.findAllById(quantitiesByProductId.keySet()).stream()
+                .filter(product -> product.getQuantity() < 0)
+                .forEach(product -> log.error("[재고 분산 관리 초과 판매] 제품 : {}, 재고 : {}", product.getId(), product.getQuantity()));
+        return reservations.size();
+    }
+
+    /**
+     * 제품 재고로 메모리 재고를 다시 맞춘다. 재고 분산 관리가 해제된 제품은 장부에서 뺀다.
+     * - 메모리 재고 = 제품 재고 - 반영되지 않은 차감 기록 - 진행 중인 주문이 확보한 수량
+     * - 제품의 쓰기 잠금을 잡고 계산하므로 그동안 확보와 커밋 확정이 멈춘다.
+     *   잠금 안에서는 잠그지 않는 조회만 하며, 제품 재고와 차감 기록은 한 트랜잭션(같은 스냅샷)에서 읽는다.
+     */
+    public void reload(Long productId) {
+        synchronized (flushLock) {
+            flush();
+
+            Product found = transactionTemplate.execute(status ->
+                    productRepository.findByIdAndDeletedAtIsNull(productId).orElse(null));
+
+            if (found == null || !Boolean.TRUE.equals(found.getHotStock())) {
+                stocks.remove(productId);
+                return;
+            }
+
+            HotStock stock = stocks.computeIfAbsent(productId, id -> new HotStock());
+            stock.lock.writeLock().lock();
+            try {
+                long[] snapshot = transactionTemplate.execute(status -> new long[]{
+                        productRepository.findByIdAndDeletedAtIsNull(productId).map(Product::getQuantity).orElse(0L),
+                        productStockReservationRepository.sumUnflushedQuantity(productId)});
+
+                long target = snapshot[0] - snapshot[1] - stock.inflight.get();
+                stock.counter.adjust(target - stock.counter.available());
+            } finally {
+                stock.lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(ProductStockEvent event) {
+        if (event.isHotStock() || isHot(event.getProductId())) {
+            reload(event.getProductId());
+        }
+    }
+
+    private static class HotStock {
+        private final StripedStockCounter counter = new StripedStockCounter(STRIPE_COUNT, 0);
+        // 확보했지만 주문 트랜잭션이 끝나지 않은 수량
+        private final AtomicLong inflight = new AtomicLong();
+        // 확보/확정/되돌림은 읽기 잠금(서로 동시에), reload 는 쓰기 잠금
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        private boolean reserve(long quantity) {
+            lock.readLock().lock();
+            try {
+                if (!counter.tryDecrease(quantity)) {
+                    return false;
+                }
+                inflight.addAndGet(quantity);
+                return true;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        // 커밋 직전에 잡은 읽기 잠금 안에서 호출된다.
+        private void complete(long quantity) {
+            inflight.addAndGet(-quantity);
+        }
+
+        private void release(long quantity) {
+            lock.readLock().lock();
+            try {
+                inflight.addAndGet(-quantity);
+                counter.increase(quantity);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.drunkenlion.alcoholfriday.domain.product.dao;
+
+import com.drunkenlion.alcoholfriday.domain.product.entity.HotStockLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface HotStockLeaseRepository extends JpaRepository<HotStockLease, Long>, HotStockLeaseRepositoryCustom {
+}
@@ -0,0 +1,17 @@
+package com.drunkenlion.alcoholfriday.domain.product.dao;
+
+import java.time.Duration;
+
+public interface HotStockLeaseRepositoryCustom {
+    /**
+     * 임대가 없거나, 이미 가지고 있거나, 만료되었으면 owner 의 임대로 만들고 만료 일자를 DB 시각 + lease 로 늘린다.
+     *
+     * @return owner 가 임대를 가졌는지
+     */
+    boolean tryAcquire(String name, String owner, Duration lease);
+
+    /**
+     * owner 가 가진 임대를 바로 만료시킨다.
+     */
+    void release(String name, String owner);
+}
@@ -0,0 +1,37 @@
+package com.drunkenlion.alcoholfriday.domain.product.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class HotStockLeaseRepositoryImpl implements HotStockLeaseRepositoryCustom {
+    // MySQL 은 SET 절을 왼쪽부터 적용하므로, owner 를 바꾼 뒤의 값으로 locked_until 을 늘릴지 판단한다.
+    private static final String UPSERT_LEASE =
+            "INSERT INTO hot_stock_lease (name, owner, locked_until, created_at) "
+                    + "VALUES (?, ?, DATE_ADD(NOW(3), INTERVAL ? MICROSECOND), NOW()) "
+                    + "ON DUPLICATE KEY UPDATE "
+                    + "owner = IF(owner = VALUES(owner) OR locked_until < NOW(3), VALUES(owner), owner), "
+                    + "locked_until = IF(owner = VALUES(owner), VALUES(locked_until), locked_until)";
+    private static final String SELECT_OWNER =
+            "SELECT owner FROM hot_stock_lease WHERE name = ?";
+    private static final String EXPIRE_LEASE =
+            "UPDATE hot_stock_lease SET locked_until = DATE_SUB(NOW(3), INTERVAL 1 SECOND) WHERE name = ? AND owner = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean tryAcquire(String name, String owner, Duration lease) {
+        jdbcTemplate.update(UPSERT_LEASE, name, owner, lease.toNanos() / 1000);
+
+        List<String> owners = jdbcTemplate.queryForList(SELECT_OWNER, String.class, name);
+        return owners.size() == 1 && owner.equals(owners.get(0));
+    }
+
+    @Override
+    public void release(String name, String owner) {
+        jdbcTemplate.update(EXPIRE_LEASE, name, owner);
+    }
+}
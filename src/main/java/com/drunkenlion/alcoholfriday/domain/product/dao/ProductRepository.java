@@ -8,7 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.List;
 import java.util.Optional;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
     boolean existsByMakerAndDeletedAtIsNull(Maker maker);
 
     Optional<Product> findByIdAndDeletedAtIsNull(Long productId);
@@ -18,4 +18,6 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     boolean existsByCategoryInAndDeletedAtIsNull(List<Category> categories);
 
     Optional<Product> findByName(String name);
+
+    List<Product> findAllByHotStockIsTrueAndDeletedAtIsNull();
 }
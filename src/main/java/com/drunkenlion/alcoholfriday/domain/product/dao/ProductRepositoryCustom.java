@@ -0,0 +1,12 @@
+package com.drunkenlion.alcoholfriday.domain.product.dao;
+
+import java.util.Map;
+import java.util.SortedMap;
+
+public interface ProductRepositoryCustom {
+    boolean decreaseQuantities(SortedMap<Long, Long> quantitiesByProductId);
+
+    void subtractQuantities(Map<Long, Long> quantitiesByProductId);
+
+    void addQuantities(Map<Long, Long> quantitiesByProductId);
+}
@@ -0,0 +1,97 @@
+package com.drunkenlion.alcoholfriday.domain.product.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+@RequiredArgsConstructor
+public class ProductRepositoryImpl implements ProductRepositoryCustom {
+    private static final String DECREASE_QUANTITY =
+            "UPDATE product SET quantity = quantity - ? WHERE id = ? AND quantity >= ?";
+    private static final String SUBTRACT_QUANTITY =
+            "UPDATE product SET quantity = quantity - ? WHERE id = ?";
+    private static final String ADD_QUANTITY =
+            "UPDATE product SET quantity = quantity + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 제품 재고 조건부 차감
+     * - 재고를 읽고 비교한 뒤 쓰지 않고, 재고가 충분할 때만 한 문장으로 차감한다.
+     * - 여러 주문이 같은 제품들을 잠그는 순서가 같도록 제품 식별자 순서로 차감한다.
+     * - 한 제품이라도 차감되지 않으면 false 를 반환하며, 호출한 트랜잭션을 롤백해야 앞서 차감한 재고도 되돌아간다.
+     *
+     * @param quantitiesByProductId 제품 식별자 : 차감할 수량 (식별자 오름차순)
+     * @return 모든 제품의 재고를 차감했는지
+     */
+    @Override
+    public boolean decreaseQuantities(SortedMap<Long, Long> quantitiesByProductId) {
+        if (quantitiesByProductId.isEmpty()) {
+            return true;
+        }
+
+        List<Map.Entry<Long, Long>> quantities = new ArrayList<>(quantitiesByProductId.entrySet());
+
+        int[] updatedRows = jdbcTemplate.batchUpdate(DECREASE_QUANTITY, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Map.Entry<Long, Long> quantity = quantities.get(i);
+                ps.setLong(1, quantity.getValue());
+                ps.setLong(2, quantity.getKey());
+                ps.setLong(3, quantity.getValue());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return quantities.size();
+            }
+        });
+
+        return Arrays.stream(updatedRows).noneMatch(rows -> rows == 0);
+    }
+
+    /**
+     * 제품 재고 차감 (조건 없음)
+     * - 재고 분산 관리 제품처럼 이미 재고를 확보한 차감 수량을 반영할 때 사용한다.
+     */
+    @Override
+    public void subtractQuantities(Map<Long, Long> quantitiesByProductId) {
+        if (quantitiesByProductId.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(SUBTRACT_QUANTITY, new ArrayList<>(new TreeMap<>(quantitiesByProductId).entrySet()),
+                quantitiesByProductId.size(),
+                (ps, quantity) -> {
+                    ps.setLong(1, quantity.getValue());
+                    ps.setLong(2, quantity.getKey());
+                });
+    }
+
+    /**
+     * 제품 재고 증감 (음수면 차감)
+     * - 발주 취소, 관리자 재고 수정처럼 읽은 재고를 덮어쓰지 않고 차이만 반영한다.
+     */
+    @Override
+    public void addQuantities(Map<Long, Long> quantitiesByProductId) {
+        if (quantitiesByProductId.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(ADD_QUANTITY, new ArrayList<>(new TreeMap<>(quantitiesByProductId).entrySet()),
+                quantitiesByProductId.size(),
+                (ps, quantity) -> {
+                    ps.setLong(1, quantity.getValue());
+                    ps.setLong(2, quantity.getKey());
+                });
+    }
+}
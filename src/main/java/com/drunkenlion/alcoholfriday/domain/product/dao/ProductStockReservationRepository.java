@@ -0,0 +1,7 @@
+package com.drunkenlion.alcoholfriday.domain.product.dao;
+
+import com.drunkenlion.alcoholfriday.domain.product.entity.ProductStockReservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ProductStockReservationRepository extends JpaRepository<ProductStockReservation, Long>, ProductStockReservationRepositoryCustom {
+}
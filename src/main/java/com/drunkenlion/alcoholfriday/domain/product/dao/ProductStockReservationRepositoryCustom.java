@@ -0,0 +1,17 @@
+package com.drunkenlion.alcoholfriday.domain.product.dao;
+
+import com.drunkenlion.alcoholfriday.domain.product.entity.ProductStockReservation;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface ProductStockReservationRepositoryCustom {
+    void saveAllInBatch(Long orderId, Map<Long, Long> quantitiesByProductId);
+
+    List<ProductStockReservation> findAllUnflushedForUpdate(int limit);
+
+    long markFlushed(Collection<Long> ids);
+
+    long sumUnflushedQuantity(Long productId);
+}
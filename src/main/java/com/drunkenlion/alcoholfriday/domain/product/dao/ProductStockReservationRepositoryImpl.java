@@ -0,0 +1,72 @@
+package com.drunkenlion.alcoholfriday.domain.product.dao;
+
+import com.drunkenlion.alcoholfriday.domain.product.entity.ProductStockReservation;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static com.drunkenlion.alcoholfriday.domain.product.entity.QProductStockReservation.productStockReservation;
+
+@RequiredArgsConstructor
+public class ProductStockReservationRepositoryImpl implements ProductStockReservationRepositoryCustom {
+    private static final String INSERT_RESERVATION =
+            "INSERT INTO product_stock_reservation (product_id, order_id, quantity, created_at) VALUES (?, ?, ?, ?)";
+    // 여러 인스턴스가 동시에 반영해도 같은 기록을 두 번 반영하지 않도록 잠긴 row 는 건너뛴다.
+    private static final String SELECT_UNFLUSHED_FOR_UPDATE =
+            "SELECT id, product_id, quantity FROM product_stock_reservation WHERE flushed_at IS NULL ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void saveAllInBatch(Long orderId, Map<Long, Long> quantitiesByProductId) {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_RESERVATION, new ArrayList<>(quantitiesByProductId.entrySet()), quantitiesByProductId.size(),
+                (ps, quantity) -> {
+                    ps.setLong(1, quantity.getKey());
+                    ps.setLong(2, orderId);
+                    ps.setLong(3, quantity.getValue());
+                    ps.setTimestamp(4, createdAt);
+                });
+    }
+
+    @Override
+    public List<ProductStockReservation> findAllUnflushedForUpdate(int limit) {
+        return jdbcTemplate.query(SELECT_UNFLUSHED_FOR_UPDATE,
+                (rs, rowNum) -> ProductStockReservation.builder()
+                        .id(rs.getLong("id"))
+                        .productId(rs.getLong("product_id"))
+                        .quantity(rs.getLong("quantity"))
+                        .build(),
+                limit);
+    }
+
+    @Override
+    public long markFlushed(Collection<Long> ids) {
+        return jpaQueryFactory
+                .update(productStockReservation)
+                .set(productStockReservation.flushedAt, LocalDateTime.now())
+                .where(productStockReservation.id.in(ids))
+                .execute();
+    }
+
+    @Override
+    public long sumUnflushedQuantity(Long productId) {
+        Long quantity = jpaQueryFactory
+                .select(productStockReservation.quantity.sum())
+                .from(productStockReservation)
+                .where(productStockReservation.productId.eq(productId),
+                        productStockReservation.flushedAt.isNull())
+                .fetchOne();
+
+        return quantity == null ? 0L : quantity;
+    }
+}
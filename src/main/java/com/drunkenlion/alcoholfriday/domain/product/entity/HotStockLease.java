@@ -0,0 +1,40 @@
+package com.drunkenlion.alcoholfriday.domain.product.entity;
+
+import com.drunkenlion.alcoholfriday.global.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 분산 관리 장부를 쓰는 인스턴스 임대(lease)
+ * - 메모리 재고는 인스턴스마다 따로 가지므로, 임대를 가진 인스턴스 하나만 재고 분산 관리 제품을 판매한다.
+ * - 임대를 가진 인스턴스가 주기적으로 locked_until 을 늘리며, 지난 임대는 다른 인스턴스가 가져갈 수 있다.
+ */
+@Entity
+@Getter
+@SuperBuilder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "hot_stock_lease", uniqueConstraints = @UniqueConstraint(name = "uk_hot_stock_lease_name", columnNames = "name"))
+public class HotStockLease extends BaseEntity {
+    @Comment("임대 이름")
+    @Column(name = "name", columnDefinition = "VARCHAR(50)")
+    private String name;
+
+    @Comment("임대를 가진 인스턴스")
+    @Column(name = "owner", columnDefinition = "VARCHAR(100)")
+    private String owner;
+
+    @Comment("임대 만료 일자")
+    @Column(name = "locked_until", columnDefinition = "DATETIME(3)")
+    private LocalDateTime lockedUntil;
+}
@@ -32,10 +32,16 @@ public class Product extends BaseEntity {
     @Column(name = "distribution_price", columnDefinition = "DECIMAL(64, 3)")
     private BigDecimal distributionPrice;
 
+    // 재고는 HotStockLedger 를 거쳐 상대값 UPDATE 로만 바꾸므로, 엔티티를 저장할 때는 쓰지 않는다.
     @Comment("재고 수량")
-    @Column(name = "quantity", columnDefinition = "BIGINT")
+    @Column(name = "quantity", columnDefinition = "BIGINT", updatable = false)
     private Long quantity;
 
+    @Comment("재고 분산 관리 여부 (선착순 판매 제품)")
+    @Column(name = "hot_stock", columnDefinition = "TINYINT(1) default 0")
+    @Builder.Default
+    private Boolean hotStock = false;
+
     @Comment("술 도수")
     @Column(name = "alcohol", columnDefinition = "DOUBLE")
     private Double alcohol;
@@ -89,15 +95,4 @@ public class Product extends BaseEntity {
         this.category = category;
         category.getProducts().add(this);
     }
-
-    public void updateQuantity(Long quantity) {
-        this.quantity = quantity;
-    }
-
-    public void minusQuantity(Long quantity) {
-        this.quantity = this.quantity - quantity;
-    }
-    public void plusQuantity(Long quantity) {
-        this.quantity = this.quantity + quantity;
-    }
 }
@@ -0,0 +1,44 @@
+package com.drunkenlion.alcoholfriday.domain.product.entity;
+
+import com.drunkenlion.alcoholfriday.global.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 분산 관리 제품의 재고 차감 기록
+ * - 주문과 같은 트랜잭션에서 저장되므로 커밋된 주문의 차감 수량만 남는다.
+ * - 제품 재고(product.quantity)에 반영되면 flushed_at 을 기록한다.
+ */
+@Entity
+@Getter
+@SuperBuilder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "product_stock_reservation", indexes = @Index(name = "idx_product_stock_reservation_flushed_at", columnList = "flushed_at"))
+public class ProductStockReservation extends BaseEntity {
+    @Comment("제품 고유 아이디")
+    @Column(name = "product_id", columnDefinition = "BIGINT")
+    private Long productId;
+
+    @Comment("주문 고유 아이디")
+    @Column(name = "order_id", columnDefinition = "BIGINT")
+    private Long orderId;
+
+    @Comment("차감 수량")
+    @Column(name = "quantity", columnDefinition = "BIGINT")
+    private Long quantity;
+
+    @Comment("제품 재고 반영 일자")
+    @Column(name = "flushed_at", columnDefinition = "DATETIME")
+    private LocalDateTime flushedAt;
+}
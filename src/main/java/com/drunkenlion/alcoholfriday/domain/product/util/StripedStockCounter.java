@@ -0,0 +1,100 @@
+package com.drunkenlion.alcoholfriday.domain.product.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 여러 칸으로 나눈 재고 수량
+ * - 재고를 칸마다 나눠 두고 스레드마다 다른 칸에서 차감해, 같은 값 하나에 CAS 가 몰리지 않게 한다.
+ * - 한 칸에 수량이 모자라면 여러 칸에서 모아 차감하고, 그래도 모자라면 모은 수량을 되돌린다.
+ * - 재고가 거의 소진된 시점에는 다른 스레드가 잠시 모아 둔 수량 때문에 실제보다 적게 보고 실패할 수 있다.
+ */
+public class StripedStockCounter {
+    private final AtomicLong[] stripes;
+
+    public StripedStockCounter(int stripeCount, long quantity) {
+        this.stripes = new AtomicLong[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new AtomicLong(quantity / stripeCount + (i < quantity % stripeCount ? 1 : 0));
+        }
+    }
+
+    /**
+     * 수량이 충분할 때만 차감한다.
+     */
+    public boolean tryDecrease(long quantity) {
+        int start = ThreadLocalRandom.current().nextInt(stripes.length);
+
+        // 한 칸에서 모두 차감
+        for (int i = 0; i < stripes.length; i++) {
+            AtomicLong stripe = stripes[(start + i) % stripes.length];
+            long current = stripe.get();
+            while (current >= quantity) {
+                if (stripe.compareAndSet(current, current - quantity)) {
+                    return true;
+                }
+                current = stripe.get();
+            }
+        }
+
+        // 여러 칸에서 모아 차감
+        long[] taken = new long[stripes.length];
+        long remaining = quantity;
+        for (int i = 0; i < stripes.length && remaining > 0; i++) {
+            int index = (start + i) % stripes.length;
+            taken[index] = take(stripes[index], remaining);
+            remaining -= taken[index];
+        }
+
+        if (remaining == 0) {
+            return true;
+        }
+
+        for (int i = 0; i < stripes.length; i++) {
+            if (taken[i] > 0) {
+                stripes[i].addAndGet(taken[i]);
+            }
+        }
+        return false;
+    }
+
+    public void increase(long quantity) {
+        stripes[ThreadLocalRandom.current().nextInt(stripes.length)].addAndGet(quantity);
+    }
+
+    /**
+     * 수량을 더하거나 뺀다. 뺄 때는 남은 수량까지만 뺀다.
+     */
+    public void adjust(long delta) {
+        if (delta >= 0) {
+            increase(delta);
+            return;
+        }
+
+        long remaining = -delta;
+        for (int i = 0; i < stripes.length && remaining > 0; i++) {
+            remaining -= take(stripes[i], remaining);
+        }
+    }
+
+    public long available() {
+        long sum = 0;
+        for (AtomicLong stripe : stripes) {
+            sum += stripe.get();
+        }
+        return sum;
+    }
+
+    // 칸에서 최대 quantity 만큼 가져오고 가져온 수량을 반환
+    private long take(AtomicLong stripe, long quantity) {
+        long current = stripe.get();
+        while (current > 0) {
+            long taken = Math.min(current, quantity);
+            if (stripe.compareAndSet(current, current - taken)) {
+                return taken;
+            }
+            current = stripe.get();
+        }
+        return 0;
+    }
+}
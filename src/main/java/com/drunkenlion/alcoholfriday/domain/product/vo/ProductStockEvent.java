@@ -0,0 +1,20 @@
+package com.drunkenlion.alcoholfriday.domain.product.vo;
+
+import com.drunkenlion.alcoholfriday.domain.product.entity.Product;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 제품 재고 수량 또는 재고 분산 관리 여부 변경 이벤트
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductStockEvent {
+    private final Long productId;
+    private final boolean hotStock;
+
+    public static ProductStockEvent of(Product product) {
+        return new ProductStockEvent(product.getId(), Boolean.TRUE.equals(product.getHotStock()));
+    }
+}
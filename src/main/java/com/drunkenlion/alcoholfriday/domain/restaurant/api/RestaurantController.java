@@ -2,7 +2,9 @@ package com.drunkenlion.alcoholfriday.domain.restaurant.api;
 
 
 import com.drunkenlion.alcoholfriday.domain.restaurant.application.RestaurantService;
+import com.drunkenlion.alcoholfriday.domain.restaurant.dto.response.RestaurantClusterResponse;
 import com.drunkenlion.alcoholfriday.domain.restaurant.dto.response.RestaurantLocationResponse;
+import com.drunkenlion.alcoholfriday.domain.restaurant.dto.response.RestaurantNearbyResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -29,9 +31,35 @@ public class RestaurantController {
             @RequestParam(name = "neLatitude") double neLatitude,
             @RequestParam(name = "neLongitude")  double neLongitude,
             @RequestParam(name = "swLatitude") double swLatitude,
-            @RequestParam(name = "swLongitude")  double swLongitude
+            @RequestParam(name = "swLongitude")  double swLongitude,
+            @RequestParam(name = "openNow", defaultValue = "false") boolean openNow
     ) {
-        List<RestaurantLocationResponse> restaurantSearch = restaurantService.getRestaurants( neLatitude,  neLongitude,  swLatitude,  swLongitude);
+        List<RestaurantLocationResponse> restaurantSearch = restaurantService.getRestaurants( neLatitude,  neLongitude,  swLatitude,  swLongitude, openNow);
         return ResponseEntity.ok().body(restaurantSearch);
     }
+
+    @Operation(summary = "제품 재고가 있는 주변 레스토랑 조회", description = "기준 좌표에서 가까운 순으로 size 개 (최대 50)")
+    @GetMapping("nearby")
+    public ResponseEntity<List<RestaurantNearbyResponse>> getNearbyRestaurants(
+            @RequestParam(name = "productId") Long productId,
+            @RequestParam(name = "latitude") double latitude,
+            @RequestParam(name = "longitude") double longitude,
+            @RequestParam(name = "size", defaultValue = "10") int size
+    ) {
+        List<RestaurantNearbyResponse> restaurants = restaurantService.getNearbyRestaurants(productId, latitude, longitude, size);
+        return ResponseEntity.ok().body(restaurants);
+    }
+
+    @Operation(summary = "지도 축소 화면의 레스토랑 묶음 조회", description = "zoom 은 지도 확대 수준 (6 ~ 16)")
+    @GetMapping("clusters")
+    public ResponseEntity<List<RestaurantClusterResponse>> getClusters(
+            @RequestParam(name = "neLatitude") double neLatitude,
+            @RequestParam(name = "neLongitude") double neLongitude,
+            @RequestParam(name = "swLatitude") double swLatitude,
+            @RequestParam(name = "swLongitude") double swLongitude,
+            @RequestParam(name = "zoom") int zoom
+    ) {
+        List<RestaurantClusterResponse> clusters = restaurantService.getClusters(neLatitude, neLongitude, swLatitude, swLongitude, zoom);
+        return ResponseEntity.ok().body(clusters);
+    }
 }
@@ -0,0 +1,102 @@
+package com.drunkenlion.alcoholfriday.domain.restaurant.application;
+
+import com.drunkenlion.alcoholfriday.domain.restaurant.dao.RestaurantRepository;
+import com.drunkenlion.alcoholfriday.domain.restaurant.entity.Restaurant;
+import com.drunkenlion.alcoholfriday.domain.restaurant.util.BusinessHours;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantIndexEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 매장별 주간 영업표 캐시
+ * - 매장 영업시간 JSON 은 처음 조회할 때 한 번만 변환하고, 관리자 매장 수정/삭제 커밋 후 비운다.
+ * - 비우기 전에 읽은 영업시간이 비운 뒤에 캐시에 들어가지 않도록, 비울 때마다 세대(generation)를 올린다.
+ *   영업시간을 읽기 전의 세대를 기억해 두고, 캐시에 넣은 뒤 세대가 바뀌었으면 넣은 값을 다시 뺀다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RestaurantBusinessHoursCache {
+    private final RestaurantRepository restaurantRepository;
+    private final Map<Long, BusinessHours> businessHours = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 매장을 조회하기 전에 기억해 두고 getAll 에 넘긴다.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 이미 조회한 매장의 영업표 - 캐시에 없으면 매장의 영업시간으로 만든다.
+     *
+     * @param loadedGeneration 매장을 조회하기 전의 세대
+     */
+    public Map<Long, BusinessHours> getAll(Collection<Restaurant> restaurants, long loadedGeneration) {
+        Map<Long, BusinessHours> result = new HashMap<>();
+        for (Restaurant restaurant : restaurants) {
+            BusinessHours cached = businessHours.get(restaurant.getId());
+            if (cached == null) {
+                cached = BusinessHours.compile(restaurant.getTime());
+                put(restaurant.getId(), cached, loadedGeneration);
+            }
+            result.put(restaurant.getId(), cached);
+        }
+        return result;
+    }
+
+    /**
+     * 매장 식별자의 영업표 - 캐시에 없는 매장만 영업시간을 조회한다.
+     */
+    public Map<Long, BusinessHours> getAllByIds(Collection<Long> restaurantIds) {
+        Map<Long, BusinessHours> result = new HashMap<>();
+        List<Long> missingIds = restaurantIds.stream()
+                .filter(id -> {
+                    BusinessHours cached = businessHours.get(id);
+                    if (cached != null) {
+                        result.put(id, cached);
+                    }
+                    return cached == null;
+                })
+                .toList();
+
+        if (!missingIds.isEmpty()) {
+            long loadedGeneration = generation.get();
+            restaurantRepository.findTimesByIdIn(missingIds).forEach((id, time) -> {
+                BusinessHours compiled = BusinessHours.compile(time);
+                put(id, compiled, loadedGeneration);
+                result.put(id, compiled);
+            });
+        }
+
+        return result;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChanged(RestaurantIndexEvent event) {
+        // 세대를 먼저 올려야, 이미 읽은 값을 넣으려는 조회가 다시 확인할 때 바뀐 것을 안다.
+        generation.incrementAndGet();
+        businessHours.remove(event.getRestaurantId());
+    }
+
+    private void put(Long restaurantId, BusinessHours compiled, long loadedGeneration) {
+        if (generation.get() != loadedGeneration) {
+            return;
+        }
+
+        businessHours.putIfAbsent(restaurantId, compiled);
+        // 넣는 사이에 비워졌으면 넣은 값을 다시 뺀다. (다른 값이 들어 있으면 그대로 둔다.)
+        if (generation.get() != loadedGeneration) {
+            businessHours.remove(restaurantId, compiled);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.drunkenlion.alcoholfriday.domain.restaurant.application;
 
+import com.drunkenlion.alcoholfriday.domain.restaurant.dto.response.RestaurantClusterResponse;
 import com.drunkenlion.alcoholfriday.domain.restaurant.dto.response.RestaurantLocationResponse;
+import com.drunkenlion.alcoholfriday.domain.restaurant.dto.response.RestaurantNearbyResponse;
 
 
 import java.util.List;
@@ -10,4 +12,18 @@ public interface RestaurantService {
                                                     double neLongitude,
                                                     double swLatitude,
                                                     double swLongitude);
+
+    List<RestaurantLocationResponse> getRestaurants(double neLatitude,
+                                                    double neLongitude,
+                                                    double swLatitude,
+                                                    double swLongitude,
+                                                    boolean openNow);
+
+    List<RestaurantClusterResponse> getClusters(double neLatitude,
+                                                double neLongitude,
+                                                double swLatitude,
+                                                double swLongitude,
+                                                int zoom);
+
+    List<RestaurantNearbyResponse> getNearbyRestaurants(Long productId, double latitude, double longitude, int size);
 }
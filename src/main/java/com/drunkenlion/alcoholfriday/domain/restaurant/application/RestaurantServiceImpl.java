@@ -2,9 +2,15 @@ package com.drunkenlion.alcoholfriday.domain.restaurant.application;
 
 import com.drunkenlion.alcoholfriday.domain.product.entity.Product;
 import com.drunkenlion.alcoholfriday.domain.restaurant.dao.RestaurantRepository;
+import com.drunkenlion.alcoholfriday.domain.restaurant.dto.response.RestaurantClusterResponse;
 import com.drunkenlion.alcoholfriday.domain.restaurant.dto.response.RestaurantLocationResponse;
+import com.drunkenlion.alcoholfriday.domain.restaurant.dto.response.RestaurantNearbyResponse;
 import com.drunkenlion.alcoholfriday.domain.restaurant.entity.Restaurant;
 import com.drunkenlion.alcoholfriday.domain.restaurant.entity.RestaurantStock;
+import com.drunkenlion.alcoholfriday.domain.restaurant.util.BusinessHours;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantCluster;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantPoint;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantStockDistance;
 import com.drunkenlion.alcoholfriday.global.common.response.HttpResponse;
 import com.drunkenlion.alcoholfriday.global.exception.BusinessException;
 import com.drunkenlion.alcoholfriday.global.file.application.FileService;
@@ -13,10 +19,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalTime;
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import static com.drunkenlion.alcoholfriday.domain.restaurant.util.RestaurantTimeVerification.getRestaurantBusinessStatus;
 
@@ -24,33 +32,121 @@ import static com.drunkenlion.alcoholfriday.domain.restaurant.util.RestaurantTim
 @Service
 @RequiredArgsConstructor
 public class RestaurantServiceImpl implements RestaurantService {
+    private static final int MAX_NEARBY_SIZE = 50;
 
     private final RestaurantRepository restaurantRepository;
     private final FileService fileService;
+    private final RestaurantSpatialIndexer restaurantSpatialIndexer;
+    private final RestaurantBusinessHoursCache restaurantBusinessHoursCache;
+    private final RestaurantStockIndexer restaurantStockIndexer;
 
     @Override
     public List<RestaurantLocationResponse> getRestaurants(double neLatitude, double neLongitude, double swLatitude, double swLongitude) {
+        return getRestaurants(neLatitude, neLongitude, swLatitude, swLongitude, false);
+    }
+
+    /**
+     * openNow 가 true 이면 현재 영업중인 매장만 조회한다.
+     */
+    @Override
+    public List<RestaurantLocationResponse> getRestaurants(double neLatitude, double neLongitude, double swLatitude, double swLongitude, boolean openNow) {
+        LocalDateTime now = LocalDateTime.now();
+        // 매장을 조회하기 전의 영업표 캐시 세대 - 조회 중에 매장이 수정되면 읽은 영업시간을 캐시에 넣지 않는다.
+        long businessHoursGeneration = restaurantBusinessHoursCache.generation();
 
-        List<Restaurant> get = restaurantRepository.getRestaurant(neLatitude, neLongitude, swLatitude, swLongitude);
+        List<Restaurant> get = restaurantSpatialIndexer.isReady()
+                ? findByIndex(neLatitude, neLongitude, swLatitude, swLongitude, openNow, now)
+                : restaurantRepository.getRestaurant(neLatitude, neLongitude, swLatitude, swLongitude);
 
-        List<Product> products = Optional.ofNullable(get).orElseThrow(() -> BusinessException.builder().response(HttpResponse.Fail.NOT_FOUND_PRODUCT).build())
-                .stream()
+        Map<Long, BusinessHours> businessHours = restaurantBusinessHoursCache.getAll(
+                Optional.ofNullable(get).orElseThrow(() -> BusinessException.builder().response(HttpResponse.Fail.NOT_FOUND_PRODUCT).build()),
+                businessHoursGeneration);
+
+        if (openNow) {
+            get = get.stream()
+                    .filter(restaurant -> businessHours.getOrDefault(restaurant.getId(), BusinessHours.CLOSED)
+                            .isOpen(now.getDayOfWeek(), now.toLocalTime()))
+                    .toList();
+        }
+
+        // 여러 레스토랑이 같은 제품을 가지고 있어도 제품마다 한 번씩만 이미지를 조회
+        List<Product> products = get.stream()
                 .flatMap(restaurants -> restaurants.getRestaurantStocks()
                         .stream()
                         .map(RestaurantStock::getProduct))
+                .distinct()
                 .toList();
 
-        List<NcpFileResponse> files = products.stream()
-                .map(fileService::findAll)
-                .filter(Objects::nonNull)
-                .toList();
+        Map<Long, NcpFileResponse> images = fileService.findAllImages(products);
 
         List<RestaurantLocationResponse> restaurant = get.stream()
-                .map(restaurants -> RestaurantLocationResponse.of(restaurants, files))
+                .map(restaurants -> RestaurantLocationResponse.of(restaurants, images))
                 .collect(Collectors.toList());
 
-        getRestaurantBusinessStatus(restaurant , LocalTime.now());
+        getRestaurantBusinessStatus(restaurant, businessHours, now.getDayOfWeek(), now.toLocalTime());
 
         return restaurant;
     }
+
+    /**
+     * 지도 축소 화면용 매장 묶음 - 지도 색인이 준비되기 전에는 영역의 매장 위치를 DB에서 읽어 집계한다.
+     */
+    @Override
+    public List<RestaurantClusterResponse> getClusters(double neLatitude, double neLongitude, double swLatitude, double swLongitude, int zoom) {
+        List<RestaurantCluster> clusters = restaurantSpatialIndexer.isReady()
+                ? restaurantSpatialIndexer.searchClusters(neLatitude, neLongitude, swLatitude, swLongitude, zoom)
+                : restaurantSpatialIndexer.loadClusters(neLatitude, neLongitude, swLatitude, swLongitude, zoom);
+
+        return clusters.stream()
+                .map(RestaurantClusterResponse::of)
+                .toList();
+    }
+
+    /**
+     * 제품 재고가 있는 레스토랑 중 기준 좌표에서 가까운 순으로 size 개 - 색인이 준비되기 전에는 재고와 위치를 DB에서 읽는다.
+     */
+    @Override
+    public List<RestaurantNearbyResponse> getNearbyRestaurants(Long productId, double latitude, double longitude, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_NEARBY_SIZE));
+        List<RestaurantStockDistance> nearest = restaurantStockIndexer.isReady()
+                ? restaurantStockIndexer.findNearest(productId, latitude, longitude, limit)
+                : restaurantStockIndexer.loadNearest(productId, latitude, longitude, limit);
+
+        if (nearest.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Restaurant> restaurants = restaurantRepository.findAllById(nearest.stream()
+                        .map(RestaurantStockDistance::getRestaurantId)
+                        .toList()).stream()
+                .collect(Collectors.toMap(Restaurant::getId, Function.identity()));
+
+        return nearest.stream()
+                .filter(stockDistance -> restaurants.containsKey(stockDistance.getRestaurantId()))
+                .map(stockDistance -> RestaurantNearbyResponse.of(restaurants.get(stockDistance.getRestaurantId()), stockDistance))
+                .toList();
+    }
+
+    // 지도 색인에서 영역 안의 매장 식별자를 찾고, 해당 매장만 DB에서 조회
+    // 영업중인 매장만 조회하는 경우 영업표로 먼저 거른 뒤 재고와 제품을 조회한다.
+    private List<Restaurant> findByIndex(double neLatitude, double neLongitude, double swLatitude, double swLongitude,
+                                         boolean openNow, LocalDateTime now) {
+        List<Long> restaurantIds = restaurantSpatialIndexer.search(neLatitude, neLongitude, swLatitude, swLongitude).stream()
+                .map(RestaurantPoint::getRestaurantId)
+                .toList();
+
+        if (openNow && !restaurantIds.isEmpty()) {
+            Map<Long, BusinessHours> businessHours = restaurantBusinessHoursCache.getAllByIds(restaurantIds);
+            restaurantIds = restaurantIds.stream()
+                    .filter(id -> businessHours.getOrDefault(id, BusinessHours.CLOSED)
+                            .isOpen(now.getDayOfWeek(), now.toLocalTime()))
+                    .toList();
+        }
+
+        if (restaurantIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return restaurantRepository.findAllWithStocksByIdIn(restaurantIds);
+    }
 }
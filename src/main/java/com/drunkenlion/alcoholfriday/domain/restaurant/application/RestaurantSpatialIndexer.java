@@ -0,0 +1,148 @@
+package com.drunkenlion.alcoholfriday.domain.restaurant.application;
+
+import com.drunkenlion.alcoholfriday.domain.restaurant.dao.RestaurantRepository;
+import com.drunkenlion.alcoholfriday.domain.restaurant.util.RestaurantSpatialIndex;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantCluster;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantIndexEvent;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantPoint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 매장 지도 색인 관리
+ * - 애플리케이션 시작 시 전체 색인을 만들고, 관리자 매장 등록/수정/삭제 커밋 후 해당 매장만 다시 색인한다.
+ * - 관리자 API 이외의 경로로 변경된 데이터를 반영하기 위해 주기적으로 전체 색인을 다시 만든다.
+ * - 전체 색인을 만드는 동안 들어온 변경은 모아 두었다가, 색인을 교체한 뒤 다시 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantSpatialIndexer {
+    private final RestaurantRepository restaurantRepository;
+    private final RestaurantSpatialIndex restaurantSpatialIndex = new RestaurantSpatialIndex();
+
+    // 전체 색인 생성은 한 번에 하나만
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    // 변경 반영(DB 조회 + 색인 교체)과 전체 색인 교체를 순서대로 처리
+    private final ReentrantLock updateLock = new ReentrantLock();
+    // 전체 색인을 만드는 동안 들어온 변경 (만드는 중이 아니면 null)
+    private List<RestaurantIndexEvent> pendingEvents;
+
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<RestaurantPoint> search(double neLatitude, double neLongitude, double swLatitude, double swLongitude) {
+        return restaurantSpatialIndex.search(neLatitude, neLongitude, swLatitude, swLongitude);
+    }
+
+    public List<RestaurantPoint> findAll(Collection<Long> restaurantIds) {
+        return restaurantSpatialIndex.findAll(restaurantIds);
+    }
+
+    public List<RestaurantCluster> searchClusters(double neLatitude, double neLongitude, double swLatitude, double swLongitude, int zoom) {
+        return restaurantSpatialIndex.searchClusters(neLatitude, neLongitude, swLatitude, swLongitude, zoom);
+    }
+
+    /**
+     * 색인이 준비되기 전의 위치 조회 - 해당 매장의 위치를 DB에서 읽는다.
+     */
+    public List<RestaurantPoint> loadAll(Collection<Long> restaurantIds) {
+        return restaurantRepository.findPointsByIdIn(restaurantIds);
+    }
+
+    /**
+     * 색인이 준비되기 전의 묶음 조회 - 영역에 걸친 묶음 격자를 모두 덮도록 넓힌 범위의 매장 위치를 DB에서 읽어 색인과 같은 방식으로 집계한다.
+     */
+    public List<RestaurantCluster> loadClusters(double neLatitude, double neLongitude, double swLatitude, double swLongitude, int zoom) {
+        double degree = RestaurantSpatialIndex.clusterDegree(
+                Math.max(RestaurantSpatialIndex.MIN_ZOOM, Math.min(RestaurantSpatialIndex.MAX_ZOOM, zoom)));
+
+        RestaurantSpatialIndex viewportIndex = new RestaurantSpatialIndex();
+        viewportIndex.rebuild(restaurantRepository.findPointsIn(
+                (Math.floor(neLatitude / degree) + 1) * degree,
+                (Math.floor(neLongitude / degree) + 1) * degree,
+                Math.floor(swLatitude / degree) * degree,
+                Math.floor(swLongitude / degree) * degree));
+
+        return viewportIndex.searchClusters(neLatitude, neLongitude, swLatitude, swLongitude, zoom);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0/10 * * * ?")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long startTime = System.nanoTime();
+
+            updateLock.lock();
+            try {
+                pendingEvents = new ArrayList<>();
+            } finally {
+                updateLock.unlock();
+            }
+
+            List<RestaurantPoint> points;
+            try {
+                points = restaurantRepository.findAllPoints();
+            } catch (RuntimeException e) {
+                updateLock.lock();
+                try {
+                    pendingEvents = null;
+                } finally {
+                    updateLock.unlock();
+                }
+                throw e;
+            }
+
+            int replayed;
+            updateLock.lock();
+            try {
+                restaurantSpatialIndex.rebuild(points);
+                List<RestaurantIndexEvent> events = pendingEvents;
+                pendingEvents = null;
+                events.forEach(this::reindex);
+                replayed = events.size();
+                ready = true;
+            } finally {
+                updateLock.unlock();
+            }
+
+            long endTime = System.nanoTime();
+            log.info("[매장 지도 색인 생성] 매장 수 : {}, 다시 반영한 변경 수 : {}, 소요 시간 : {}ms",
+                    points.size(), replayed, (endTime - startTime) / 1_000_000);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(RestaurantIndexEvent event) {
+        updateLock.lock();
+        try {
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+            reindex(event);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private void reindex(RestaurantIndexEvent event) {
+        restaurantSpatialIndex.upsert(event.getRestaurantId(),
+                restaurantRepository.findPoint(event.getRestaurantId()).orElse(null));
+    }
+}
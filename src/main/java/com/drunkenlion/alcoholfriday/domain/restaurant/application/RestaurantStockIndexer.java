@@ -0,0 +1,166 @@
+package com.drunkenlion.alcoholfriday.domain.restaurant.application;
+
+import com.drunkenlion.alcoholfriday.domain.restaurant.dao.RestaurantStockRepository;
+import com.drunkenlion.alcoholfriday.domain.restaurant.util.RestaurantSpatialIndex;
+import com.drunkenlion.alcoholfriday.domain.restaurant.util.RestaurantStockIndex;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantPoint;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantStockDistance;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantStockEvent;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantStockQuantity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 제품별 매장 재고 색인 관리
+ * - 애플리케이션 시작 시 전체 색인을 만들고, 발주 완료/환불 요청/환불 취소 커밋 후 바뀐 재고만 반영한다.
+ * - 이벤트 순서가 뒤바뀌거나 다른 경로로 변경된 재고를 바로잡기 위해 주기적으로 전체 색인을 다시 만든다.
+ * - 전체 색인을 만드는 동안 들어온 변경은 모아 두었다가, 색인을 교체한 뒤 다시 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantStockIndexer {
+    private final RestaurantStockRepository restaurantStockRepository;
+    private final RestaurantSpatialIndexer restaurantSpatialIndexer;
+    private final RestaurantStockIndex restaurantStockIndex = new RestaurantStockIndex();
+
+    // 전체 색인 생성은 한 번에 하나만
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    // 변경 반영과 전체 색인 교체를 순서대로 처리
+    private final ReentrantLock updateLock = new ReentrantLock();
+    // 전체 색인을 만드는 동안 들어온 변경 (만드는 중이 아니면 null)
+    private List<RestaurantStockEvent> pendingEvents;
+
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready && restaurantSpatialIndexer.isReady();
+    }
+
+    /**
+     * 제품 재고가 있는 매장 중 기준 좌표에서 가까운 순으로 limit 개
+     */
+    public List<RestaurantStockDistance> findNearest(Long productId, double latitude, double longitude, int limit) {
+        Map<Long, Long> stocks = restaurantStockIndex.findStocks(productId);
+        if (stocks.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return nearest(stocks, restaurantSpatialIndexer.findAll(stocks.keySet()), latitude, longitude, limit);
+    }
+
+    /**
+     * 색인이 준비되기 전의 가까운 매장 조회 - 제품 재고와 해당 매장의 위치를 DB에서 읽어 색인과 같은 방식으로 고른다.
+     */
+    public List<RestaurantStockDistance> loadNearest(Long productId, double latitude, double longitude, int limit) {
+        Map<Long, Long> stocks = restaurantStockRepository.findInStockByProductId(productId).stream()
+                .collect(Collectors.toMap(RestaurantStockQuantity::getRestaurantId, RestaurantStockQuantity::getQuantity, (a, b) -> b));
+        if (stocks.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return nearest(stocks, restaurantSpatialIndexer.loadAll(stocks.keySet()), latitude, longitude, limit);
+    }
+
+    private static List<RestaurantStockDistance> nearest(Map<Long, Long> stocks, List<RestaurantPoint> points,
+                                                         double latitude, double longitude, int limit) {
+        // 가장 먼 매장이 맨 앞에 오는 크기 limit 의 힙
+        Comparator<RestaurantStockDistance> nearest = Comparator.comparingDouble(RestaurantStockDistance::getDistance)
+                .thenComparingLong(RestaurantStockDistance::getRestaurantId);
+        PriorityQueue<RestaurantStockDistance> heap = new PriorityQueue<>(limit + 1, nearest.reversed());
+
+        for (RestaurantPoint point : points) {
+            heap.add(new RestaurantStockDistance(
+                    point.getRestaurantId(),
+                    stocks.get(point.getRestaurantId()),
+                    RestaurantSpatialIndex.distance(latitude, longitude, point.getLatitude(), point.getLongitude())));
+
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<RestaurantStockDistance> result = new ArrayList<>(heap);
+        result.sort(nearest);
+        return result;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 5/10 * * * ?")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long startTime = System.nanoTime();
+
+            updateLock.lock();
+            try {
+                pendingEvents = new ArrayList<>();
+            } finally {
+                updateLock.unlock();
+            }
+
+            List<RestaurantStockQuantity> stocks;
+            try {
+                stocks = restaurantStockRepository.findAllInStock();
+            } catch (RuntimeException e) {
+                updateLock.lock();
+                try {
+                    pendingEvents = null;
+                } finally {
+                    updateLock.unlock();
+                }
+                throw e;
+            }
+
+            int replayed;
+            updateLock.lock();
+            try {
+                restaurantStockIndex.rebuild(stocks);
+                List<RestaurantStockEvent> events = pendingEvents;
+                pendingEvents = null;
+                events.forEach(this::update);
+                replayed = events.size();
+                ready = true;
+            } finally {
+                updateLock.unlock();
+            }
+
+            long endTime = System.nanoTime();
+            log.info("[매장 재고 색인 생성] 재고 수 : {}, 다시 반영한 변경 수 : {}, 소요 시간 : {}ms",
+                    stocks.size(), replayed, (endTime - startTime) / 1_000_000);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(RestaurantStockEvent event) {
+        updateLock.lock();
+        try {
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+            update(event);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private void update(RestaurantStockEvent event) {
+        restaurantStockIndex.update(event.getRestaurantId(), event.getProductId(), event.getQuantity());
+    }
+}
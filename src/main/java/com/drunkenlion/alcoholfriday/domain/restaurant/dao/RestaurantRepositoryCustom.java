@@ -2,11 +2,22 @@ package com.drunkenlion.alcoholfriday.domain.restaurant.dao;
 
 import com.drunkenlion.alcoholfriday.domain.member.entity.Member;
 import com.drunkenlion.alcoholfriday.domain.restaurant.entity.Restaurant;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantPoint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 public interface RestaurantRepositoryCustom {
     Page<Restaurant> findAllBasedAuth(Member member, Pageable pageable);
     List<Restaurant> getRestaurant(double neLatitude, double neLongitude, double swLatitude, double swLongitude);
+    List<Restaurant> findAllWithStocksByIdIn(Collection<Long> ids);
+    List<RestaurantPoint> findAllPoints();
+    List<RestaurantPoint> findPointsIn(double neLatitude, double neLongitude, double swLatitude, double swLongitude);
+    Map<Long, Map<String, Object>> findTimesByIdIn(Collection<Long> ids);
+    Optional<RestaurantPoint> findPoint(Long id);
+    List<RestaurantPoint> findPointsByIdIn(Collection<Long> ids);
 }
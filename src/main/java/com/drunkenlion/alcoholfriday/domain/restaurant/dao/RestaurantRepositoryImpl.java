@@ -3,7 +3,9 @@ package com.drunkenlion.alcoholfriday.domain.restaurant.dao;
 import com.drunkenlion.alcoholfriday.domain.member.entity.Member;
 import com.drunkenlion.alcoholfriday.domain.member.enumerated.MemberRole;
 import com.drunkenlion.alcoholfriday.domain.restaurant.entity.Restaurant;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantPoint;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQuery;
@@ -11,9 +13,15 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.locationtech.jts.geom.Point;
 import org.springframework.data.support.PageableExecutionUtils;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static com.drunkenlion.alcoholfriday.domain.product.entity.QProduct.product;
 import static com.drunkenlion.alcoholfriday.domain.restaurant.entity.QRestaurant.restaurant;
@@ -47,17 +55,13 @@ public class RestaurantRepositoryImpl implements RestaurantRepositoryCustom {
         return PageableExecutionUtils.getPage(restaurants, pageable, total::fetchOne);
     }
 
+    /**
+     * 영역 안의 매장 - RestaurantSpatialIndex 와 같이 경계 위의 매장도 포함한다.
+     * (ST_Contains 는 경계 위의 점을 제외하므로 ST_Intersects 를 쓰고, 좌표는 반올림하지 않고 그대로 넘긴다.)
+     */
     @Override
     public List<Restaurant> getRestaurant(double neLatitude, double neLongitude, double swLatitude, double swLongitude) {
-        String polygon = String.format("POLYGON((%f %f, %f %f, %f %f, %f %f, %f %f))",
-                swLongitude, neLatitude,
-                neLongitude, neLatitude,
-                neLongitude, swLatitude,
-                swLongitude, swLatitude,
-                swLongitude, neLatitude);
-
-        BooleanExpression inPolygon = Expressions.booleanTemplate(
-                "ST_Contains(ST_PolygonFromText({0}), {1})", polygon, restaurant.location);
+        BooleanExpression inPolygon = inPolygon(neLatitude, neLongitude, swLatitude, swLongitude);
         BooleanExpression isNotDeleted = restaurant.deletedAt.isNull();
 
         return jpaQueryFactory
@@ -68,4 +72,96 @@ public class RestaurantRepositoryImpl implements RestaurantRepositoryCustom {
                 .where(inPolygon.and(isNotDeleted))
                 .fetch();
     }
+
+    @Override
+    public List<Restaurant> findAllWithStocksByIdIn(Collection<Long> ids) {
+        return jpaQueryFactory
+                .select(restaurant).distinct()
+                .from(restaurant)
+                .leftJoin(restaurant.restaurantStocks, restaurantStock).fetchJoin()
+                .leftJoin(restaurantStock.product, product).fetchJoin()
+                .where(restaurant.id.in(ids), restaurant.deletedAt.isNull())
+                .orderBy(restaurant.id.asc())
+                .fetch();
+    }
+
+    // 지도 색인용 위치 - 삭제되었거나 위치가 없는 매장은 제외한다.
+    @Override
+    public List<RestaurantPoint> findAllPoints() {
+        return findPoints(null).stream()
+                .map(RestaurantRepositoryImpl::toPoint)
+                .toList();
+    }
+
+    // 영역 안(경계 포함)의 매장 위치만 조회
+    @Override
+    public List<RestaurantPoint> findPointsIn(double neLatitude, double neLongitude, double swLatitude, double swLongitude) {
+        return findPoints(inPolygon(neLatitude, neLongitude, swLatitude, swLongitude)).stream()
+                .map(RestaurantRepositoryImpl::toPoint)
+                .toList();
+    }
+
+    @Override
+    public Optional<RestaurantPoint> findPoint(Long id) {
+        return findPoints(restaurant.id.eq(id)).stream()
+                .findFirst()
+                .map(RestaurantRepositoryImpl::toPoint);
+    }
+
+    @Override
+    public List<RestaurantPoint> findPointsByIdIn(Collection<Long> ids) {
+        return findPoints(restaurant.id.in(ids)).stream()
+                .map(RestaurantRepositoryImpl::toPoint)
+                .toList();
+    }
+
+    // 영업시간만 조회 - 삭제된 매장은 제외한다.
+    @Override
+    public Map<Long, Map<String, Object>> findTimesByIdIn(Collection<Long> ids) {
+        List<Tuple> rows = jpaQueryFactory
+                .select(restaurant.id, restaurant.time)
+                .from(restaurant)
+                .where(restaurant.id.in(ids), restaurant.deletedAt.isNull())
+                .fetch();
+
+        // 영업시간이 비어 있는 매장도 포함 (null 값)
+        Map<Long, Map<String, Object>> times = new HashMap<>();
+        rows.forEach(row -> times.put(row.get(restaurant.id), row.get(restaurant.time)));
+        return times;
+    }
+
+    private List<Tuple> findPoints(BooleanExpression predicate) {
+        return jpaQueryFactory
+                .select(restaurant.id, restaurant.location)
+                .from(restaurant)
+                .where(predicate, restaurant.deletedAt.isNull(), restaurant.location.isNotNull())
+                .fetch();
+    }
+
+    private static BooleanExpression inPolygon(double neLatitude, double neLongitude, double swLatitude, double swLongitude) {
+        String north = toWkt(neLatitude);
+        String east = toWkt(neLongitude);
+        String south = toWkt(swLatitude);
+        String west = toWkt(swLongitude);
+        String polygon = String.format("POLYGON((%s %s, %s %s, %s %s, %s %s, %s %s))",
+                west, north,
+                east, north,
+                east, south,
+                west, south,
+                west, north);
+
+        return Expressions.booleanTemplate(
+                "ST_Intersects(ST_PolygonFromText({0}), {1})", polygon, restaurant.location);
+    }
+
+    // double 을 그대로 문자열로 만들면 0.0001 같은 값이 1.0E-4 (지수 표기)가 되어 WKT 로 읽지 못하므로, 자릿수를 그대로 둔 채 풀어 쓴다.
+    private static String toWkt(double coordinate) {
+        return BigDecimal.valueOf(coordinate).toPlainString();
+    }
+
+    private static RestaurantPoint toPoint(Tuple row) {
+        Point location = row.get(restaurant.location);
+        // Point(x : 경도, y : 위도)
+        return new RestaurantPoint(row.get(restaurant.id), location.getY(), location.getX());
+    }
 }
@@ -3,8 +3,12 @@ package com.drunkenlion.alcoholfriday.domain.restaurant.dao;
 import com.drunkenlion.alcoholfriday.domain.product.entity.Product;
 import com.drunkenlion.alcoholfriday.domain.restaurant.entity.Restaurant;
 import com.drunkenlion.alcoholfriday.domain.restaurant.entity.RestaurantStock;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantStockQuantity;
+import java.util.List;
 import java.util.Optional;
 
 public interface RestaurantStockCustomRepository {
     Optional<RestaurantStock> findRestaurantAndProduct(Restaurant restaurant, Product product);
+    List<RestaurantStockQuantity> findAllInStock();
+    List<RestaurantStockQuantity> findInStockByProductId(Long productId);
 }
@@ -1,12 +1,16 @@
 package com.drunkenlion.alcoholfriday.domain.restaurant.dao;
 
+import static com.drunkenlion.alcoholfriday.domain.restaurant.entity.QRestaurant.restaurant;
 import static com.drunkenlion.alcoholfriday.domain.restaurant.entity.QRestaurantStock.restaurantStock;
 
 import com.drunkenlion.alcoholfriday.domain.product.entity.Product;
 import com.drunkenlion.alcoholfriday.domain.restaurant.entity.Restaurant;
 import com.drunkenlion.alcoholfriday.domain.restaurant.entity.RestaurantStock;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantStockQuantity;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 
@@ -27,4 +31,32 @@ public class RestaurantStockCustomRepositoryImpl implements RestaurantStockCusto
                 .fetchFirst()
         );
     }
+
+    // 제품별 재고 색인용 - 삭제되지 않은 매장의 재고가 남아 있는 제품만 조회한다.
+    @Override
+    public List<RestaurantStockQuantity> findAllInStock() {
+        return findInStock(null);
+    }
+
+    // 재고 색인이 준비되기 전의 가까운 매장 조회용 - 한 제품의 재고만 조회한다.
+    @Override
+    public List<RestaurantStockQuantity> findInStockByProductId(Long productId) {
+        return findInStock(restaurantStock.product.id.eq(productId));
+    }
+
+    private List<RestaurantStockQuantity> findInStock(BooleanExpression predicate) {
+        return queryFactory
+                .select(Projections.constructor(
+                        RestaurantStockQuantity.class,
+                        restaurantStock.restaurant.id,
+                        restaurantStock.product.id,
+                        restaurantStock.quantity))
+                .from(restaurantStock)
+                .join(restaurantStock.restaurant, restaurant)
+                .where(predicate,
+                        restaurantStock.deletedAt.isNull(),
+                        restaurantStock.quantity.gt(0L),
+                        restaurant.deletedAt.isNull())
+                .fetch();
+    }
 }
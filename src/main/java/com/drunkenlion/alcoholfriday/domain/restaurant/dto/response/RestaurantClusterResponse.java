@@ -0,0 +1,35 @@
+package com.drunkenlion.alcoholfriday.domain.restaurant.dto.response;
+
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantCluster;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Builder
+@ToString
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Schema(description = "지도 축소 화면의 레스토랑 묶음")
+public class RestaurantClusterResponse {
+
+    @Schema(description = "묶음의 대표 레스토랑 고유아이디")
+    private Long restaurantId;
+
+    @Schema(description = "묶음에 속한 레스토랑 위치의 평균(위도)")
+    private Double latitude;
+
+    @Schema(description = "묶음에 속한 레스토랑 위치의 평균(경도)")
+    private Double longitude;
+
+    @Schema(description = "묶음에 속한 레스토랑 수")
+    private Integer count;
+
+    public static RestaurantClusterResponse of(RestaurantCluster cluster) {
+        return RestaurantClusterResponse.builder()
+                .restaurantId(cluster.getRestaurantId())
+                .latitude(cluster.getLatitude())
+                .longitude(cluster.getLongitude())
+                .count(cluster.getCount())
+                .build();
+    }
+}
@@ -9,6 +9,7 @@ import lombok.*;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Getter
@@ -58,20 +59,30 @@ public class RestaurantLocationResponse {
     @Schema(description = "레스토랑 영업 상태 여부 정보")
     private String businessStatus;
 
-    @Schema(description = "레스토랑에 등록된 정통주에 대한 이미지")
+    @Schema(description = "레스토랑에 등록된 정통주에 대한 이미지 (해당 레스토랑 재고 제품만)")
     private List<NcpFileResponse> files;
 
     public void setRestaurantStatus(String businessStatus) {
         this.businessStatus = businessStatus;
     }
 
-    public static RestaurantLocationResponse of(Restaurant restaurant, List<NcpFileResponse> files) {
+    /**
+     * @param images 제품 식별자 : 제품 이미지 - 여러 레스토랑의 제품 이미지를 한 번에 조회한 결과
+     */
+    public static RestaurantLocationResponse of(Restaurant restaurant, Map<Long, NcpFileResponse> images) {
         List<ProductResponse> products = restaurant
                 .getRestaurantStocks()
                 .stream()
                 .map(stock -> ProductResponse.of(stock.getProduct(), stock.getQuantity()))
                 .collect(Collectors.toList());
 
+        List<NcpFileResponse> files = products.stream()
+                .map(ProductResponse::getId)
+                .distinct()
+                .map(images::get)
+                .filter(Objects::nonNull)
+                .toList();
+
         return RestaurantLocationResponse.builder()
                 .id(restaurant.getId())
                 .memberId(restaurant.getMember().getId())
@@ -0,0 +1,48 @@
+package com.drunkenlion.alcoholfriday.domain.restaurant.dto.response;
+
+import com.drunkenlion.alcoholfriday.domain.restaurant.entity.Restaurant;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantStockDistance;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Builder
+@ToString
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Schema(description = "제품 재고가 있는 주변 레스토랑")
+public class RestaurantNearbyResponse {
+
+    @Schema(description = "레스토랑 고유아이디")
+    private Long id;
+
+    @Schema(description = "매장 이름")
+    private String name;
+
+    @Schema(description = "매장 주소")
+    private String address;
+
+    @Schema(description = "매장 위치(위도)")
+    private Double latitude;
+
+    @Schema(description = "매장 위치(경도)")
+    private Double longitude;
+
+    @Schema(description = "기준 좌표에서의 거리(미터)")
+    private Long distance;
+
+    @Schema(description = "레스토랑 재고 수량")
+    private Long quantity;
+
+    public static RestaurantNearbyResponse of(Restaurant restaurant, RestaurantStockDistance stockDistance) {
+        return RestaurantNearbyResponse.builder()
+                .id(restaurant.getId())
+                .name(restaurant.getName())
+                .address(restaurant.getAddress())
+                .latitude(restaurant.getLocation().getY())
+                .longitude(restaurant.getLocation().getX())
+                .distance(Math.round(stockDistance.getDistance()))
+                .quantity(stockDistance.getQuantity())
+                .build();
+    }
+}
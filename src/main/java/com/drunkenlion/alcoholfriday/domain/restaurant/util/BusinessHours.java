@@ -0,0 +1,119 @@
+package com.drunkenlion.alcoholfriday.domain.restaurant.util;
+
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.TimeData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 매장 영업시간(time JSON)을 요일별 초 단위 구간으로 미리 변환한 주간 영업표
+ * - 요일마다 [영업 시작, 영업 종료, 브레이크 시작, 브레이크 종료] 를 하루 중 초(second of day)로 보관한다.
+ * - 영업하지 않는 요일, 브레이크 타임이 없는 요일은 NONE 으로 표시한다.
+ * - 영업 종료가 영업 시작보다 이르면 다음 날 종료(자정 넘어 영업)로 보고, 종료 시각에 하루(DAY_SECONDS)를 더해 보관한다.
+ *   다음 날 새벽에는 전날 영업표로 다시 확인한다.
+ * - 영업 상태 조회는 배열 조회와 정수 비교만 하므로 JSON 변환 없이 O(1) 로 끝난다.
+ */
+public class BusinessHours {
+    public static final String OPEN = "영업중";
+    public static final String CLOSE = "영업 종료";
+    public static final String BREAK_TIME = "브레이크 타임";
+
+    private static final int NONE = -1;
+    private static final int SLOT = 4;
+    private static final int DAY_SECONDS = 24 * 60 * 60;
+    private static final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    // 영업시간 정보가 없는 매장
+    public static final BusinessHours CLOSED = new BusinessHours(emptySeconds());
+
+    private final int[] seconds;
+
+    private BusinessHours(int[] seconds) {
+        this.seconds = seconds;
+    }
+
+    public static BusinessHours compile(Map<String, Object> time) {
+        int[] seconds = emptySeconds();
+
+        if (time == null) {
+            return new BusinessHours(seconds);
+        }
+
+        for (DayOfWeek day : DayOfWeek.values()) {
+            Object businessHours = time.get(day.name());
+            if (businessHours == null) {
+                continue;
+            }
+
+            TimeData dayOfTime = objectMapper.convertValue(businessHours, TimeData.class);
+            if (!dayOfTime.isBusinessStatus() || dayOfTime.getStartTime() == null || dayOfTime.getEndTime() == null) {
+                continue;
+            }
+
+            int offset = offset(day);
+            int start = dayOfTime.getStartTime().toSecondOfDay();
+            seconds[offset] = start;
+            seconds[offset + 1] = nextDayIfBefore(dayOfTime.getEndTime().toSecondOfDay(), start);
+
+            if (dayOfTime.isBreakBusinessStatus() && dayOfTime.getBreakStartTime() != null && dayOfTime.getBreakEndTime() != null) {
+                // 자정 이후의 브레이크 타임도 영업 시작 기준으로 이어서 본다.
+                int breakStart = nextDayIfBefore(dayOfTime.getBreakStartTime().toSecondOfDay(), start);
+                seconds[offset + 2] = breakStart;
+                seconds[offset + 3] = nextDayIfBefore(dayOfTime.getBreakEndTime().toSecondOfDay(), breakStart);
+            }
+        }
+
+        return new BusinessHours(seconds);
+    }
+
+    public String getStatus(DayOfWeek day, LocalTime time) {
+        int now = time.toSecondOfDay();
+
+        int offset = offset(day);
+        if (isBusinessTime(offset, now)) {
+            return getStatus(offset, now);
+        }
+
+        // 전날 자정을 넘겨 영업하는 시간
+        int previousOffset = offset(day.minus(1));
+        if (isBusinessTime(previousOffset, now + DAY_SECONDS)) {
+            return getStatus(previousOffset, now + DAY_SECONDS);
+        }
+
+        return CLOSE;
+    }
+
+    public boolean isOpen(DayOfWeek day, LocalTime time) {
+        return OPEN.equals(getStatus(day, time));
+    }
+
+    private boolean isBusinessTime(int offset, int now) {
+        return seconds[offset] != NONE && now >= seconds[offset] && now <= seconds[offset + 1];
+    }
+
+    private String getStatus(int offset, int now) {
+        if (seconds[offset + 2] != NONE && now >= seconds[offset + 2] && now <= seconds[offset + 3]) {
+            return BREAK_TIME;
+        }
+
+        return OPEN;
+    }
+
+    private static int nextDayIfBefore(int seconds, int base) {
+        return seconds < base ? seconds + DAY_SECONDS : seconds;
+    }
+
+    private static int offset(DayOfWeek day) {
+        return (day.getValue() - 1) * SLOT;
+    }
+
+    private static int[] emptySeconds() {
+        int[] seconds = new int[DayOfWeek.values().length * SLOT];
+        Arrays.fill(seconds, NONE);
+        return seconds;
+    }
+}
@@ -0,0 +1,308 @@
+package com.drunkenlion.alcoholfriday.domain.restaurant.util;
+
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantCluster;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantPoint;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 매장 위치에 대한 메모리 격자(grid) 색인
+ * - 위도/경도를 CELL_DEGREE 크기의 격자로 나누고, 격자마다 속한 매장을 보관한다.
+ * - 영역 조회는 영역에 걸친 격자만 확인한 뒤 경계 포함 여부를 다시 검사한다.
+ * - 영역에 걸친 격자 수가 매장 수보다 많으면 (지도를 크게 축소한 경우) 전체 매장을 순회하는 편이 빠르다.
+ * - 지도 확대 수준(zoom)마다 격자별 매장 수, 좌표 합, 대표 매장(가장 작은 식별자)을 미리 집계해 두고 매장 변경 시 함께 갱신한다.
+ */
+public class RestaurantSpatialIndex {
+    // 약 1km (위도 기준)
+    static final double CELL_DEGREE = 0.01;
+    private static final double EARTH_RADIUS_METER = 6_371_000;
+    public static final int MIN_ZOOM = 6;
+    public static final int MAX_ZOOM = 16;
+    // 지도 타일(256px) 한 변을 나누는 묶음 격자 수 - 약 64px 마다 하나의 묶음
+    private static final int CLUSTER_CELLS_PER_TILE = 4;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, RestaurantPoint> points = new HashMap<>();
+    private final Map<Long, Set<Long>> cells = new HashMap<>();
+    private final List<Map<Long, ClusterCell>> clusters = new ArrayList<>();
+
+    public RestaurantSpatialIndex() {
+        for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+            clusters.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * 전체 매장 위치로 색인을 다시 만든다.
+     */
+    public void rebuild(Collection<RestaurantPoint> restaurantPoints) {
+        lock.writeLock().lock();
+        try {
+            points.clear();
+            cells.clear();
+            clusters.forEach(Map::clear);
+            restaurantPoints.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 매장 위치를 교체한다. point 가 null 이면 색인에서 제거된다.
+     */
+    public void upsert(Long restaurantId, RestaurantPoint point) {
+        lock.writeLock().lock();
+        try {
+            remove(restaurantId);
+            if (point != null) {
+                add(point);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return points.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 북동(ne), 남서(sw) 좌표로 이루어진 영역 안의 매장 위치를 식별자 순으로 조회한다. (경계 포함)
+     */
+    public List<RestaurantPoint> search(double neLatitude, double neLongitude, double swLatitude, double swLongitude) {
+        int minLat = cell(swLatitude);
+        int maxLat = cell(neLatitude);
+        int minLng = cell(swLongitude);
+        int maxLng = cell(neLongitude);
+
+        List<RestaurantPoint> result = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            long cellCount = (long) Math.max(0, maxLat - minLat + 1) * Math.max(0, maxLng - minLng + 1);
+
+            if (cellCount > points.size()) {
+                for (RestaurantPoint point : points.values()) {
+                    if (contains(point, neLatitude, neLongitude, swLatitude, swLongitude)) {
+                        result.add(point);
+                    }
+                }
+            } else {
+                for (int lat = minLat; lat <= maxLat; lat++) {
+                    for (int lng = minLng; lng <= maxLng; lng++) {
+                        Set<Long> ids = cells.get(cellKey(lat, lng));
+                        if (ids == null) {
+                            continue;
+                        }
+
+                        for (Long id : ids) {
+                            RestaurantPoint point = points.get(id);
+                            if (contains(point, neLatitude, neLongitude, swLatitude, swLongitude)) {
+                                result.add(point);
+                            }
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        result.sort(Comparator.comparingLong(RestaurantPoint::getRestaurantId));
+        return result;
+    }
+
+    /**
+     * 식별자에 해당하는 매장 위치 - 색인에 없는 (삭제되었거나 위치가 없는) 매장은 제외한다.
+     */
+    public List<RestaurantPoint> findAll(Collection<Long> restaurantIds) {
+        lock.readLock().lock();
+        try {
+            return restaurantIds.stream()
+                    .map(points::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 두 좌표 사이의 거리 (미터, 하버사인 공식)
+     */
+    public static double distance(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double latitudeDistance = Math.toRadians(latitude2 - latitude1);
+        double longitudeDistance = Math.toRadians(longitude2 - longitude1);
+
+        double a = Math.sin(latitudeDistance / 2) * Math.sin(latitudeDistance / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(longitudeDistance / 2) * Math.sin(longitudeDistance / 2);
+
+        return EARTH_RADIUS_METER * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    /**
+     * 확대 수준의 묶음 격자 중 영역에 걸친 격자의 집계를 조회한다. 확대 수준은 MIN_ZOOM ~ MAX_ZOOM 으로 보정한다.
+     */
+    public List<RestaurantCluster> searchClusters(double neLatitude, double neLongitude, double swLatitude, double swLongitude, int zoom) {
+        int level = Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, zoom));
+        double degree = clusterDegree(level);
+
+        int minLat = cell(swLatitude, degree);
+        int maxLat = cell(neLatitude, degree);
+        int minLng = cell(swLongitude, degree);
+        int maxLng = cell(neLongitude, degree);
+
+        List<RestaurantCluster> result = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            Map<Long, ClusterCell> levelClusters = clusters.get(level - MIN_ZOOM);
+            long cellCount = (long) Math.max(0, maxLat - minLat + 1) * Math.max(0, maxLng - minLng + 1);
+
+            if (cellCount > levelClusters.size()) {
+                for (ClusterCell cell : levelClusters.values()) {
+                    if (cell.latitudeCell >= minLat && cell.latitudeCell <= maxLat
+                            && cell.longitudeCell >= minLng && cell.longitudeCell <= maxLng) {
+                        result.add(cell.toCluster());
+                    }
+                }
+            } else {
+                for (int lat = minLat; lat <= maxLat; lat++) {
+                    for (int lng = minLng; lng <= maxLng; lng++) {
+                        ClusterCell cell = levelClusters.get(cellKey(lat, lng));
+                        if (cell != null) {
+                            result.add(cell.toCluster());
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        result.sort(Comparator.comparingLong(RestaurantCluster::getRestaurantId));
+        return result;
+    }
+
+    private void add(RestaurantPoint point) {
+        points.put(point.getRestaurantId(), point);
+        cells.computeIfAbsent(cellKey(point), key -> new HashSet<>()).add(point.getRestaurantId());
+
+        for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+            double degree = clusterDegree(zoom);
+            int lat = cell(point.getLatitude(), degree);
+            int lng = cell(point.getLongitude(), degree);
+
+            clusters.get(zoom - MIN_ZOOM)
+                    .computeIfAbsent(cellKey(lat, lng), key -> new ClusterCell(lat, lng))
+                    .add(point);
+        }
+    }
+
+    private void remove(Long restaurantId) {
+        RestaurantPoint point = points.remove(restaurantId);
+        if (point == null) {
+            return;
+        }
+
+        long key = cellKey(point);
+        Set<Long> ids = cells.get(key);
+        ids.remove(restaurantId);
+        if (ids.isEmpty()) {
+            cells.remove(key);
+        }
+
+        for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+            double degree = clusterDegree(zoom);
+            long clusterKey = cellKey(cell(point.getLatitude(), degree), cell(point.getLongitude(), degree));
+
+            Map<Long, ClusterCell> levelClusters = clusters.get(zoom - MIN_ZOOM);
+            ClusterCell cell = levelClusters.get(clusterKey);
+            cell.remove(point);
+
+            if (cell.count == 0) {
+                levelClusters.remove(clusterKey);
+            } else if (restaurantId.equals(cell.restaurantId)) {
+                // 대표 매장이 빠진 경우에만 격자 안의 매장을 다시 확인 (관리자 변경 시에만 발생)
+                cell.restaurantId = points.values().stream()
+                        .filter(other -> cell.contains(other, degree))
+                        .map(RestaurantPoint::getRestaurantId)
+                        .min(Long::compare)
+                        .orElse(null);
+            }
+        }
+    }
+
+    private static boolean contains(RestaurantPoint point, double neLatitude, double neLongitude, double swLatitude, double swLongitude) {
+        return point.getLatitude() >= swLatitude && point.getLatitude() <= neLatitude
+                && point.getLongitude() >= swLongitude && point.getLongitude() <= neLongitude;
+    }
+
+    private static int cell(double degree) {
+        return cell(degree, CELL_DEGREE);
+    }
+
+    private static int cell(double degree, double cellDegree) {
+        return (int) Math.floor(degree / cellDegree);
+    }
+
+    /**
+     * 확대 수준의 묶음 격자 한 변의 크기(도)
+     */
+    public static double clusterDegree(int zoom) {
+        return 360.0 / (1L << zoom) / CLUSTER_CELLS_PER_TILE;
+    }
+
+    private static long cellKey(RestaurantPoint point) {
+        return cellKey(cell(point.getLatitude()), cell(point.getLongitude()));
+    }
+
+    private static long cellKey(int latitudeCell, int longitudeCell) {
+        return ((long) latitudeCell << 32) | (longitudeCell & 0xFFFFFFFFL);
+    }
+
+    private static class ClusterCell {
+        private final int latitudeCell;
+        private final int longitudeCell;
+        private int count;
+        private double latitudeSum;
+        private double longitudeSum;
+        private Long restaurantId;
+
+        private ClusterCell(int latitudeCell, int longitudeCell) {
+            this.latitudeCell = latitudeCell;
+            this.longitudeCell = longitudeCell;
+        }
+
+        private void add(RestaurantPoint point) {
+            count++;
+            latitudeSum += point.getLatitude();
+            longitudeSum += point.getLongitude();
+            if (restaurantId == null || point.getRestaurantId() < restaurantId) {
+                restaurantId = point.getRestaurantId();
+            }
+        }
+
+        private void remove(RestaurantPoint point) {
+            count--;
+            latitudeSum -= point.getLatitude();
+            longitudeSum -= point.getLongitude();
+        }
+
+        private boolean contains(RestaurantPoint point, double degree) {
+            return cell(point.getLatitude(), degree) == latitudeCell && cell(point.getLongitude(), degree) == longitudeCell;
+        }
+
+        private RestaurantCluster toCluster() {
+            return new RestaurantCluster(restaurantId, latitudeSum / count, longitudeSum / count, count);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.drunkenlion.alcoholfriday.domain.restaurant.util;
+
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantStockQuantity;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 제품 → 재고가 있는 매장 목록(매장 식별자 : 재고 수량) 메모리 색인
+ * - 재고 수량이 0 이하인 매장은 목록에서 제거한다.
+ */
+public class RestaurantStockIndex {
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Map<Long, Long>> quantitiesByProductId = new HashMap<>();
+
+    /**
+     * 전체 재고로 색인을 다시 만든다.
+     */
+    public void rebuild(Collection<RestaurantStockQuantity> stocks) {
+        lock.writeLock().lock();
+        try {
+            quantitiesByProductId.clear();
+            stocks.forEach(stock -> put(stock.getRestaurantId(), stock.getProductId(), stock.getQuantity()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 매장의 제품 재고 수량을 교체한다.
+     */
+    public void update(Long restaurantId, Long productId, Long quantity) {
+        lock.writeLock().lock();
+        try {
+            put(restaurantId, productId, quantity);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 제품 재고가 있는 매장 (매장 식별자 : 재고 수량)
+     */
+    public Map<Long, Long> findStocks(Long productId) {
+        lock.readLock().lock();
+        try {
+            return new HashMap<>(quantitiesByProductId.getOrDefault(productId, Collections.emptyMap()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(Long restaurantId, Long productId, Long quantity) {
+        if (quantity != null && quantity > 0) {
+            quantitiesByProductId.computeIfAbsent(productId, key -> new HashMap<>()).put(restaurantId, quantity);
+            return;
+        }
+
+        Map<Long, Long> quantities = quantitiesByProductId.get(productId);
+        if (quantities != null) {
+            quantities.remove(restaurantId);
+            if (quantities.isEmpty()) {
+                quantitiesByProductId.remove(productId);
+            }
+        }
+    }
+}
@@ -1,9 +1,6 @@
 package com.drunkenlion.alcoholfriday.domain.restaurant.util;
 
 import com.drunkenlion.alcoholfriday.domain.restaurant.dto.response.RestaurantLocationResponse;
-import com.drunkenlion.alcoholfriday.domain.restaurant.vo.TimeData;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -12,39 +9,27 @@ import java.util.List;
 import java.util.Map;
 
 public class RestaurantTimeVerification {
-    private static final String OPEN = "영업중";
-    private static final String CLOSE = "영업 종료";
-    private static final String BREAK_TIME = "브레이크 타임";
-    private static final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
 
     public static void getRestaurantBusinessStatus(List<RestaurantLocationResponse> restaurantSearch , LocalTime userTime) {
 
         DayOfWeek dayOfWeek = LocalDate.now().getDayOfWeek();
 
-        objectMapper.registerModule(new JavaTimeModule());
-
         for (RestaurantLocationResponse search : restaurantSearch) {
-            StringBuilder statusBuilder = new StringBuilder();
-            Map<String, Object> time = search.getTime();
-            Object businessHoursToday = time.get(dayOfWeek.toString());
-            TimeData dayOfTime = objectMapper.convertValue(businessHoursToday, TimeData.class);
-
-            LocalTime openTime = dayOfTime.getStartTime();
-            LocalTime closeTime = dayOfTime.getEndTime();
-            LocalTime breakStartTime = dayOfTime.getBreakStartTime();
-            LocalTime breakEndTime = dayOfTime.getBreakEndTime();
-
-            if (!userTime.isBefore(openTime) && !userTime.isAfter(closeTime)) {
-                if (userTime.isBefore(breakStartTime) || userTime.isAfter(breakEndTime)) {
-                    statusBuilder.append(OPEN);
-                } else {
-                    statusBuilder.append(BREAK_TIME);
-                }
-            } else {
-                statusBuilder.append(CLOSE);
-            }
+            BusinessHours businessHours = BusinessHours.compile(search.getTime());
+            search.setRestaurantStatus(businessHours.getStatus(dayOfWeek, userTime));
+        }
+    }
 
-            search.setRestaurantStatus(statusBuilder.toString());
+    /**
+     * 미리 변환해 둔 영업표로 영업 상태를 설정한다. 영업표가 없는 매장은 영업 종료로 본다.
+     */
+    public static void getRestaurantBusinessStatus(List<RestaurantLocationResponse> restaurantSearch,
+                                                   Map<Long, BusinessHours> businessHours,
+                                                   DayOfWeek dayOfWeek,
+                                                   LocalTime userTime) {
+        for (RestaurantLocationResponse search : restaurantSearch) {
+            BusinessHours hours = businessHours.getOrDefault(search.getId(), BusinessHours.CLOSED);
+            search.setRestaurantStatus(hours.getStatus(dayOfWeek, userTime));
         }
     }
 }
@@ -0,0 +1,16 @@
+package com.drunkenlion.alcoholfriday.domain.restaurant.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 지도 격자 하나에 모인 매장 묶음 - 매장 수, 평균 위치, 대표 매장
+ */
+@Getter
+@AllArgsConstructor
+public class RestaurantCluster {
+    private final Long restaurantId;
+    private final double latitude;
+    private final double longitude;
+    private final int count;
+}
@@ -0,0 +1,13 @@
+package com.drunkenlion.alcoholfriday.domain.restaurant.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 매장 지도 색인을 갱신해야 하는 매장 변경 이벤트 (등록, 수정, 삭제)
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class RestaurantIndexEvent {
+    private final Long restaurantId;
+}
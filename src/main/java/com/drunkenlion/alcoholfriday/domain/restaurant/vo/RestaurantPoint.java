@@ -0,0 +1,15 @@
+package com.drunkenlion.alcoholfriday.domain.restaurant.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 지도 색인용 매장 위치
+ */
+@Getter
+@AllArgsConstructor
+public class RestaurantPoint {
+    private final Long restaurantId;
+    private final double latitude;
+    private final double longitude;
+}
@@ -0,0 +1,15 @@
+package com.drunkenlion.alcoholfriday.domain.restaurant.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 기준 좌표에서 제품 재고가 있는 매장까지의 거리 (미터)
+ */
+@Getter
+@AllArgsConstructor
+public class RestaurantStockDistance {
+    private final Long restaurantId;
+    private final Long quantity;
+    private final double distance;
+}
@@ -0,0 +1,24 @@
+package com.drunkenlion.alcoholfriday.domain.restaurant.vo;
+
+import com.drunkenlion.alcoholfriday.domain.restaurant.entity.RestaurantStock;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 매장 재고 수량 변경 이벤트 - 변경 후 수량을 전달한다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class RestaurantStockEvent {
+    private final Long restaurantId;
+    private final Long productId;
+    private final Long quantity;
+
+    public static RestaurantStockEvent of(RestaurantStock restaurantStock) {
+        return new RestaurantStockEvent(
+                restaurantStock.getRestaurant().getId(),
+                restaurantStock.getProduct().getId(),
+                restaurantStock.getQuantity());
+    }
+}
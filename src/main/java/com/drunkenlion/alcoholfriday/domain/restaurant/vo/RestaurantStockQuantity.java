@@ -0,0 +1,15 @@
+package com.drunkenlion.alcoholfriday.domain.restaurant.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 제품별 재고 색인용 매장 재고 수량
+ */
+@Getter
+@AllArgsConstructor
+public class RestaurantStockQuantity {
+    private final Long restaurantId;
+    private final Long productId;
+    private final Long quantity;
+}
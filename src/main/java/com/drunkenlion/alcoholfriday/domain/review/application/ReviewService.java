@@ -7,6 +7,10 @@ import com.drunkenlion.alcoholfriday.domain.review.dto.response.ReviewModifyResp
 import com.drunkenlion.alcoholfriday.domain.review.dto.response.ReviewOrderDetailResponse;
 import com.drunkenlion.alcoholfriday.domain.review.dto.response.ReviewResponse;
 import com.drunkenlion.alcoholfriday.domain.review.dto.response.ReviewSaveResponse;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadCompleteRequest;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadRequest;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadResponse;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.NcpFileResponse;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.web.multipart.MultipartFile;
@@ -21,4 +25,8 @@ public interface ReviewService {
     ReviewModifyResponse updateReview(Long id, ReviewModifyRequest request, Member member, List<MultipartFile> files);
 
     void deleteReview(Long id, Member member);
+
+    List<FileUploadResponse> createUploads(Long id, FileUploadRequest request, Member member);
+
+    NcpFileResponse completeUploads(Long id, FileUploadCompleteRequest request, Member member);
 }
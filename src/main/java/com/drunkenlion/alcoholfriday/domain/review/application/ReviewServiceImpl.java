@@ -1,6 +1,7 @@
 package com.drunkenlion.alcoholfriday.domain.review.application;
 
 import com.drunkenlion.alcoholfriday.domain.customerservice.question.dto.response.QuestionResponse;
+import com.drunkenlion.alcoholfriday.domain.item.application.ItemRatingService;
 import com.drunkenlion.alcoholfriday.domain.member.entity.Member;
 import com.drunkenlion.alcoholfriday.domain.order.dao.OrderDetailRepository;
 import com.drunkenlion.alcoholfriday.domain.order.entity.OrderDetail;
@@ -16,9 +17,13 @@ import com.drunkenlion.alcoholfriday.domain.review.util.ReviewValidator;
 import com.drunkenlion.alcoholfriday.global.common.response.HttpResponse.Fail;
 import com.drunkenlion.alcoholfriday.global.exception.BusinessException;
 import com.drunkenlion.alcoholfriday.global.file.application.FileService;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadCompleteRequest;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadRequest;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadResponse;
 import com.drunkenlion.alcoholfriday.global.ncp.dto.NcpFileResponse;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,6 +43,7 @@ public class ReviewServiceImpl implements ReviewService {
     private final ReviewRepository reviewRepository;
     private final OrderDetailRepository orderDetailRepository;
     private final FileService fileService;
+    private final ItemRatingService itemRatingService;
 
     /**
      * 리뷰 등록
@@ -64,6 +70,7 @@ public class ReviewServiceImpl implements ReviewService {
         review.addOrderDetail(orderDetail);
         review.addItem(orderDetail.getItem());
         reviewRepository.save(review);
+        itemRatingService.addReview(review);
 
         NcpFileResponse ncpFileResponse = fileService.saveFiles(review, files);
         return ReviewSaveResponse.of(review, ncpFileResponse);
@@ -77,8 +84,11 @@ public class ReviewServiceImpl implements ReviewService {
         log.info("[ReviewServiceImpl.getReviews] : 접근");
         Pageable pageable = PageRequest.of(page, size);
         Page<OrderDetail> findAll = orderDetailRepository.findOrderDetailsMember(member, pageable);
+        Map<Long, NcpFileResponse> images = fileService.findFirstImages(findAll.getContent().stream()
+                .map(OrderDetail::getItem)
+                .toList());
         return findAll.map(
-                orderDetail -> ReviewOrderDetailResponse.of(orderDetail, fileService.findOne(orderDetail.getItem())));
+                orderDetail -> ReviewOrderDetailResponse.of(orderDetail, images.get(orderDetail.getItem().getId())));
     }
 
     /**
@@ -89,7 +99,8 @@ public class ReviewServiceImpl implements ReviewService {
         log.info("[ReviewServiceImpl.getReviews] : 접근");
         Pageable pageable = PageRequest.of(page, size);
         Page<Review> findAll = reviewRepository.findByMember(member, pageable);
-        return findAll.map(review -> ReviewResponse.of(review, fileService.findOne(review)));
+        Map<Long, NcpFileResponse> images = fileService.findFirstImages(findAll.getContent());
+        return findAll.map(review -> ReviewResponse.of(review, images.get(review.getId())));
     }
 
     /**
@@ -102,8 +113,10 @@ public class ReviewServiceImpl implements ReviewService {
         log.info("[ReviewServiceImpl.updateReview] : 접근");
         Review review = reviewRepository.findById(id).orElseThrow(() -> new BusinessException(Fail.NOT_FOUND_REVIEW));
         ReviewValidator.compareEntityIdToMemberId(review, member);
+        Double beforeScore = review.getScore();
         review.updateReview(request.getUpdateScore(), request.getUpdateContent());
         reviewRepository.save(review);
+        itemRatingService.changeReview(review, beforeScore);
 
         NcpFileResponse ncpFileResponse = fileService.updateFiles(review, request.getRemoveImageSeqList(), files);
         return ReviewModifyResponse.of(review, ncpFileResponse);
@@ -120,5 +133,29 @@ public class ReviewServiceImpl implements ReviewService {
         ReviewValidator.compareEntityIdToMemberId(review, member);
         fileService.deleteFiles(review);
         reviewRepository.delete(review);
+        itemRatingService.removeReview(review);
+    }
+
+    /**
+     * 리뷰 이미지 직접 업로드 URL 발급
+     */
+    @Override
+    public List<FileUploadResponse> createUploads(Long id, FileUploadRequest request, Member member) {
+        log.info("[ReviewServiceImpl.createUploads] : 접근");
+        Review review = reviewRepository.findById(id).orElseThrow(() -> new BusinessException(Fail.NOT_FOUND_REVIEW));
+        ReviewValidator.compareEntityIdToMemberId(review, member);
+        return fileService.createUploads(review, request.getFiles());
+    }
+
+    /**
+     * 리뷰 이미지 직접 업로드 완료
+     */
+    @Override
+    @Transactional
+    public NcpFileResponse completeUploads(Long id, FileUploadCompleteRequest request, Member member) {
+        log.info("[ReviewServiceImpl.completeUploads] : 접근");
+        Review review = reviewRepository.findById(id).orElseThrow(() -> new BusinessException(Fail.NOT_FOUND_REVIEW));
+        ReviewValidator.compareEntityIdToMemberId(review, member);
+        return fileService.completeUploads(review, request.getKeyNames());
     }
 }
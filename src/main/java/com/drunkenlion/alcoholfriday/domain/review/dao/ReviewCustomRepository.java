@@ -2,9 +2,14 @@ package com.drunkenlion.alcoholfriday.domain.review.dao;
 
 import com.drunkenlion.alcoholfriday.domain.item.entity.Item;
 import com.drunkenlion.alcoholfriday.domain.review.entity.Review;
+import com.drunkenlion.alcoholfriday.global.common.util.Cursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface ReviewCustomRepository {
     Page<Review> findItemDetailReview(Item item, Pageable pageable);
+
+    List<Review> findItemDetailReviewByCursor(Item item, Cursor cursor, int limit);
 }
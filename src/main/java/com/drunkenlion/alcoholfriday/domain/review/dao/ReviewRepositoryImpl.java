@@ -4,6 +4,7 @@ import static com.drunkenlion.alcoholfriday.domain.review.entity.QReview.review;
 
 import com.drunkenlion.alcoholfriday.domain.item.entity.Item;
 import com.drunkenlion.alcoholfriday.domain.review.entity.Review;
+import com.drunkenlion.alcoholfriday.global.common.util.Cursor;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -35,4 +36,20 @@ public class ReviewRepositoryImpl implements ReviewCustomRepository {
 
         return PageableExecutionUtils.getPage(reviews, pageable, total::fetchOne);
     }
+
+    /**
+     * 상품 리뷰 커서 조회 - 최신순 (createdAt desc, id desc), 전체 개수는 조회하지 않는다.
+     */
+    @Override
+    public List<Review> findItemDetailReviewByCursor(Item item, Cursor cursor, int limit) {
+        return query.selectFrom(review)
+                .where(
+                        review.item.eq(item),
+                        review.deletedAt.isNull(),
+                        Cursor.createdAtBefore(cursor, review.createdAt, review.id)
+                )
+                .orderBy(review.createdAt.desc(), review.id.desc())
+                .limit(limit)
+                .fetch();
+    }
 }
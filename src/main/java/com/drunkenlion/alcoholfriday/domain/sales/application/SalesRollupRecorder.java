@@ -0,0 +1,168 @@
+package com.drunkenlion.alcoholfriday.domain.sales.application;
+
+import com.drunkenlion.alcoholfriday.domain.item.dao.ItemRepository;
+import com.drunkenlion.alcoholfriday.domain.item.entity.Item;
+import com.drunkenlion.alcoholfriday.domain.item.entity.ItemProduct;
+import com.drunkenlion.alcoholfriday.domain.order.dao.OrderDetailRepository;
+import com.drunkenlion.alcoholfriday.domain.order.dao.OrderRepository;
+import com.drunkenlion.alcoholfriday.domain.order.entity.Order;
+import com.drunkenlion.alcoholfriday.domain.order.entity.OrderDetail;
+import com.drunkenlion.alcoholfriday.domain.order.vo.OrderStatusEvent;
+import com.drunkenlion.alcoholfriday.domain.sales.dao.SalesDailyRollupRepository;
+import com.drunkenlion.alcoholfriday.domain.sales.entity.SalesDailyRollup;
+import com.drunkenlion.alcoholfriday.domain.sales.enumerated.SalesDimension;
+import com.drunkenlion.alcoholfriday.global.common.enumerated.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 상태 변경을 일별 매출 집계에 반영한다.
+ * - 매출로 보지 않는 상태에서 매출로 보는 상태로 바뀌면 더하고, 반대로 바뀌면 뺀다.
+ *   (결제 완료 -> 취소, 환불 완료는 빼고, 주문 접수 -> 취소는 반영하지 않는다.)
+ * - 이상 감지는 결제 전후 모두에서 들어올 수 있으므로 매출 여부를 바꾸지 않는다.
+ *   이상 감지에서 나갈 때는 이전 상태 대신 주문의 매출 집계 반영 여부(결제를 거쳤는지)를 기준으로 더하거나 뺀다.
+ * - 상태를 바꾼 트랜잭션이 커밋되기 전에 같은 트랜잭션에서 반영하므로, 상태와 집계가 어긋나지 않는다.
+ * - 주문의 매출 집계 반영 여부를 조건부 UPDATE 로 먼저 바꾸므로, 한 주문은 한 번만 더하고 더한 주문만 뺀다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SalesRollupRecorder {
+    private static final Set<OrderStatus> SALES_STATUSES = EnumSet.of(
+            OrderStatus.PAYMENT_COMPLETED,
+            OrderStatus.READY_FOR_SHIPMENT,
+            OrderStatus.SHIPPED,
+            OrderStatus.DELIVERED,
+            OrderStatus.REFUND_PROCESSING);
+    private static final long TOTAL_DIMENSION_ID = 0L;
+
+    private final OrderRepository orderRepository;
+    private final OrderDetailRepository orderDetailRepository;
+    private final ItemRepository itemRepository;
+    private final SalesDailyRollupRepository salesDailyRollupRepository;
+
+    public static boolean isSales(OrderStatus orderStatus) {
+        return orderStatus != null && SALES_STATUSES.contains(orderStatus);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onOrderStatusChanged(OrderStatusEvent event) {
+        if (event.getTo() == OrderStatus.ISSUE_DETECTED) {
+            return;
+        }
+
+        boolean sales = isSales(event.getTo());
+        if (event.getFrom() != OrderStatus.ISSUE_DETECTED && sales == isSales(event.getFrom())) {
+            return;
+        }
+        int sign = sales ? 1 : -1;
+
+        Order order = orderRepository.findById(event.getOrderId()).orElse(null);
+        if (order == null) {
+            return;
+        }
+
+        if (!orderRepository.updateSalesRecorded(order.getId(), sales)) {
+            return;
+        }
+
+        List<OrderDetail> orderDetails = orderDetailRepository.findByOrderAndDeletedAtIsNull(order);
+        if (orderDetails.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Item> items = itemRepository.findAllWithProductsByIdIn(
+                        orderDetails.stream().map(orderDetail -> orderDetail.getItem().getId()).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        salesDailyRollupRepository.addAll(toDeltas(order.getCreatedAt().toLocalDate(), orderDetails, items, sign));
+    }
+
+    private List<SalesDailyRollup> toDeltas(LocalDate salesDate, List<OrderDetail> orderDetails, Map<Long, Item> items, int sign) {
+        // 잠금 순서를 맞추기 위해 (집계 기준, 집계 대상) 순서로 모은다.
+        Map<SalesDimension, Map<Long, Delta>> deltas = new EnumMap<>(SalesDimension.class);
+        for (SalesDimension dimension : SalesDimension.values()) {
+            deltas.put(dimension, new TreeMap<>());
+        }
+
+        for (OrderDetail orderDetail : orderDetails) {
+            Item item = items.get(orderDetail.getItem().getId());
+            long quantity = orderDetail.getQuantity();
+            BigDecimal amount = orderDetail.getTotalPrice();
+
+            deltas.get(SalesDimension.TOTAL).computeIfAbsent(TOTAL_DIMENSION_ID, id -> new Delta()).add(quantity, amount);
+            deltas.get(SalesDimension.ITEM).computeIfAbsent(item.getId(), id -> new Delta()).add(quantity, amount);
+            if (item.getCategory() != null) {
+                deltas.get(SalesDimension.CATEGORY).computeIfAbsent(item.getCategory().getId(), id -> new Delta()).add(quantity, amount);
+            }
+            addMakerDeltas(deltas.get(SalesDimension.MAKER), item, quantity, amount);
+        }
+
+        List<SalesDailyRollup> rollups = new ArrayList<>();
+        deltas.forEach((dimension, byId) -> byId.forEach((dimensionId, delta) -> rollups.add(SalesDailyRollup.builder()
+                .dimension(dimension)
+                .salesDate(salesDate)
+                .dimensionId(dimensionId)
+                .orderCount((long) sign)
+                .quantity(delta.quantity * sign)
+                .amount(delta.amount.multiply(BigDecimal.valueOf(sign)))
+                .build())));
+        return rollups;
+    }
+
+    /**
+     * 제조사 매출은 상품 금액을 구성 제품 수량 비율로 나눈다. 나누고 남은 금액은 마지막 제품에 더한다.
+     */
+    private void addMakerDeltas(Map<Long, Delta> makerDeltas, Item item, long quantity, BigDecimal amount) {
+        List<ItemProduct> itemProducts = item.getItemProducts().stream()
+                .filter(itemProduct -> itemProduct.getProduct().getMaker() != null)
+                .toList();
+        if (itemProducts.isEmpty()) {
+            return;
+        }
+
+        long totalUnits = itemProducts.stream().mapToLong(SalesRollupRecorder::getUnits).sum();
+        BigDecimal remaining = amount;
+
+        for (int i = 0; i < itemProducts.size(); i++) {
+            ItemProduct itemProduct = itemProducts.get(i);
+            long units = getUnits(itemProduct);
+            BigDecimal share = i == itemProducts.size() - 1
+                    ? remaining
+                    : amount.multiply(BigDecimal.valueOf(units)).divide(BigDecimal.valueOf(totalUnits), 3, RoundingMode.DOWN);
+            remaining = remaining.subtract(share);
+
+            makerDeltas.computeIfAbsent(itemProduct.getProduct().getMaker().getId(), id -> new Delta())
+                    .add(units * quantity, share);
+        }
+    }
+
+    private static long getUnits(ItemProduct itemProduct) {
+        return itemProduct.getQuantity() == null ? 1L : itemProduct.getQuantity();
+    }
+
+    private static class Delta {
+        private long quantity;
+        private BigDecimal amount = BigDecimal.ZERO;
+
+        private void add(long quantity, BigDecimal amount) {
+            this.quantity += quantity;
+            this.amount = this.amount.add(amount);
+        }
+    }
+}
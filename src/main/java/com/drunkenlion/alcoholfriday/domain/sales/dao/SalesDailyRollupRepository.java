@@ -0,0 +1,13 @@
+package com.drunkenlion.alcoholfriday.domain.sales.dao;
+
+import com.drunkenlion.alcoholfriday.domain.sales.entity.SalesDailyRollup;
+import com.drunkenlion.alcoholfriday.domain.sales.enumerated.SalesDimension;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface SalesDailyRollupRepository extends JpaRepository<SalesDailyRollup, Long>, SalesDailyRollupRepositoryCustom {
+    List<SalesDailyRollup> findAllByDimensionAndSalesDateBetweenOrderBySalesDateAscDimensionIdAsc(
+            SalesDimension dimension, LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,13 @@
+package com.drunkenlion.alcoholfriday.domain.sales.dao;
+
+import com.drunkenlion.alcoholfriday.domain.sales.entity.SalesDailyRollup;
+
+import java.util.List;
+
+public interface SalesDailyRollupRepositoryCustom {
+    /**
+     * 집계 row 에 주문 수, 수량, 금액을 더한다. (없으면 만든다)
+     * 빼야 하는 경우 음수를 넘긴다.
+     */
+    void addAll(List<SalesDailyRollup> deltas);
+}
@@ -0,0 +1,40 @@
+package com.drunkenlion.alcoholfriday.domain.sales.dao;
+
+import com.drunkenlion.alcoholfriday.domain.sales.entity.SalesDailyRollup;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class SalesDailyRollupRepositoryImpl implements SalesDailyRollupRepositoryCustom {
+    private static final String UPSERT_ROLLUP =
+            "INSERT INTO sales_daily_rollup (dimension, sales_date, dimension_id, order_count, quantity, amount, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE order_count = order_count + VALUES(order_count), "
+                    + "quantity = quantity + VALUES(quantity), "
+                    + "amount = amount + VALUES(amount), "
+                    + "updated_at = VALUES(created_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addAll(List<SalesDailyRollup> deltas) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        // 같은 row 를 항상 같은 순서로 잠그도록 unique key 순서로 정렬되어 있어야 한다.
+        jdbcTemplate.batchUpdate(UPSERT_ROLLUP, deltas, deltas.size(),
+                (ps, delta) -> {
+                    ps.setString(1, delta.getDimension().name());
+                    ps.setDate(2, Date.valueOf(delta.getSalesDate()));
+                    ps.setLong(3, delta.getDimensionId());
+                    ps.setLong(4, delta.getOrderCount());
+                    ps.setLong(5, delta.getQuantity());
+                    ps.setBigDecimal(6, delta.getAmount());
+                    ps.setTimestamp(7, now);
+                });
+    }
+}
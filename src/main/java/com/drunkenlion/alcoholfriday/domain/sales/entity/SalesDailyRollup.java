@@ -0,0 +1,58 @@
+package com.drunkenlion.alcoholfriday.domain.sales.entity;
+
+import com.drunkenlion.alcoholfriday.domain.sales.enumerated.SalesDimension;
+import com.drunkenlion.alcoholfriday.global.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Comment;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 일별 매출 집계 (주문일 기준)
+ * - 결제 완료된 주문을 더하고, 결제 이후 취소/환불 완료된 주문을 뺀다.
+ * - (집계 기준, 주문일, 집계 대상) 마다 한 row 이므로 조회 기간과 대상 수만큼만 읽는다.
+ */
+@Entity
+@Getter
+@SuperBuilder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "sales_daily_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_sales_daily_rollup", columnNames = {"dimension", "sales_date", "dimension_id"}))
+public class SalesDailyRollup extends BaseEntity {
+    @Comment("집계 기준")
+    @Column(name = "dimension", columnDefinition = "VARCHAR(20)")
+    @Enumerated(EnumType.STRING)
+    private SalesDimension dimension;
+
+    @Comment("주문일")
+    @Column(name = "sales_date", columnDefinition = "DATE")
+    private LocalDate salesDate;
+
+    @Comment("집계 대상 고유 아이디 (상품, 카테고리, 제조사)")
+    @Column(name = "dimension_id", columnDefinition = "BIGINT")
+    private Long dimensionId;
+
+    @Comment("주문 수")
+    @Column(name = "order_count", columnDefinition = "BIGINT")
+    private Long orderCount;
+
+    @Comment("판매 수량 (상품 : 상품 수량, 제조사 : 제품 수량)")
+    @Column(name = "quantity", columnDefinition = "BIGINT")
+    private Long quantity;
+
+    @Comment("판매 금액")
+    @Column(name = "amount", columnDefinition = "DECIMAL(64, 3)")
+    private BigDecimal amount;
+}
@@ -0,0 +1,23 @@
+package com.drunkenlion.alcoholfriday.domain.sales.enumerated;
+
+/**
+ * 매출 집계 기준
+ */
+public enum SalesDimension {
+    /**
+     * 전체 - 집계 대상 아이디는 0
+     */
+    TOTAL,
+    /**
+     * 상품
+     */
+    ITEM,
+    /**
+     * 카테고리 소분류
+     */
+    CATEGORY,
+    /**
+     * 제조사
+     */
+    MAKER
+}
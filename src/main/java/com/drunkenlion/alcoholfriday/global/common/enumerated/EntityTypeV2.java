@@ -15,35 +15,59 @@ import org.hibernate.proxy.LazyInitializer;
 
 public enum EntityTypeV2 {
 
-    QUESTION("question", Question.builder().build()),
-    ANSWER("answer", Answer.builder().build()),
-    ITEM("item", Item.builder().build()),
-    PRODUCT("product", Product.builder().build()),
-    MEMBER("member", Member.builder().build()),
-    NOTICE("notice", Notice.builder().build()),
-    REVIEW("review", Review.builder().build())
+    QUESTION("question", Question.class),
+    ANSWER("answer", Answer.class),
+    ITEM("item", Item.class),
+    PRODUCT("product", Product.class),
+    MEMBER("member", Member.class),
+    NOTICE("notice", Notice.class),
+    REVIEW("review", Review.class)
     ;
 
+    // entity 클래스별로 처음 한 번만 찾고 기억한다. (찾지 못한 클래스는 기억하지 않는다.)
+    private static final ClassValue<EntityTypeV2> TYPES = new ClassValue<>() {
+        @Override
+        protected EntityTypeV2 computeValue(Class<?> classType) {
+            for (EntityTypeV2 entity : EntityTypeV2.values()) {
+                if (classType.isAssignableFrom(entity.entityClass)) {
+                    return entity;
+                }
+            }
+
+            throw new BusinessException(HttpResponse.Fail.NOT_FOUND);
+        }
+    };
+
     private final String entityType;
-    private final BaseEntity entityObj;
+    private final Class<? extends BaseEntity> entityClass;
 
-    EntityTypeV2(String entityType, BaseEntity entityObj) {
+    EntityTypeV2(String entityType, Class<? extends BaseEntity> entityClass) {
         this.entityType = entityType;
-        this.entityObj = entityObj;
+        this.entityClass = entityClass;
     }
 
-    public static String getEntityType(BaseEntity entityObj) {
-        Class<?> classType = getClassType(entityObj);
+    public String getEntityType() {
+        return entityType;
+    }
 
+    public static EntityTypeV2 of(BaseEntity entityObj) {
+        return TYPES.get(getClassType(entityObj));
+    }
+
+    public static EntityTypeV2 ofEntityType(String entityType) {
         for (EntityTypeV2 entity : EntityTypeV2.values()) {
-            if (classType.isInstance(entity.entityObj)) {
-                return entity.entityType;
+            if (entity.entityType.equals(entityType)) {
+                return entity;
             }
         }
 
         throw new BusinessException(HttpResponse.Fail.NOT_FOUND);
     }
 
+    public static String getEntityType(BaseEntity entityObj) {
+        return of(entityObj).entityType;
+    }
+
     private static Class<?> getClassType(BaseEntity entityObj) {
         if (entityObj instanceof HibernateProxy) {
             HibernateProxy hProxy = (HibernateProxy) entityObj;
@@ -1,5 +1,10 @@
 package com.drunkenlion.alcoholfriday.global.common.enumerated;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * 주문 상태
  */
@@ -39,5 +44,27 @@ public enum OrderStatus {
     /**
      * 문제 발생 - 주문 처리 중에 문제가 발생하여 추가 조치가 필요한 상태입니다.
      */
-    ISSUE_DETECTED
+    ISSUE_DETECTED;
+
+    private static final Map<OrderStatus, Set<OrderStatus>> NEXT_STATUSES = new EnumMap<>(OrderStatus.class);
+
+    static {
+        NEXT_STATUSES.put(ORDER_RECEIVED, EnumSet.of(PAYMENT_COMPLETED, CANCELLED, ISSUE_DETECTED));
+        NEXT_STATUSES.put(PAYMENT_COMPLETED, EnumSet.of(READY_FOR_SHIPMENT, CANCELLED, REFUND_PROCESSING, ISSUE_DETECTED));
+        NEXT_STATUSES.put(READY_FOR_SHIPMENT, EnumSet.of(SHIPPED, CANCELLED, REFUND_PROCESSING, ISSUE_DETECTED));
+        NEXT_STATUSES.put(SHIPPED, EnumSet.of(DELIVERED, REFUND_PROCESSING, ISSUE_DETECTED));
+        NEXT_STATUSES.put(DELIVERED, EnumSet.of(REFUND_PROCESSING, ISSUE_DETECTED));
+        NEXT_STATUSES.put(CANCELLED, EnumSet.noneOf(OrderStatus.class));
+        NEXT_STATUSES.put(REFUND_PROCESSING, EnumSet.of(REFUND_COMPLETED, ISSUE_DETECTED));
+        NEXT_STATUSES.put(REFUND_COMPLETED, EnumSet.noneOf(OrderStatus.class));
+        // 문제가 해결되면 처리 중이던 어느 상태로든 되돌릴 수 있다.
+        NEXT_STATUSES.put(ISSUE_DETECTED, EnumSet.complementOf(EnumSet.of(ORDER_RECEIVED, ISSUE_DETECTED)));
+    }
+
+    /**
+     * 이 상태에서 주어진 상태로 바꿀 수 있는지 여부 (취소, 환불 완료는 끝난 상태라 바꿀 수 없다.)
+     */
+    public boolean canChangeTo(OrderStatus next) {
+        return NEXT_STATUSES.get(this).contains(next);
+    }
 }
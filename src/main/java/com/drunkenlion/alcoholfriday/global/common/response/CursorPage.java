@@ -0,0 +1,44 @@
+package com.drunkenlion.alcoholfriday.global.common.response;
+
+import com.drunkenlion.alcoholfriday.global.common.util.Cursor;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이징 결과 - 전체 개수를 세지 않고 다음 페이지 커서만 전달한다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorPage<T> {
+    private final List<T> content;
+    private final int size;
+    private final String next;
+
+    /**
+     * rows 는 size + 1 건까지 조회한 결과이며, 초과한 1건으로 다음 페이지 존재 여부를 판단한다.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, Cursor> cursorMapper) {
+        if (size <= 0 || rows.size() <= size) {
+            return new CursorPage<>(rows, size, null);
+        }
+
+        List<T> content = rows.subList(0, size);
+        return new CursorPage<>(content, size, cursorMapper.apply(content.get(size - 1)).encode());
+    }
+
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> converter) {
+        List<R> converted = content.stream()
+                .<R>map(converter)
+                .toList();
+
+        return new CursorPage<>(converted, size, next);
+    }
+}
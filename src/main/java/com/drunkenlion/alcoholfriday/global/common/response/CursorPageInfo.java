@@ -0,0 +1,28 @@
+package com.drunkenlion.alcoholfriday.global.common.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+@Schema(description = "커서 페이징 객체")
+public class CursorPageInfo {
+    @Schema(description = "요청된 row size")
+    private int size;
+
+    @Schema(description = "다음 페이지 요청 시 전달할 커서 (마지막 페이지는 null)")
+    private String next;
+
+    @Schema(description = "다음 페이지 존재 여부")
+    private boolean hasNext;
+
+    public static CursorPageInfo of(CursorPage page) {
+        return CursorPageInfo.builder()
+                .size(page.getSize())
+                .next(page.getNext())
+                .hasNext(page.hasNext())
+                .build();
+    }
+}
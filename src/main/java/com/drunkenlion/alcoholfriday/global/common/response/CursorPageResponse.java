@@ -0,0 +1,24 @@
+package com.drunkenlion.alcoholfriday.global.common.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+@Schema(description = "커서 페이징이 적용된 응답")
+public class CursorPageResponse<T> {
+    private T data;
+    private CursorPageInfo pageInfo;
+
+    /**
+     * PageResponse 와 같이 여러 DTO를 data로 넣어주기 위해 원시타입으로 사용
+     */
+    public static <T> CursorPageResponse of(CursorPage<T> page) {
+        return CursorPageResponse.builder()
+                .data(page.getContent())
+                .pageInfo(CursorPageInfo.of(page))
+                .build();
+    }
+}
@@ -32,6 +32,9 @@ public class HttpResponse {
         INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "잘못된 입력값 입니다."),
         ADDRESS_LIMIT_OVER(HttpStatus.BAD_REQUEST, "주소는 3개까지 등록할 수 있습니다."),
         BAD_REQUEST_AMOUNT(HttpStatus.BAD_REQUEST, "잘못된 가격값 입니다."),
+        INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 커서 값 입니다."),
+        INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "잘못된 Idempotency-Key 입니다."),
+        FILE_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, "업로드할 수 있는 파일 크기를 초과했습니다."),
 
         // 401
         UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "인증되지 않은 접근입니다."),
@@ -97,15 +100,23 @@ public class HttpResponse {
         ORDER_ALREADY_PAID(HttpStatus.CONFLICT, "이미 결제 완료된 주문입니다."),
         ORDER_ALREADY_CANCEL(HttpStatus.CONFLICT, "이미 취소된 주문입니다."),
         ORDER_ISSUE(HttpStatus.CONFLICT, "주문 처리 중에 문제가 발생 했습니다."),
+        INVALID_ORDER_STATUS_CHANGE(HttpStatus.CONFLICT, "현재 주문 상태에서 변경할 수 없는 상태입니다."),
         DELETED_QUESTION(HttpStatus.CONFLICT, "삭제된 문의사항 입니다."),
         DELETED_ANSWER(HttpStatus.CONFLICT, "삭제 처리가 된 답변 입니다."),
         EXIST_REVIEW(HttpStatus.CONFLICT, "작성된 리뷰가 존재합니다."),
         OUT_OF_ITEM_STOCK(HttpStatus.CONFLICT, "현재 상품에 재고가 없습니다."),
         RESTAURANT_REFUND_FAIL(HttpStatus.CONFLICT, "매장 환불 조건에 부합하지 않습니다."),
         RESTAURANT_REFUND_CANCEL_FAIL(HttpStatus.CONFLICT, "매장 환불 취소 조건에 부합하지 않습니다."),
+        IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 Idempotency-Key 요청을 처리 중입니다."),
+
+        // 422
+        IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "다른 요청에 사용한 Idempotency-Key 입니다."),
 
         // 500 서버 에러
-        INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 에러 입니다.");
+        INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 에러 입니다."),
+
+        // 503
+        HOT_STOCK_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "지금은 주문할 수 없는 제품입니다. 잠시 후 다시 시도해 주세요.");
 
         private final HttpStatus status;
         private final String message;
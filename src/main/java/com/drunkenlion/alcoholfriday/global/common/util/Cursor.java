@@ -0,0 +1,128 @@
+package com.drunkenlion.alcoholfriday.global.common.util;
+
+import com.drunkenlion.alcoholfriday.global.common.response.HttpResponse.Fail;
+import com.drunkenlion.alcoholfriday.global.exception.BusinessException;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.NumberPath;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이징에서 마지막으로 응답한 row 의 위치 (정렬 기준 값, 식별자)
+ * - 클라이언트에는 Base64 로 인코딩한 문자열로만 전달하고, 내부 형식은 노출하지 않는다.
+ * - 정렬 기준(Type)을 함께 담아, 다른 정렬로 발급된 커서는 정렬 기준 값을 꺼낼 때 잘못된 커서로 본다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class Cursor {
+    private static final String DELIMITER = "_";
+
+    private final Type type;
+    private final String key;
+    private final Long id;
+
+    /**
+     * 커서의 정렬 기준
+     */
+    public enum Type {
+        /**
+         * (createdAt desc, id desc)
+         */
+        CREATED_AT,
+        /**
+         * 검색 색인 순위 (score desc, id asc)
+         */
+        SCORE,
+        /**
+         * 식별자 순 (id asc)
+         */
+        ID
+    }
+
+    public static Cursor of(LocalDateTime createdAt, Long id) {
+        return new Cursor(Type.CREATED_AT, createdAt.toString(), id);
+    }
+
+    public static Cursor of(long score, Long id) {
+        return new Cursor(Type.SCORE, String.valueOf(score), id);
+    }
+
+    public static Cursor of(Long id) {
+        return new Cursor(Type.ID, "", id);
+    }
+
+    /**
+     * 빈 문자열은 첫 페이지 요청으로 보고 null 을 반환한다.
+     */
+    public static Cursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int typeIndex = decoded.indexOf(DELIMITER);
+            int idIndex = decoded.lastIndexOf(DELIMITER);
+
+            return new Cursor(Type.valueOf(decoded.substring(0, typeIndex)),
+                    decoded.substring(typeIndex + 1, idIndex),
+                    Long.parseLong(decoded.substring(idIndex + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BusinessException(Fail.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * (createdAt desc, id desc) 정렬에서 커서 다음 row 조건 (첫 페이지는 조건 없음)
+     */
+    public static BooleanExpression createdAtBefore(Cursor cursor, DateTimePath<LocalDateTime> createdAt, NumberPath<Long> id) {
+        if (cursor == null) {
+            return null;
+        }
+
+        LocalDateTime cursorCreatedAt = cursor.getCreatedAt();
+        return createdAt.lt(cursorCreatedAt)
+                .or(createdAt.eq(cursorCreatedAt).and(id.lt(cursor.getId())));
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((type.name() + DELIMITER + key + DELIMITER + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getCreatedAt() {
+        requireType(Type.CREATED_AT);
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException(Fail.INVALID_CURSOR);
+        }
+    }
+
+    public long getScore() {
+        requireType(Type.SCORE);
+        try {
+            return Long.parseLong(key);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(Fail.INVALID_CURSOR);
+        }
+    }
+
+    public boolean is(Type type) {
+        return this.type == type;
+    }
+
+    private void requireType(Type expected) {
+        if (type != expected) {
+            throw new BusinessException(Fail.INVALID_CURSOR);
+        }
+    }
+}
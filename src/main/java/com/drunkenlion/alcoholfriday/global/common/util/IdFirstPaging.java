@@ -0,0 +1,62 @@
+package com.drunkenlion.alcoholfriday.global.common.util;
+
+import com.querydsl.jpa.impl.JPAQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 컬렉션 fetch join 쿼리 페이징
+ * - 컬렉션을 fetch join 한 쿼리에 offset/limit 을 걸면 Hibernate 가 전체 row 를 읽고 메모리에서 페이징한다. (HHH90003004)
+ * - 조건/정렬만 적용한 root 식별자 쿼리에서 offset/limit 으로 식별자를 찾고, 해당 식별자만 fetch join 으로 조회한다.
+ * - 전체 개수는 컬렉션 join 없이 root 만으로 센다.
+ */
+public final class IdFirstPaging {
+    private IdFirstPaging() {
+    }
+
+    /**
+     * @param idQuery    root 식별자 조회 쿼리 (where, orderBy 까지 적용, offset/limit 은 여기서 적용)
+     * @param countQuery root 개수 조회 쿼리 (필요할 때만 실행)
+     * @param fetcher    식별자 목록으로 fetch join 조회
+     * @param idMapper   조회 결과의 식별자
+     */
+    public static <T> Page<T> fetchPage(Pageable pageable,
+                                        JPAQuery<Long> idQuery,
+                                        JPAQuery<Long> countQuery,
+                                        Function<List<Long>, List<T>> fetcher,
+                                        Function<T, Long> idMapper) {
+        List<Long> ids = idQuery
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return PageableExecutionUtils.getPage(fetchByIds(ids, fetcher, idMapper), pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * 식별자 목록으로 조회한 결과를 식별자 목록의 순서대로 정렬한다.
+     */
+    public static <T> List<T> fetchByIds(List<Long> ids,
+                                         Function<List<Long>, List<T>> fetcher,
+                                         Function<T, Long> idMapper) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, T> rows = fetcher.apply(ids).stream()
+                .collect(Collectors.toMap(idMapper, Function.identity(), (first, second) -> first));
+
+        return ids.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -0,0 +1,67 @@
+package com.drunkenlion.alcoholfriday.global.common.util;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간 순서로 정렬되는 64비트 식별자 생성기 (Snowflake)
+ * - [부호 1][기준 시각 이후 밀리초 41][노드 10][순번 12]
+ * - 마지막으로 발급한 (밀리초, 순번) 을 하나의 AtomicLong 으로 두고 CAS 로만 갱신한다.
+ * - 시계가 뒤로 가거나 같은 밀리초에 순번이 넘치면 마지막 발급 시각을 이어서 사용하므로 식별자는 항상 증가한다.
+ * - 마지막 발급 시각은 메모리에만 있으므로, 시계가 뒤로 간 채로 재시작하면 중복될 수 있다.
+ */
+public class SnowflakeIdGenerator {
+    // 2024-01-01T00:00:00Z
+    public static final long EPOCH_MILLI = 1_704_067_200_000L;
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+
+    private final long nodeId;
+    private final Clock clock;
+
+    // (기준 시각 이후 밀리초 << SEQUENCE_BITS) | 순번
+    private final AtomicLong last = new AtomicLong();
+
+    public SnowflakeIdGenerator(long nodeId, Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId 는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다. : " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    public long nextId() {
+        while (true) {
+            long previous = last.get();
+            long now = (clock.millis() - EPOCH_MILLI) << SEQUENCE_BITS;
+            // 같은 밀리초면 순번 + 1, 순번이 넘치면 다음 밀리초, 시계가 뒤로 가면 마지막 발급 시각 이후로 발급
+            long next = Math.max(now, previous + 1);
+
+            if (last.compareAndSet(previous, next)) {
+                return ((next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS))
+                        | (nodeId << SEQUENCE_BITS)
+                        | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    public static long getEpochMilli(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLI;
+    }
+
+    public static Instant getInstant(long id) {
+        return Instant.ofEpochMilli(getEpochMilli(id));
+    }
+
+    public static long getNodeId(long id) {
+        return (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+
+    public static long getSequence(long id) {
+        return id & SEQUENCE_MASK;
+    }
+}
@@ -0,0 +1,138 @@
+package com.drunkenlion.alcoholfriday.global.common.vo;
+
+import com.drunkenlion.alcoholfriday.global.common.response.HttpResponse;
+import com.drunkenlion.alcoholfriday.global.exception.BusinessException;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * 금액 (원 단위 정수)
+ * - 원화는 원 아래 단위가 없으므로 long 으로 계산하고, BigDecimal 은 DB 컬럼(DECIMAL(64, 3))과 응답에서만 사용한다.
+ * - 덧셈, 곱셈은 넘치면 BAD_REQUEST_AMOUNT 를 던진다.
+ * - 원 아래 금액이 있는 BigDecimal 은 반올림하지 않고 BAD_REQUEST_AMOUNT 를 던진다. (가격을 저장할 때 requireWon 으로 막는다.)
+ */
+public final class Money implements Comparable<Money> {
+    public static final Money ZERO = new Money(0L);
+
+    // DECIMAL(64, 3) 컬럼 값의 소수 자리 수
+    private static final int COLUMN_SCALE = 3;
+    // 이보다 작은 금액은 double 오차(2^-10 이하)가 0.001 보다 작다.
+    private static final double EXACT_DOUBLE_LIMIT = 0x1p43;
+
+    private final long amount;
+
+    private Money(long amount) {
+        this.amount = amount;
+    }
+
+    public static Money of(long amount) {
+        return amount == 0L ? ZERO : new Money(amount);
+    }
+
+    public static Money of(BigDecimal amount) {
+        return of(toLong(amount));
+    }
+
+    /**
+     * 저장할 가격에 원 아래 금액이 없는지 확인한다. (null 은 그대로 돌려준다.)
+     */
+    public static BigDecimal requireWon(BigDecimal amount) {
+        if (amount != null) {
+            toLong(amount);
+        }
+        return amount;
+    }
+
+    /**
+     * 목록의 금액을 합한다. 중간 합계를 객체로 만들지 않는다.
+     */
+    public static <T> Money sum(Collection<T> values, Function<? super T, BigDecimal> mapper) {
+        long total = 0L;
+        for (T value : values) {
+            total = addExact(total, toLong(mapper.apply(value)));
+        }
+        return of(total);
+    }
+
+    private static long toLong(BigDecimal amount) {
+        int scale = amount.scale();
+        // DB 에서 읽은 값(10000.000)은 longValueExact 가 setScale 로 새 객체를 만들므로,
+        // 원 아래 자리가 0.001 단위이고 금액이 작으면 double 로 정수인지 확인해 바로 변환한다.
+        if (scale > 0 && scale <= COLUMN_SCALE) {
+            double value = amount.doubleValue();
+            if (Math.abs(value) < EXACT_DOUBLE_LIMIT && value == Math.rint(value)) {
+                return (long) value;
+            }
+        }
+        // 소수 자리가 0 이 아니거나 long 범위를 넘으면 BAD_REQUEST_AMOUNT
+        try {
+            return amount.longValueExact();
+        } catch (ArithmeticException e) {
+            throw invalidAmount();
+        }
+    }
+
+    public Money plus(Money other) {
+        return of(addExact(amount, other.amount));
+    }
+
+    public Money minus(Money other) {
+        try {
+            return of(Math.subtractExact(amount, other.amount));
+        } catch (ArithmeticException e) {
+            throw invalidAmount();
+        }
+    }
+
+    public Money times(long quantity) {
+        try {
+            return of(Math.multiplyExact(amount, quantity));
+        } catch (ArithmeticException e) {
+            throw invalidAmount();
+        }
+    }
+
+    public long getAmount() {
+        return amount;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(amount);
+    }
+
+    private static long addExact(long x, long y) {
+        try {
+            return Math.addExact(x, y);
+        } catch (ArithmeticException e) {
+            throw invalidAmount();
+        }
+    }
+
+    private static BusinessException invalidAmount() {
+        return BusinessException.builder()
+                .response(HttpResponse.Fail.BAD_REQUEST_AMOUNT)
+                .build();
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(amount, other.amount);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Money money && amount == money.amount);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(amount);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(amount);
+    }
+}
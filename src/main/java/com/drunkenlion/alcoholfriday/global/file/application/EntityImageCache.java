@@ -0,0 +1,152 @@
+package com.drunkenlion.alcoholfriday.global.file.application;
+
+import com.drunkenlion.alcoholfriday.global.common.enumerated.EntityTypeV2;
+import com.drunkenlion.alcoholfriday.global.file.config.FileCacheProperties;
+import com.drunkenlion.alcoholfriday.global.file.vo.FileCacheEvictEvent;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.NcpFileResponse;
+import com.drunkenlion.alcoholfriday.global.ncp.util.vo.FileInfo;
+import com.drunkenlion.alcoholfriday.global.ncp.util.vo.FileVariant;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * entity 이미지 캐시 (entity 타입, entity 식별자 : 전체 이미지)
+ * - 상품/제품 이미지는 거의 모든 요청에서 읽지만 관리자가 수정할 때만 바뀌므로, 처음 읽은 결과를 기억한다.
+ * - 이미지가 없는 entity 도 빈 응답으로 기억해 다시 조회하지 않는다.
+ * - 추정 크기 합계로 제한하며, 넘치면 W-TinyLFU(Caffeine)로 덜 쓰이는 항목부터 내보낸다.
+ * - 파일을 바꾼 트랜잭션이 끝난 후 비우고, 다른 서버에 알릴 수 있도록 FileCacheEvictEvent 를 발행한다.
+ */
+@Slf4j
+@Component
+public class EntityImageCache {
+    private final Cache<Key, NcpFileResponse> cache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public EntityImageCache(FileCacheProperties fileCacheProperties, ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(fileCacheProperties.getMaximumSize().toBytes())
+                .weigher((Key key, NcpFileResponse files) -> weigh(files))
+                .expireAfterWrite(fileCacheProperties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+    }
+
+    public NcpFileResponse get(EntityTypeV2 entityType, Long entityId,
+                               Function<Long, NcpFileResponse> loader) {
+        return cache.get(Key.of(entityType, entityId), key -> loader.apply(key.getEntityId()));
+    }
+
+    /**
+     * 여러 entity 의 이미지 - 캐시에 없는 entity 만 한 번에 읽는다.
+     *
+     * @param loader 캐시에 없는 entity 식별자 : 전체 이미지 (모든 식별자를 채워야 한다.)
+     */
+    public Map<Long, NcpFileResponse> getAll(EntityTypeV2 entityType, Collection<Long> entityIds,
+                                             Function<List<Long>, Map<Long, NcpFileResponse>> loader) {
+        List<Key> keys = entityIds.stream()
+                .map(entityId -> Key.of(entityType, entityId))
+                .toList();
+
+        Map<Key, NcpFileResponse> cached = cache.getAll(keys, missingKeys -> {
+            List<Long> missingIds = missingKeys.stream()
+                    .map(Key::getEntityId)
+                    .toList();
+
+            Map<Key, NcpFileResponse> loaded = new HashMap<>();
+            loader.apply(missingIds).forEach((entityId, files) -> loaded.put(Key.of(entityType, entityId), files));
+            return loaded;
+        });
+
+        Map<Long, NcpFileResponse> result = new HashMap<>();
+        cached.forEach((key, files) -> result.put(key.getEntityId(), files));
+        return result;
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 끝난 후 비운다. (트랜잭션 중에 다시 읽어 기억한 값도 함께 비운다.)
+     * 트랜잭션 밖이면 바로 비운다.
+     */
+    public void evictAfterCompletion(EntityTypeV2 entityType, Long entityId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(entityType, entityId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evict(entityType, entityId);
+            }
+        });
+    }
+
+    public void evict(EntityTypeV2 entityType, Long entityId) {
+        evictLocal(entityType, entityId);
+        eventPublisher.publishEvent(FileCacheEvictEvent.of(entityType, entityId));
+    }
+
+    /**
+     * 이 서버의 캐시만 비운다. 다른 서버에서 전달받은 삭제를 반영할 때 사용한다.
+     */
+    public void evictLocal(EntityTypeV2 entityType, Long entityId) {
+        cache.invalidate(Key.of(entityType, entityId));
+    }
+
+    public void evictAllLocal() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    @Scheduled(cron = "0 0/10 * * * ?")
+    public void logStats() {
+        CacheStats stats = cache.stats();
+        log.info("[entity 이미지 캐시] 항목 수 : {}, 적중 : {}, 실패 : {}, 적중률 : {}, 내보냄 : {}",
+                cache.estimatedSize(), stats.hitCount(), stats.missCount(),
+                "%.3f".formatted(stats.hitRate()), stats.evictionCount());
+    }
+
+    // 문자열이 대부분을 차지하므로 문자열 길이에 객체 머리 크기를 더해 어림한다.
+    private static int weigh(NcpFileResponse files) {
+        int weight = 64;
+        for (FileInfo file : files.getFile()) {
+            weight += 96 + length(file.getKeyName()) + length(file.getPath());
+            for (FileVariant variant : file.getVariants()) {
+                weight += 48 + length(variant.getPath());
+            }
+        }
+        return weight;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : 48 + value.length();
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor(staticName = "of", access = AccessLevel.PRIVATE)
+    private static class Key {
+        private final EntityTypeV2 entityType;
+        private final Long entityId;
+    }
+}
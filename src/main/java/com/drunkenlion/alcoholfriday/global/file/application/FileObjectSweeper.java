@@ -0,0 +1,196 @@
+package com.drunkenlion.alcoholfriday.global.file.application;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.drunkenlion.alcoholfriday.global.common.enumerated.EntityTypeV2;
+import com.drunkenlion.alcoholfriday.global.file.config.FileSweepProperties;
+import com.drunkenlion.alcoholfriday.global.file.dao.FileObjectRepository;
+import com.drunkenlion.alcoholfriday.global.file.dao.FileRepository;
+import com.drunkenlion.alcoholfriday.global.file.entity.FileObject;
+import com.drunkenlion.alcoholfriday.global.ncp.application.NcpObjectDeleter;
+import com.drunkenlion.alcoholfriday.global.ncp.config.NcpS3Properties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * file_object 가 참조하지 않는 bucket 파일 정리
+ * - 매일 새벽 entity 타입별 폴더(prefix)를 1000개씩 나눠 읽고, key 의 entity 식별자로 file_object 를 한 번에 조회해 없는 파일을 지운다.
+ * - 페이지마다 쉬고 한 번에 지울 수 있는 수를 제한하며, 전용 스레드에서 돌아 다른 스케줄 작업을 붙잡지 않는다.
+ * - 최근에 올라온 파일, 규칙에 맞지 않는 key 는 건드리지 않는다.
+ * - ncp_file 이관이 끝나지 않았으면 참조를 모두 알 수 없으므로 실행하지 않는다.
+ */
+@Slf4j
+@Component
+public class FileObjectSweeper {
+    // 공지사항 이미지는 본문에서 경로로 참조하므로 file_object 로 사용 여부를 알 수 없다.
+    private static final Set<EntityTypeV2> EXCLUDED_TYPES = EnumSet.of(EntityTypeV2.NOTICE);
+    private static final int PAGE_SIZE = 1000;
+    // entityType/yyyy/MM/entityType+entityId_uuid_originalFileName (사본은 뒤에 _w너비.jpg)
+    private static final Map<EntityTypeV2, Pattern> KEY_NAME_PATTERNS = new EnumMap<>(EntityTypeV2.class);
+
+    static {
+        for (EntityTypeV2 entityType : EntityTypeV2.values()) {
+            String type = Pattern.quote(entityType.getEntityType());
+            KEY_NAME_PATTERNS.put(entityType,
+                    Pattern.compile("^" + type + "/\\d{4}/\\d{2}/" + type + "\\+(\\d{1,18})_"));
+        }
+    }
+
+    private final AmazonS3Client amazonS3Client;
+    private final NcpS3Properties ncpS3Properties;
+    private final FileObjectRepository fileObjectRepository;
+    private final FileRepository fileRepository;
+    private final NcpObjectDeleter ncpObjectDeleter;
+    private final FileSweepProperties fileSweepProperties;
+    private final ExecutorService executor;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public FileObjectSweeper(AmazonS3Client amazonS3Client,
+                             NcpS3Properties ncpS3Properties,
+                             FileObjectRepository fileObjectRepository,
+                             FileRepository fileRepository,
+                             NcpObjectDeleter ncpObjectDeleter,
+                             FileSweepProperties fileSweepProperties) {
+        this.amazonS3Client = amazonS3Client;
+        this.ncpS3Properties = ncpS3Properties;
+        this.fileObjectRepository = fileObjectRepository;
+        this.fileRepository = fileRepository;
+        this.ncpObjectDeleter = ncpObjectDeleter;
+        this.fileSweepProperties = fileSweepProperties;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "file-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Scheduled(cron = "0 30 4 * * ?")
+    public void schedule() {
+        if (!fileSweepProperties.isEnabled() || !running.compareAndSet(false, true)) {
+            return;
+        }
+
+        executor.execute(() -> {
+            try {
+                sweep();
+            } catch (SdkClientException e) {
+                log.warn("[FileObjectSweeper.sweep] 정리 중단", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    /**
+     * @return 지운 파일 수
+     */
+    int sweep() throws InterruptedException {
+        if (fileRepository.countByMigratedAtIsNull() > 0) {
+            log.info("[FileObjectSweeper.sweep] ncp_file 이관 전이므로 정리 생략");
+            return 0;
+        }
+
+        long startTime = System.nanoTime();
+        Instant threshold = Instant.now().minus(fileSweepProperties.getMinAge());
+
+        int deleted = 0;
+        for (EntityTypeV2 entityType : EntityTypeV2.values()) {
+            if (EXCLUDED_TYPES.contains(entityType)) {
+                continue;
+            }
+
+            deleted += sweep(entityType, threshold, fileSweepProperties.getMaxDeletes() - deleted);
+            if (deleted >= fileSweepProperties.getMaxDeletes()) {
+                break;
+            }
+        }
+
+        long endTime = System.nanoTime();
+        log.info("[bucket 파일 정리] 삭제 수 : {}, 소요 시간 : {}ms", deleted, (endTime - startTime) / 1_000_000);
+        return deleted;
+    }
+
+    private int sweep(EntityTypeV2 entityType, Instant threshold, int limit) throws InterruptedException {
+        ListObjectsV2Request request = new ListObjectsV2Request()
+                .withBucketName(ncpS3Properties.getS3().getBucketName())
+                .withPrefix(entityType.getEntityType() + "/")
+                .withMaxKeys(PAGE_SIZE);
+
+        int deleted = 0;
+        ListObjectsV2Result result;
+        do {
+            result = amazonS3Client.listObjectsV2(request);
+            List<String> orphanKeyNames = findOrphans(entityType, result.getObjectSummaries(), threshold);
+            if (orphanKeyNames.size() > limit - deleted) {
+                orphanKeyNames = orphanKeyNames.subList(0, limit - deleted);
+            }
+            deleted += ncpObjectDeleter.delete(orphanKeyNames);
+
+            request.setContinuationToken(result.getNextContinuationToken());
+            Thread.sleep(fileSweepProperties.getPageDelay().toMillis());
+        } while (result.isTruncated() && deleted < limit);
+
+        return deleted;
+    }
+
+    // 한 페이지의 파일 중 file_object 에 없는 파일 - (entity_type, entity_id) 인덱스로 한 번에 조회한다.
+    private List<String> findOrphans(EntityTypeV2 entityType, List<S3ObjectSummary> summaries, Instant threshold) {
+        Map<String, Long> entityIdsByKeyName = new LinkedHashMap<>();
+        for (S3ObjectSummary summary : summaries) {
+            if (summary.getLastModified() == null || summary.getLastModified().toInstant().isAfter(threshold)) {
+                continue;
+            }
+
+            Long entityId = parseEntityId(entityType, summary.getKey());
+            if (entityId != null) {
+                entityIdsByKeyName.put(summary.getKey(), entityId);
+            }
+        }
+
+        if (entityIdsByKeyName.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> referencedKeyNames = fileObjectRepository.findAllByEntityTypeAndEntityIdIn(
+                        entityType.getEntityType(), new HashSet<>(entityIdsByKeyName.values())).stream()
+                .map(FileObject::getKeyName)
+                .collect(Collectors.toSet());
+
+        return entityIdsByKeyName.keySet().stream()
+                .filter(keyName -> !referencedKeyNames.contains(keyName))
+                .toList();
+    }
+
+    // key 규칙에 맞지 않으면 null
+    static Long parseEntityId(EntityTypeV2 entityType, String keyName) {
+        Matcher matcher = KEY_NAME_PATTERNS.get(entityType).matcher(keyName);
+        return matcher.find() ? Long.valueOf(matcher.group(1)) : null;
+    }
+}
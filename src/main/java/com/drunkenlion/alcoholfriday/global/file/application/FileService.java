@@ -2,8 +2,12 @@ package com.drunkenlion.alcoholfriday.global.file.application;
 
 import com.drunkenlion.alcoholfriday.global.common.entity.BaseEntity;
 import com.drunkenlion.alcoholfriday.global.common.enumerated.EntityType;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadInfo;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadResponse;
 import com.drunkenlion.alcoholfriday.global.ncp.dto.NcpFileResponse;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface FileService {
@@ -13,9 +17,18 @@ public interface FileService {
 
     NcpFileResponse findOne(BaseEntity entity);
 
+    Map<Long, NcpFileResponse> findAllImages(Collection<? extends BaseEntity> entities);
+
+    Map<Long, NcpFileResponse> findFirstImages(Collection<? extends BaseEntity> entities);
+
     NcpFileResponse updateFiles(BaseEntity entity, List<Integer> removeSeq, List<MultipartFile> multipartFiles);
 
     void deleteFiles(BaseEntity entity);
+
+    List<FileUploadResponse> createUploads(BaseEntity entity, List<FileUploadInfo> files);
+
+    NcpFileResponse completeUploads(BaseEntity entity, List<String> keyNames);
+
     List<NcpFileResponse> findAllByEntityIds(List<Long> entityIds, String entityType);
 
     NcpFileResponse findByEntityId(Long entityId, String entityType);
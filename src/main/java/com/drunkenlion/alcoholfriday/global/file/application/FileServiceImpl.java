@@ -4,18 +4,30 @@ import com.drunkenlion.alcoholfriday.global.common.entity.BaseEntity;
 import com.drunkenlion.alcoholfriday.global.common.enumerated.EntityType;
 import com.drunkenlion.alcoholfriday.global.common.enumerated.EntityTypeV2;
 import com.drunkenlion.alcoholfriday.global.common.response.HttpResponse;
-import com.drunkenlion.alcoholfriday.global.common.response.HttpResponse.Fail;
 import com.drunkenlion.alcoholfriday.global.exception.BusinessException;
-import com.drunkenlion.alcoholfriday.global.file.dao.FileRepository;
+import com.drunkenlion.alcoholfriday.global.file.dao.FileObjectRepository;
+import com.drunkenlion.alcoholfriday.global.file.entity.FileObject;
+import com.drunkenlion.alcoholfriday.global.ncp.application.NcpObjectDeleter;
 import com.drunkenlion.alcoholfriday.global.ncp.application.NcpS3Service;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadInfo;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadResponse;
 import com.drunkenlion.alcoholfriday.global.ncp.dto.NcpFileResponse;
-import com.drunkenlion.alcoholfriday.global.ncp.entity.NcpFile;
+import com.drunkenlion.alcoholfriday.global.ncp.util.vo.NcpFileUploadEvent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -26,7 +38,10 @@ import org.springframework.web.multipart.MultipartFile;
 @Transactional(readOnly = true)
 public class FileServiceImpl implements FileService {
     private final NcpS3Service ncpS3Service;
-    private final FileRepository fileRepository;
+    private final FileObjectRepository fileObjectRepository;
+    private final NcpObjectDeleter ncpObjectDeleter;
+    private final EntityImageCache entityImageCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 파일 저장 (Ncp & DB)
@@ -38,12 +53,20 @@ public class FileServiceImpl implements FileService {
             throw new BusinessException(HttpResponse.Fail.NOT_FOUND);
         }
 
+        // 직접 업로드(completeUploads)로 파일을 저장하면 파일 없이 요청한다.
+        if (multipartFiles == null || multipartFiles.isEmpty()) {
+            return null;
+        }
+
         if (multipartFiles.get(0).isEmpty()) { // MultipartFile 빈 값일 경우 배열의 0번째 값이 empty이다.
             return null;
         }
 
-        NcpFile ncpFile = ncpS3Service.saveFiles(entity, multipartFiles);
-        return NcpFileResponse.of(fileRepository.save(ncpFile));
+        List<FileObject> fileObjects = ncpS3Service.saveFiles(entity, multipartFiles);
+        fileObjectRepository.saveAllInBatch(fileObjects);
+        entityImageCache.evictAfterCompletion(EntityTypeV2.of(entity), entity.getId());
+        publishUploadEvent(entity, fileObjects);
+        return NcpFileResponse.of(EntityTypeV2.getEntityType(entity), entity.getId(), fileObjects);
     }
 
     /**
@@ -51,10 +74,7 @@ public class FileServiceImpl implements FileService {
      */
     @Override
     public NcpFileResponse findAll(BaseEntity entity) {
-        Optional<NcpFile> opFile =
-                fileRepository.findByEntityIdAndEntityType(entity.getId(), EntityTypeV2.getEntityType(entity));
-
-        return opFile.map(NcpFileResponse::of).orElse(null);
+        return nonEmpty(findCached(entity));
     }
 
     /**
@@ -62,67 +82,201 @@ public class FileServiceImpl implements FileService {
      */
     @Override
     public NcpFileResponse findOne(BaseEntity entity) {
-        NcpFile ncpFile1 =
-                fileRepository.findByEntityIdAndEntityType(entity.getId(), EntityTypeV2.getEntityType(entity))
-                        .orElse(null);
+        return NcpFileResponse.ofFirst(findCached(entity));
+    }
 
-        if (ncpFile1 == null || ncpFile1.getS3Files().isEmpty()) {
-            return null;
-        }
+    /**
+     * 여러 entity 이미지 전체 조회 (entity 식별자 : 이미지)
+     */
+    @Override
+    public Map<Long, NcpFileResponse> findAllImages(Collection<? extends BaseEntity> entities) {
+        return findImages(entities, this::nonEmpty);
+    }
 
-        ncpFile1.updateFiles(List.of(ncpFile1.getS3Files().get(0)));
-        return NcpFileResponse.of(ncpFile1);
+    /**
+     * 여러 entity 이미지의 'seq : 1' 조회 (entity 식별자 : 이미지)
+     */
+    @Override
+    public Map<Long, NcpFileResponse> findFirstImages(Collection<? extends BaseEntity> entities) {
+        return findImages(entities, NcpFileResponse::ofFirst);
+    }
+
+    // entity 의 전체 이미지 (캐시) - 이미지가 없으면 빈 응답
+    private NcpFileResponse findCached(BaseEntity entity) {
+        EntityTypeV2 entityType = EntityTypeV2.of(entity);
+        return entityImageCache.get(entityType, entity.getId(), entityId -> NcpFileResponse.of(
+                entityType.getEntityType(), entityId,
+                fileObjectRepository.findAllByEntityTypeAndEntityId(entityType.getEntityType(), entityId)));
+    }
+
+    // entity 타입별로 캐시에 없는 entity 만 한 번씩 IN 조회 - 결과는 식별자로 묶으므로 같은 타입의 entity 목록을 전달한다.
+    private Map<Long, NcpFileResponse> findImages(Collection<? extends BaseEntity> entities,
+                                                  Function<NcpFileResponse, NcpFileResponse> mapper) {
+        Map<EntityTypeV2, Set<Long>> entityIdsByType = new EnumMap<>(EntityTypeV2.class);
+        entities.stream()
+                .filter(entity -> entity != null && entity.getId() != null)
+                .forEach(entity -> entityIdsByType
+                        .computeIfAbsent(EntityTypeV2.of(entity), key -> new LinkedHashSet<>())
+                        .add(entity.getId()));
+
+        Map<Long, NcpFileResponse> images = new HashMap<>();
+        entityIdsByType.forEach((entityType, entityIds) ->
+                entityImageCache.getAll(entityType, entityIds, missingIds -> loadAll(entityType, missingIds))
+                        .forEach((entityId, files) -> {
+                            NcpFileResponse image = mapper.apply(files);
+                            if (image != null) {
+                                images.put(entityId, image);
+                            }
+                        }));
+
+        return images;
+    }
+
+    private Map<Long, NcpFileResponse> loadAll(EntityTypeV2 entityType, List<Long> entityIds) {
+        Map<Long, List<FileObject>> fileObjectsByEntityId = groupByEntityId(
+                fileObjectRepository.findAllByEntityTypeAndEntityIdIn(entityType.getEntityType(), entityIds));
+
+        Map<Long, NcpFileResponse> loaded = new HashMap<>();
+        entityIds.forEach(entityId -> loaded.put(entityId, NcpFileResponse.of(entityType.getEntityType(), entityId,
+                fileObjectsByEntityId.getOrDefault(entityId, List.of()))));
+        return loaded;
     }
 
     /**
      * entity 이미지에서 List로 전달받은 번호를 통해 동일한 seq 삭제
+     * - bucket 파일은 커밋된 후 NcpObjectDeleter 가 모아서 지운다.
      */
     @Transactional
     @Override
     public NcpFileResponse updateFiles(BaseEntity entity, List<Integer> removeSeq, List<MultipartFile> multipartFiles) {
-        Optional<NcpFile> opNcpFile = fileRepository.findByEntityIdAndEntityType(entity.getId(),
-                EntityTypeV2.getEntityType(entity));
+        String entityType = EntityTypeV2.getEntityType(entity);
+        List<FileObject> fileObjects = fileObjectRepository.findAllByEntityTypeAndEntityId(entityType, entity.getId());
 
-        if (opNcpFile.isEmpty()) {
+        if (fileObjects.isEmpty()) {
             return saveFiles(entity, multipartFiles);
         }
 
-        NcpFile ncpFile = opNcpFile.get();
+        entityImageCache.evictAfterCompletion(EntityTypeV2.of(entity), entity.getId());
 
-        // removeSeq 내 seq 값과 일치하는 이미지 삭제
+        // removeSeq 내 seq 값과 일치하는 이미지(사본 포함) 삭제
         if (removeSeq != null) {
             if (!removeSeq.isEmpty()) {
-                removeSeq.forEach(seq -> ncpFile.getS3Files().stream()
-                        .filter(files -> Objects.equals(seq, files.get("seq")))
-                        .findFirst()
-                        .ifPresent(file -> {
-                            ncpS3Service.ncpDeleteFile((String) file.get("keyName"));
-                            ncpFile.getS3Files().remove(file);
-                        }));
+                Set<Integer> removeSeqs = new HashSet<>(removeSeq);
+                List<FileObject> removed = fileObjects.stream()
+                        .filter(fileObject -> removeSeqs.contains(fileObject.getSeq()))
+                        .toList();
 
-                // seq 재정렬
-                AtomicInteger seq = new AtomicInteger(1);
-                ncpFile.getS3Files().forEach(file -> file.put("seq", seq.getAndIncrement()));
+                if (!removed.isEmpty()) {
+                    fileObjectRepository.deleteAllByEntityAndSeqIn(entityType, entity.getId(), removeSeqs);
+                    ncpObjectDeleter.deleteAfterCommit(toKeyNames(removed));
+
+                    fileObjects = fileObjects.stream()
+                            .filter(fileObject -> !removeSeqs.contains(fileObject.getSeq()))
+                            .toList();
+                    resequence(fileObjects);
+                }
             }
         }
 
         // 추가 이미지 저장
+        List<FileObject> addedFiles = new ArrayList<>();
         if (multipartFiles != null) {
             if (!multipartFiles.get(0).isEmpty()) {
-                AtomicInteger seq = new AtomicInteger(ncpFile.getS3Files().size() + 1);
+                AtomicInteger seq = new AtomicInteger(countOriginals(fileObjects) + 1);
                 multipartFiles.forEach(
-                        file -> ncpFile.getS3Files().add(ncpS3Service.updateFile(entity, seq.getAndIncrement(), file)));
+                        file -> addedFiles.add(ncpS3Service.updateFile(entity, seq.getAndIncrement(), file)));
+                fileObjectRepository.saveAllInBatch(addedFiles);
             }
         }
 
-        fileRepository.save(ncpFile);
-        return NcpFileResponse.of(ncpFile);
+        publishUploadEvent(entity, addedFiles);
+
+        List<FileObject> files = new ArrayList<>(fileObjects);
+        files.addAll(addedFiles);
+        return NcpFileResponse.of(entityType, entity.getId(), files);
     }
 
+    // 남은 원본의 seq 를 1부터 다시 매기고, 사본은 원본을 따라간다.
+    private void resequence(List<FileObject> fileObjects) {
+        List<Integer> seqs = fileObjects.stream()
+                .filter(fileObject -> !fileObject.isVariant())
+                .map(FileObject::getSeq)
+                .sorted()
+                .toList();
+
+        Map<Integer, Integer> newSeqs = new HashMap<>();
+        for (int i = 0; i < seqs.size(); i++) {
+            newSeqs.put(seqs.get(i), i + 1);
+        }
+
+        fileObjects.forEach(fileObject -> fileObject.updateSeq(newSeqs.get(fileObject.getSeq())));
+    }
+
+    // 커밋 후 크기별 이미지 사본을 만든다.
+    private void publishUploadEvent(BaseEntity entity, List<FileObject> fileObjects) {
+        if (fileObjects.isEmpty()) {
+            return;
+        }
+
+        eventPublisher.publishEvent(
+                NcpFileUploadEvent.of(entity.getId(), EntityTypeV2.getEntityType(entity), toKeyNames(fileObjects)));
+    }
+
+    /**
+     * entity 의 파일(사본 포함) 삭제 - bucket 파일은 커밋된 후 NcpObjectDeleter 가 모아서 지운다.
+     */
+    @Transactional
     @Override
     public void deleteFiles(BaseEntity entity) {
-        fileRepository.findByEntityIdAndEntityType(entity.getId(), EntityTypeV2.getEntityType(entity))
-                .ifPresent(fileRepository::delete);
+        String entityType = EntityTypeV2.getEntityType(entity);
+        List<FileObject> fileObjects = fileObjectRepository.findAllByEntityTypeAndEntityId(entityType, entity.getId());
+        if (fileObjects.isEmpty()) {
+            return;
+        }
+
+        fileObjectRepository.deleteAllByEntity(entityType, entity.getId());
+        ncpObjectDeleter.deleteAfterCommit(toKeyNames(fileObjects));
+        entityImageCache.evictAfterCompletion(EntityTypeV2.of(entity), entity.getId());
+    }
+
+    /**
+     * 직접 업로드 URL 발급 - 파일 내용은 서버를 거치지 않고 bucket 에 바로 올라간다.
+     */
+    @Override
+    public List<FileUploadResponse> createUploads(BaseEntity entity, List<FileUploadInfo> files) {
+        return files.stream()
+                .map(file -> ncpS3Service.createUploadUrl(entity, file))
+                .toList();
+    }
+
+    /**
+     * 직접 업로드한 파일을 확인하고 기존 이미지 뒤에 요청한 순서대로 저장
+     * - 이미 저장한 keyName 은 건너뛰므로 같은 요청을 다시 보내도 한 번만 저장된다.
+     */
+    @Transactional
+    @Override
+    public NcpFileResponse completeUploads(BaseEntity entity, List<String> keyNames) {
+        String entityType = EntityTypeV2.getEntityType(entity);
+        List<FileObject> fileObjects = fileObjectRepository.findAllByEntityTypeAndEntityId(entityType, entity.getId());
+
+        Set<String> savedKeyNames = new HashSet<>();
+        fileObjects.forEach(fileObject -> savedKeyNames.add(fileObject.getKeyName()));
+
+        AtomicInteger seq = new AtomicInteger(countOriginals(fileObjects) + 1);
+        List<FileObject> addedFiles = keyNames.stream()
+                .filter(savedKeyNames::add)
+                .map(keyName -> ncpS3Service.completeUpload(entity, seq.getAndIncrement(), keyName))
+                .toList();
+
+        if (!addedFiles.isEmpty()) {
+            fileObjectRepository.saveAllInBatch(addedFiles);
+            entityImageCache.evictAfterCompletion(EntityTypeV2.of(entity), entity.getId());
+            publishUploadEvent(entity, addedFiles);
+        }
+
+        List<FileObject> files = new ArrayList<>(fileObjects);
+        files.addAll(addedFiles);
+        return NcpFileResponse.of(entityType, entity.getId(), files);
     }
 
     /**
@@ -131,9 +285,12 @@ public class FileServiceImpl implements FileService {
     @Deprecated
     @Override
     public List<NcpFileResponse> findAllByEntityIds(List<Long> entityIds, String entityType) {
-        List<NcpFile> ncpFiles =
-                fileRepository.findAllByEntityIdInAndEntityType(entityIds, entityType);
-        return NcpFileResponse.of(ncpFiles);
+        Map<Long, List<FileObject>> fileObjectsByEntityId =
+                groupByEntityId(fileObjectRepository.findAllByEntityTypeAndEntityIdIn(entityType, entityIds));
+
+        return fileObjectsByEntityId.entrySet().stream()
+                .map(entry -> NcpFileResponse.of(entityType, entry.getKey(), entry.getValue()))
+                .toList();
     }
 
     /**
@@ -142,9 +299,7 @@ public class FileServiceImpl implements FileService {
     @Deprecated
     @Override
     public NcpFileResponse findByEntityId(Long entityId, EntityType entityType) {
-        NcpFile ncpFile =
-                fileRepository.findByEntityIdAndEntityType(entityId, entityType.getEntityName()).orElse(null);
-        return NcpFileResponse.of(ncpFile);
+        return findByEntityId(entityId, entityType.getEntityName());
     }
 
     /**
@@ -154,8 +309,7 @@ public class FileServiceImpl implements FileService {
     @Transactional
     @Override
     public NcpFileResponse uploadFiles(List<MultipartFile> multipartFiles, Long entityId, EntityType entityType) {
-        NcpFile ncpFile = ncpS3Service.ncpUploadFiles(multipartFiles, entityId, entityType.getEntityName());
-        return NcpFileResponse.of(fileRepository.save(ncpFile));
+        return uploadFiles(multipartFiles, entityId, entityType.getEntityName());
     }
 
     /**
@@ -164,9 +318,7 @@ public class FileServiceImpl implements FileService {
     @Deprecated
     @Override
     public NcpFileResponse findByEntityId(Long entityId, String entityType) {
-        NcpFile ncpFile = this.fileRepository.findByEntityIdAndEntityType(entityId, entityType).orElse(null);
-
-        return NcpFileResponse.of(ncpFile);
+        return toResponse(entityType, entityId, fileObjectRepository.findAllByEntityTypeAndEntityId(entityType, entityId));
     }
 
     /**
@@ -176,7 +328,39 @@ public class FileServiceImpl implements FileService {
     @Transactional
     @Override
     public NcpFileResponse uploadFiles(List<MultipartFile> multipartFiles, Long entityId, String entityType) {
-        NcpFile ncpFile = ncpS3Service.ncpUploadFiles(multipartFiles, entityId, entityType);
-        return NcpFileResponse.of(fileRepository.save(ncpFile));
+        List<FileObject> fileObjects = FileObject.of(ncpS3Service.ncpUploadFiles(multipartFiles, entityId, entityType));
+        fileObjectRepository.saveAllInBatch(fileObjects);
+        // 문자열 타입은 EntityTypeV2 에 없는 값(test)도 받으므로 이 서버의 캐시 전체를 비운다.
+        entityImageCache.evictAllLocal();
+        return NcpFileResponse.of(entityType, entityId, fileObjects);
+    }
+
+    // 원본이 없으면 null
+    private NcpFileResponse toResponse(String entityType, Long entityId, List<FileObject> fileObjects) {
+        return nonEmpty(NcpFileResponse.of(entityType, entityId, fileObjects));
+    }
+
+    private NcpFileResponse nonEmpty(NcpFileResponse files) {
+        return files.getFile().isEmpty() ? null : files;
+    }
+
+    private int countOriginals(List<FileObject> fileObjects) {
+        return (int) fileObjects.stream()
+                .filter(fileObject -> !fileObject.isVariant())
+                .count();
+    }
+
+    private List<String> toKeyNames(List<FileObject> fileObjects) {
+        return fileObjects.stream()
+                .map(FileObject::getKeyName)
+                .toList();
+    }
+
+    private Map<Long, List<FileObject>> groupByEntityId(List<FileObject> fileObjects) {
+        Map<Long, List<FileObject>> fileObjectsByEntityId = new LinkedHashMap<>();
+        fileObjects.forEach(fileObject -> fileObjectsByEntityId
+                .computeIfAbsent(fileObject.getEntityId(), key -> new ArrayList<>())
+                .add(fileObject));
+        return fileObjectsByEntityId;
     }
 }
@@ -0,0 +1,121 @@
+package com.drunkenlion.alcoholfriday.global.file.application;
+
+import com.drunkenlion.alcoholfriday.global.file.dao.FileObjectRepository;
+import com.drunkenlion.alcoholfriday.global.file.dao.FileRepository;
+import com.drunkenlion.alcoholfriday.global.file.entity.FileObject;
+import com.drunkenlion.alcoholfriday.global.ncp.entity.NcpFile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ncp_file(JSON) -> file_object 이관
+ * - 애플리케이션 시작 시 옮기지 않은 ncp_file 을 식별자 순서로 500건씩 읽어 file_object row 로 옮기고, 옮긴 ncp_file 은 migrated_at 으로 표시한다.
+ * - ncp_file row 는 옮긴 결과를 확인할 때까지 지우지 않고 남겨 둔다.
+ * - 500건마다 트랜잭션을 나누므로 메모리에는 한 묶음만 올라가며, 중간에 멈춰도 다음 시작 때 표시되지 않은 row 부터 이어서 옮긴다.
+ * - 여러 인스턴스가 함께 시작해도 같은 파일을 두 번 옮기지 않도록, 이관 잠금(GET_LOCK)을 얻은 인스턴스만 옮긴다.
+ * - 이미 file_object 에 파일이 있는 entity 는 새로 저장된 파일이 기준이므로 옮기지 않고 표시만 한다.
+ */
+@Slf4j
+@Component
+public class NcpFileMigrator {
+    private final FileRepository fileRepository;
+    private final FileObjectRepository fileObjectRepository;
+    private final EntityImageCache entityImageCache;
+    private final TransactionTemplate transactionTemplate;
+
+    public NcpFileMigrator(FileRepository fileRepository,
+                           FileObjectRepository fileObjectRepository,
+                           EntityImageCache entityImageCache,
+                           PlatformTransactionManager transactionManager) {
+        this.fileRepository = fileRepository;
+        this.fileObjectRepository = fileObjectRepository;
+        this.entityImageCache = entityImageCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        if (fileRepository.countByMigratedAtIsNull() == 0) {
+            return;
+        }
+
+        if (!fileRepository.executeWithMigrationLock(this::migrateAll)) {
+            log.info("[ncp_file 이관] 다른 인스턴스가 이관 중이므로 생략");
+        }
+    }
+
+    private void migrateAll() {
+        long startTime = System.nanoTime();
+
+        long lastId = 0L;
+        int migrated = 0;
+        while (true) {
+            long cursor = lastId;
+            List<NcpFile> ncpFiles = transactionTemplate.execute(status -> migrateBatch(cursor));
+            if (ncpFiles.isEmpty()) {
+                break;
+            }
+
+            migrated += ncpFiles.size();
+            lastId = ncpFiles.get(ncpFiles.size() - 1).getId();
+        }
+
+        if (migrated > 0) {
+            // 이관 중에 읽어 기억한 빈 응답을 비운다.
+            entityImageCache.evictAllLocal();
+
+            long endTime = System.nanoTime();
+            log.info("[ncp_file 이관] 이관 수 : {}, 소요 시간 : {}ms", migrated, (endTime - startTime) / 1_000_000);
+        }
+    }
+
+    private List<NcpFile> migrateBatch(long lastId) {
+        List<NcpFile> ncpFiles = fileRepository.findTop500ByIdGreaterThanAndMigratedAtIsNullOrderByIdAsc(lastId);
+        if (ncpFiles.isEmpty()) {
+            return ncpFiles;
+        }
+
+        Map<String, Set<Long>> migratedIdsByType = findMigratedEntityIds(ncpFiles);
+
+        List<FileObject> fileObjects = new ArrayList<>();
+        for (NcpFile ncpFile : ncpFiles) {
+            Set<Long> migratedIds = migratedIdsByType.get(ncpFile.getEntityType());
+            // 같은 entity 의 ncp_file 이 여러 개면 먼저 저장된 것만 옮긴다.
+            if (ncpFile.getS3Files() != null && migratedIds.add(ncpFile.getEntityId())) {
+                fileObjects.addAll(FileObject.of(ncpFile));
+            }
+        }
+
+        fileObjectRepository.saveAllInBatch(fileObjects);
+        fileRepository.markMigrated(ncpFiles.stream().map(NcpFile::getId).toList());
+        return ncpFiles;
+    }
+
+    // entity 타입별로 이미 file_object 에 파일이 있는 entity 식별자
+    private Map<String, Set<Long>> findMigratedEntityIds(List<NcpFile> ncpFiles) {
+        Map<String, List<Long>> entityIdsByType = new HashMap<>();
+        ncpFiles.forEach(ncpFile -> entityIdsByType
+                .computeIfAbsent(ncpFile.getEntityType(), key -> new ArrayList<>())
+                .add(ncpFile.getEntityId()));
+
+        Map<String, Set<Long>> migratedIdsByType = new HashMap<>();
+        entityIdsByType.forEach((entityType, entityIds) -> {
+            Set<Long> migratedIds = new HashSet<>();
+            fileObjectRepository.findAllByEntityTypeAndEntityIdIn(entityType, entityIds)
+                    .forEach(fileObject -> migratedIds.add(fileObject.getEntityId()));
+            migratedIdsByType.put(entityType, migratedIds);
+        });
+        return migratedIdsByType;
+    }
+}
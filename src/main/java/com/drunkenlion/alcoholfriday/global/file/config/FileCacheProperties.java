@@ -0,0 +1,20 @@
+package com.drunkenlion.alcoholfriday.global.file.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "file.cache")
+@Getter
+@Setter
+public class FileCacheProperties {
+    // entity 이미지 캐시가 차지할 수 있는 최대 크기 (추정치)
+    private DataSize maximumSize = DataSize.ofMegabytes(32);
+    // FileService 를 거치지 않고 바뀐 파일도 이 시간이 지나면 다시 읽는다.
+    private Duration expireAfterWrite = Duration.ofHours(1);
+}
@@ -0,0 +1,22 @@
+package com.drunkenlion.alcoholfriday.global.file.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "file.sweep")
+@Getter
+@Setter
+public class FileSweepProperties {
+    private boolean enabled = true;
+    // 이 시간보다 최근에 올라온 파일은 업로드 중이거나 완료 전인 직접 업로드일 수 있으므로 지우지 않는다.
+    private Duration minAge = Duration.ofDays(1);
+    // 목록 한 페이지(최대 1000개)를 처리한 후 쉬는 시간, 서비스 요청과 bucket 을 나눠 쓰도록 속도를 제한한다.
+    private Duration pageDelay = Duration.ofMillis(500);
+    // 한 번 실행할 때 지울 수 있는 최대 파일 수
+    private int maxDeletes = 10000;
+}
@@ -0,0 +1,19 @@
+package com.drunkenlion.alcoholfriday.global.file.dao;
+
+import com.drunkenlion.alcoholfriday.global.file.entity.FileObject;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface FileObjectRepository extends JpaRepository<FileObject, Long>, FileObjectRepositoryCustom {
+    List<FileObject> findAllByEntityTypeAndEntityId(String entityType, Long entityId);
+
+    List<FileObject> findAllByEntityTypeAndEntityIdIn(String entityType, Collection<Long> entityIds);
+
+    List<FileObject> findAllByEntityTypeAndEntityIdInAndSeq(String entityType, Collection<Long> entityIds, Integer seq);
+
+    List<FileObject> findAllByEntityTypeAndEntityIdAndKeyNameIn(String entityType, Long entityId, Collection<String> keyNames);
+
+    boolean existsByEntityTypeAndEntityId(String entityType, Long entityId);
+}
@@ -0,0 +1,14 @@
+package com.drunkenlion.alcoholfriday.global.file.dao;
+
+import com.drunkenlion.alcoholfriday.global.file.entity.FileObject;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface FileObjectRepositoryCustom {
+    void saveAllInBatch(List<FileObject> fileObjects);
+
+    long deleteAllByEntity(String entityType, Long entityId);
+
+    long deleteAllByEntityAndSeqIn(String entityType, Long entityId, Collection<Integer> seqs);
+}
@@ -0,0 +1,76 @@
+package com.drunkenlion.alcoholfriday.global.file.dao;
+
+import com.drunkenlion.alcoholfriday.global.file.entity.FileObject;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static com.drunkenlion.alcoholfriday.global.file.entity.QFileObject.fileObject;
+
+@RequiredArgsConstructor
+public class FileObjectRepositoryImpl implements FileObjectRepositoryCustom {
+    private static final String INSERT_FILE_OBJECT =
+            "INSERT INTO file_object (entity_type, entity_id, seq, variant, key_name, path, width, height, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int BATCH_SIZE = 100;
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 파일 일괄 저장
+     * - IDENTITY 전략이라 Hibernate 는 insert 를 묶지 못하므로 JDBC batch 로 저장한다.
+     * - 영속성 컨텍스트를 거치지 않으므로 저장한 파일에는 식별자가 채워지지 않는다.
+     */
+    @Override
+    public void saveAllInBatch(List<FileObject> fileObjects) {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_FILE_OBJECT, fileObjects, BATCH_SIZE, (ps, file) -> {
+            ps.setString(1, file.getEntityType());
+            ps.setLong(2, file.getEntityId());
+            ps.setInt(3, file.getSeq());
+            ps.setBoolean(4, file.isVariant());
+            ps.setString(5, file.getKeyName());
+            ps.setString(6, file.getPath());
+            ps.setObject(7, file.getWidth(), Types.INTEGER);
+            ps.setObject(8, file.getHeight(), Types.INTEGER);
+            ps.setTimestamp(9, createdAt);
+        });
+    }
+
+    /**
+     * entity 의 파일(원본, 사본)을 한 번에 삭제한다.
+     *
+     * @return 삭제된 파일 수
+     */
+    @Override
+    public long deleteAllByEntity(String entityType, Long entityId) {
+        return jpaQueryFactory
+                .delete(fileObject)
+                .where(fileObject.entityType.eq(entityType),
+                        fileObject.entityId.eq(entityId))
+                .execute();
+    }
+
+    /**
+     * entity 의 seq 파일(원본, 사본)을 한 번에 삭제한다.
+     *
+     * @return 삭제된 파일 수
+     */
+    @Override
+    public long deleteAllByEntityAndSeqIn(String entityType, Long entityId, Collection<Integer> seqs) {
+        return jpaQueryFactory
+                .delete(fileObject)
+                .where(fileObject.entityType.eq(entityType),
+                        fileObject.entityId.eq(entityId),
+                        fileObject.seq.in(seqs))
+                .execute();
+    }
+}
@@ -7,8 +7,13 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.List;
 import java.util.Optional;
 
-public interface FileRepository extends JpaRepository<NcpFile, Long> {
+public interface FileRepository extends JpaRepository<NcpFile, Long>, FileRepositoryCustom {
     Optional<NcpFile> findByEntityIdAndEntityType(Long id, String type);
 
     List<NcpFile> findAllByEntityIdInAndEntityType(List<Long> entityIds, String entityType);
+
+    // file_object 이관용 - 옮기지 않은 row 를 식별자 순서로 나눠 읽는다.
+    List<NcpFile> findTop500ByIdGreaterThanAndMigratedAtIsNullOrderByIdAsc(Long id);
+
+    long countByMigratedAtIsNull();
 }
@@ -0,0 +1,9 @@
+package com.drunkenlion.alcoholfriday.global.file.dao;
+
+import java.util.Collection;
+
+public interface FileRepositoryCustom {
+    boolean executeWithMigrationLock(Runnable task);
+
+    long markMigrated(Collection<Long> ids);
+}
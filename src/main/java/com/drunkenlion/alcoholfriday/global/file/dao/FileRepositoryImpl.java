@@ -0,0 +1,70 @@
+package com.drunkenlion.alcoholfriday.global.file.dao;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import static com.drunkenlion.alcoholfriday.global.ncp.entity.QNcpFile.ncpFile;
+
+@RequiredArgsConstructor
+public class FileRepositoryImpl implements FileRepositoryCustom {
+    private static final String MIGRATION_LOCK_NAME = "ncp_file_migration";
+    // 다른 인스턴스가 옮기는 중이면 기다리지 않는다.
+    private static final String GET_LOCK = "SELECT GET_LOCK(?, 0)";
+    private static final String RELEASE_LOCK = "SELECT RELEASE_LOCK(?)";
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * ncp_file 이관 잠금을 얻어 작업을 실행한다.
+     * - MySQL named lock 은 연결에 묶이므로, 잠금을 얻은 연결을 작업이 끝날 때까지 잡아 두고 같은 연결에서 푼다.
+     * - 작업은 잠금 연결과 별개의 트랜잭션(연결)으로 실행해야 한다.
+     *
+     * @return 잠금을 얻어 작업을 실행했는지 (다른 인스턴스가 잠금을 가지고 있으면 false)
+     */
+    @Override
+    public boolean executeWithMigrationLock(Runnable task) {
+        return jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(GET_LOCK)) {
+                ps.setString(1, MIGRATION_LOCK_NAME);
+                try (ResultSet rs = ps.executeQuery()) {
+                    if (!rs.next() || rs.getInt(1) != 1) {
+                        return false;
+                    }
+                }
+            }
+
+            try {
+                task.run();
+                return true;
+            } finally {
+                try (PreparedStatement ps = connection.prepareStatement(RELEASE_LOCK)) {
+                    ps.setString(1, MIGRATION_LOCK_NAME);
+                    ps.executeQuery().close();
+                }
+            }
+        });
+    }
+
+    /**
+     * file_object 로 옮긴 ncp_file 표시 - 옮긴 결과를 확인하기 전까지 row 는 지우지 않는다.
+     *
+     * @return 표시한 row 수
+     */
+    @Override
+    public long markMigrated(Collection<Long> ids) {
+        return jpaQueryFactory
+                .update(ncpFile)
+                .set(ncpFile.migratedAt, LocalDateTime.now())
+                .where(ncpFile.id.in(ids),
+                        ncpFile.migratedAt.isNull())
+                .execute();
+    }
+}
@@ -0,0 +1,113 @@
+package com.drunkenlion.alcoholfriday.global.file.entity;
+
+import com.drunkenlion.alcoholfriday.global.common.entity.BaseEntity;
+import com.drunkenlion.alcoholfriday.global.ncp.entity.NcpFile;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Comment;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * entity 에 저장된 파일 (S3 object 한 개당 한 row)
+ * - 원본은 entity 안에서 seq 로 순서를 가지며, 크기별 사본(variant)은 원본과 같은 seq 로 저장한다.
+ * - (entity_type, entity_id, seq) 순서의 인덱스로 entity 의 파일, 첫 번째 이미지만 골라 읽는다.
+ */
+@Entity
+@Getter
+@SuperBuilder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "file_object",
+        indexes = @Index(name = "idx_file_object_entity", columnList = "entity_type, entity_id, seq, variant"))
+public class FileObject extends BaseEntity {
+    @Comment("파일이 저장되는 entity 이름")
+    @Column(name = "entity_type", columnDefinition = "VARCHAR(20)")
+    private String entityType;
+
+    @Comment("파일이 저장되는 entity pk")
+    @Column(name = "entity_id", columnDefinition = "BIGINT")
+    private Long entityId;
+
+    @Comment("entity 안에서 파일의 순번 (1부터)")
+    @Column(name = "seq", columnDefinition = "INT")
+    private Integer seq;
+
+    @Comment("크기별 사본 여부")
+    @Column(name = "variant", columnDefinition = "TINYINT(1) default 0")
+    @Builder.Default
+    private Boolean variant = false;
+
+    @Comment("S3 object key")
+    @Column(name = "key_name", columnDefinition = "VARCHAR(1024)")
+    private String keyName;
+
+    @Comment("파일 full path")
+    @Column(name = "path", columnDefinition = "VARCHAR(2048)")
+    private String path;
+
+    @Comment("이미지 너비(px), 확인 전이거나 이미지가 아니면 null")
+    @Column(name = "width", columnDefinition = "INT")
+    private Integer width;
+
+    @Comment("이미지 높이(px), 확인 전이거나 이미지가 아니면 null")
+    @Column(name = "height", columnDefinition = "INT")
+    private Integer height;
+
+    /**
+     * ncp_file.s3_files 의 JSON 항목(원본과 variants)을 파일 row 로 바꾼다.
+     */
+    @SuppressWarnings("unchecked")
+    public static List<FileObject> of(NcpFile ncpFile) {
+        List<FileObject> fileObjects = new ArrayList<>();
+        for (Map<String, Object> json : ncpFile.getS3Files()) {
+            Integer seq = ((Number) json.get("seq")).intValue();
+            fileObjects.add(FileObject.builder()
+                    .entityType(ncpFile.getEntityType())
+                    .entityId(ncpFile.getEntityId())
+                    .seq(seq)
+                    .keyName((String) json.get("keyName"))
+                    .path((String) json.get("path"))
+                    .build());
+
+            List<Map<String, Object>> variants =
+                    (List<Map<String, Object>>) json.getOrDefault("variants", Collections.emptyList());
+            for (Map<String, Object> variant : variants) {
+                fileObjects.add(FileObject.builder()
+                        .entityType(ncpFile.getEntityType())
+                        .entityId(ncpFile.getEntityId())
+                        .seq(seq)
+                        .variant(true)
+                        .keyName((String) variant.get("keyName"))
+                        .path((String) variant.get("path"))
+                        .width(((Number) variant.get("width")).intValue())
+                        .build());
+            }
+        }
+        return fileObjects;
+    }
+
+    public boolean isVariant() {
+        return Boolean.TRUE.equals(variant);
+    }
+
+    public void updateSeq(Integer seq) {
+        this.seq = seq;
+    }
+
+    public void updateSize(Integer width, Integer height) {
+        this.width = width;
+        this.height = height;
+    }
+}
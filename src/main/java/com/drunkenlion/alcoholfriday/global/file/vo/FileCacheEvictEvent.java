@@ -0,0 +1,21 @@
+package com.drunkenlion.alcoholfriday.global.file.vo;
+
+import com.drunkenlion.alcoholfriday.global.common.enumerated.EntityTypeV2;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * entity 이미지 캐시 삭제 이벤트 (이 서버의 캐시를 비운 후)
+ * - 여러 서버로 운영하면 이 이벤트를 받아 다른 서버에 전달하고, 받은 서버는 EntityImageCache.evictLocal 을 호출한다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class FileCacheEvictEvent {
+    private final EntityTypeV2 entityType;
+    private final Long entityId;
+
+    public static FileCacheEvictEvent of(EntityTypeV2 entityType, Long entityId) {
+        return new FileCacheEvictEvent(entityType, entityId);
+    }
+}
@@ -0,0 +1,24 @@
+package com.drunkenlion.alcoholfriday.global.idempotency.application;
+
+import com.drunkenlion.alcoholfriday.global.idempotency.vo.IdempotencyClaim;
+import com.drunkenlion.alcoholfriday.global.idempotency.vo.IdempotentResponse;
+
+public interface IdempotencyStore {
+    /**
+     * 키를 선점한다. 이미 있는 키면 처음 받은 요청의 본문 해시와 응답을 돌려준다.
+     *
+     * @param key         회원, 경로, Idempotency-Key 로 만든 키
+     * @param fingerprint 요청 본문 해시
+     */
+    IdempotencyClaim claim(String key, String fingerprint);
+
+    /**
+     * 선점한 키의 응답을 저장하고, 기다리는 요청에 응답을 넘겨준다.
+     */
+    void complete(IdempotencyClaim claim, IdempotentResponse response);
+
+    /**
+     * 선점한 키를 지워 다시 시도할 수 있게 하고, 기다리는 요청에 응답을 넘겨준다. (서버 에러, 예외)
+     */
+    void release(IdempotencyClaim claim, IdempotentResponse response);
+}
@@ -0,0 +1,88 @@
+package com.drunkenlion.alcoholfriday.global.idempotency.application;
+
+import com.drunkenlion.alcoholfriday.global.idempotency.vo.IdempotencyClaim;
+import com.drunkenlion.alcoholfriday.global.idempotency.vo.IdempotentResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 인스턴스 메모리의 Idempotency-Key 저장소
+ * - 키는 선점한 순서로 보관하므로 가장 오래된 키부터 만료(ttl)되거나 밀려난다.(maxSize)
+ * - 처리 중인 키로 들어온 요청은 같은 응답(CompletableFuture)을 기다리므로 한 번만 실행된다.
+ * - 처리 중인 키가 밀려나면 그 뒤에 들어온 같은 키의 요청은 다시 실행된다.
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Clock clock;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+    public InMemoryIdempotencyStore(int maxSize, Duration ttl, Clock clock) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+    }
+
+    @Override
+    public synchronized IdempotencyClaim claim(String key, String fingerprint) {
+        long now = clock.millis();
+        evict(now);
+
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            return IdempotencyClaim.duplicate(key, entry.fingerprint, entry.response);
+        }
+
+        entry = new Entry(fingerprint, now + ttlMillis);
+        entries.put(key, entry);
+        return IdempotencyClaim.owner(key, fingerprint, entry.response);
+    }
+
+    @Override
+    public void complete(IdempotencyClaim claim, IdempotentResponse response) {
+        claim.getResponse().complete(response);
+    }
+
+    @Override
+    public void release(IdempotencyClaim claim, IdempotentResponse response) {
+        synchronized (this) {
+            Entry entry = entries.get(claim.getKey());
+            if (entry != null && entry.response == claim.getResponse()) {
+                entries.remove(claim.getKey());
+            }
+        }
+        claim.getResponse().complete(response);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void evict(long now) {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry eldest = iterator.next().getValue();
+            if (eldest.expiredAt > now && entries.size() < maxSize) {
+                return;
+            }
+            iterator.remove();
+        }
+    }
+
+    private static class Entry {
+        private final String fingerprint;
+        private final long expiredAt;
+        private final CompletableFuture<IdempotentResponse> response = new CompletableFuture<>();
+
+        private Entry(String fingerprint, long expiredAt) {
+            this.fingerprint = fingerprint;
+            this.expiredAt = expiredAt;
+        }
+    }
+}
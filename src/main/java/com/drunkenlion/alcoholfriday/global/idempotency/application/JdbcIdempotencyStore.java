@@ -0,0 +1,76 @@
+package com.drunkenlion.alcoholfriday.global.idempotency.application;
+
+import com.drunkenlion.alcoholfriday.global.idempotency.dao.IdempotencyRecordRepository;
+import com.drunkenlion.alcoholfriday.global.idempotency.entity.IdempotencyRecord;
+import com.drunkenlion.alcoholfriday.global.idempotency.vo.IdempotencyClaim;
+import com.drunkenlion.alcoholfriday.global.idempotency.vo.IdempotentResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * idempotency_record 테이블의 Idempotency-Key 저장소 (여러 인스턴스)
+ * - 다른 인스턴스에서 처리 중인 키는 기다리지 않고 처리 중(409)으로 응답한다.
+ * - 처리 중인 키는 lockTimeout 동안만 잠근다. 인스턴스가 응답을 저장하지 못하고 종료되어도
+ *   잠금이 지나면 새 요청이 넘겨받고, 늦게 끝난 이전 요청은 넘겨받은 기록을 고치지 않는다.
+ */
+@Slf4j
+public class JdbcIdempotencyStore implements IdempotencyStore {
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final Duration ttl;
+    private final Duration lockTimeout;
+
+    public JdbcIdempotencyStore(IdempotencyRecordRepository idempotencyRecordRepository, Duration ttl, Duration lockTimeout) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.ttl = ttl;
+        this.lockTimeout = lockTimeout;
+    }
+
+    @Override
+    public IdempotencyClaim claim(String key, String fingerprint) {
+        LocalDateTime now = LocalDateTime.now();
+        Long recordId = idempotencyRecordRepository.insertIfAbsent(key, fingerprint, now.plus(ttl), now.plus(lockTimeout));
+        if (recordId != null) {
+            return IdempotencyClaim.owner(key, fingerprint, new CompletableFuture<>(), recordId);
+        }
+
+        IdempotencyRecord record = idempotencyRecordRepository.findByScopeKey(key).orElse(null);
+        if (record == null) {
+            // 선점한 요청이 실패해 지워졌으면 다시 선점한다.
+            return claim(key, fingerprint);
+        }
+
+        if (record.getCompletedAt() == null) {
+            return IdempotencyClaim.duplicate(key, record.getFingerprint(), null);
+        }
+
+        return IdempotencyClaim.duplicate(key, record.getFingerprint(), CompletableFuture.completedFuture(
+                IdempotentResponse.builder()
+                        .status(record.getStatus())
+                        .contentType(record.getContentType())
+                        .location(record.getLocation())
+                        .body(record.getBody())
+                        .build()));
+    }
+
+    @Override
+    public void complete(IdempotencyClaim claim, IdempotentResponse response) {
+        idempotencyRecordRepository.complete(claim.getRecordId(), response);
+        claim.getResponse().complete(response);
+    }
+
+    @Override
+    public void release(IdempotencyClaim claim, IdempotentResponse response) {
+        idempotencyRecordRepository.deleteIncomplete(claim.getRecordId());
+        claim.getResponse().complete(response);
+    }
+
+    @Scheduled(fixedDelay = 600_000)
+    public void deleteExpired() {
+        int deleted = idempotencyRecordRepository.deleteExpired(LocalDateTime.now());
+        log.info("[만료된 Idempotency-Key 삭제] {}건", deleted);
+    }
+}
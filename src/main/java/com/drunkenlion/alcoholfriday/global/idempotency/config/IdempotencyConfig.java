@@ -0,0 +1,45 @@
+package com.drunkenlion.alcoholfriday.global.idempotency.config;
+
+import com.drunkenlion.alcoholfriday.global.idempotency.application.IdempotencyStore;
+import com.drunkenlion.alcoholfriday.global.idempotency.application.InMemoryIdempotencyStore;
+import com.drunkenlion.alcoholfriday.global.idempotency.application.JdbcIdempotencyStore;
+import com.drunkenlion.alcoholfriday.global.idempotency.dao.IdempotencyRecordRepository;
+import com.drunkenlion.alcoholfriday.global.idempotency.filter.IdempotencyFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+@RequiredArgsConstructor
+public class IdempotencyConfig {
+    private final IdempotencyProperties idempotencyProperties;
+
+    @Bean
+    @ConditionalOnProperty(prefix = "idempotency", name = "store", havingValue = "memory", matchIfMissing = true)
+    public IdempotencyStore inMemoryIdempotencyStore() {
+        return new InMemoryIdempotencyStore(
+                idempotencyProperties.getMaxSize(),
+                idempotencyProperties.getTtl(),
+                Clock.systemUTC());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "idempotency", name = "store", havingValue = "jdbc")
+    public IdempotencyStore jdbcIdempotencyStore(IdempotencyRecordRepository idempotencyRecordRepository) {
+        return new JdbcIdempotencyStore(idempotencyRecordRepository,
+                idempotencyProperties.getTtl(),
+                idempotencyProperties.getLockTimeout());
+    }
+
+    // 인증 정보가 필요하므로 서블릿 필터로 등록하지 않고 SecurityConfig 의 필터 체인에서만 실행한다.
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilterRegistration(IdempotencyFilter idempotencyFilter) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(idempotencyFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
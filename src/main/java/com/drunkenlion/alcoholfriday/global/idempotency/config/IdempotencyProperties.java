@@ -0,0 +1,29 @@
+package com.drunkenlion.alcoholfriday.global.idempotency.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "idempotency")
+@Getter
+@Setter
+public class IdempotencyProperties {
+    // memory : 인스턴스 메모리, jdbc : idempotency_record 테이블 (여러 인스턴스)
+    private String store = "memory";
+    // 응답을 보관하는 기간
+    private Duration ttl = Duration.ofHours(24);
+    // 메모리에 보관하는 최대 키 수
+    private int maxSize = 10_000;
+    // 같은 키로 처리 중인 요청을 기다리는 최대 시간
+    private Duration waitTimeout = Duration.ofSeconds(10);
+    // 처리 중인 키를 잠가 두는 시간 (jdbc), 지나면 처리를 마치지 못한 인스턴스 대신 새 요청이 키를 넘겨받는다.
+    private Duration lockTimeout = Duration.ofSeconds(30);
+    // Idempotency-Key 를 적용하는 POST 경로
+    private List<String> paths = new ArrayList<>(List.of("/v1/orders", "/v1/carts"));
+}
@@ -0,0 +1,10 @@
+package com.drunkenlion.alcoholfriday.global.idempotency.dao;
+
+import com.drunkenlion.alcoholfriday.global.idempotency.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long>, IdempotencyRecordRepositoryCustom {
+    Optional<IdempotencyRecord> findByScopeKey(String scopeKey);
+}
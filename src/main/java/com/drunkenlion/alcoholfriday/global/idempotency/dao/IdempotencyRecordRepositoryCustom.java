@@ -0,0 +1,20 @@
+package com.drunkenlion.alcoholfriday.global.idempotency.dao;
+
+import com.drunkenlion.alcoholfriday.global.idempotency.vo.IdempotentResponse;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyRecordRepositoryCustom {
+    /**
+     * 만료되었거나 잠금이 지난 처리 중인 같은 키를 지우고 키를 선점한다.
+     *
+     * @return 선점한 기록 식별자 (이미 있는 키면 null)
+     */
+    Long insertIfAbsent(String scopeKey, String fingerprint, LocalDateTime expiredAt, LocalDateTime lockedUntil);
+
+    void complete(Long id, IdempotentResponse response);
+
+    void deleteIncomplete(Long id);
+
+    int deleteExpired(LocalDateTime now);
+}
@@ -0,0 +1,70 @@
+package com.drunkenlion.alcoholfriday.global.idempotency.dao;
+
+import com.drunkenlion.alcoholfriday.global.idempotency.vo.IdempotentResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+public class IdempotencyRecordRepositoryImpl implements IdempotencyRecordRepositoryCustom {
+    private static final String DELETE_EXPIRED_KEY =
+            "DELETE FROM idempotency_record WHERE scope_key = ? "
+                    + "AND (expired_at < ? OR (completed_at IS NULL AND locked_until < ?))";
+    private static final String INSERT_IGNORE =
+            "INSERT IGNORE INTO idempotency_record (scope_key, fingerprint, locked_until, expired_at, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?)";
+    private static final String UPDATE_RESPONSE =
+            "UPDATE idempotency_record SET status = ?, content_type = ?, location = ?, body = ?, completed_at = ? WHERE id = ?";
+    private static final String DELETE_INCOMPLETE =
+            "DELETE FROM idempotency_record WHERE id = ? AND completed_at IS NULL";
+    private static final String DELETE_EXPIRED =
+            "DELETE FROM idempotency_record WHERE expired_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Long insertIfAbsent(String scopeKey, String fingerprint, LocalDateTime expiredAt, LocalDateTime lockedUntil) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(DELETE_EXPIRED_KEY, scopeKey, Timestamp.valueOf(now), Timestamp.valueOf(now));
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        int inserted = jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_IGNORE, Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, scopeKey);
+            ps.setString(2, fingerprint);
+            ps.setTimestamp(3, Timestamp.valueOf(lockedUntil));
+            ps.setTimestamp(4, Timestamp.valueOf(expiredAt));
+            ps.setTimestamp(5, Timestamp.valueOf(now));
+            return ps;
+        }, keyHolder);
+
+        return inserted == 1 ? keyHolder.getKey().longValue() : null;
+    }
+
+    @Override
+    public void complete(Long id, IdempotentResponse response) {
+        jdbcTemplate.update(UPDATE_RESPONSE,
+                response.getStatus(),
+                response.getContentType(),
+                response.getLocation(),
+                response.getBody(),
+                Timestamp.valueOf(LocalDateTime.now()),
+                id);
+    }
+
+    @Override
+    public void deleteIncomplete(Long id) {
+        jdbcTemplate.update(DELETE_INCOMPLETE, id);
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime now) {
+        return jdbcTemplate.update(DELETE_EXPIRED, Timestamp.valueOf(now));
+    }
+}
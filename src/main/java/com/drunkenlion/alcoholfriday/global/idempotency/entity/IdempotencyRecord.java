@@ -0,0 +1,68 @@
+package com.drunkenlion.alcoholfriday.global.idempotency.entity;
+
+import com.drunkenlion.alcoholfriday.global.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 여러 인스턴스가 함께 쓰는 Idempotency-Key 기록 (idempotency.store: jdbc)
+ * - scope_key 유니크 제약으로 한 인스턴스만 키를 선점한다.
+ * - 응답을 저장하기 전(completed_at 이 없을 때)에는 처리 중인 요청이다.
+ * - 처리 중인 요청은 locked_until 까지만 키를 잠그며, 지나면 새 요청이 기록을 지우고 다시 선점한다.
+ */
+@Entity
+@Getter
+@SuperBuilder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "idempotency_record",
+        uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_record_scope_key", columnNames = "scope_key"),
+        indexes = @Index(name = "idx_idempotency_record_expired_at", columnList = "expired_at"))
+public class IdempotencyRecord extends BaseEntity {
+    @Comment("회원, 경로, Idempotency-Key 해시 (SHA-256)")
+    @Column(name = "scope_key", columnDefinition = "CHAR(64)")
+    private String scopeKey;
+
+    @Comment("요청 본문 해시 (SHA-256)")
+    @Column(name = "fingerprint", columnDefinition = "CHAR(64)")
+    private String fingerprint;
+
+    @Comment("응답 상태 코드")
+    @Column(name = "status", columnDefinition = "INT")
+    private Integer status;
+
+    @Comment("응답 Content-Type")
+    @Column(name = "content_type", columnDefinition = "VARCHAR(100)")
+    private String contentType;
+
+    @Comment("응답 Location")
+    @Column(name = "location", columnDefinition = "VARCHAR(500)")
+    private String location;
+
+    @Comment("응답 본문")
+    @Column(name = "body", columnDefinition = "MEDIUMBLOB")
+    private byte[] body;
+
+    @Comment("응답 저장 일자")
+    @Column(name = "completed_at", columnDefinition = "DATETIME")
+    private LocalDateTime completedAt;
+
+    @Comment("처리 중 잠금 만료 일자")
+    @Column(name = "locked_until", columnDefinition = "DATETIME")
+    private LocalDateTime lockedUntil;
+
+    @Comment("만료 일자")
+    @Column(name = "expired_at", columnDefinition = "DATETIME")
+    private LocalDateTime expiredAt;
+}
@@ -0,0 +1,216 @@
+package com.drunkenlion.alcoholfriday.global.idempotency.filter;
+
+import com.drunkenlion.alcoholfriday.global.common.response.HttpResponse;
+import com.drunkenlion.alcoholfriday.global.idempotency.application.IdempotencyStore;
+import com.drunkenlion.alcoholfriday.global.idempotency.config.IdempotencyProperties;
+import com.drunkenlion.alcoholfriday.global.idempotency.vo.IdempotencyClaim;
+import com.drunkenlion.alcoholfriday.global.idempotency.vo.IdempotentResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency-Key 헤더가 있는 POST 요청(주문 접수, 장바구니 추가)을 한 번만 실행한다.
+ * - 같은 회원이 같은 경로에 같은 키로 다시 요청하면 처음 요청의 응답을 그대로 내려준다. (Idempotent-Replayed: true)
+ * - 처음 요청이 처리 중이면 끝날 때까지 기다렸다가 같은 응답을 내려준다.
+ * - 같은 키로 본문이 다른 요청을 보내면 422, 서버 에러(5xx)는 저장하지 않으므로 다시 시도할 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyStore idempotencyStore;
+    private final IdempotencyProperties idempotencyProperties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || request.getHeader(IDEMPOTENCY_KEY) == null
+                || !idempotencyProperties.getPaths().contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY);
+        if (!StringUtils.hasText(idempotencyKey) || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            sendError(response, HttpResponse.Fail.INVALID_IDEMPOTENCY_KEY);
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String key = sha256((authentication.getName() + ":" + request.getRequestURI() + ":" + idempotencyKey)
+                .getBytes(StandardCharsets.UTF_8));
+        String fingerprint = sha256(cachedRequest.body);
+
+        IdempotencyClaim claim = idempotencyStore.claim(key, fingerprint);
+
+        if (!claim.matches(fingerprint)) {
+            sendError(response, HttpResponse.Fail.IDEMPOTENCY_KEY_REUSED);
+            return;
+        }
+
+        if (!claim.isOwner()) {
+            replay(claim.getResponse(), response);
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        IdempotentResponse idempotentResponse = null;
+        try {
+            filterChain.doFilter(cachedRequest, responseWrapper);
+            idempotentResponse = IdempotentResponse.builder()
+                    .status(responseWrapper.getStatus())
+                    .contentType(responseWrapper.getContentType())
+                    .location(responseWrapper.getHeader(HttpHeaders.LOCATION))
+                    .body(responseWrapper.getContentAsByteArray())
+                    .build();
+        } finally {
+            if (idempotentResponse != null && idempotentResponse.getStatus() < 500) {
+                idempotencyStore.complete(claim, idempotentResponse);
+            } else {
+                idempotencyStore.release(claim, idempotentResponse);
+            }
+        }
+
+        responseWrapper.copyBodyToResponse();
+    }
+
+    private void replay(CompletableFuture<IdempotentResponse> future, HttpServletResponse response) throws IOException {
+        // 다른 인스턴스에서 처리 중
+        if (future == null) {
+            sendError(response, HttpResponse.Fail.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+            return;
+        }
+
+        IdempotentResponse idempotentResponse;
+        try {
+            idempotentResponse = future.get(idempotencyProperties.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            sendError(response, HttpResponse.Fail.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sendError(response, HttpResponse.Fail.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+            return;
+        } catch (ExecutionException e) {
+            idempotentResponse = null;
+        }
+
+        // 처음 요청이 예외로 끝난 경우
+        if (idempotentResponse == null) {
+            sendError(response, HttpResponse.Fail.INTERNAL_SERVER_ERROR);
+            return;
+        }
+
+        response.setStatus(idempotentResponse.getStatus());
+        response.setHeader(IDEMPOTENT_REPLAYED, "true");
+        if (idempotentResponse.getContentType() != null) {
+            response.setContentType(idempotentResponse.getContentType());
+        }
+        if (idempotentResponse.getLocation() != null) {
+            response.setHeader(HttpHeaders.LOCATION, idempotentResponse.getLocation());
+        }
+        response.setContentLength(idempotentResponse.getBody().length);
+        response.getOutputStream().write(idempotentResponse.getBody());
+    }
+
+    private void sendError(HttpServletResponse response, HttpResponse.Fail fail) throws IOException {
+        response.sendError(fail.getStatus().value(), fail.getMessage());
+    }
+
+    private static String sha256(byte[] value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 본문 해시를 먼저 구해야 하므로 본문을 읽어두고 다시 읽을 수 있게 한다.
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream inputStream = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return inputStream.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return inputStream.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return inputStream.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding)));
+        }
+    }
+}
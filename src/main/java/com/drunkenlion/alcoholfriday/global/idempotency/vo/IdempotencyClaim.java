@@ -0,0 +1,41 @@
+package com.drunkenlion.alcoholfriday.global.idempotency.vo;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Idempotency-Key 선점 결과
+ * - owner : 처음 받은 요청이므로 직접 처리하고 결과를 저장해야 한다.
+ * - response : 처음 받은 요청의 응답, 처리 중이면 끝날 때 완료된다.
+ *   다른 인스턴스에서 처리 중이라 기다릴 수 없으면 null 이다.
+ * - recordId : jdbc 저장소에서 선점한 기록, 잠금이 지나 다른 요청이 넘겨받은 뒤에는 이 기록만 고친다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class IdempotencyClaim {
+    private final String key;
+    private final boolean owner;
+    private final String fingerprint;
+    private final CompletableFuture<IdempotentResponse> response;
+    private final Long recordId;
+
+    public static IdempotencyClaim owner(String key, String fingerprint, CompletableFuture<IdempotentResponse> response) {
+        return new IdempotencyClaim(key, true, fingerprint, response, null);
+    }
+
+    public static IdempotencyClaim owner(String key, String fingerprint, CompletableFuture<IdempotentResponse> response,
+                                         Long recordId) {
+        return new IdempotencyClaim(key, true, fingerprint, response, recordId);
+    }
+
+    public static IdempotencyClaim duplicate(String key, String fingerprint, CompletableFuture<IdempotentResponse> response) {
+        return new IdempotencyClaim(key, false, fingerprint, response, null);
+    }
+
+    public boolean matches(String fingerprint) {
+        return this.fingerprint.equals(fingerprint);
+    }
+}
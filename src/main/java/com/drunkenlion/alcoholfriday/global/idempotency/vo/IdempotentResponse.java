@@ -0,0 +1,19 @@
+package com.drunkenlion.alcoholfriday.global.idempotency.vo;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 같은 Idempotency-Key 요청에 다시 내려줄 응답
+ */
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class IdempotentResponse {
+    private int status;
+    private String contentType;
+    private String location;
+    private byte[] body;
+}
@@ -0,0 +1,8 @@
+package com.drunkenlion.alcoholfriday.global.migration.dao;
+
+import com.drunkenlion.alcoholfriday.global.migration.entity.DataMigration;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface DataMigrationRepository extends JpaRepository<DataMigration, Long> {
+    boolean existsByName(String name);
+}
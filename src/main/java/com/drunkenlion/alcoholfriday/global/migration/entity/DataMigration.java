@@ -0,0 +1,29 @@
+package com.drunkenlion.alcoholfriday.global.migration.entity;
+
+import com.drunkenlion.alcoholfriday.global.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Comment;
+
+/**
+ * 한 번만 실행하는 데이터 보정 작업의 완료 기록
+ * - 완료 기록이 있는 작업은 애플리케이션을 다시 시작해도 실행하지 않는다.
+ */
+@Entity
+@Getter
+@SuperBuilder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "data_migration", uniqueConstraints = @UniqueConstraint(name = "uk_data_migration_name", columnNames = "name"))
+public class DataMigration extends BaseEntity {
+    @Comment("작업 이름")
+    @Column(name = "name", columnDefinition = "VARCHAR(100)")
+    private String name;
+}
@@ -0,0 +1,216 @@
+package com.drunkenlion.alcoholfriday.global.ncp.application;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.drunkenlion.alcoholfriday.global.common.enumerated.EntityTypeV2;
+import com.drunkenlion.alcoholfriday.global.file.application.EntityImageCache;
+import com.drunkenlion.alcoholfriday.global.file.dao.FileObjectRepository;
+import com.drunkenlion.alcoholfriday.global.file.entity.FileObject;
+import com.drunkenlion.alcoholfriday.global.ncp.config.NcpS3Properties;
+import com.drunkenlion.alcoholfriday.global.ncp.util.ImageResizer;
+import com.drunkenlion.alcoholfriday.global.ncp.util.vo.NcpFileUploadEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.awt.Dimension;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드한 이미지의 크기별 사본(variant) 생성
+ * - 목록 화면은 작은 이미지만 필요하므로, 원본을 한 번 디코딩해 설정한 너비별 JPEG 사본을 원본 옆에 저장한다.
+ * - 파일 저장이 커밋된 후 전용 스레드 풀에서 S3 원본을 내려받아 만들므로 요청 스레드를 붙잡지 않는다.
+ * - 만든 사본은 원본과 같은 seq 의 file_object row 로 저장하며, 저장 전까지는 원본이 썸네일로 쓰인다.
+ * - 저장 후 entity 이미지 캐시를 비워 다음 조회부터 사본 썸네일을 돌려준다.
+ * - 원본은 EXIF Orientation 대로 돌려서 읽으므로, 사본과 원본 row 에 기록하는 크기는 화면에 보이는 방향 기준이다.
+ * - 대기열이 가득 차거나 이미지가 아니거나, 픽셀 수가 설정한 최대값을 넘으면 사본을 만들지 않는다.
+ */
+@Slf4j
+@Component
+public class ImageVariantGenerator {
+    private final AmazonS3Client amazonS3Client;
+    private final NcpS3Properties ncpS3Properties;
+    private final FileObjectRepository fileObjectRepository;
+    private final EntityImageCache entityImageCache;
+    private final NcpObjectDeleter ncpObjectDeleter;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+
+    public ImageVariantGenerator(AmazonS3Client amazonS3Client,
+                                 NcpS3Properties ncpS3Properties,
+                                 FileObjectRepository fileObjectRepository,
+                                 EntityImageCache entityImageCache,
+                                 NcpObjectDeleter ncpObjectDeleter,
+                                 PlatformTransactionManager transactionManager) {
+        this.amazonS3Client = amazonS3Client;
+        this.ncpS3Properties = ncpS3Properties;
+        this.fileObjectRepository = fileObjectRepository;
+        this.entityImageCache = entityImageCache;
+        this.ncpObjectDeleter = ncpObjectDeleter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        NcpS3Properties.Image image = ncpS3Properties.getImage();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(image.getThreads(), image.getThreads(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(image.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ncp-image-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUploaded(NcpFileUploadEvent event) {
+        try {
+            executor.execute(() -> generate(event));
+        } catch (RejectedExecutionException e) {
+            log.warn("[ImageVariantGenerator.onUploaded] 대기열 초과로 사본 생성 생략 : {}", event.getKeyNames());
+        }
+    }
+
+    void generate(NcpFileUploadEvent event) {
+        Map<String, Dimension> sizesByKeyName = new LinkedHashMap<>();
+        Map<String, List<FileObject>> variantsByKeyName = new LinkedHashMap<>();
+        for (String keyName : event.getKeyNames()) {
+            try {
+                BufferedImage source = read(keyName);
+                // 이미지가 아니거나 읽을 수 없는 형식
+                if (source == null) {
+                    continue;
+                }
+
+                sizesByKeyName.put(keyName, new Dimension(source.getWidth(), source.getHeight()));
+                variantsByKeyName.put(keyName, createVariants(event, keyName, source));
+            } catch (IOException | SdkClientException e) {
+                log.warn("[ImageVariantGenerator.generate] 사본 생성 실패 : {}", keyName, e);
+            }
+        }
+
+        if (sizesByKeyName.isEmpty()) {
+            return;
+        }
+
+        List<String> orphanKeyNames =
+                transactionTemplate.execute(status -> record(event, sizesByKeyName, variantsByKeyName));
+        entityImageCache.evict(EntityTypeV2.ofEntityType(event.getEntityType()), event.getEntityId());
+        ncpObjectDeleter.delete(orphanKeyNames);
+    }
+
+    private BufferedImage read(String keyName) throws IOException {
+        try (S3Object s3Object = amazonS3Client.getObject(getBucketName(), keyName);
+             InputStream inputStream = s3Object.getObjectContent()) {
+            return ImageResizer.read(inputStream, ncpS3Properties.getImage().getMaxPixels());
+        }
+    }
+
+    /**
+     * 큰 너비부터 직전 사본을 다시 줄여 나가므로 원본은 한 번만 디코딩한다.
+     * 사본의 seq 는 기록할 때 원본의 seq 로 채운다.
+     */
+    private List<FileObject> createVariants(NcpFileUploadEvent event, String keyName, BufferedImage source)
+            throws IOException {
+        List<Integer> widths = ncpS3Properties.getImage().getWidths().stream()
+                .sorted(Comparator.reverseOrder())
+                .toList();
+
+        List<FileObject> variants = new ArrayList<>();
+        int originalWidth = source.getWidth();
+        for (int width : widths) {
+            if (width >= originalWidth) {
+                continue;
+            }
+
+            source = ImageResizer.resize(source, width);
+            String variantKeyName = generateVariantKeyName(keyName, width);
+            uploadBucket(variantKeyName, ImageResizer.toJpeg(source, ncpS3Properties.getImage().getQuality()));
+            variants.add(FileObject.builder()
+                    .entityType(event.getEntityType())
+                    .entityId(event.getEntityId())
+                    .variant(true)
+                    .keyName(variantKeyName)
+                    .path(generatePath(variantKeyName))
+                    .width(source.getWidth())
+                    .height(source.getHeight())
+                    .build());
+        }
+        return variants;
+    }
+
+    /**
+     * 원본 row 에 크기를 기록하고 사본 row 를 저장한다. 그 사이에 원본이 지워졌으면 사본을 지우도록 돌려준다.
+     */
+    private List<String> record(NcpFileUploadEvent event,
+                                Map<String, Dimension> sizesByKeyName,
+                                Map<String, List<FileObject>> variantsByKeyName) {
+        List<FileObject> originals = fileObjectRepository.findAllByEntityTypeAndEntityIdAndKeyNameIn(
+                event.getEntityType(), event.getEntityId(), sizesByKeyName.keySet());
+
+        List<FileObject> variants = new ArrayList<>();
+        for (FileObject original : originals) {
+            Dimension size = sizesByKeyName.get(original.getKeyName());
+            original.updateSize(size.width, size.height);
+
+            List<FileObject> originalVariants = variantsByKeyName.remove(original.getKeyName());
+            originalVariants.forEach(variant -> variant.updateSeq(original.getSeq()));
+            variants.addAll(originalVariants);
+        }
+        fileObjectRepository.saveAllInBatch(variants);
+
+        return variantsByKeyName.values().stream()
+                .flatMap(List::stream)
+                .map(FileObject::getKeyName)
+                .toList();
+    }
+
+    // item/2024/03/item+1_uuid_name.png -> item/2024/03/item+1_uuid_name_w160.jpg
+    static String generateVariantKeyName(String keyName, int width) {
+        int slash = keyName.lastIndexOf('/');
+        int dot = keyName.lastIndexOf('.');
+        String baseName = dot > slash ? keyName.substring(0, dot) : keyName;
+        return "%s_w%d.jpg".formatted(baseName, width);
+    }
+
+    private void uploadBucket(String keyName, byte[] bytes) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(bytes.length);
+        objectMetadata.setContentType("image/jpeg");
+
+        amazonS3Client.putObject(
+                new PutObjectRequest(getBucketName(), keyName, new ByteArrayInputStream(bytes), objectMetadata)
+                        .withCannedAcl(CannedAccessControlList.PublicRead));
+    }
+
+    private String getBucketName() {
+        return ncpS3Properties.getS3().getBucketName();
+    }
+
+    private String generatePath(String keyName) {
+        return amazonS3Client.getUrl(getBucketName(), keyName).toString();
+    }
+}
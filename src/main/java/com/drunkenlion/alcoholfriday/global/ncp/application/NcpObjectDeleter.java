@@ -0,0 +1,103 @@
+package com.drunkenlion.alcoholfriday.global.ncp.application;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.drunkenlion.alcoholfriday.global.ncp.config.NcpS3Properties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * bucket 파일 삭제
+ * - 파일 row 를 지운 트랜잭션이 커밋된 후 key 를 대기열에 넣고, 1초마다 DeleteObjects 한 번에 최대 1000개씩 지운다.
+ * - 롤백되면 지우지 않으므로 남은 row 의 파일은 그대로 쓸 수 있다.
+ * - 삭제에 실패했거나 대기열에 있다가 서버가 내려가 지우지 못한 파일은 FileObjectSweeper 가 나중에 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NcpObjectDeleter {
+    // DeleteObjects 한 번에 지울 수 있는 최대 key 수
+    static final int MAX_KEYS = 1000;
+
+    private final AmazonS3Client amazonS3Client;
+    private final NcpS3Properties ncpS3Properties;
+    private final Queue<String> queue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 진행 중인 트랜잭션이 커밋된 후 지운다. 트랜잭션 밖이면 바로 대기열에 넣는다.
+     */
+    public void deleteAfterCommit(Collection<String> keyNames) {
+        if (keyNames.isEmpty()) {
+            return;
+        }
+
+        List<String> copied = List.copyOf(keyNames);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            queue.addAll(copied);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                queue.addAll(copied);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void flush() {
+        List<String> keyNames = new ArrayList<>(MAX_KEYS);
+        String keyName;
+        while ((keyName = queue.poll()) != null) {
+            keyNames.add(keyName);
+            if (keyNames.size() == MAX_KEYS) {
+                delete(keyNames);
+                keyNames = new ArrayList<>(MAX_KEYS);
+            }
+        }
+
+        if (!keyNames.isEmpty()) {
+            delete(keyNames);
+        }
+    }
+
+    // 대기열에 남은 파일을 지우고 내려간다.
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 바로 지운다. (1000개씩 나눠 요청)
+     *
+     * @return 삭제를 요청한 key 수 (실패한 묶음 제외)
+     */
+    public int delete(List<String> keyNames) {
+        int deleted = 0;
+        for (int from = 0; from < keyNames.size(); from += MAX_KEYS) {
+            List<String> batch = keyNames.subList(from, Math.min(from + MAX_KEYS, keyNames.size()));
+            try {
+                amazonS3Client.deleteObjects(new DeleteObjectsRequest(ncpS3Properties.getS3().getBucketName())
+                        .withKeys(batch.toArray(String[]::new))
+                        .withQuiet(true));
+                deleted += batch.size();
+            } catch (SdkClientException e) {
+                log.warn("[NcpObjectDeleter.delete] 파일 삭제 실패 : {}건, 첫 key : {}", batch.size(), batch.get(0), e);
+            }
+        }
+        return deleted;
+    }
+}
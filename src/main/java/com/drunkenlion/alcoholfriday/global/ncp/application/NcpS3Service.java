@@ -1,17 +1,23 @@
 package com.drunkenlion.alcoholfriday.global.ncp.application;
 
 import com.drunkenlion.alcoholfriday.global.common.entity.BaseEntity;
+import com.drunkenlion.alcoholfriday.global.file.entity.FileObject;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadInfo;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadResponse;
 import com.drunkenlion.alcoholfriday.global.ncp.entity.NcpFile;
 import java.util.List;
-import java.util.Map;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface NcpS3Service {
-    NcpFile saveFiles(BaseEntity entity, List<MultipartFile> files);
+    List<FileObject> saveFiles(BaseEntity entity, List<MultipartFile> files);
 
     String saveFile(Long id, MultipartFile files);
 
-    Map<String, Object> updateFile(BaseEntity entity, int seq, MultipartFile file);
+    FileObject updateFile(BaseEntity entity, int seq, MultipartFile file);
+
+    FileUploadResponse createUploadUrl(BaseEntity entity, FileUploadInfo file);
+
+    FileObject completeUpload(BaseEntity entity, int seq, String keyName);
 
     NcpFile ncpUploadFiles(List<MultipartFile> multipartFiles, Long entityId, String entityType);
 
@@ -1,31 +1,44 @@
 package com.drunkenlion.alcoholfriday.global.ncp.application;
 
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.HttpMethod;
 import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.Upload;
 import com.drunkenlion.alcoholfriday.domain.customerservice.notice.dao.NoticeRepository;
 import com.drunkenlion.alcoholfriday.domain.customerservice.notice.entity.Notice;
 import com.drunkenlion.alcoholfriday.global.common.entity.BaseEntity;
 import com.drunkenlion.alcoholfriday.global.common.enumerated.EntityTypeV2;
 import com.drunkenlion.alcoholfriday.global.common.response.HttpResponse;
 import com.drunkenlion.alcoholfriday.global.exception.BusinessException;
+import com.drunkenlion.alcoholfriday.global.file.entity.FileObject;
 import com.drunkenlion.alcoholfriday.global.ncp.config.NcpS3Properties;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadInfo;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadResponse;
 import com.drunkenlion.alcoholfriday.global.ncp.entity.NcpFile;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 @Slf4j
@@ -35,28 +48,25 @@ public class NcpS3ServiceImpl implements NcpS3Service {
     private final NoticeRepository noticeRepository;
     private final NcpS3Properties ncpS3Properties;
     private final AmazonS3Client amazonS3Client;
+    private final TransferManager transferManager;
 
     /**
      * NCP S3 bucket save
+     * - 파일(들)을 동시에 업로드하고, seq 는 요청한 파일 순서대로 붙인다.
      */
     @Override
-    public NcpFile saveFiles(BaseEntity entity, List<MultipartFile> files) {
-        List<Map<String, Object>> fileMaps = new ArrayList<>();
+    public List<FileObject> saveFiles(BaseEntity entity, List<MultipartFile> files) {
+        List<String> keyNames = files.stream()
+                .map(file -> generateFileName(entity, file))
+                .toList();
 
-        // thread safe AtomicInteger 사용
-        AtomicInteger seq = new AtomicInteger(1);
-        for (MultipartFile file : files) {
-            String keyName = generateFileName(entity, file);
-            uploadBucket(file, keyName);
-            String path = generatePath(keyName);
-            fileMaps.add(createMap(seq.getAndIncrement(), keyName, path));
-        }
+        uploadBuckets(files, keyNames);
 
-        return NcpFile.builder()
-                .entityId(entity.getId())
-                .entityType(EntityTypeV2.getEntityType(entity))
-                .s3Files(fileMaps)
-                .build();
+        List<FileObject> fileObjects = new ArrayList<>();
+        for (int i = 0; i < keyNames.size(); i++) {
+            fileObjects.add(createFileObject(entity, i + 1, keyNames.get(i)));
+        }
+        return fileObjects;
     }
 
     @Override
@@ -75,11 +85,66 @@ public class NcpS3ServiceImpl implements NcpS3Service {
     }
 
     @Override
-    public Map<String, Object> updateFile(BaseEntity entity, int seq, MultipartFile file) {
+    public FileObject updateFile(BaseEntity entity, int seq, MultipartFile file) {
         String keyName = generateFileName(entity, file);
         uploadBucket(file, keyName);
-        String path = generatePath(keyName);
-        return createMap(seq, keyName, path);
+        return createFileObject(entity, seq, keyName);
+    }
+
+    /**
+     * 파일을 서버를 거치지 않고 bucket 에 바로 올릴 수 있는 서명된 PUT URL 발급
+     * - keyName 은 multipart 업로드와 같은 규칙으로 만들고, 요청한 Content-Type 으로만 올릴 수 있다.
+     * - 올린 파일은 completeUpload 로 확인하기 전까지 공개하지 않는다.
+     */
+    @Override
+    public FileUploadResponse createUploadUrl(BaseEntity entity, FileUploadInfo file) {
+        NcpS3Properties.Presign presign = ncpS3Properties.getPresign();
+        if (file.getSize() > presign.getMaxSize().toBytes()) {
+            throw new BusinessException(HttpResponse.Fail.FILE_SIZE_EXCEEDED);
+        }
+
+        String keyName = generateFileName(entity, StringUtils.getFilename(file.getFileName()));
+        Instant expiration = Instant.now().plus(presign.getExpiration());
+
+        GeneratePresignedUrlRequest request =
+                new GeneratePresignedUrlRequest(ncpS3Properties.getS3().getBucketName(), keyName, HttpMethod.PUT)
+                        .withExpiration(Date.from(expiration))
+                        .withContentType(file.getContentType());
+
+        return FileUploadResponse.of(keyName, amazonS3Client.generatePresignedUrl(request).toString(),
+                file.getContentType(), LocalDateTime.ofInstant(expiration, ZoneId.systemDefault()));
+    }
+
+    /**
+     * 직접 올린 파일 확인 (HEAD)
+     * - 다른 entity 의 keyName 이거나 파일이 없으면 NOT_FOUND_FILE
+     * - 허용 크기를 넘으면 파일을 지우고 FILE_SIZE_EXCEEDED (URL 로는 올리는 크기를 제한할 수 없다.)
+     * - 확인한 파일은 공개로 바꾼다.
+     */
+    @Override
+    public FileObject completeUpload(BaseEntity entity, int seq, String keyName) {
+        if (!isKeyNameOf(entity, keyName)) {
+            throw new BusinessException(HttpResponse.Fail.NOT_FOUND_FILE);
+        }
+
+        String bucketName = ncpS3Properties.getS3().getBucketName();
+        ObjectMetadata objectMetadata;
+        try {
+            objectMetadata = amazonS3Client.getObjectMetadata(bucketName, keyName);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                throw new BusinessException(HttpResponse.Fail.NOT_FOUND_FILE);
+            }
+            throw e;
+        }
+
+        if (objectMetadata.getContentLength() > ncpS3Properties.getPresign().getMaxSize().toBytes()) {
+            deleteObjects(List.of(keyName));
+            throw new BusinessException(HttpResponse.Fail.FILE_SIZE_EXCEEDED);
+        }
+
+        amazonS3Client.setObjectAcl(bucketName, keyName, CannedAccessControlList.PublicRead);
+        return createFileObject(entity, seq, keyName);
     }
 
     /**
@@ -151,28 +216,118 @@ public class NcpS3ServiceImpl implements NcpS3Service {
     }
 
     private String generateFileName(BaseEntity entity, MultipartFile file) {
+        return generateFileName(entity, file.getOriginalFilename());
+    }
+
+    // entityType/yyyy/MM/entityType+entityId_uuid_originalFileName
+    private String generateFileName(BaseEntity entity, String originalFileName) {
         String entityType = EntityTypeV2.getEntityType(entity);
         String folderName = createFolderNameWithTodayDate();
-        String originalFileName = file.getOriginalFilename();
         String newFileName =
                 "%s+%d_%s_%s".formatted(entityType, entity.getId(), UUID.randomUUID(), originalFileName);
         return entityType + "/" + folderName + "/" + newFileName;
     }
+
+    private boolean isKeyNameOf(BaseEntity entity, String keyName) {
+        String entityType = EntityTypeV2.getEntityType(entity);
+        String fileName = keyName.substring(keyName.lastIndexOf('/') + 1);
+        return keyName.startsWith(entityType + "/")
+                && fileName.startsWith("%s+%d_".formatted(entityType, entity.getId()));
+    }
+
     private void uploadBucket(MultipartFile file, String keyName) {
-        ObjectMetadata objectMetadata = new ObjectMetadata();
-        objectMetadata.setContentLength(file.getSize());
-        objectMetadata.setContentType(file.getContentType());
-        try (InputStream inputStream = file.getInputStream()) {
-            amazonS3Client.putObject(
-                    new PutObjectRequest(
-                            ncpS3Properties.getS3().getBucketName(), keyName, inputStream, objectMetadata)
-                            .withCannedAcl(CannedAccessControlList.PublicRead));
-        } catch (SdkClientException e) {
+        uploadBuckets(List.of(file), List.of(keyName));
+    }
+
+    /**
+     * 파일(들)을 업로드 스레드 풀에서 동시에 올리고 모두 끝날 때까지 기다린다.
+     * - 요청의 임시 파일에서 바로 읽어 올리므로, 요청이 끝나기 전에 업로드를 마쳐야 한다.
+     * - 하나라도 실패하면 진행 중인 업로드를 취소하고 이미 올린 파일을 지운다.
+     * - 업로드 후 진행 중인 트랜잭션이 롤백되면 올린 파일을 지운다.
+     */
+    private void uploadBuckets(List<MultipartFile> files, List<String> keyNames) {
+        List<InputStream> inputStreams = new ArrayList<>();
+        List<Upload> uploads = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < files.size(); i++) {
+                MultipartFile file = files.get(i);
+                InputStream inputStream = file.getInputStream();
+                inputStreams.add(inputStream);
+                uploads.add(transferManager.upload(createPutObjectRequest(file, keyNames.get(i), inputStream)));
+            }
+
+            for (Upload upload : uploads) {
+                upload.waitForUploadResult();
+            }
+        } catch (AmazonClientException e) {
             log.info("[NcpS3ServiceImpl.saveFilesToNCP] SdkClientException");
+            abortUploads(uploads, keyNames);
             throw new SdkClientException(e);
         } catch (IOException e) {
             log.info("[NcpS3ServiceImpl.saveFilesToNCP] IOException");
+            abortUploads(uploads, keyNames);
             throw new RuntimeException(e);
+        } catch (InterruptedException e) {
+            log.info("[NcpS3ServiceImpl.saveFilesToNCP] InterruptedException");
+            Thread.currentThread().interrupt();
+            abortUploads(uploads, keyNames);
+            throw new SdkClientException(e);
+        } finally {
+            inputStreams.forEach(this::closeQuietly);
+        }
+
+        deleteObjectsOnRollback(keyNames);
+    }
+
+    private PutObjectRequest createPutObjectRequest(MultipartFile file, String keyName, InputStream inputStream) {
+        // 크기를 알려줘야 SDK 가 파일 전체를 메모리에 올리지 않는다.
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(file.getSize());
+        objectMetadata.setContentType(file.getContentType());
+
+        return new PutObjectRequest(ncpS3Properties.getS3().getBucketName(), keyName, inputStream, objectMetadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead);
+    }
+
+    private void abortUploads(List<Upload> uploads, List<String> keyNames) {
+        uploads.forEach(Upload::abort);
+        deleteObjects(keyNames);
+    }
+
+    private void deleteObjectsOnRollback(List<String> keyNames) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    deleteObjects(keyNames);
+                }
+            }
+        });
+    }
+
+    /**
+     * 올린 파일(들)을 한 번의 요청으로 지운다. 없는 파일은 무시되며, 실패해도 원래 예외를 가리지 않도록 기록만 한다.
+     */
+    private void deleteObjects(List<String> keyNames) {
+        try {
+            amazonS3Client.deleteObjects(new DeleteObjectsRequest(ncpS3Properties.getS3().getBucketName())
+                    .withKeys(keyNames.toArray(String[]::new))
+                    .withQuiet(true));
+        } catch (SdkClientException e) {
+            log.warn("[NcpS3ServiceImpl.deleteObjects] 업로드한 파일 삭제 실패 : {}", keyNames, e);
+        }
+    }
+
+    private void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            log.info("[NcpS3ServiceImpl.closeQuietly] IOException");
         }
     }
     private String generatePath(String keyName) {
@@ -184,11 +339,13 @@ public class NcpS3ServiceImpl implements NcpS3Service {
         String month = String.format("%02d", now.getMonthValue());
         return year + "/" + month;
     }
-    private Map<String, Object> createMap(int seq, String keyName, String path) {
-        Map<String, Object> fileMap = new LinkedHashMap<>();
-        fileMap.put("seq", seq);
-        fileMap.put("keyName", keyName);
-        fileMap.put("path", path);
-        return fileMap;
+    private FileObject createFileObject(BaseEntity entity, int seq, String keyName) {
+        return FileObject.builder()
+                .entityType(EntityTypeV2.getEntityType(entity))
+                .entityId(entity.getId())
+                .seq(seq)
+                .keyName(keyName)
+                .path(generatePath(keyName))
+                .build();
     }
 }
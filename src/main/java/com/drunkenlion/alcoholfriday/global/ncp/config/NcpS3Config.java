@@ -5,10 +5,15 @@ import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Configuration
 @RequiredArgsConstructor
 public class NcpS3Config {
@@ -27,6 +32,30 @@ public class NcpS3Config {
                                 ncpS3Properties.getS3().getEndPoint(),
                                 ncpS3Properties.getS3().getRegion()))
                 .withCredentials(new AWSStaticCredentialsProvider(credentials))
+                .withPathStyleAccessEnabled(ncpS3Properties.getS3().isPathStyleAccess())
+                .build();
+    }
+
+    /**
+     * 파일 업로드
+     * - 크기가 정해진 전용 스레드 풀에서 올리므로 요청이 몰려도 S3 연결 수가 늘어나지 않는다.
+     * - 큰 파일은 multipart upload 로 조각씩 읽어 올리므로 파일 전체를 메모리에 올리지 않는다.
+     * - 종료할 때 스레드 풀과 S3 client 를 함께 정리한다.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public TransferManager transferManager(AmazonS3Client amazonS3Client) {
+        NcpS3Properties.Upload upload = ncpS3Properties.getUpload();
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        return TransferManagerBuilder.standard()
+                .withS3Client(amazonS3Client)
+                .withExecutorFactory(() -> Executors.newFixedThreadPool(upload.getThreads(), runnable -> {
+                    Thread thread = new Thread(runnable, "ncp-upload-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }))
+                .withMultipartUploadThreshold(upload.getMultipartThreshold().toBytes())
+                .withMinimumUploadPartSize(upload.getPartSize().toBytes())
                 .build();
     }
-}
\ No newline at end of file
+}
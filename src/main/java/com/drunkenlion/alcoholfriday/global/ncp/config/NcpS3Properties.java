@@ -4,6 +4,10 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
 
 @Component
 @ConfigurationProperties(prefix = "ncp.cloud.aws")
@@ -12,6 +16,9 @@ import org.springframework.stereotype.Component;
 public class NcpS3Properties {
     private Credentials credentials;
     private S3 s3;
+    private Upload upload = new Upload();
+    private Presign presign = new Presign();
+    private Image image = new Image();
 
     @Getter
     @Setter
@@ -26,5 +33,42 @@ public class NcpS3Properties {
         private String bucketName;
         private String endPoint;
         private String region;
+        // bucket 을 경로로 구분하는 서버(로컬 테스트용 저장소 등)에 연결할 때 true
+        private boolean pathStyleAccess;
+    }
+
+    @Getter
+    @Setter
+    public static class Upload {
+        // 동시에 업로드할 수 있는 파일 수 (요청 전체 공유)
+        private int threads = 8;
+        // 이 크기 이상인 파일은 multipart upload 로 나눠 올린다.
+        private DataSize multipartThreshold = DataSize.ofMegabytes(16);
+        // multipart upload 한 조각의 크기 (S3 최소 5MB)
+        private DataSize partSize = DataSize.ofMegabytes(8);
+    }
+
+    @Getter
+    @Setter
+    public static class Presign {
+        // 직접 업로드 URL 유효 시간
+        private Duration expiration = Duration.ofMinutes(10);
+        // 직접 업로드할 수 있는 파일 하나의 최대 크기
+        private DataSize maxSize = DataSize.ofMegabytes(20);
+    }
+
+    @Getter
+    @Setter
+    public static class Image {
+        // 업로드한 이미지마다 만들 사본의 너비(px), 원본보다 작은 너비만 만든다.
+        private List<Integer> widths = List.of(160, 480, 1080);
+        // 사본 JPEG 품질 (0 ~ 1)
+        private float quality = 0.8f;
+        // 사본을 만드는 스레드 수
+        private int threads = 2;
+        // 대기할 수 있는 업로드 건수, 넘치면 사본을 만들지 않고 원본을 쓴다.
+        private int queueCapacity = 100;
+        // 사본을 만들 원본의 최대 픽셀 수 (너비 x 높이), 넘으면 디코딩하지 않는다.
+        private long maxPixels = 40_000_000L;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,21 @@
+package com.drunkenlion.alcoholfriday.global.ncp.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Schema(description = "직접 업로드 완료 요청 항목")
+public class FileUploadCompleteRequest {
+    @Schema(description = "업로드를 마친 파일의 keyName 목록 (이 순서대로 이미지 뒤에 붙는다.)")
+    @NotEmpty
+    private List<String> keyNames;
+}
@@ -0,0 +1,31 @@
+package com.drunkenlion.alcoholfriday.global.ncp.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Schema(description = "직접 업로드할 파일 정보")
+public class FileUploadInfo {
+    @Schema(description = "파일 이름", example = "image.png")
+    @NotBlank
+    private String fileName;
+
+    @Schema(description = "파일 Content-Type (업로드할 때 같은 값을 보내야 한다.)", example = "image/png")
+    @NotBlank
+    private String contentType;
+
+    @Schema(description = "파일 크기(byte)")
+    @NotNull
+    @Positive
+    private Long size;
+}
@@ -0,0 +1,23 @@
+package com.drunkenlion.alcoholfriday.global.ncp.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Schema(description = "직접 업로드 URL 발급 요청 항목")
+public class FileUploadRequest {
+    @Schema(description = "업로드할 파일 목록")
+    @NotEmpty
+    @Valid
+    private List<FileUploadInfo> files;
+}
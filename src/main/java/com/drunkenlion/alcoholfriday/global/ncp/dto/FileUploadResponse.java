@@ -0,0 +1,38 @@
+package com.drunkenlion.alcoholfriday.global.ncp.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Schema(description = "직접 업로드 URL 발급 응답")
+public class FileUploadResponse {
+    @Schema(description = "저장될 파일의 keyName (업로드 완료 요청에 전달)")
+    private String keyName;
+
+    @Schema(description = "파일을 PUT 으로 올릴 URL")
+    private String uploadUrl;
+
+    @Schema(description = "업로드할 때 보내야 하는 Content-Type")
+    private String contentType;
+
+    @Schema(description = "URL 만료 일시")
+    private LocalDateTime expiredAt;
+
+    public static FileUploadResponse of(String keyName, String uploadUrl, String contentType,
+                                        LocalDateTime expiredAt) {
+        return FileUploadResponse.builder()
+                .keyName(keyName)
+                .uploadUrl(uploadUrl)
+                .contentType(contentType)
+                .expiredAt(expiredAt)
+                .build();
+    }
+}
@@ -1,9 +1,15 @@
 package com.drunkenlion.alcoholfriday.global.ncp.dto;
 
-import com.drunkenlion.alcoholfriday.global.ncp.entity.NcpFile;
+import com.drunkenlion.alcoholfriday.global.file.entity.FileObject;
 import com.drunkenlion.alcoholfriday.global.ncp.util.vo.FileInfo;
+import com.drunkenlion.alcoholfriday.global.ncp.util.vo.FileVariant;
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -27,30 +33,63 @@ public class NcpFileResponse {
     @Schema(description = "해당 entity의 타입")
     private String entityType;
 
-    public static List<NcpFileResponse> of(List<NcpFile> ncpFiles) {
-        return ncpFiles.stream()
-                .map((NcpFileResponse::of))
+    /**
+     * entity 의 파일(원본, 사본) row 를 seq 순서의 응답으로 묶는다. 사본은 같은 seq 원본의 variants 가 된다.
+     */
+    public static NcpFileResponse of(String entityType, Long entityId, Collection<FileObject> fileObjects) {
+        List<FileObject> originals = new ArrayList<>();
+        Map<Integer, List<FileVariant>> variantsBySeq = new HashMap<>();
+
+        for (FileObject fileObject : fileObjects) {
+            if (!fileObject.isVariant()) {
+                originals.add(fileObject);
+                continue;
+            }
+
+            variantsBySeq.computeIfAbsent(fileObject.getSeq(), seq -> new ArrayList<>())
+                    .add(FileVariant.builder()
+                            .width(fileObject.getWidth())
+                            .path(fileObject.getPath())
+                            .build());
+        }
+
+        originals.sort(Comparator.comparing(FileObject::getSeq));
+        variantsBySeq.values().forEach(variants -> variants.sort(Comparator.comparing(FileVariant::getWidth)));
+
+        List<FileInfo> files = originals.stream()
+                .map(original -> toFileInfo(original, variantsBySeq.getOrDefault(original.getSeq(), List.of())))
                 .toList();
+
+        return NcpFileResponse.builder()
+                .file(files)
+                .entityId(entityId)
+                .entityType(entityType)
+                .build();
     }
 
-    public static NcpFileResponse of(NcpFile ncpFile) {
-        // NcpFile의 s3Files 필드를 FileInfo 객체로 변환
-        List<FileInfo> files = null;
-
-        if (ncpFile != null && ncpFile.getS3Files() != null) {
-            files = ncpFile.getS3Files().stream()
-                    .map(json -> FileInfo.builder()
-                            .seq((Integer) json.get("seq"))
-                            .keyName((String) json.get("keyName"))
-                            .path((String) json.get("path"))
-                            .build()
-                    ).toList();
+    /**
+     * 첫 번째(seq : 1) 파일만 남긴 응답, 파일이 없으면 null
+     */
+    public static NcpFileResponse ofFirst(NcpFileResponse files) {
+        if (files.getFile().isEmpty()) {
+            return null;
         }
 
         return NcpFileResponse.builder()
-                .file(files)
-                .entityId(ncpFile.getEntityId())
-                .entityType(ncpFile.getEntityType())
+                .file(files.getFile().subList(0, 1))
+                .entityId(files.getEntityId())
+                .entityType(files.getEntityType())
+                .build();
+    }
+
+    // 사본 중 가장 작은 것을 썸네일로 쓰고, 사본이 없으면 원본을 쓴다.
+    private static FileInfo toFileInfo(FileObject original, List<FileVariant> variants) {
+        return FileInfo.builder()
+                .seq(original.getSeq())
+                .keyName(original.getKeyName())
+                .path(original.getPath())
+                .thumbnailPath(variants.isEmpty() ? original.getPath() : variants.get(0).getPath())
+                .variants(variants)
                 .build();
     }
 }
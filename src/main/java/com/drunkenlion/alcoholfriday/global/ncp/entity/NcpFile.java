@@ -10,6 +10,7 @@ import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.Comment;
 import org.hibernate.annotations.Type;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +36,10 @@ public class NcpFile extends BaseEntity {
     @Column(name = "entity_type", columnDefinition = "VARCHAR(20)")
     private String entityType;
 
+    @Comment("file_object 로 옮긴 일시 (옮기기 전이면 null)")
+    @Column(name = "migrated_at", columnDefinition = "DATETIME")
+    private LocalDateTime migratedAt;
+
     public void updateFiles(List<Map<String, Object>> files) {
         this.s3Files = files;
     }
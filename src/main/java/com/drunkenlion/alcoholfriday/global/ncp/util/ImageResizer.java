@@ -0,0 +1,224 @@
+package com.drunkenlion.alcoholfriday.global.ncp.util;
+
+import org.w3c.dom.NodeList;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * 이미지 크기 조절 / JPEG 변환
+ * - 한 번에 크게 줄이면 bilinear 보간이 픽셀을 건너뛰어 계단 현상이 생기므로, 절반씩 나눠 줄인다.
+ * - JPEG 은 투명도를 지원하지 않으므로 투명한 부분은 흰색으로 채운다.
+ * - 디코딩한 이미지는 픽셀마다 메모리를 차지하므로, 헤더의 크기를 먼저 확인해 너무 큰 이미지는 디코딩하지 않는다.
+ * - 휴대폰 사진은 픽셀을 센서 방향으로 저장하고 EXIF Orientation 으로 돌려 보여주므로, 읽을 때 방향대로 돌려 둔다.
+ *   (사본은 EXIF 없이 JPEG 으로 저장되므로 돌리지 않으면 옆으로 누운 썸네일이 된다.)
+ */
+public final class ImageResizer {
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    // APP1 (EXIF) 마커
+    private static final int APP1_MARKER = 0xE1;
+    private static final int ORIENTATION_TAG = 0x0112;
+    private static final int NORMAL_ORIENTATION = 1;
+
+    private ImageResizer() {
+    }
+
+    /**
+     * 이미지를 읽는다. 이미지가 아니거나 읽을 수 없는 형식이면 null 을 돌려준다.
+     * 헤더의 너비 x 높이가 maxPixels 를 넘으면 디코딩하지 않고 IOException 을 던진다.
+     * JPEG 의 EXIF Orientation 이 있으면 보이는 방향으로 돌린 이미지를 돌려준다.
+     */
+    public static BufferedImage read(InputStream inputStream, long maxPixels) throws IOException {
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            if (imageInputStream == null) {
+                return null;
+            }
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                // EXIF 를 읽기 위해 메타데이터를 무시하지 않는다.
+                reader.setInput(imageInputStream, true, false);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    throw new IOException("이미지 픽셀 수 초과 : %d > %d".formatted(pixels, maxPixels));
+                }
+
+                BufferedImage image = reader.read(0, reader.getDefaultReadParam());
+                return orient(image, readOrientation(reader.getImageMetadata(0)));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * EXIF Orientation (1 ~ 8) 대로 돌리거나 뒤집는다. 5 ~ 8 은 너비와 높이가 바뀐다.
+     */
+    static BufferedImage orient(BufferedImage source, int orientation) {
+        if (orientation == NORMAL_ORIENTATION) {
+            return source;
+        }
+
+        int width = source.getWidth();
+        int height = source.getHeight();
+        // AffineTransform(m00, m10, m01, m11, m02, m12) : x' = m00 x + m01 y + m02, y' = m10 x + m11 y + m12
+        AffineTransform transform = switch (orientation) {
+            // 좌우 반전
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);
+            // 180도 회전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height);
+            // 상하 반전
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);
+            // 좌상단-우하단 대각선 기준 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+            // 시계 방향 90도 회전
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);
+            // 우상단-좌하단 대각선 기준 반전
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width);
+            // 반시계 방향 90도 회전
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, width);
+            default -> null;
+        };
+        if (transform == null) {
+            return source;
+        }
+
+        boolean swapped = orientation >= 5;
+        BufferedImage target = new BufferedImage(swapped ? height : width, swapped ? width : height,
+                source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    // JPEG 메타데이터의 APP1 (EXIF) 에서 Orientation 을 찾는다. 없거나 읽을 수 없으면 1
+    private static int readOrientation(IIOMetadata metadata) {
+        if (metadata == null || !Arrays.asList(metadata.getMetadataFormatNames()).contains(JPEG_METADATA_FORMAT)) {
+            return NORMAL_ORIENTATION;
+        }
+
+        IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(JPEG_METADATA_FORMAT);
+        // 표준 JPEG 플러그인은 APP1 을 해석하지 않고 markerSequence 의 unknown 노드에 그대로 담는다.
+        NodeList markers = root.getElementsByTagName("unknown");
+        for (int i = 0; i < markers.getLength(); i++) {
+            IIOMetadataNode marker = (IIOMetadataNode) markers.item(i);
+            if (Integer.toString(APP1_MARKER).equals(marker.getAttribute("MarkerTag"))
+                    && marker.getUserObject() instanceof byte[] segment) {
+                int orientation = readExifOrientation(segment);
+                if (orientation != NORMAL_ORIENTATION) {
+                    return orientation;
+                }
+            }
+        }
+        return NORMAL_ORIENTATION;
+    }
+
+    /**
+     * APP1 세그먼트("Exif\0\0" + TIFF) 의 첫 IFD 에서 Orientation 을 읽는다. 없거나 잘못된 값이면 1
+     */
+    static int readExifOrientation(byte[] segment) {
+        if (segment.length < 14 || segment[0] != 'E' || segment[1] != 'x' || segment[2] != 'i' || segment[3] != 'f') {
+            return NORMAL_ORIENTATION;
+        }
+
+        // TIFF 헤더 : 바이트 순서(II / MM) 2, 42 2, 첫 IFD 위치 4
+        ByteBuffer tiff = ByteBuffer.wrap(segment, 6, segment.length - 6).slice();
+        tiff.order(tiff.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        int ifd = tiff.getInt(4);
+        if (ifd < 8 || ifd > tiff.limit() - 2) {
+            return NORMAL_ORIENTATION;
+        }
+
+        // IFD : 항목 수 2, 항목마다 tag 2, type 2, count 4, value 4 (SHORT 값은 앞 2 바이트)
+        int count = tiff.getShort(ifd) & 0xFFFF;
+        for (int i = 0; i < count; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry > tiff.limit() - 12) {
+                break;
+            }
+            if ((tiff.getShort(entry) & 0xFFFF) == ORIENTATION_TAG) {
+                int orientation = tiff.getShort(entry + 8) & 0xFFFF;
+                return orientation >= 1 && orientation <= 8 ? orientation : NORMAL_ORIENTATION;
+            }
+        }
+        return NORMAL_ORIENTATION;
+    }
+
+    /**
+     * 비율을 유지한 채 너비를 줄인다. 원본 너비보다 크거나 같으면 원본을 RGB 로만 바꿔 돌려준다.
+     */
+    public static BufferedImage resize(BufferedImage source, int width) {
+        int targetWidth = Math.min(width, source.getWidth());
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+
+        do {
+            currentWidth = Math.max(targetWidth, currentWidth / 2);
+            currentHeight = Math.max(targetHeight, currentHeight / 2);
+            current = draw(current, currentWidth, currentHeight);
+        } while (currentWidth != targetWidth || currentHeight != targetHeight);
+
+        return current;
+    }
+
+    public static byte[] toJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(quality);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+
+        return outputStream.toByteArray();
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+}
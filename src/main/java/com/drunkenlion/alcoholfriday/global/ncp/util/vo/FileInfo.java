@@ -3,6 +3,8 @@ package com.drunkenlion.alcoholfriday.global.ncp.util.vo;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
+import java.util.List;
+
 @Getter
 @Builder
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
@@ -18,4 +20,10 @@ public class FileInfo {
 
     @Schema(description = "file의 full path")
     private String path;
+
+    @Schema(description = "목록용 작은 이미지의 full path (사본이 없으면 원본)")
+    private String thumbnailPath;
+
+    @Schema(description = "크기별 이미지 사본 (작은 너비부터)")
+    private List<FileVariant> variants;
 }
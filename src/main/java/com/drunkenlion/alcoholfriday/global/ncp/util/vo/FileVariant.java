@@ -0,0 +1,18 @@
+package com.drunkenlion.alcoholfriday.global.ncp.util.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString(callSuper = true)
+@Schema(description = "크기별 이미지 사본 객체")
+public class FileVariant {
+    @Schema(description = "사본의 너비(px)")
+    private Integer width;
+
+    @Schema(description = "사본의 full path")
+    private String path;
+}
@@ -0,0 +1,23 @@
+package com.drunkenlion.alcoholfriday.global.ncp.util.vo;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * entity 파일 업로드 이벤트 (ncp_file 저장 후)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class NcpFileUploadEvent {
+    private final Long entityId;
+    private final String entityType;
+    // 새로 올린 파일의 keyName
+    private final List<String> keyNames;
+
+    public static NcpFileUploadEvent of(Long entityId, String entityType, List<String> keyNames) {
+        return new NcpFileUploadEvent(entityId, entityType, List.copyOf(keyNames));
+    }
+}
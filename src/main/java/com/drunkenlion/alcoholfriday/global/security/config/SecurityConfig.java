@@ -16,9 +16,11 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
+import com.drunkenlion.alcoholfriday.global.idempotency.filter.IdempotencyFilter;
 import com.drunkenlion.alcoholfriday.global.security.jwt.JwtAuthenticationFilter;
 
 @Slf4j
@@ -27,6 +29,7 @@ import com.drunkenlion.alcoholfriday.global.security.jwt.JwtAuthenticationFilter
 @RequiredArgsConstructor
 public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final IdempotencyFilter idempotencyFilter;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -92,7 +95,8 @@ public class SecurityConfig {
                                 "/v1/admin/makers/**",
                                 "/v1/admin/category-classes/**",
                                 "/v1/admin/categories/**",
-                                "/v1/admin/orders/**")
+                                "/v1/admin/orders/**",
+                                "/v1/admin/sales/**")
                         .hasAnyRole(MemberRole.ADMIN.getRole(), MemberRole.STORE_MANAGER.getRole())
 
                         //관리자 - 매장 재고 관리 (사장)
@@ -124,6 +128,8 @@ public class SecurityConfig {
                 );
 
         http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        // 인가된 요청만 Idempotency-Key 를 선점하도록 인가 필터 다음에 실행
+        http.addFilterAfter(idempotencyFilter, AuthorizationFilter.class);
 
         return http.build();
     }
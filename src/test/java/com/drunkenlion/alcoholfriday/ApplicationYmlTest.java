@@ -0,0 +1,80 @@
+package com.drunkenlion.alcoholfriday;
+
+import com.drunkenlion.alcoholfriday.domain.order.application.OrderNoGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.PropertySourcesPlaceholdersResolver;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.FileSystemResource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 테스트는 src/test/resources/application.yml 을 읽으므로, 운영에서 쓰는 main 설정 파일을 직접 읽어 확인한다.
+ */
+class ApplicationYmlTest {
+    private static final String MAIN_APPLICATION_YML = "src/main/resources/application.yml";
+    private static final String LOCAL_APPLICATION_YML = "src/main/resources/application-local.yml";
+
+    @Test
+    @DisplayName("main application.yml 을 읽을 수 있고, 최상위 설정이 각자의 위치에 있다.")
+    void loadTest() throws Exception {
+        // when
+        List<PropertySource<?>> propertySources = load(MAIN_APPLICATION_YML);
+        PropertySource<?> propertySource = propertySources.get(0);
+        // then
+        assertThat(propertySources).hasSize(1);
+        assertThat(propertySource.getProperty("springdoc.swagger-ui.path")).hasToString("/docs");
+        assertThat(propertySource.getProperty("order.node-id")).hasToString("${ORDER_NODE_ID:}");
+        assertThat(propertySource.getProperty("springdoc.swagger-ui.node-id")).isNull();
+        assertThat(propertySource.getProperty("spring.task.scheduling.pool.size")).hasToString("8");
+    }
+
+    @Test
+    @DisplayName("주문 고유번호 노드 번호는 ORDER_NODE_ID 로 인스턴스마다 설정하고, 설정하지 않으면 시작하지 않는다.")
+    void orderNodeIdTest() throws Exception {
+        // given
+        MutablePropertySources defaults = new MutablePropertySources();
+        load(MAIN_APPLICATION_YML).forEach(defaults::addLast);
+
+        MutablePropertySources withEnv = new MutablePropertySources();
+        withEnv.addFirst(new MapPropertySource("env", Map.of("ORDER_NODE_ID", "7")));
+        load(MAIN_APPLICATION_YML).forEach(withEnv::addLast);
+
+        MutablePropertySources local = new MutablePropertySources();
+        load(LOCAL_APPLICATION_YML).forEach(local::addLast);
+        load(MAIN_APPLICATION_YML).forEach(local::addLast);
+        // when
+        String defaultNodeId = resolveNodeId(defaults);
+        String envNodeId = resolveNodeId(withEnv);
+        String localNodeId = resolveNodeId(local);
+        // then
+        assertThat(defaultNodeId).isEmpty();
+        assertThrows(IllegalStateException.class, () -> new OrderNoGenerator(defaultNodeId));
+        assertThat(envNodeId).isEqualTo("7");
+        assertThat(localNodeId).isEqualTo("0");
+    }
+
+    // 같은 이름의 설정은 MutablePropertySources 에서 서로 덮어쓰므로 파일 경로를 이름으로 쓴다.
+    private List<PropertySource<?>> load(String path) throws Exception {
+        return new YamlPropertySourceLoader().load(path, new FileSystemResource(path));
+    }
+
+    private String resolveNodeId(MutablePropertySources propertySources) {
+        PropertySourcesPlaceholdersResolver resolver = new PropertySourcesPlaceholdersResolver(propertySources);
+        for (PropertySource<?> propertySource : propertySources) {
+            Object value = propertySource.getProperty("order.node-id");
+            if (value != null) {
+                return String.valueOf(resolver.resolvePlaceholders(value.toString()));
+            }
+        }
+        return null;
+    }
+}
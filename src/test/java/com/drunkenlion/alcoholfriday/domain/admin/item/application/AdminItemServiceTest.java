@@ -25,6 +25,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -63,6 +64,8 @@ public class AdminItemServiceTest {
     private CartDetailRepository cartDetailRepository;
     @Mock
     private FileService fileService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private final Long makerId = 1L;
     private final String makerName = "(주)국순당";
@@ -15,6 +15,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -39,6 +40,8 @@ public class AdminMakerServiceTest {
     private MakerRepository makerRepository;
     @Mock
     private ProductRepository productRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private final Long id = 1L;
     private final String name = "test 제조사";
@@ -18,6 +18,7 @@ import com.drunkenlion.alcoholfriday.domain.order.dao.OrderDetailRepository;
 import com.drunkenlion.alcoholfriday.domain.order.dao.OrderRepository;
 import com.drunkenlion.alcoholfriday.domain.order.entity.Order;
 import com.drunkenlion.alcoholfriday.domain.order.entity.OrderDetail;
+import com.drunkenlion.alcoholfriday.domain.payment.application.PaymentService;
 import com.drunkenlion.alcoholfriday.domain.payment.dao.PaymentRepository;
 import com.drunkenlion.alcoholfriday.domain.payment.entity.Payment;
 import com.drunkenlion.alcoholfriday.domain.payment.enumerated.*;
@@ -92,6 +93,8 @@ public class AdminOrderControllerTest {
 
     @Autowired
     private PaymentRepository paymentRepository;
+    @Autowired
+    private PaymentService paymentService;
 
     @Autowired
     private FileService fileService;
@@ -198,7 +201,7 @@ public class AdminOrderControllerTest {
                         .review(null)
                         .build());
 
-        Payment 결제_1 = paymentRepository.save(
+        Payment 결제_1 = paymentService.savePayment(
                 Payment.builder()
                         .paymentNo("jPR7DvYpNk6bJXmgo01emDojZdPByA8LAnGKWx4qMl00aEwB")
                         .paymentStatus(PaymentStatus.DONE)
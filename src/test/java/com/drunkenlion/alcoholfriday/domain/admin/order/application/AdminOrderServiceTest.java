@@ -3,6 +3,7 @@ package com.drunkenlion.alcoholfriday.domain.admin.order.application;
 import com.drunkenlion.alcoholfriday.domain.admin.order.dto.OrderDetailResponse;
 import com.drunkenlion.alcoholfriday.domain.admin.order.dto.OrderListResponse;
 import com.drunkenlion.alcoholfriday.domain.admin.order.dto.OrderModifyRequest;
+import com.drunkenlion.alcoholfriday.domain.admin.order.dto.OrderStatusModifyRequest;
 import com.drunkenlion.alcoholfriday.domain.auth.enumerated.ProviderType;
 import com.drunkenlion.alcoholfriday.domain.category.entity.Category;
 import com.drunkenlion.alcoholfriday.domain.category.entity.CategoryClass;
@@ -16,7 +17,7 @@ import com.drunkenlion.alcoholfriday.domain.order.dao.OrderDetailRepository;
 import com.drunkenlion.alcoholfriday.domain.order.dao.OrderRepository;
 import com.drunkenlion.alcoholfriday.domain.order.entity.Order;
 import com.drunkenlion.alcoholfriday.domain.order.entity.OrderDetail;
-import com.drunkenlion.alcoholfriday.domain.payment.dao.PaymentRepository;
+import com.drunkenlion.alcoholfriday.domain.order.vo.OrderStatusEvent;
 import com.drunkenlion.alcoholfriday.domain.payment.entity.Payment;
 import com.drunkenlion.alcoholfriday.domain.payment.enumerated.*;
 import com.drunkenlion.alcoholfriday.domain.product.entity.Product;
@@ -28,10 +29,12 @@ import com.drunkenlion.alcoholfriday.global.file.application.FileService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -48,6 +51,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -60,11 +65,11 @@ public class AdminOrderServiceTest {
     @Mock
     private OrderDetailRepository orderDetailRepository;
     @Mock
-    private PaymentRepository paymentRepository;
-    @Mock
     private ItemRepository itemRepository;
     @Mock
     private FileService fileService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private final Long orderId = 1L;
     private final String orderNo = "주문_1";
@@ -164,8 +169,7 @@ public class AdminOrderServiceTest {
     @DisplayName("주문 상세 조회 성공")
     public void getOrderTest() {
         // given
-        when(this.orderRepository.findById(any())).thenReturn(this.getOrderOne());
-        when(this.paymentRepository.findTopByOrderOrderByCreatedAtDesc(any())).thenReturn(this.getPaymentOne());
+        when(this.orderRepository.findById(any())).thenReturn(this.getPaidOrderOne());
         when(this.orderDetailRepository.findByOrderAndDeletedAtIsNull(any())).thenReturn(this.getOrderDetails());
 
         // when
@@ -198,7 +202,6 @@ public class AdminOrderServiceTest {
     public void getOrderNonPaymentTest() {
         // given
         when(this.orderRepository.findById(any())).thenReturn(this.getOrderOne());
-        when(this.paymentRepository.findTopByOrderOrderByCreatedAtDesc(any())).thenReturn(Optional.empty());
         when(this.orderDetailRepository.findByOrderAndDeletedAtIsNull(any())).thenReturn(this.getOrderDetails());
 
         // when
@@ -306,6 +309,90 @@ public class AdminOrderServiceTest {
         assertEquals(HttpResponse.Fail.NOT_FOUND_ORDER.getMessage(), exception.getMessage());
     }
 
+    @Test
+    @DisplayName("주문 상태 변경 성공 - 상태 변경 이벤트 발행")
+    public void modifyOrderStatusTest() {
+        // given
+        OrderStatusModifyRequest request = OrderStatusModifyRequest.builder()
+                .orderStatus(OrderStatus.CANCELLED)
+                .build();
+
+        Mockito.when(this.orderRepository.findForUpdateByIdAndDeletedAtIsNull(orderId)).thenReturn(this.getOrderOne());
+        Mockito.when(this.orderDetailRepository.findByOrderAndDeletedAtIsNull(any())).thenReturn(this.getOrderDetails());
+
+        // when
+        OrderDetailResponse orderDetailResponse = this.adminOrderService.modifyOrderStatus(orderId, request);
+
+        // then
+        assertThat(orderDetailResponse.getOrderStatus()).isEqualTo(OrderStatus.CANCELLED);
+
+        ArgumentCaptor<OrderStatusEvent> captor = ArgumentCaptor.forClass(OrderStatusEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getOrderId()).isEqualTo(orderId);
+        assertThat(captor.getValue().getFrom()).isEqualTo(orderStatus);
+        assertThat(captor.getValue().getTo()).isEqualTo(OrderStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("주문 상태 변경 - 같은 상태로 변경하면 이벤트를 발행하지 않는다.")
+    public void modifyOrderStatusSameStatusTest() {
+        // given
+        OrderStatusModifyRequest request = OrderStatusModifyRequest.builder()
+                .orderStatus(orderStatus)
+                .build();
+
+        Mockito.when(this.orderRepository.findForUpdateByIdAndDeletedAtIsNull(orderId)).thenReturn(this.getOrderOne());
+        Mockito.when(this.orderDetailRepository.findByOrderAndDeletedAtIsNull(any())).thenReturn(this.getOrderDetails());
+
+        // when
+        OrderDetailResponse orderDetailResponse = this.adminOrderService.modifyOrderStatus(orderId, request);
+
+        // then
+        assertThat(orderDetailResponse.getOrderStatus()).isEqualTo(orderStatus);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("주문 상태 변경 실패 - 현재 상태에서 바꿀 수 없는 상태")
+    public void modifyOrderStatusFailInvalidChangeTest() {
+        // given
+        OrderStatusModifyRequest request = OrderStatusModifyRequest.builder()
+                .orderStatus(OrderStatus.ORDER_RECEIVED)
+                .build();
+
+        Mockito.when(this.orderRepository.findForUpdateByIdAndDeletedAtIsNull(orderId)).thenReturn(this.getOrderOne());
+
+        // when
+        BusinessException exception = assertThrows(BusinessException.class, () -> {
+            adminOrderService.modifyOrderStatus(orderId, request);
+        });
+
+        // then
+        assertEquals(HttpResponse.Fail.INVALID_ORDER_STATUS_CHANGE.getStatus(), exception.getStatus());
+        assertEquals(HttpResponse.Fail.INVALID_ORDER_STATUS_CHANGE.getMessage(), exception.getMessage());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("주문 상태 변경 실패 - 찾을 수 없는 주문")
+    public void modifyOrderStatusFailNotFoundTest() {
+        // given
+        OrderStatusModifyRequest request = OrderStatusModifyRequest.builder()
+                .orderStatus(OrderStatus.CANCELLED)
+                .build();
+
+        Mockito.when(this.orderRepository.findForUpdateByIdAndDeletedAtIsNull(orderId)).thenReturn(Optional.empty());
+
+        // when
+        BusinessException exception = assertThrows(BusinessException.class, () -> {
+            adminOrderService.modifyOrderStatus(orderId, request);
+        });
+
+        // then
+        assertEquals(HttpResponse.Fail.NOT_FOUND_ORDER.getStatus(), exception.getStatus());
+        assertEquals(HttpResponse.Fail.NOT_FOUND_ORDER.getMessage(), exception.getMessage());
+    }
+
     private Page<OrderListResponse> getOrderList() {
         List<OrderListResponse> list = List.of(this.getOrderListData());
         Pageable pageable = PageRequest.of(page, size);
@@ -326,8 +413,10 @@ public class AdminOrderServiceTest {
         return Optional.of(this.getOrderData());
     }
 
-    private Optional<Payment> getPaymentOne() {
-        return Optional.of(this.getPaymentData());
+    private Optional<Order> getPaidOrderOne() {
+        return Optional.of(this.getOrderData().toBuilder()
+                .latestPayment(this.getPaymentData())
+                .build());
     }
 
     private Maker getMakerData() {
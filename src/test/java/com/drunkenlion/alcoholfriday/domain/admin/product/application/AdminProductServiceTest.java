@@ -10,6 +10,7 @@ import com.drunkenlion.alcoholfriday.domain.category.entity.CategoryClass;
 import com.drunkenlion.alcoholfriday.domain.item.dao.ItemProductRepository;
 import com.drunkenlion.alcoholfriday.domain.maker.dao.MakerRepository;
 import com.drunkenlion.alcoholfriday.domain.maker.entity.Maker;
+import com.drunkenlion.alcoholfriday.domain.product.application.HotStockLedger;
 import com.drunkenlion.alcoholfriday.domain.product.dao.ProductRepository;
 import com.drunkenlion.alcoholfriday.domain.product.entity.Product;
 import com.drunkenlion.alcoholfriday.global.common.response.HttpResponse;
@@ -23,6 +24,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -57,7 +59,11 @@ public class AdminProductServiceTest {
     @Mock
     private ItemProductRepository itemProductRepository;
     @Mock
+    private HotStockLedger hotStockLedger;
+    @Mock
     private FileService fileService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private final Long makerId = 1L;
     private final String makerName = "(주)국순당";
@@ -329,6 +335,7 @@ public class AdminProductServiceTest {
         assertThat(productDetailResponse.getBalance()).isEqualTo(modifyBalance);
         assertThat(productDetailResponse.getIncense()).isEqualTo(modifyIncense);
         assertThat(productDetailResponse.getThroat()).isEqualTo(modifyThroat);
+        verify(hotStockLedger).adjust(id, modifyQuantity - quantity);
     }
 
     @Test
@@ -11,6 +11,7 @@ import com.drunkenlion.alcoholfriday.domain.admin.restaurant.order.enumerated.Re
 import com.drunkenlion.alcoholfriday.domain.maker.entity.Maker;
 import com.drunkenlion.alcoholfriday.domain.member.entity.Member;
 import com.drunkenlion.alcoholfriday.domain.member.enumerated.MemberRole;
+import com.drunkenlion.alcoholfriday.domain.product.application.HotStockLedger;
 import com.drunkenlion.alcoholfriday.domain.product.dao.ProductRepository;
 import com.drunkenlion.alcoholfriday.domain.product.entity.Product;
 import com.drunkenlion.alcoholfriday.domain.admin.restaurant.cart.dao.RestaurantOrderCartDetailRepository;
@@ -27,22 +28,22 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -60,6 +61,8 @@ class RestaurantOrderServiceImplV2Test {
     @Mock
     private ProductRepository productRepository;
     @Mock
+    private HotStockLedger hotStockLedger;
+    @Mock
     private RestaurantRepository restaurantRepository;
     @Mock
     private RestaurantOrderCartRepository restaurantOrderCartRepository;
@@ -70,6 +73,8 @@ class RestaurantOrderServiceImplV2Test {
 
     @Mock
     private FileService fileService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @AfterEach
     @Transactional
@@ -140,6 +145,8 @@ class RestaurantOrderServiceImplV2Test {
                 cartDetails
         );
 
+        when(hotStockLedger.decrease(new TreeMap<>(Map.of(1L, 4L)))).thenReturn(true);
+
         RestaurantOrderSaveCodeRequest request = RestaurantOrderSaveCodeRequest.builder()
                 .restaurantId(restaurant.getId())
                 .build();
@@ -202,7 +209,7 @@ class RestaurantOrderServiceImplV2Test {
                 .detail("101")
                 .build();
 
-        Product product = Product.builder().name("1000억 막걸리 프리바이오")
+        Product product = Product.builder().id(1L).name("1000억 막걸리 프리바이오")
                 .price(BigDecimal.valueOf(3500))
                 .quantity(100L)
                 .alcohol(5D)
@@ -232,24 +239,12 @@ class RestaurantOrderServiceImplV2Test {
         );
         when(restaurantOrderRepository.save(any(RestaurantOrder.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-        List<Product> products = new ArrayList<>();
-        when(productRepository.saveAll(anyList()))
-                .thenAnswer(invocation -> {
-                    products.addAll(invocation.getArgument(0));
-                    return invocation.getArgument(0);
-                });
-
-        ArgumentCaptor<List<Product>> productsCaptor = ArgumentCaptor.forClass(List.class);
-
         // when
         RestaurantOrderResultResponse response = orderService.adminOrderRejectedApproval(
                 restaurantOrder.getId(), member);
 
         // then
-        verify(productRepository).saveAll(productsCaptor.capture());
-        List<Product> savedProducts = productsCaptor.getValue();
-
-        assertThat(savedProducts.get(0).getQuantity()).isEqualTo(110L);
+        verify(hotStockLedger).increase(Map.of(1L, 10L));
 
         assertThat(response.getBusinessName()).isEqualTo(restaurant.getBusinessName());
         assertThat(response.getStatus()).isEqualTo(RestaurantOrderStatus.REJECTED_APPROVAL);
@@ -324,7 +319,7 @@ class RestaurantOrderServiceImplV2Test {
                 .detail("101")
                 .build();
 
-        Product product = Product.builder().name("1000억 막걸리 프리바이오")
+        Product product = Product.builder().id(1L).name("1000억 막걸리 프리바이오")
                 .price(BigDecimal.valueOf(3500))
                 .quantity(100L)
                 .alcohol(5D)
@@ -352,23 +347,11 @@ class RestaurantOrderServiceImplV2Test {
         when(restaurantOrderRepository.findRestaurantOrderWaitingApproval(restaurantOrder.getId())).thenReturn(Optional.of(restaurantOrder));
         when(restaurantOrderRepository.save(any(RestaurantOrder.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-        List<Product> products = new ArrayList<>();
-        when(productRepository.saveAll(anyList()))
-                .thenAnswer(invocation -> {
-                    products.addAll(invocation.getArgument(0));
-                    return invocation.getArgument(0);
-                });
-
-        ArgumentCaptor<List<Product>> productsCaptor = ArgumentCaptor.forClass(List.class);
-
         // when
         RestaurantOrderResultResponse response = orderService.ownerOrderCancel(restaurantOrder.getId(), member);
 
         // then
-        verify(productRepository).saveAll(productsCaptor.capture());
-        List<Product> savedProducts = productsCaptor.getValue();
-
-        assertThat(savedProducts.get(0).getQuantity()).isEqualTo(110L);
+        verify(hotStockLedger).increase(Map.of(1L, 10L));
 
         assertThat(response.getBusinessName()).isEqualTo(restaurant.getBusinessName());
         assertThat(response.getStatus()).isEqualTo(RestaurantOrderStatus.CANCELLED);
@@ -42,6 +42,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -122,7 +123,7 @@ public class RestaurantOrderServiceTest {
         when(restaurantOrderRepository.findAllRestaurantOrders(any(Pageable.class)))
                 .thenReturn(getRestaurantOrders());
 
-        when(fileService.findOne(any())).thenReturn(null);
+        when(fileService.findFirstImages(any())).thenReturn(Collections.emptyMap());
 
         // when
         Page<RestaurantOrderListResponse> orders =
@@ -173,7 +174,7 @@ public class RestaurantOrderServiceTest {
         when(restaurantOrderRefundRepository.findRefundByRestaurantOrderId(any()))
                 .thenReturn(getRestaurantOrderRefunds());
 
-        when(fileService.findOne(any())).thenReturn(null);
+        when(fileService.findFirstImages(any())).thenReturn(Collections.emptyMap());
 
         // when
         Page<OwnerRestaurantOrderListResponse> orders =
@@ -0,0 +1,161 @@
+package com.drunkenlion.alcoholfriday.domain.admin.restaurant.order.dao;
+
+import com.drunkenlion.alcoholfriday.domain.admin.restaurant.order.entity.RestaurantOrder;
+import com.drunkenlion.alcoholfriday.domain.admin.restaurant.order.entity.RestaurantOrderDetail;
+import com.drunkenlion.alcoholfriday.domain.admin.restaurant.order.enumerated.RestaurantOrderStatus;
+import com.drunkenlion.alcoholfriday.domain.auth.enumerated.ProviderType;
+import com.drunkenlion.alcoholfriday.domain.member.dao.MemberRepository;
+import com.drunkenlion.alcoholfriday.domain.member.entity.Member;
+import com.drunkenlion.alcoholfriday.domain.member.enumerated.MemberRole;
+import com.drunkenlion.alcoholfriday.domain.product.dao.ProductRepository;
+import com.drunkenlion.alcoholfriday.domain.product.entity.Product;
+import com.drunkenlion.alcoholfriday.domain.restaurant.dao.RestaurantRepository;
+import com.drunkenlion.alcoholfriday.domain.restaurant.entity.Restaurant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class RestaurantOrderRepositoryTest {
+    @Autowired
+    private RestaurantOrderRepository restaurantOrderRepository;
+    @Autowired
+    private RestaurantOrderDetailRepository restaurantOrderDetailRepository;
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private ProductRepository productRepository;
+
+    @AfterEach
+    void afterEach() {
+        restaurantOrderDetailRepository.deleteAll();
+        restaurantOrderRepository.deleteAll();
+        restaurantRepository.deleteAll();
+        productRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("매장 발주 목록은 여러 페이지에 걸쳐 빠지거나 겹치는 발주 없이 최신순으로 나뉘고, 발주마다 상세를 모두 담는다.")
+    void findRestaurantOrdersByOwnerPagingTest() {
+        // given
+        Member owner = saveOwner("owner1@af.shop");
+        Member otherOwner = saveOwner("owner2@af.shop");
+        Restaurant restaurant = saveRestaurant(owner);
+        Restaurant otherRestaurant = saveRestaurant(otherOwner);
+        List<Product> products = List.of(saveProduct("제품1"), saveProduct("제품2"), saveProduct("제품3"));
+
+        List<Long> orderIds = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            orderIds.add(saveOrder(owner, restaurant, products).getId());
+        }
+        for (int i = 0; i < 5; i++) {
+            saveOrder(otherOwner, otherRestaurant, products);
+        }
+        Collections.reverse(orderIds);
+
+        // when
+        Page<RestaurantOrder> firstPage = restaurantOrderRepository.findRestaurantOrdersByOwner(owner, restaurant, PageRequest.of(0, 10));
+        Page<RestaurantOrder> secondPage = restaurantOrderRepository.findRestaurantOrdersByOwner(owner, restaurant, PageRequest.of(1, 10));
+        Page<RestaurantOrder> lastPage = restaurantOrderRepository.findRestaurantOrdersByOwner(owner, restaurant, PageRequest.of(2, 10));
+
+        // then
+        List<RestaurantOrder> pagedOrders = new ArrayList<>();
+        pagedOrders.addAll(firstPage.getContent());
+        pagedOrders.addAll(secondPage.getContent());
+        pagedOrders.addAll(lastPage.getContent());
+
+        assertThat(firstPage.getContent()).hasSize(10);
+        assertThat(secondPage.getContent()).hasSize(10);
+        assertThat(lastPage.getContent()).hasSize(5);
+        assertThat(firstPage.getTotalElements()).isEqualTo(25);
+        assertThat(firstPage.getTotalPages()).isEqualTo(3);
+        assertThat(lastPage.hasNext()).isFalse();
+        assertThat(pagedOrders).extracting(RestaurantOrder::getId).containsExactlyElementsOf(orderIds);
+        assertThat(pagedOrders).allSatisfy(order -> assertThat(order.getDetails()).hasSize(3));
+    }
+
+    @Test
+    @DisplayName("전체 매장 발주 목록도 페이지 사이에 빠지거나 겹치는 발주가 없다.")
+    void findAllRestaurantOrdersPagingTest() {
+        // given
+        Member owner = saveOwner("owner1@af.shop");
+        Restaurant restaurant = saveRestaurant(owner);
+        List<Product> products = List.of(saveProduct("제품1"), saveProduct("제품2"));
+
+        for (int i = 0; i < 12; i++) {
+            saveOrder(owner, restaurant, products);
+        }
+        long total = restaurantOrderRepository.count();
+
+        // when
+        List<RestaurantOrder> pagedOrders = new ArrayList<>();
+        Page<RestaurantOrder> page = restaurantOrderRepository.findAllRestaurantOrders(PageRequest.of(0, 5));
+        pagedOrders.addAll(page.getContent());
+        while (page.hasNext()) {
+            page = restaurantOrderRepository.findAllRestaurantOrders(page.nextPageable());
+            pagedOrders.addAll(page.getContent());
+        }
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(total);
+        assertThat(pagedOrders).hasSize((int) total);
+        assertThat(pagedOrders).extracting(RestaurantOrder::getId).doesNotHaveDuplicates();
+        assertThat(pagedOrders).extracting(RestaurantOrder::getId)
+                .isSortedAccordingTo(Collections.reverseOrder());
+    }
+
+    private Member saveOwner(String email) {
+        return memberRepository.save(Member.builder()
+                .email(email)
+                .provider(ProviderType.KAKAO)
+                .name("사장")
+                .nickname("사장")
+                .role(MemberRole.OWNER)
+                .build());
+    }
+
+    private Restaurant saveRestaurant(Member owner) {
+        return restaurantRepository.save(Restaurant.builder()
+                .member(owner)
+                .name("발주 매장")
+                .build());
+    }
+
+    private Product saveProduct(String name) {
+        return productRepository.save(Product.builder()
+                .name(name)
+                .price(BigDecimal.valueOf(10000))
+                .build());
+    }
+
+    private RestaurantOrder saveOrder(Member owner, Restaurant restaurant, List<Product> products) {
+        RestaurantOrder order = restaurantOrderRepository.save(RestaurantOrder.builder()
+                .orderStatus(RestaurantOrderStatus.COMPLETED)
+                .member(owner)
+                .restaurant(restaurant)
+                .build());
+
+        products.forEach(product -> restaurantOrderDetailRepository.save(RestaurantOrderDetail.builder()
+                .quantity(1L)
+                .price(product.getPrice())
+                .totalPrice(product.getPrice())
+                .product(product)
+                .restaurantOrder(order)
+                .build()));
+        return order;
+    }
+}
@@ -38,6 +38,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -73,6 +74,8 @@ public class RestaurantOrderRefundServiceTest {
     private ProductRepository productRepository;
     @Mock
     private FileService fileService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     // Restaurant
     private String businessName = "레스쁘아";
@@ -163,7 +166,7 @@ public class RestaurantOrderRefundServiceTest {
     public void t1() {
         // given
         when(this.restaurantOrderRefundRepository.findByRestaurantIdAndDeletedAtIsNull(any(), any(Pageable.class))).thenReturn(this.getRestaurantOrderRefunds());
-        when(this.restaurantOrderRefundDetailRepository.findByRestaurantOrderRefundAndDeletedAtIsNull(any())).thenReturn(this.getRestaurantOrderRefundDetails());
+        when(this.restaurantOrderRefundDetailRepository.findAllWithProductByRefundIn(any())).thenReturn(this.getRestaurantOrderRefundDetails());
 
         // when
         Page<RestaurantOrderRefundResponse> refunds = this.restaurantOrderRefundService.getRestaurantOrderRefunds(getRestaurant().getId(), page, size);
@@ -189,6 +192,8 @@ public class RestaurantOrderRefundServiceTest {
         assertThat(content.get(0).getRefundDetails().get(1).getPrice()).isEqualTo(refundDetailPrice2);
         assertThat(content.get(0).getRefundDetails().get(1).getQuantity()).isEqualTo(refundDetailQuantity2);
         assertThat(content.get(0).getRefundDetails().get(1).getFile()).isEqualTo(null);
+        verify(restaurantOrderRefundDetailRepository, times(1)).findAllWithProductByRefundIn(any());
+        verify(restaurantOrderRefundDetailRepository, never()).findByRestaurantOrderRefundAndDeletedAtIsNull(any());
     }
 
     @Test
@@ -26,6 +26,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -60,6 +61,8 @@ public class AdminRestaurantServiceTest {
     private RestaurantStockRepository restaurantStockRepository;
     @Mock
     private MemberRepository memberRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private final Long memberId = 1L;
     private final String email = "test@example.com";
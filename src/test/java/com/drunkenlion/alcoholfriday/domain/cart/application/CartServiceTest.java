@@ -33,10 +33,15 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -133,14 +138,8 @@ class CartServiceTest {
                 .build();
         cartDetails.add(cartRequest);
 
-        when(this.itemRepository.findById(cartRequest.getItemId())).thenReturn(this.getOneItem());
-
-        CartDetail cartDetail = CartDetail.builder()
-                .cart(cart)
-                .item(item)
-                .quantity(cartRequest.getQuantity())
-                .build();
-        when(this.cartDetailRepository.save(any(CartDetail.class))).thenReturn(cartDetail);
+        when(this.itemRepository.findAllWithProductsByIdIn(any())).thenReturn(List.of(item));
+        when(this.cartDetailRepository.findAllByCartAndItemIdIn(any(Cart.class), any())).thenReturn(Collections.emptyList());
 
         // when
         CartResponse cartResponse = this.cartService.addCartList(cartDetails, member);
@@ -149,6 +148,7 @@ class CartServiceTest {
         assertThat(cartResponse.getCartId()).isEqualTo(cartId);
         assertThat(cartResponse.getCartDetailResponseList().get(0).getItem().getName()).isEqualTo(itemName);
         assertThat(cartResponse.getCartDetailResponseList().get(0).getQuantity()).isEqualTo(cartRequest.getQuantity());
+        verify(cartDetailRepository, times(1)).addQuantitiesInBatch(eq(cartId), eq(Map.of(itemId1, quantityCart)));
     }
 
     @Test
@@ -170,21 +170,8 @@ class CartServiceTest {
         cartDetails.add(cartRequest1);
         cartDetails.add(cartRequest2);
 
-        when(this.itemRepository.findById(cartRequest1.getItemId())).thenReturn(this.getOneItem());
-        when(this.itemRepository.findById(cartRequest2.getItemId())).thenReturn(this.getOneItem2());
-
-        CartDetail cartDetail1 = CartDetail.builder()
-                .cart(cart)
-                .item(item)
-                .quantity(cartRequest1.getQuantity())
-                .build();
-        CartDetail cartDetail2 = CartDetail.builder()
-                .cart(cart)
-                .item(item2)
-                .quantity(cartRequest2.getQuantity())
-                .build();
-
-        when(this.cartDetailRepository.save(any(CartDetail.class))).thenReturn(cartDetail1).thenReturn(cartDetail2);
+        when(this.itemRepository.findAllWithProductsByIdIn(any())).thenReturn(List.of(item, item2));
+        when(this.cartDetailRepository.findAllByCartAndItemIdIn(any(Cart.class), any())).thenReturn(Collections.emptyList());
 
         // when
         CartResponse cartResponse = this.cartService.addCartList(cartDetails, member);
@@ -197,6 +184,73 @@ class CartServiceTest {
         assertThat(cartResponse.getCartDetailResponseList().get(1).getQuantity()).isEqualTo(cartRequest2.getQuantity());
     }
 
+    @Test
+    @DisplayName("장바구니에 같은 상품을 담으면 수량을 합친다.")
+    void addCartMergeQuantityTest() {
+        // given
+        when(cartRepository.findByMember(member)).thenReturn(getOneCart());
+
+        List<CartRequest> cartDetails = List.of(
+                CartRequest.builder()
+                        .itemId(itemId1)
+                        .quantity(quantityCart)
+                        .build(),
+                CartRequest.builder()
+                        .itemId(itemId2)
+                        .quantity(quantityCart2)
+                        .build(),
+                CartRequest.builder()
+                        .itemId(itemId2)
+                        .quantity(quantityCart2)
+                        .build());
+
+        when(this.itemRepository.findAllWithProductsByIdIn(any())).thenReturn(List.of(item, item2));
+
+        // 상품 1은 이미 장바구니에 담겨 있다.
+        CartDetail savedDetail = getDataCartDetail().toBuilder()
+                .id(1L)
+                .build();
+        when(this.cartDetailRepository.findAllByCartAndItemIdIn(any(Cart.class), any())).thenReturn(List.of(savedDetail));
+
+        // when
+        CartResponse cartResponse = this.cartService.addCartList(cartDetails, member);
+
+        // then
+        assertThat(cartResponse.getCartDetailResponseList()).hasSize(2);
+        assertThat(cartResponse.getCartDetailResponseList().get(0).getItem().getId()).isEqualTo(itemId1);
+        assertThat(cartResponse.getCartDetailResponseList().get(0).getQuantity()).isEqualTo(quantityCart + quantityCart);
+        assertThat(cartResponse.getCartDetailResponseList().get(1).getItem().getId()).isEqualTo(itemId2);
+        assertThat(cartResponse.getCartDetailResponseList().get(1).getQuantity()).isEqualTo(quantityCart2 + quantityCart2);
+
+        // 저장된 수량이 아니라 담은 수량만 더하도록 넘긴다.
+        verify(cartDetailRepository).addQuantitiesInBatch(eq(cartId), eq(Map.of(itemId1, quantityCart, itemId2, quantityCart2 + quantityCart2)));
+    }
+
+    @Test
+    @DisplayName("추가 시_존재하지 않는 상품이 있는 경우")
+    void addCartList_notFoundItemTest() {
+        // given
+        when(cartRepository.findByMember(member)).thenReturn(getOneCart());
+
+        List<CartRequest> cartDetails = List.of(
+                CartRequest.builder()
+                        .itemId(itemId1)
+                        .quantity(quantityCart)
+                        .build(),
+                CartRequest.builder()
+                        .itemId(100L)
+                        .quantity(quantityCart)
+                        .build());
+
+        when(this.itemRepository.findAllWithProductsByIdIn(any())).thenReturn(List.of(item));
+
+        // when & then
+        Assertions.assertThrows(BusinessException.class, () -> {
+            cartService.addCartList(cartDetails, member);
+        });
+        verify(cartDetailRepository, never()).addQuantitiesInBatch(anyLong(), anyMap());
+    }
+
     @Test
     @DisplayName("장바구니에서 한 개 상품 수량 변경")
     void modifyCartItemQuantityTest() {
@@ -245,8 +299,7 @@ class CartServiceTest {
         cartDetails.add(cartRequest1);
         cartDetails.add(cartRequest2);
 
-        when(this.itemRepository.findById(cartRequest1.getItemId())).thenReturn(this.getOneItem());
-        when(this.itemRepository.findById(cartRequest2.getItemId())).thenReturn(this.getOneItem2());
+        when(this.itemRepository.findAllWithProductsByIdIn(any())).thenReturn(List.of(item, item2));
 
         // 카트 만들기
         Cart makeCart = Cart.builder()
@@ -254,18 +307,7 @@ class CartServiceTest {
                 .build();
         when(this.cartRepository.save(makeCart)).thenReturn(cart);
 
-        CartDetail cartDetail1 = CartDetail.builder()
-                .cart(cart)
-                .item(item)
-                .quantity(cartRequest1.getQuantity())
-                .build();
-        CartDetail cartDetail2 = CartDetail.builder()
-                .cart(cart)
-                .item(item)
-                .quantity(cartRequest2.getQuantity())
-                .build();
-
-        when(this.cartDetailRepository.save(any(CartDetail.class))).thenReturn(cartDetail1).thenReturn(cartDetail2);
+        when(this.cartDetailRepository.findAllByCartAndItemIdIn(any(Cart.class), any())).thenReturn(Collections.emptyList());
 
         // when
         CartResponse cartResponse = this.cartService.addCartList(cartDetails, member);
@@ -377,18 +419,14 @@ class CartServiceTest {
                 .build();
         cartRequests.add(cartRequest);
 
-        when(itemRepository.findById(cartRequest.getItemId())).thenReturn(getOneItem());
-
-        when(cartDetailRepository.findByItemAndCart(item, cart)).thenReturn(getOneCartDetail());
-
-        doNothing().when(cartDetailRepository).deleteByItemAndCart(getDataItem(), cart);
+        when(cartDetailRepository.findItemIdsByCartAndItemIdIn(any(Cart.class), any())).thenReturn(List.of(itemId1));
 
         // when
         cartService.deleteCartList(cartRequests, member);
 
         // then
         // 메서드 호출 여부를 검증
-        verify(cartDetailRepository, times(1)).deleteByItemAndCart(item, cart);
+        verify(cartDetailRepository, times(1)).deleteAllByCartAndItemIds(any(Cart.class), eq(Set.of(itemId1)));
     }
 
     @Test
@@ -422,22 +460,14 @@ class CartServiceTest {
         cartRequests.add(cartRequest);
         cartRequests.add(cartRequest2);
 
-        when(itemRepository.findById(cartRequest.getItemId())).thenReturn(getOneItem());
-        when(itemRepository.findById(cartRequest2.getItemId())).thenReturn(getOneItem2());
-
-        when(cartDetailRepository.findByItemAndCart(item, cart)).thenReturn(getOneCartDetail());
-        when(cartDetailRepository.findByItemAndCart(item2, cart)).thenReturn(getOneCartDetail2());
-
-        doNothing().when(cartDetailRepository).deleteByItemAndCart(getDataItem(), cart);
-        doNothing().when(cartDetailRepository).deleteByItemAndCart(getDataItem2(), cart);
+        when(cartDetailRepository.findItemIdsByCartAndItemIdIn(any(Cart.class), any())).thenReturn(List.of(itemId1, itemId2));
 
         // when
         cartService.deleteCartList(cartRequests, member);
 
         // then
-        // 메서드 호출 여부를 검증
-        verify(cartDetailRepository, times(1)).deleteByItemAndCart(item, cart);
-        verify(cartDetailRepository, times(1)).deleteByItemAndCart(item2, cart);
+        // 한 번의 삭제로 처리되는지 검증
+        verify(cartDetailRepository, times(1)).deleteAllByCartAndItemIds(any(Cart.class), eq(Set.of(itemId1, itemId2)));
     }
 
     @Test
@@ -473,6 +503,7 @@ class CartServiceTest {
         Assertions.assertThrows(BusinessException.class, () -> {
             cartService.deleteCart(cartRequest, makeCart);
         });
+        verify(cartDetailRepository, never()).deleteAllByCartAndItemIds(any(Cart.class), any());
     }
 
 
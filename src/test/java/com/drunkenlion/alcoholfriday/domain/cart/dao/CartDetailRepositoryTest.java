@@ -0,0 +1,114 @@
+package com.drunkenlion.alcoholfriday.domain.cart.dao;
+
+import com.drunkenlion.alcoholfriday.domain.cart.application.CartDetailUniqueKeyVerifier;
+import com.drunkenlion.alcoholfriday.domain.cart.entity.Cart;
+import com.drunkenlion.alcoholfriday.domain.cart.entity.CartDetail;
+import com.drunkenlion.alcoholfriday.domain.item.dao.ItemRepository;
+import com.drunkenlion.alcoholfriday.domain.item.entity.Item;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class CartDetailRepositoryTest {
+    @Autowired
+    private CartDetailRepository cartDetailRepository;
+    @Autowired
+    private CartDetailUniqueKeyVerifier cartDetailUniqueKeyVerifier;
+    @Autowired
+    private CartRepository cartRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void afterEach() {
+        cartDetailRepository.deleteAll();
+        cartRepository.deleteAll();
+        itemRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 상품을 동시에 담아도 장바구니 상세는 하나이고 수량이 누락되지 않는다.")
+    void addQuantitiesConcurrentlyTest() throws Exception {
+        // given
+        Cart cart = cartRepository.save(Cart.builder().build());
+        Long itemId = saveItem().getId();
+
+        int threadCount = 16;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executorService.submit(() -> {
+                start.await();
+                transactionTemplate.executeWithoutResult(status ->
+                        cartDetailRepository.addQuantitiesInBatch(cart.getId(), Map.of(itemId, 2L)));
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        // then
+        List<CartDetail> cartDetails = cartDetailRepository.findAllByCartAndItemIdIn(cart, List.of(itemId));
+        assertThat(cartDetails).hasSize(1);
+        assertThat(cartDetails.get(0).getQuantity()).isEqualTo(32L);
+    }
+
+    @Test
+    @DisplayName("엔티티에 선언한 unique key 가 스키마에 만들어져 있으면 시작할 수 있다.")
+    void verifyUniqueKeyTest() {
+        // when
+        cartDetailUniqueKeyVerifier.verify();
+        // then
+        assertThat(cartDetailRepository.existsUniqueKey(CartDetail.CART_ITEM_UNIQUE_KEY)).isTrue();
+    }
+
+    @Test
+    @DisplayName("unique key 가 없으면 중복 장바구니 상세가 생길 수 있으므로 시작하지 않는다.")
+    void verifyMissingUniqueKeyTest() {
+        // given
+        jdbcTemplate.execute("ALTER TABLE cart_detail DROP INDEX " + CartDetail.CART_ITEM_UNIQUE_KEY);
+        try {
+            // when, then
+            assertThrows(IllegalStateException.class, () -> cartDetailUniqueKeyVerifier.verify());
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE cart_detail ADD CONSTRAINT " + CartDetail.CART_ITEM_UNIQUE_KEY
+                    + " UNIQUE (cart_id, item_id)");
+        }
+    }
+
+    private Item saveItem() {
+        return itemRepository.save(Item.builder()
+                .name("장바구니 테스트 상품")
+                .price(new BigDecimal(10000))
+                .build());
+    }
+}
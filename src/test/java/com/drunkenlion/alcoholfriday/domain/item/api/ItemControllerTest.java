@@ -7,7 +7,10 @@ import com.drunkenlion.alcoholfriday.domain.category.dao.CategoryClassRepository
 import com.drunkenlion.alcoholfriday.domain.category.dao.CategoryRepository;
 import com.drunkenlion.alcoholfriday.domain.category.entity.Category;
 import com.drunkenlion.alcoholfriday.domain.category.entity.CategoryClass;
+import com.drunkenlion.alcoholfriday.domain.item.application.ItemRatingService;
+import com.drunkenlion.alcoholfriday.domain.item.application.ItemSearchIndexer;
 import com.drunkenlion.alcoholfriday.domain.item.dao.ItemProductRepository;
+import com.drunkenlion.alcoholfriday.domain.item.dao.ItemRatingSummaryRepository;
 import com.drunkenlion.alcoholfriday.domain.item.dao.ItemRepository;
 import com.drunkenlion.alcoholfriday.domain.item.entity.Item;
 import com.drunkenlion.alcoholfriday.domain.item.entity.ItemProduct;
@@ -77,6 +80,12 @@ class ItemControllerTest {
     private AddressRepository addressRepository;
     @Autowired
     private FileService fileService;
+    @Autowired
+    private ItemSearchIndexer itemSearchIndexer;
+    @Autowired
+    private ItemRatingService itemRatingService;
+    @Autowired
+    private ItemRatingSummaryRepository itemRatingSummaryRepository;
 
     public static final String EMAIL = "test@example.com";
     public static final String EMAIL2 = "test2@example.com";
@@ -426,6 +435,11 @@ class ItemControllerTest {
         itemRepository.save(상품_참이슬_소주);
         itemProductRepository.save(제품상세_참이슬_소주);
         fileService.saveFiles(상품_참이슬_소주, List.of(multipartFile4));
+
+        // 저장소로 직접 저장한 데이터를 검색 색인에 반영
+        itemSearchIndexer.rebuild();
+        // 저장소로 직접 저장한 리뷰를 평점 집계에 반영
+        itemRatingService.recalculateAll();
     }
 
     @AfterEach
@@ -440,6 +454,7 @@ class ItemControllerTest {
         orderRepository.deleteAll();
         orderDetailRepository.deleteAll();
         reviewRepository.deleteAll();
+        itemRatingSummaryRepository.deleteAll();
         addressRepository.deleteAll();
     }
 
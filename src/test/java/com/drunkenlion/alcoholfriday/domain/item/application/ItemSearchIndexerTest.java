@@ -0,0 +1,78 @@
+package com.drunkenlion.alcoholfriday.domain.item.application;
+
+import com.drunkenlion.alcoholfriday.domain.item.dao.ItemRepository;
+import com.drunkenlion.alcoholfriday.domain.item.vo.ItemSearchDocument;
+import com.drunkenlion.alcoholfriday.domain.item.vo.ItemSearchIndexEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class ItemSearchIndexerTest {
+    @InjectMocks
+    private ItemSearchIndexer itemSearchIndexer;
+    @Mock
+    private ItemRepository itemRepository;
+
+    private final String makgeolli = "탁주/막걸리";
+
+    @Test
+    @DisplayName("전체 색인을 만드는 동안 커밋된 변경은 색인을 교체한 뒤 다시 반영되어 사라지지 않는다.")
+    void rebuildWithConcurrentChangeTest() {
+        // given
+        ItemSearchDocument before = getDocument(1L, "지란지교 탁주 5개");
+        ItemSearchDocument after = getDocument(1L, "지란지교 약주 5개");
+
+        // 전체 조회는 변경 커밋 전의 데이터를 읽고, 조회가 끝나기 전에 변경 커밋 이벤트가 들어온다.
+        Mockito.when(itemRepository.findAllSearchDocuments()).thenAnswer(invocation -> {
+            itemSearchIndexer.onChanged(ItemSearchIndexEvent.ofItem(1L));
+            return List.of(before);
+        });
+        Mockito.when(itemRepository.findSearchDocuments(Set.of(1L))).thenReturn(List.of(after));
+
+        // when
+        itemSearchIndexer.rebuild();
+
+        // then
+        assertThat(itemSearchIndexer.isReady()).isTrue();
+        assertThat(itemSearchIndexer.search("약주", Collections.emptyList())).containsExactly(1L);
+        assertThat(itemSearchIndexer.search("탁주", Collections.emptyList())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전체 색인을 만들지 않는 동안의 변경은 바로 반영하고, 다음 전체 색인 때 다시 반영하지 않는다.")
+    void onChangedTest() {
+        // given
+        Mockito.when(itemRepository.findAllSearchDocuments()).thenReturn(List.of(getDocument(1L, "지란지교 탁주 5개")));
+        Mockito.when(itemRepository.findSearchDocuments(Set.of(1L))).thenReturn(List.of(getDocument(1L, "지란지교 약주 5개")));
+        itemSearchIndexer.rebuild();
+
+        // when
+        itemSearchIndexer.onChanged(ItemSearchIndexEvent.ofItem(1L));
+        long[] changed = itemSearchIndexer.search("약주", Collections.emptyList());
+        itemSearchIndexer.rebuild();
+
+        // then
+        assertThat(changed).containsExactly(1L);
+        assertThat(itemSearchIndexer.search("탁주", Collections.emptyList())).containsExactly(1L);
+        Mockito.verify(itemRepository, Mockito.times(1)).findSearchDocuments(Set.of(1L));
+    }
+
+    private ItemSearchDocument getDocument(Long itemId, String itemName) {
+        return ItemSearchDocument.builder()
+                .itemId(itemId)
+                .itemName(itemName)
+                .categoryLastName(makgeolli)
+                .build();
+    }
+}
@@ -5,6 +5,7 @@ import com.drunkenlion.alcoholfriday.domain.category.entity.Category;
 import com.drunkenlion.alcoholfriday.domain.category.entity.CategoryClass;
 import com.drunkenlion.alcoholfriday.domain.item.dao.ItemRepository;
 import com.drunkenlion.alcoholfriday.domain.item.dto.FindItemResponse;
+import com.drunkenlion.alcoholfriday.domain.item.dto.ItemRating;
 import com.drunkenlion.alcoholfriday.domain.item.dto.ItemReviewResponse;
 import com.drunkenlion.alcoholfriday.domain.item.dto.SearchItemResponse;
 import com.drunkenlion.alcoholfriday.domain.item.entity.Item;
@@ -17,6 +18,10 @@ import com.drunkenlion.alcoholfriday.domain.product.entity.Product;
 import com.drunkenlion.alcoholfriday.domain.review.dao.ReviewRepository;
 import com.drunkenlion.alcoholfriday.domain.review.entity.Review;
 import com.drunkenlion.alcoholfriday.global.common.enumerated.OrderStatus;
+import com.drunkenlion.alcoholfriday.global.common.response.CursorPage;
+import com.drunkenlion.alcoholfriday.global.common.response.HttpResponse;
+import com.drunkenlion.alcoholfriday.global.common.util.Cursor;
+import com.drunkenlion.alcoholfriday.global.exception.BusinessException;
 import com.drunkenlion.alcoholfriday.global.file.application.FileServiceImpl;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -36,10 +41,13 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 
 @ExtendWith(MockitoExtension.class)
 @Transactional
@@ -52,6 +60,10 @@ class ItemServiceTest {
     private ItemRepository itemRepository;
     @Mock
     private ReviewRepository reviewRepository;
+    @Mock
+    private ItemSearchIndexer itemSearchIndexer;
+    @Mock
+    private ItemRatingService itemRatingService;
 
     // test를 위한 임의 변수
     private final Long itemId1 = 1L;
@@ -145,10 +157,7 @@ class ItemServiceTest {
         List<String> categories = new ArrayList<>();
         categories.add("탁주/막걸리");
 
-        List<Review> reviewList = new ArrayList<>();
-        reviewList.add(getDataReview());
-        reviewList.add(getDataReview2());
-        Mockito.when((this.reviewRepository.findAllByItemIdAndDeletedAtIsNull(itemId1))).thenReturn(reviewList);
+        Mockito.when(this.itemRatingService.getItemRatings(any())).thenReturn(Map.of(itemId1, getDataItemRating()));
 
         // when
         Page<SearchItemResponse> search = this.itemService.search(0, 10, "1000억 유산균막걸리", categories);
@@ -165,16 +174,89 @@ class ItemServiceTest {
         assertThat(content.get(0).getItemRating().getTotalReviewCount()).isEqualTo(2);
     }
 
+    @Test
+    @DisplayName("검색 색인으로 상품 검색")
+    void searchTest_index() {
+        // given
+        Mockito.when(this.itemSearchIndexer.isReady()).thenReturn(true);
+        Mockito.when(this.itemSearchIndexer.search(any(), any())).thenReturn(new long[]{itemId2, itemId1});
+        Mockito.when(this.itemRepository.findAllByIdsWithCategory(any())).thenReturn(List.of(getData(), getDataItem2()));
+
+        List<String> categories = new ArrayList<>();
+
+        // when
+        Page<SearchItemResponse> search = this.itemService.search(0, 10, "3개입", categories);
+
+        // then
+        List<SearchItemResponse> content = search.getContent();
+
+        assertThat(search.getTotalElements()).isEqualTo(2);
+        assertThat(content.size()).isEqualTo(2);
+        assertThat(content.get(0).getId()).isEqualTo(itemId2);
+        assertThat(content.get(0).getName()).isEqualTo(itemName2);
+        assertThat(content.get(1).getId()).isEqualTo(itemId1);
+        assertThat(content.get(1).getName()).isEqualTo(itemName);
+    }
+
+    @Test
+    @DisplayName("검색 색인으로 상품 검색 - 범위를 벗어난 페이지")
+    void searchTest_index_outOfRange() {
+        // given
+        Mockito.when(this.itemSearchIndexer.isReady()).thenReturn(true);
+        Mockito.when(this.itemSearchIndexer.search(any(), any())).thenReturn(new long[]{itemId1});
+
+        // when
+        Page<SearchItemResponse> search = this.itemService.search(1, 10, "3개입", new ArrayList<>());
+
+        // then
+        assertThat(search.getTotalElements()).isEqualTo(1);
+        assertThat(search.getContent()).isEmpty();
+        Mockito.verify(this.itemRepository, Mockito.never()).findAllByIdsWithCategory(any());
+    }
+
+    @Test
+    @DisplayName("색인 준비 전에 발급한 식별자 순 커서는 색인이 준비된 뒤에도 식별자 순으로 이어 간다.")
+    void searchByCursorTest_idCursor() {
+        // given
+        String cursor = Cursor.of(itemId1).encode();
+        Mockito.when(this.itemRepository.searchByCursor(any(), any(), eq(itemId1), eq(3))).thenReturn(List.of(getDataItem2()));
+
+        // when
+        CursorPage<SearchItemResponse> search = this.itemService.searchByCursor(cursor, 2, "3개입", new ArrayList<>());
+
+        // then
+        assertThat(search.getContent()).extracting(SearchItemResponse::getId).containsExactly(itemId2);
+        assertThat(search.hasNext()).isFalse();
+        Mockito.verify(this.itemSearchIndexer, Mockito.never()).isReady();
+    }
+
+    @Test
+    @DisplayName("색인 순위 커서를 색인이 준비되지 않은 곳에서 받거나, 다른 목록의 커서를 받으면 잘못된 커서로 본다.")
+    void searchByCursorTest_invalidCursor() {
+        // given
+        Mockito.when(this.itemSearchIndexer.isReady()).thenReturn(false);
+        String scoreCursor = Cursor.of(6, itemId1).encode();
+        String reviewCursor = Cursor.of(LocalDateTime.of(2024, 3, 1, 10, 0), itemId1).encode();
+
+        // when
+        BusinessException scoreException = assertThrows(BusinessException.class,
+                () -> this.itemService.searchByCursor(scoreCursor, 2, "3개입", new ArrayList<>()));
+        BusinessException reviewException = assertThrows(BusinessException.class,
+                () -> this.itemService.searchByCursor(reviewCursor, 2, "3개입", new ArrayList<>()));
+
+        // then
+        assertThat(scoreException.getStatus()).isEqualTo(HttpResponse.Fail.INVALID_CURSOR.getStatus());
+        assertThat(reviewException.getStatus()).isEqualTo(HttpResponse.Fail.INVALID_CURSOR.getStatus());
+        Mockito.verify(this.itemRepository, Mockito.never()).searchByCursor(any(), any(), any(), Mockito.anyInt());
+    }
+
     @Test
     @DisplayName("상품 상세 조회")
     void getTest() {
         // given
         Mockito.when(this.itemRepository.get(any())).thenReturn(this.getOne());
 
-        List<Review> reviewList = new ArrayList<>();
-        reviewList.add(getDataReview());
-        reviewList.add(getDataReview2());
-        Mockito.when((this.reviewRepository.findAllByItemIdAndDeletedAtIsNull(itemId1))).thenReturn(reviewList);
+        Mockito.when(this.itemRatingService.getItemRating(itemId1)).thenReturn(getDataItemRating());
 
         // when
         FindItemResponse findItemResponse = this.itemService.get(1L);
@@ -227,6 +309,15 @@ class ItemServiceTest {
         assertThat(findItemResponse.getCategory().getLastName()).isEqualTo(lastName);
     }
 
+    private ItemRating getDataItemRating() {
+        return ItemRating.builder()
+                .itemId(itemId1)
+                .avgItemScore(4.5)
+                .totalReviewCount(2)
+                .scoreCounts(List.of(0L, 0L, 0L, 1L, 1L))
+                .build();
+    }
+
     private Page<Item> getSearch() {
         List<Item> list = List.of(this.getData());
         Pageable pageable = PageRequest.of(0, 10);
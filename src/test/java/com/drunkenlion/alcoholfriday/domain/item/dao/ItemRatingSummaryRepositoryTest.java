@@ -0,0 +1,183 @@
+package com.drunkenlion.alcoholfriday.domain.item.dao;
+
+import com.drunkenlion.alcoholfriday.domain.item.entity.Item;
+import com.drunkenlion.alcoholfriday.domain.item.entity.ItemRatingSummary;
+import com.drunkenlion.alcoholfriday.domain.review.dao.ReviewRepository;
+import com.drunkenlion.alcoholfriday.domain.review.entity.Review;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ItemRatingSummaryRepositoryTest {
+    @Autowired
+    private ItemRatingSummaryRepository itemRatingSummaryRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void afterEach() {
+        itemRatingSummaryRepository.deleteAll();
+        reviewRepository.deleteAll();
+        itemRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("집계가 없는 상품에 동시에 첫 리뷰가 작성되어도 집계 row 는 하나이고 누락되지 않는다.")
+    void increaseConcurrentlyTest() throws Exception {
+        // given
+        Long itemId = saveItem().getId();
+
+        int threadCount = 16;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executorService.submit(() -> {
+                start.await();
+                transactionTemplate.executeWithoutResult(status ->
+                        itemRatingSummaryRepository.increase(itemId, 1, 5D, new long[]{0, 0, 0, 0, 1}));
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        // then
+        assertThat(itemRatingSummaryRepository.findAllByItemIdIn(List.of(itemId))).hasSize(1);
+        ItemRatingSummary summary = itemRatingSummaryRepository.findByItemId(itemId).get();
+        assertThat(summary.getReviewCount()).isEqualTo(16L);
+        assertThat(summary.getScoreSum()).isEqualTo(80D);
+        assertThat(summary.getHistogram()).containsExactly(0, 0, 0, 0, 16);
+    }
+
+    @Test
+    @DisplayName("재계산은 삭제되지 않은 리뷰 기준으로 집계를 덮어쓰고, 없는 집계는 만든다.")
+    void recalculateTest() {
+        // given
+        Item item = saveItem();
+        Item other = saveItem();
+        saveReview(item, 5D, null);
+        saveReview(item, 3D, null);
+        saveReview(item, 1D, LocalDateTime.now());
+        saveReview(other, 4D, null);
+
+        // 어긋난 집계
+        itemRatingSummaryRepository.increase(item.getId(), 10, 50D, new long[]{0, 0, 0, 0, 10});
+
+        // when
+        transactionTemplate.executeWithoutResult(status ->
+                itemRatingSummaryRepository.recalculate(List.of(item.getId(), other.getId())));
+
+        // then
+        ItemRatingSummary summary = itemRatingSummaryRepository.findByItemId(item.getId()).get();
+        assertThat(summary.getReviewCount()).isEqualTo(2L);
+        assertThat(summary.getScoreSum()).isEqualTo(8D);
+        assertThat(summary.getHistogram()).containsExactly(0, 0, 1, 0, 1);
+
+        ItemRatingSummary otherSummary = itemRatingSummaryRepository.findByItemId(other.getId()).get();
+        assertThat(otherSummary.getReviewCount()).isEqualTo(1L);
+        assertThat(otherSummary.getHistogram()).containsExactly(0, 0, 0, 1, 0);
+    }
+
+    @Test
+    @DisplayName("집계가 없는 상품은 이미 쌓인 리뷰를 포함해 리뷰 테이블 기준으로 집계를 만든다.")
+    void createTest() {
+        // given
+        Item item = saveItem();
+        saveReview(item, 5D, null);
+        saveReview(item, 4D, null);
+        // 이번에 작성된 리뷰 (리뷰 테이블에 반영된 뒤 호출된다.)
+        saveReview(item, 2D, null);
+
+        // when
+        transactionTemplate.executeWithoutResult(status ->
+                itemRatingSummaryRepository.create(item.getId(), 1, 2D, new long[]{0, 1, 0, 0, 0}));
+
+        // then
+        ItemRatingSummary summary = itemRatingSummaryRepository.findByItemId(item.getId()).get();
+        assertThat(summary.getReviewCount()).isEqualTo(3L);
+        assertThat(summary.getScoreSum()).isEqualTo(11D);
+        assertThat(summary.getHistogram()).containsExactly(0, 1, 0, 1, 1);
+    }
+
+    @Test
+    @DisplayName("집계가 없는 상품의 첫 변경이 리뷰 삭제여도 리뷰 수가 음수가 되지 않는다.")
+    void createAfterRemoveTest() {
+        // given
+        Item item = saveItem();
+        saveReview(item, 5D, null);
+        saveReview(item, 3D, LocalDateTime.now());
+
+        // when
+        transactionTemplate.executeWithoutResult(status ->
+                itemRatingSummaryRepository.create(item.getId(), -1, -3D, new long[]{0, 0, -1, 0, 0}));
+
+        // then
+        ItemRatingSummary summary = itemRatingSummaryRepository.findByItemId(item.getId()).get();
+        assertThat(summary.getReviewCount()).isEqualTo(1L);
+        assertThat(summary.getScoreSum()).isEqualTo(5D);
+        assertThat(summary.getHistogram()).containsExactly(0, 0, 0, 0, 1);
+    }
+
+    @Test
+    @DisplayName("그사이 다른 트랜잭션이 집계를 만들었다면 이번 변경만 더한다.")
+    void createExistingTest() {
+        // given
+        Item item = saveItem();
+        saveReview(item, 5D, null);
+        saveReview(item, 4D, null);
+        itemRatingSummaryRepository.increase(item.getId(), 1, 5D, new long[]{0, 0, 0, 0, 1});
+
+        // when
+        transactionTemplate.executeWithoutResult(status ->
+                itemRatingSummaryRepository.create(item.getId(), 1, 4D, new long[]{0, 0, 0, 1, 0}));
+
+        // then
+        ItemRatingSummary summary = itemRatingSummaryRepository.findByItemId(item.getId()).get();
+        assertThat(summary.getReviewCount()).isEqualTo(2L);
+        assertThat(summary.getScoreSum()).isEqualTo(9D);
+        assertThat(summary.getHistogram()).containsExactly(0, 0, 0, 1, 1);
+    }
+
+    private Item saveItem() {
+        return itemRepository.save(Item.builder()
+                .name("평점 테스트 상품")
+                .price(new BigDecimal(10000))
+                .build());
+    }
+
+    private void saveReview(Item item, Double score, LocalDateTime deletedAt) {
+        reviewRepository.save(Review.builder()
+                .item(item)
+                .score(score)
+                .content("리뷰")
+                .deletedAt(deletedAt)
+                .build());
+    }
+}
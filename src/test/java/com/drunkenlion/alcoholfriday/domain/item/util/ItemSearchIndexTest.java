@@ -0,0 +1,137 @@
+package com.drunkenlion.alcoholfriday.domain.item.util;
+
+import com.drunkenlion.alcoholfriday.domain.item.vo.ItemSearchDocument;
+import com.drunkenlion.alcoholfriday.domain.item.vo.ItemSearchHit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemSearchIndexTest {
+    private ItemSearchIndex itemSearchIndex;
+
+    private final String makgeolli = "탁주/막걸리";
+    private final String wine = "과실주/와인";
+
+    @BeforeEach
+    void beforeEach() {
+        itemSearchIndex = new ItemSearchIndex();
+        itemSearchIndex.rebuild(List.of(
+                getDocument(1L, "지란지교 탁주 5개", makgeolli, 10L, "지란지교 탁주", 100L, "(주)국순당"),
+                getDocument(2L, "오늘 탁주 10개", makgeolli, 20L, "오늘 탁주", 200L, "오늘양조"),
+                getDocument(3L, "villa M 와인 3개", wine, 30L, "Villa M 와인", 100L, "(주)국순당"),
+                getDocument(4L, "선물 세트", makgeolli, 10L, "지란지교 탁주", 100L, "(주)국순당")
+        ));
+    }
+
+    @Test
+    @DisplayName("상품 이름에 포함된 검색어는 제품 이름보다 높은 순위로 조회된다.")
+    void searchTest_rank() {
+        long[] result = itemSearchIndex.search("탁주", Collections.emptyList());
+
+        assertThat(result).containsExactly(1L, 2L, 4L);
+    }
+
+    @Test
+    @DisplayName("카테고리 소분류로 검색 결과를 제한한다.")
+    void searchTest_category() {
+        long[] result = itemSearchIndex.search("국순당", List.of(wine));
+
+        assertThat(result).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("검색어가 없으면 카테고리에 해당하는 전체 상품을 조회한다.")
+    void searchTest_blankKeyword() {
+        long[] result = itemSearchIndex.search(" ", List.of(makgeolli));
+
+        assertThat(result).containsExactly(1L, 2L, 4L);
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어와 대소문자가 다른 검색어도 조회된다.")
+    void searchTest_unigramAndCase() {
+        assertThat(itemSearchIndex.search("술", Collections.emptyList())).isEmpty();
+        assertThat(itemSearchIndex.search("와", Collections.emptyList())).containsExactly(3L);
+        assertThat(itemSearchIndex.search("VILLA", Collections.emptyList())).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("bigram 이 모두 포함되어도 원문에 검색어가 없으면 조회되지 않는다.")
+    void searchTest_verify() {
+        // "지란" + "란지" + "지교" 는 모두 포함되지만 "지란지란" 은 포함되지 않는다.
+        long[] result = itemSearchIndex.search("지란지란", Collections.emptyList());
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("커서 다음 순위부터 limit 개를 조회한다.")
+    void searchAfterTest() {
+        List<ItemSearchHit> first = itemSearchIndex.searchAfter("탁주", Collections.emptyList(), Integer.MAX_VALUE, 0L, 2);
+        assertThat(first).extracting(ItemSearchHit::getItemId).containsExactly(1L, 2L);
+
+        ItemSearchHit last = first.get(first.size() - 1);
+        List<ItemSearchHit> second = itemSearchIndex.searchAfter("탁주", Collections.emptyList(), last.getScore(), last.getItemId(), 2);
+        assertThat(second).extracting(ItemSearchHit::getItemId).containsExactly(4L);
+        assertThat(second.get(0).getScore()).isLessThan(last.getScore());
+    }
+
+    @Test
+    @DisplayName("수정된 상품은 새 이름으로 조회되고, 제거된 상품은 조회되지 않는다.")
+    void upsertTest() {
+        itemSearchIndex.upsert(Set.of(2L, 3L), List.of(
+                getDocument(2L, "내일 막걸리 10개", makgeolli, 20L, "내일 막걸리", 200L, "오늘양조")
+        ));
+
+        assertThat(itemSearchIndex.search("오늘 탁주", Collections.emptyList())).isEmpty();
+        assertThat(itemSearchIndex.search("내일", Collections.emptyList())).containsExactly(2L);
+        assertThat(itemSearchIndex.search("와인", Collections.emptyList())).isEmpty();
+        assertThat(itemSearchIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("제품과 제조사로 영향을 받는 상품을 찾는다.")
+    void reverseTest() {
+        assertThat(itemSearchIndex.findItemIdsByProductId(10L)).containsExactlyInAnyOrder(1L, 4L);
+        assertThat(itemSearchIndex.findItemIdsByMakerId(100L)).containsExactlyInAnyOrder(1L, 3L, 4L);
+
+        itemSearchIndex.upsert(Set.of(4L), Collections.emptyList());
+
+        assertThat(itemSearchIndex.findItemIdsByProductId(10L)).containsExactly(1L);
+        assertThat(itemSearchIndex.findItemIdsByMakerId(100L)).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("수정이 반복되어도 검색 결과가 유지된다.")
+    void upsertTest_compact() {
+        for (int i = 0; i < 3000; i++) {
+            itemSearchIndex.upsert(Set.of(2L), List.of(
+                    getDocument(2L, "오늘 탁주 " + i + "개", makgeolli, 20L, "오늘 탁주", 200L, "오늘양조")
+            ));
+        }
+
+        assertThat(itemSearchIndex.size()).isEqualTo(4);
+        assertThat(itemSearchIndex.search("탁주 2999개", Collections.emptyList())).containsExactly(2L);
+        assertThat(itemSearchIndex.search("탁주", Collections.emptyList())).containsExactly(1L, 2L, 4L);
+    }
+
+    private ItemSearchDocument getDocument(Long itemId, String itemName, String category,
+                                           Long productId, String productName, Long makerId, String makerName) {
+        return ItemSearchDocument.builder()
+                .itemId(itemId)
+                .itemName(itemName)
+                .categoryLastName(category)
+                .productIds(new ArrayList<>(List.of(productId)))
+                .productNames(new ArrayList<>(List.of(productName)))
+                .makerIds(new ArrayList<>(List.of(makerId)))
+                .makerNames(new ArrayList<>(List.of(makerName)))
+                .build();
+    }
+}
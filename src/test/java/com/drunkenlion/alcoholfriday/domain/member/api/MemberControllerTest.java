@@ -29,6 +29,7 @@ import com.drunkenlion.alcoholfriday.domain.review.dto.response.ReviewModifyRequ
 import com.drunkenlion.alcoholfriday.domain.review.entity.Review;
 import com.drunkenlion.alcoholfriday.global.common.enumerated.OrderStatus;
 import com.drunkenlion.alcoholfriday.global.common.util.JsonConvertor;
+import com.drunkenlion.alcoholfriday.global.file.dao.FileObjectRepository;
 import com.drunkenlion.alcoholfriday.global.file.dao.FileRepository;
 import com.drunkenlion.alcoholfriday.global.user.WithAccount;
 import com.drunkenlion.alcoholfriday.global.util.TestUtil;
@@ -96,6 +97,8 @@ public class MemberControllerTest {
     private ReviewRepository reviewRepository;
     @Autowired
     private FileRepository fileRepository;
+    @Autowired
+    private FileObjectRepository fileObjectRepository;
 
 
     public static final String EMAIL = "test@example.com";
@@ -261,6 +264,7 @@ public class MemberControllerTest {
         addressRepository.deleteAll();
         reviewRepository.deleteAll();
         fileRepository.deleteAll();
+        fileObjectRepository.deleteAll();
     }
 
     @Test
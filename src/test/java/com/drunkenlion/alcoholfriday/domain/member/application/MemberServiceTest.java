@@ -42,6 +42,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -181,7 +182,7 @@ public class MemberServiceTest {
     public void getMyOrdersTest() {
         // given
         when(this.orderRepository.findMyOrderList(any(), any(Pageable.class))).thenReturn(this.getOrders());
-        when(this.fileService.findOne(any())).thenReturn(null);
+        when(this.fileService.findFirstImages(any())).thenReturn(Collections.emptyMap());
 
         // when
         Page<OrderResponse> orders = this.memberService.getMyOrders(getMemberData(), page, size);
@@ -214,7 +215,7 @@ public class MemberServiceTest {
         assertThat(orderDetails.get(0).getTotalPrice()).isEqualTo(totalPrice);
         assertThat(orderDetails.get(0).getFile()).isNull();
 
-        verify(fileService).findOne(any());
+        verify(fileService).findFirstImages(any());
     }
 
     @Test
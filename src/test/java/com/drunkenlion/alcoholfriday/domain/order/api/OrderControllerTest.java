@@ -38,6 +38,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static org.hamcrest.Matchers.instanceOf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -370,7 +371,7 @@ class OrderControllerTest {
         // given
         Item item = itemRepository.findByIdAndDeletedAtIsNull(itemId).get();
         Product product = productRepository.findById(item.getItemProducts().get(0).getProduct().getId()).get();
-        product.updateQuantity(1L);
+        productRepository.addQuantities(Map.of(product.getId(), 1L - product.getQuantity()));
 
         // when
         ResultActions resultActions = mvc
@@ -0,0 +1,259 @@
+package com.drunkenlion.alcoholfriday.domain.order.application;
+
+import com.drunkenlion.alcoholfriday.domain.address.dao.AddressRepository;
+import com.drunkenlion.alcoholfriday.domain.address.entity.Address;
+import com.drunkenlion.alcoholfriday.domain.auth.enumerated.ProviderType;
+import com.drunkenlion.alcoholfriday.domain.category.dao.CategoryClassRepository;
+import com.drunkenlion.alcoholfriday.domain.category.dao.CategoryRepository;
+import com.drunkenlion.alcoholfriday.domain.category.entity.Category;
+import com.drunkenlion.alcoholfriday.domain.category.entity.CategoryClass;
+import com.drunkenlion.alcoholfriday.domain.item.dao.ItemProductRepository;
+import com.drunkenlion.alcoholfriday.domain.item.dao.ItemRepository;
+import com.drunkenlion.alcoholfriday.domain.item.entity.Item;
+import com.drunkenlion.alcoholfriday.domain.item.entity.ItemProduct;
+import com.drunkenlion.alcoholfriday.domain.member.dao.MemberRepository;
+import com.drunkenlion.alcoholfriday.domain.member.entity.Member;
+import com.drunkenlion.alcoholfriday.domain.member.enumerated.MemberRole;
+import com.drunkenlion.alcoholfriday.domain.order.dto.request.OrderItemRequest;
+import com.drunkenlion.alcoholfriday.domain.order.dto.request.OrderRequestList;
+import com.drunkenlion.alcoholfriday.domain.order.dto.response.OrderResponseList;
+import com.drunkenlion.alcoholfriday.domain.product.dao.ProductRepository;
+import com.drunkenlion.alcoholfriday.domain.product.entity.Product;
+import jakarta.persistence.EntityManager;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@Transactional
+class OrderReceiveQueryCountTest {
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private CategoryClassRepository categoryClassRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private ItemProductRepository itemProductRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private AddressRepository addressRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private StatementCounter statementCounter;
+
+    private final List<Long> itemIds = new ArrayList<>();
+    private Member member;
+
+    @BeforeEach
+    void beforeEach() {
+        CategoryClass categoryClass = categoryClassRepository.save(CategoryClass.builder()
+                .firstName("식품")
+                .build());
+
+        Category category = Category.builder()
+                .lastName("탁주")
+                .build();
+        category.addCategoryClass(categoryClass);
+        categoryRepository.save(category);
+
+        for (int i = 0; i < 20; i++) {
+            Product product = Product.builder()
+                    .name("대량주문 제품_" + i)
+                    .quantity(100L)
+                    .alcohol(17D)
+                    .build();
+            product.addCategory(category);
+            productRepository.save(product);
+
+            Item item = Item.builder()
+                    .name("대량주문 상품_" + i)
+                    .price(new BigDecimal(10000))
+                    .info("주문 접수 쿼리 수 테스트 상품")
+                    .build();
+            item.addCategory(category);
+            itemIds.add(itemRepository.save(item).getId());
+
+            ItemProduct itemProduct = ItemProduct.builder()
+                    .item(item)
+                    .product(product)
+                    .quantity(2L)
+                    .build();
+            itemProduct.addItem(item);
+            itemProduct.addProduct(product);
+            itemProductRepository.save(itemProduct);
+        }
+
+        member = memberRepository.save(Member.builder()
+                .email("bulk-order@example.com")
+                .provider(ProviderType.KAKAO)
+                .name("홍길동")
+                .nickname("bulk")
+                .role(MemberRole.MEMBER)
+                .phone(1012345678L)
+                .agreedToServiceUse(true)
+                .agreedToServicePolicy(true)
+                .agreedToServicePolicyUse(true)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        addressRepository.save(Address.builder()
+                .member(member)
+                .isPrimary(true)
+                .address("서울특별시 중구 세종대로 110(태평로1가)")
+                .addressDetail("서울특별시청 103호")
+                .postcode("04524")
+                .recipient("홍길동")
+                .phone(1012345678L)
+                .request("부재시 문앞에 놓아주세요.")
+                .build());
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("주문 접수 쿼리 수는 주문 상품 수와 상관없이 일정하다.")
+    void receiveQueryCountTest() {
+        // when
+        statementCounter.start();
+        OrderResponseList single = receive(itemIds.subList(0, 1));
+        List<Execution> singleExecutions = statementCounter.stop();
+
+        statementCounter.start();
+        OrderResponseList bulk = receive(itemIds);
+        List<Execution> bulkExecutions = statementCounter.stop();
+
+        // then
+        assertThat(single.getOrderDetails()).hasSize(1);
+        assertThat(bulk.getOrderDetails()).hasSize(20);
+        assertThat(bulk.getPrice()).isEqualByComparingTo(new BigDecimal(20 * 2 * 10000));
+
+        // Hibernate 통계에는 JdbcTemplate batch 가 빠지므로, DataSource 에서 DB 로 보낸 실행 수를 센다.
+        // 상품 조회, 주문 insert, 배송지 조회 + 주문 상세 insert, 재고 차감 batch (주문 고유번호는 저장 전에 만든다)
+        assertThat(bulkExecutions).hasSameSizeAs(singleExecutions);
+        assertThat(bulkExecutions).hasSizeLessThanOrEqualTo(5);
+        assertThat(bulkExecutions)
+                .filteredOn(Execution::batch)
+                .extracting(Execution::table, Execution::batchSize)
+                .containsExactly(
+                        tuple("order_detail", 20),
+                        tuple("product", 20));
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM order_detail WHERE order_id = ?", Long.class, bulk.getId())).isEqualTo(20L);
+        assertThat(productRepository.findAll())
+                .filteredOn(product -> product.getName().startsWith("대량주문 제품_"))
+                .extracting(Product::getQuantity)
+                .containsOnly(92L, 96L);
+    }
+
+    private OrderResponseList receive(List<Long> ids) {
+        List<OrderItemRequest> orderItemList = ids.stream()
+                .map(itemId -> OrderItemRequest.builder()
+                        .itemId(itemId)
+                        .quantity(2L)
+                        .build())
+                .toList();
+
+        OrderResponseList response = orderService.receive(OrderRequestList.builder()
+                .orderItemList(orderItemList)
+                .build(), member);
+
+        em.flush();
+        em.clear();
+        return response;
+    }
+
+    @TestConfiguration
+    static class StatementCounterConfig {
+        @Bean
+        static StatementCounter statementCounter() {
+            return new StatementCounter();
+        }
+
+        @Bean
+        static BeanPostProcessor countingDataSourcePostProcessor(StatementCounter statementCounter) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource) {
+                        return ProxyDataSourceBuilder.create(dataSource)
+                                .listener(statementCounter)
+                                .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * 테스트 스레드에서 DB 로 보낸 실행(batch 는 한 번)을 기록한다. 예약 작업 등 다른 스레드의 쿼리는 세지 않는다.
+     */
+    static class StatementCounter implements QueryExecutionListener {
+        private final List<Execution> executions = new CopyOnWriteArrayList<>();
+        private volatile Thread thread;
+
+        void start() {
+            executions.clear();
+            thread = Thread.currentThread();
+        }
+
+        List<Execution> stop() {
+            thread = null;
+            return List.copyOf(executions);
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            if (Thread.currentThread() != thread) {
+                return;
+            }
+            String query = queryInfoList.get(0).getQuery();
+            executions.add(new Execution(tableOf(query), execInfo.isBatch(), execInfo.getBatchSize()));
+        }
+
+        // INSERT INTO x, UPDATE x 의 대상 테이블
+        private static String tableOf(String query) {
+            String[] words = query.trim().toLowerCase().split("\\s+");
+            return words[0].equals("insert") ? words[2] : words[1];
+        }
+    }
+
+    record Execution(String table, boolean batch, int batchSize) {
+    }
+}
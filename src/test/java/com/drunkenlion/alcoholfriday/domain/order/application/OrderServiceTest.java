@@ -20,6 +20,8 @@ import com.drunkenlion.alcoholfriday.domain.order.dto.response.OrderResponseList
 import com.drunkenlion.alcoholfriday.domain.order.entity.Order;
 import com.drunkenlion.alcoholfriday.domain.order.entity.OrderDetail;
 import com.drunkenlion.alcoholfriday.domain.order.util.OrderUtil;
+import com.drunkenlion.alcoholfriday.domain.product.application.HotStockLedger;
+import com.drunkenlion.alcoholfriday.domain.product.dao.ProductRepository;
 import com.drunkenlion.alcoholfriday.domain.product.entity.Product;
 import com.drunkenlion.alcoholfriday.global.common.enumerated.OrderStatus;
 import com.drunkenlion.alcoholfriday.global.common.response.HttpResponse;
@@ -29,6 +31,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,12 +40,16 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -58,12 +65,19 @@ class OrderServiceTest {
     private ItemRepository itemRepository;
     @Mock
     private AddressRepository addressRepository;
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private HotStockLedger hotStockLedger;
+    @Spy
+    private OrderNoGenerator orderNoGenerator = new OrderNoGenerator(0L);
 
     // test를 위한 임의 변수
     // Item
     private final Long itemId1 = 1L;
     private final String firstName = "식품";
     private final String lastName = "탁주";
+    private final Long productId1 = 1L;
     private final String productName = "test data";
     private final String itemName = "test ddaattaa";
     private final BigDecimal price = new BigDecimal(50000);
@@ -83,6 +97,7 @@ class OrderServiceTest {
     private final Long itemId2 = 2L;
     private final String firstName2 = "식품";
     private final String lastName2 = "청주";
+    private final Long productId2 = 2L;
     private final String productName2 = "test data2";
     private final String itemName2 = "test ddaattaa";
     private final BigDecimal price2 = new BigDecimal(100_000);
@@ -155,13 +170,14 @@ class OrderServiceTest {
     void orderReceive_oneItem() {
         // given
         // orderRepository.save(order)
-        when(orderRepository.save(any(Order.class))).thenReturn(this.getDataOrder());
+        when(orderRepository.save(any(Order.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0, Order.class).toBuilder().id(orderId).build());
 
-        // itemRepository.findById(orderItemRequest.getItemId())
-        when(itemRepository.findById(itemId1)).thenReturn(this.getOneItem());
+        // itemRepository.findAllWithProductsByIdIn(itemIds)
+        when(itemRepository.findAllWithProductsByIdIn(anyCollection())).thenReturn(List.of(this.getDataItem()));
 
-        // orderDetailRepository.save(orderDetail)
-        when(orderDetailRepository.save(any(OrderDetail.class))).thenReturn(this.getDataOrderDetail());
+        // productRepository.decreaseQuantities(quantitiesByProductId)
+        when(productRepository.decreaseQuantities(any())).thenReturn(true);
 
         List<OrderItemRequest> orderItemRequestList = new ArrayList<>();
         OrderItemRequest orderItemRequest = OrderItemRequest.builder()
@@ -200,19 +216,91 @@ class OrderServiceTest {
         assertThat(orderDetails.get(0).getItem().getPrice()).isEqualTo("50000");
     }
 
+    @Test
+    @DisplayName("[즉시 주문] 재고 분산 관리 제품은 재고 장부에서 재고를 확보한다.")
+    void orderReceive_hotStockItem() {
+        // given
+        // orderRepository.save(order)
+        when(orderRepository.save(any(Order.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0, Order.class).toBuilder().id(orderId).build());
+
+        // itemRepository.findAllWithProductsByIdIn(itemIds)
+        when(itemRepository.findAllWithProductsByIdIn(anyCollection())).thenReturn(List.of(this.getDataItem()));
+
+        // hotStockLedger.isHot(productId), hotStockLedger.reserve(orderId, quantitiesByProductId)
+        when(hotStockLedger.isHot(productId1)).thenReturn(true);
+        when(hotStockLedger.reserve(eq(orderId), any())).thenReturn(true);
+
+        // productRepository.decreaseQuantities(quantitiesByProductId) - 재고 분산 관리 제품 외에는 차감할 제품이 없다.
+        when(productRepository.decreaseQuantities(argThat(Map::isEmpty))).thenReturn(true);
+
+        List<OrderItemRequest> orderItemRequestList = new ArrayList<>();
+        orderItemRequestList.add(OrderItemRequest.builder()
+                .itemId(itemId1)
+                .quantity(quantityItem)
+                .build());
+
+        OrderRequestList orderRequestList = OrderRequestList.builder()
+                .orderItemList(orderItemRequestList)
+                .build();
+
+        // addressRepository.findByMemberAndIsPrimaryIsTrue(member)
+        when(addressRepository.findByMemberAndIsPrimaryIsTrue(getDataMember())).thenReturn(getOneAddress());
+
+        // when
+        OrderResponseList receive = this.orderService.receive(orderRequestList, getDataMember());
+
+        // then
+        assertThat(receive.getOrderDetails().size()).isEqualTo(1);
+        verify(hotStockLedger, times(1)).reserve(eq(orderId), argThat(quantities ->
+                quantities.size() == 1 && quantities.get(productId1) == quantityItem * 3L));
+    }
+
+    @Test
+    @DisplayName("[즉시 주문] 재고 장부에서 재고를 확보하지 못하면 주문에 실패한다.")
+    void orderReceive_hotStockSoldOut() {
+        // given
+        // orderRepository.save(order)
+        when(orderRepository.save(any(Order.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0, Order.class).toBuilder().id(orderId).build());
+
+        // itemRepository.findAllWithProductsByIdIn(itemIds)
+        when(itemRepository.findAllWithProductsByIdIn(anyCollection())).thenReturn(List.of(this.getDataItem()));
+
+        // hotStockLedger.isHot(productId), hotStockLedger.reserve(orderId, quantitiesByProductId)
+        when(hotStockLedger.isHot(productId1)).thenReturn(true);
+        when(hotStockLedger.reserve(eq(orderId), any())).thenReturn(false);
+
+        List<OrderItemRequest> orderItemRequestList = new ArrayList<>();
+        orderItemRequestList.add(OrderItemRequest.builder()
+                .itemId(itemId1)
+                .quantity(quantityItem)
+                .build());
+
+        OrderRequestList orderRequestList = OrderRequestList.builder()
+                .orderItemList(orderItemRequestList)
+                .build();
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+                orderService.receive(orderRequestList, getDataMember()));
+        assertThat(exception.getStatus()).isEqualTo(HttpResponse.Fail.OUT_OF_ITEM_STOCK.getStatus());
+        verify(productRepository, never()).decreaseQuantities(any());
+    }
+
     @Test
     @DisplayName("[장바구니 주문] 상품 한 개 이상 주문할 경우")
     void orderReceive_itemList() {
         // given
         // orderRepository.save(order)
-        when(orderRepository.save(any(Order.class))).thenReturn(this.getDataOrder());
+        when(orderRepository.save(any(Order.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0, Order.class).toBuilder().id(orderId).build());
 
-        // itemRepository.findById(orderItemRequest.getItemId())
-        when(itemRepository.findById(itemId1)).thenReturn(this.getOneItem());
-        when(itemRepository.findById(itemId2)).thenReturn(this.getOneItem2());
+        // itemRepository.findAllWithProductsByIdIn(itemIds)
+        when(itemRepository.findAllWithProductsByIdIn(anyCollection())).thenReturn(List.of(this.getDataItem(), this.getDataItem2()));
 
-        // orderDetailRepository.save(orderDetail)
-        when(orderDetailRepository.save(any(OrderDetail.class))).thenReturn(this.getDataOrderDetail()).thenReturn(this.getDataOrderDetail2());
+        // productRepository.decreaseQuantities(quantitiesByProductId)
+        when(productRepository.decreaseQuantities(any())).thenReturn(true);
 
         List<OrderItemRequest> orderItemRequestList = new ArrayList<>();
         OrderItemRequest orderItemRequest = OrderItemRequest.builder()
@@ -255,17 +343,19 @@ class OrderServiceTest {
         assertThat(orderDetails.get(0).getItem().getPrice()).isEqualTo("50000");
         assertThat(orderDetails.get(1).getItem().getId()).isEqualTo(itemId2);
         assertThat(orderDetails.get(1).getItem().getPrice()).isEqualTo("100000");
+
+        verify(itemRepository, times(1)).findAllWithProductsByIdIn(anyCollection());
+        verify(orderDetailRepository, times(1)).saveAllInBatch(anyList());
+        verify(productRepository, times(1)).decreaseQuantities(argThat(quantities ->
+                quantities.get(productId1) == quantityItem * 3L && quantities.get(productId2) == quantityItem2 * 3L));
     }
 
     @Test
     @DisplayName("없는 상품 주문할 경우")
     void orderReceive_noItem() {
         // given
-        // orderRepository.save(order)
-        when(orderRepository.save(any(Order.class))).thenReturn(this.getDataOrder());
-
-        // itemRepository.findById(orderItemRequest.getItemId())
-        when(itemRepository.findById(100L)).thenReturn(Optional.empty());
+        // itemRepository.findAllWithProductsByIdIn(itemIds)
+        when(itemRepository.findAllWithProductsByIdIn(anyCollection())).thenReturn(List.of(this.getDataItem2()));
 
         List<OrderItemRequest> orderItemRequestList = new ArrayList<>();
         OrderItemRequest orderItemRequest = OrderItemRequest.builder()
@@ -287,6 +377,7 @@ class OrderServiceTest {
         assertThrows(BusinessException.class, () -> {
             orderService.receive(orderRequestList, getDataMember());
         });
+        verify(orderRepository, never()).save(any(Order.class));
     }
 
     @Test
@@ -294,10 +385,14 @@ class OrderServiceTest {
     void orderReceive_outOfItemStock() {
         // given
         // orderRepository.save(order)
-        when(orderRepository.save(any(Order.class))).thenReturn(this.getDataOrder());
+        when(orderRepository.save(any(Order.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0, Order.class).toBuilder().id(orderId).build());
+
+        // itemRepository.findAllWithProductsByIdIn(itemIds)
+        when(itemRepository.findAllWithProductsByIdIn(anyCollection())).thenReturn(List.of(this.getDataItem3()));
 
-        // itemRepository.findById(orderItemRequest.getItemId())
-        when(itemRepository.findById(itemId1)).thenReturn(this.getOneItem3());
+        // productRepository.decreaseQuantities(quantitiesByProductId) - 조건부 차감이 실패한 경우
+        when(productRepository.decreaseQuantities(any())).thenReturn(false);
 
         List<OrderItemRequest> orderItemRequestList = new ArrayList<>();
         OrderItemRequest orderItemRequest = OrderItemRequest.builder()
@@ -525,6 +620,7 @@ class OrderServiceTest {
         category.addCategoryClass(categoryClass);
 
         Product product = Product.builder()
+                .id(productId1)
                 .name(productName)
                 .quantity(quantity)
                 .alcohol(alcohol)
@@ -573,6 +669,7 @@ class OrderServiceTest {
         category.addCategoryClass(categoryClass);
 
         Product product = Product.builder()
+                .id(productId2)
                 .name(productName2)
                 .quantity(quantity2)
                 .alcohol(alcohol2)
@@ -621,6 +718,7 @@ class OrderServiceTest {
         category.addCategoryClass(categoryClass);
 
         Product product = Product.builder()
+                .id(productId2)
                 .name(productName2)
                 .quantity(1L)
                 .alcohol(alcohol2)
@@ -17,6 +17,7 @@ import com.drunkenlion.alcoholfriday.domain.member.entity.Member;
 import com.drunkenlion.alcoholfriday.domain.member.enumerated.MemberRole;
 import com.drunkenlion.alcoholfriday.domain.order.entity.Order;
 import com.drunkenlion.alcoholfriday.domain.order.entity.OrderDetail;
+import com.drunkenlion.alcoholfriday.domain.payment.application.PaymentService;
 import com.drunkenlion.alcoholfriday.domain.payment.dao.PaymentRepository;
 import com.drunkenlion.alcoholfriday.domain.payment.entity.Payment;
 import com.drunkenlion.alcoholfriday.domain.payment.enumerated.*;
@@ -25,6 +26,9 @@ import com.drunkenlion.alcoholfriday.domain.product.entity.Product;
 import com.drunkenlion.alcoholfriday.global.common.enumerated.ItemType;
 import com.drunkenlion.alcoholfriday.global.common.enumerated.OrderStatus;
 import com.drunkenlion.alcoholfriday.global.file.application.FileService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -68,9 +72,13 @@ public class OrderRepositoryTest {
     private OrderDetailRepository orderDetailRepository;
     @Autowired
     private PaymentRepository paymentRepository;
+    @Autowired
+    private PaymentService paymentService;
 
     @Autowired
     private FileService fileService;
+    @Autowired
+    private EntityManager em;
 
     @BeforeEach
     @Transactional
@@ -174,7 +182,7 @@ public class OrderRepositoryTest {
                         .review(null)
                         .build());
 
-        Payment 결제_1 = paymentRepository.save(
+        Payment 결제_1 = paymentService.savePayment(
                 Payment.builder()
                         .paymentNo("jPR7DvYpNk6bJXmgo01emDojZdPByA8LAnGKWx4qMl00aEwB")
                         .paymentStatus(PaymentStatus.DONE)
@@ -192,7 +200,7 @@ public class OrderRepositoryTest {
                         .member(회원_일반회원5)
                         .build());
 
-        Payment 결제_2 = paymentRepository.save(
+        Payment 결제_2 = paymentService.savePayment(
                 Payment.builder()
                         .paymentNo("jPR7DvYpNk6bJXmgo01emDojZdPByA8LAnGKWx4qMl00aEwB")
                         .paymentStatus(PaymentStatus.DONE)
@@ -237,7 +245,7 @@ public class OrderRepositoryTest {
                         .review(null)
                         .build());
 
-        Payment 결제_3 = paymentRepository.save(
+        Payment 결제_3 = paymentService.savePayment(
                 Payment.builder()
                         .paymentNo("jPR7DvYpNk6bJXmgo01emDojZdPByA8LAnGKWx4qMl00aEwB")
                         .paymentStatus(PaymentStatus.DONE)
@@ -298,4 +306,80 @@ public class OrderRepositoryTest {
         assertThat(orderListResponses.getContent()).isInstanceOf(List.class);
         assertThat(orderListResponses.getContent().size()).isEqualTo(1);
     }
+
+    @Test
+    @DisplayName("주문 목록 조회 - 결제가 여러 건이면 마지막 결제의 카드 발급사")
+    void getOrderListLatestPaymentTest() {
+        // given
+        Pageable pageable = PageRequest.of(0, 20);
+        Order 주문_1 = orderRepository.findAll().stream()
+                .filter(order -> order.getOrderNo().equals("주문_1"))
+                .findFirst()
+                .get();
+
+        // when
+        Page<OrderListResponse> orderListResponses = orderRepository.findOrderList(pageable, null);
+
+        // then
+        assertThat(주문_1.getLatestPayment().getIssuerCode()).isEqualTo(PaymentCardCode.HYUNDAI);
+        assertThat(orderListResponses.getContent())
+                .filteredOn(order -> order.getOrderNo().equals("주문_1"))
+                .extracting(OrderListResponse::getIssuerName)
+                .containsExactly(PaymentCardCode.ofCardName(PaymentCardCode.HYUNDAI));
+    }
+
+    @Test
+    @DisplayName("나의 주문 목록 조회 - 주문 상세가 여러 건이어도 페이지 크기만큼만 조회하고 전체 개수는 주문 기준")
+    void findMyOrderListPagingTest() {
+        // given
+        Member member = memberRepository.findByEmail("member5@example.com").get();
+        Item item = itemRepository.findAll().get(0);
+
+        for (int i = 0; i < 30; i++) {
+            Order order = orderRepository.save(
+                    Order.builder()
+                            .orderNo("대량주문_" + i)
+                            .orderStatus(OrderStatus.PAYMENT_COMPLETED)
+                            .price(BigDecimal.valueOf(60000))
+                            .deliveryPrice(BigDecimal.valueOf(2500))
+                            .totalPrice(BigDecimal.valueOf(62500))
+                            .recipient("테스트회원5")
+                            .member(member)
+                            .build());
+
+            for (int j = 0; j < 3; j++) {
+                orderDetailRepository.save(
+                        OrderDetail.builder()
+                                .itemPrice(item.getPrice())
+                                .quantity(1L)
+                                .totalPrice(item.getPrice())
+                                .item(item)
+                                .order(order)
+                                .build());
+            }
+        }
+
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        Page<Order> firstPage = orderRepository.findMyOrderList(member, PageRequest.of(0, 10));
+        Page<Order> secondPage = orderRepository.findMyOrderList(member, PageRequest.of(1, 10));
+
+        // then
+        assertThat(firstPage.getContent()).hasSize(10);
+        assertThat(firstPage.getTotalElements()).isEqualTo(32);
+        assertThat(firstPage.getContent().get(0).getOrderNo()).isEqualTo("대량주문_29");
+        assertThat(firstPage.getContent()).allSatisfy(order -> assertThat(order.getOrderDetails()).hasSize(3));
+        assertThat(secondPage.getContent().get(0).getOrderNo()).isEqualTo("대량주문_19");
+
+        // 메모리 페이징이면 회원의 모든 주문을 읽는다.
+        assertThat(statistics.getEntityStatistics(Order.class.getName()).getLoadCount()).isEqualTo(20);
+
+        statistics.setStatisticsEnabled(false);
+    }
 }
@@ -0,0 +1,130 @@
+package com.drunkenlion.alcoholfriday.domain.payment.application;
+
+import com.drunkenlion.alcoholfriday.domain.order.dao.OrderRepository;
+import com.drunkenlion.alcoholfriday.domain.order.entity.Order;
+import com.drunkenlion.alcoholfriday.domain.payment.dao.PaymentRepository;
+import com.drunkenlion.alcoholfriday.domain.payment.entity.Payment;
+import com.drunkenlion.alcoholfriday.global.common.enumerated.OrderStatus;
+import com.drunkenlion.alcoholfriday.global.migration.dao.DataMigrationRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class LatestPaymentBackfillerTest {
+    @Autowired
+    private LatestPaymentBackfiller latestPaymentBackfiller;
+    @Autowired
+    private PaymentService paymentService;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private DataMigrationRepository dataMigrationRepository;
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @DisplayName("마지막 결제가 비어 있는 주문에 가장 나중 결제를 채우고, 다시 실행해도 결과가 같다.")
+    void backfillTest() {
+        // given
+        Order paidOrder = saveOrder("결제 3건 주문");
+        paymentRepository.save(createPayment(paidOrder));
+        paymentRepository.save(createPayment(paidOrder));
+        Long lastPaymentId = paymentRepository.save(createPayment(paidOrder)).getId();
+        Long unpaidOrderId = saveOrder("결제 없는 주문").getId();
+        em.flush();
+
+        // when
+        latestPaymentBackfiller.backfill();
+        latestPaymentBackfiller.backfill();
+        em.clear();
+
+        // then
+        assertThat(orderRepository.findById(paidOrder.getId()).get().getLatestPayment().getId()).isEqualTo(lastPaymentId);
+        assertThat(orderRepository.findById(unpaidOrderId).get().getLatestPayment()).isNull();
+    }
+
+    @Test
+    @DisplayName("완료가 기록된 뒤에는 애플리케이션을 다시 시작해도 주문을 다시 훑지 않는다.")
+    void backfillOnceTest() {
+        // given
+        if (!dataMigrationRepository.existsByName(LatestPaymentBackfiller.MIGRATION_NAME)) {
+            latestPaymentBackfiller.backfillOnce();
+        }
+        Order paidOrder = saveOrder("완료 후 결제 주문");
+        paymentRepository.save(createPayment(paidOrder));
+        em.flush();
+
+        // when
+        latestPaymentBackfiller.backfillOnce();
+        em.clear();
+
+        // then
+        assertThat(dataMigrationRepository.existsByName(LatestPaymentBackfiller.MIGRATION_NAME)).isTrue();
+        assertThat(orderRepository.findById(paidOrder.getId()).get().getLatestPayment()).isNull();
+    }
+
+    @Test
+    @DisplayName("결제를 저장하면 주문의 마지막 결제가 바뀌고, 주문을 다시 저장해도 덮어쓰지 않는다.")
+    void savePaymentTest() {
+        // given
+        Order order = saveOrder("결제 주문");
+        paymentService.savePayment(createPayment(order));
+        Long lastPaymentId = paymentService.savePayment(createPayment(order)).getId();
+
+        // when
+        order.updateOrderStatus(OrderStatus.PAYMENT_COMPLETED);
+        orderRepository.save(order);
+        em.flush();
+        em.clear();
+
+        // then
+        assertThat(order.getLatestPayment().getId()).isEqualTo(lastPaymentId);
+        assertThat(orderRepository.findById(order.getId()).get().getLatestPayment().getId()).isEqualTo(lastPaymentId);
+    }
+
+    @Test
+    @DisplayName("이전 결제로는 마지막 결제를 되돌리지 않는다.")
+    void updateLatestPaymentForwardOnlyTest() {
+        // given
+        Order order = saveOrder("결제 주문");
+        Long firstPaymentId = paymentRepository.save(createPayment(order)).getId();
+        Long lastPaymentId = paymentService.savePayment(createPayment(order)).getId();
+
+        // when
+        long updated = orderRepository.updateLatestPayment(order.getId(), firstPaymentId);
+        em.clear();
+
+        // then
+        assertThat(updated).isZero();
+        assertThat(orderRepository.findById(order.getId()).get().getLatestPayment().getId()).isEqualTo(lastPaymentId);
+    }
+
+    private Order saveOrder(String orderNo) {
+        return orderRepository.save(Order.builder()
+                .orderNo(orderNo)
+                .orderStatus(OrderStatus.ORDER_RECEIVED)
+                .price(BigDecimal.valueOf(20000))
+                .deliveryPrice(BigDecimal.valueOf(2500))
+                .totalPrice(BigDecimal.valueOf(22500))
+                .build());
+    }
+
+    private Payment createPayment(Order order) {
+        return Payment.builder()
+                .totalPrice(order.getTotalPrice())
+                .currency("KRW")
+                .order(order)
+                .build();
+    }
+}
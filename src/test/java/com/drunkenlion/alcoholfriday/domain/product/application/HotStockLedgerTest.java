@@ -0,0 +1,298 @@
+package com.drunkenlion.alcoholfriday.domain.product.application;
+
+import com.drunkenlion.alcoholfriday.domain.product.dao.HotStockLeaseRepository;
+import com.drunkenlion.alcoholfriday.domain.product.dao.ProductRepository;
+import com.drunkenlion.alcoholfriday.domain.product.dao.ProductStockReservationRepository;
+import com.drunkenlion.alcoholfriday.domain.product.entity.Product;
+import com.drunkenlion.alcoholfriday.global.common.response.HttpResponse;
+import com.drunkenlion.alcoholfriday.global.exception.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+public class HotStockLedgerTest {
+    @Autowired
+    private HotStockLedger hotStockLedger;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private ProductStockReservationRepository productStockReservationRepository;
+    @Autowired
+    private HotStockLeaseRepository hotStockLeaseRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void beforeEach() {
+        // 다른 테스트 컨텍스트의 장부가 가진 임대를 지우고 이 장부가 임대를 가진다.
+        hotStockLeaseRepository.deleteAll();
+        assertThat(hotStockLedger.renewLease()).isTrue();
+    }
+
+    @AfterEach
+    void afterEach() {
+        productStockReservationRepository.deleteAll();
+        productRepository.deleteAll();
+        // 지운 제품을 장부에서 뺀다.
+        hotStockLedger.reconcile();
+    }
+
+    @Test
+    @DisplayName("확보한 재고는 커밋 후 메모리 재고에서 빠지고, flush 하면 제품 재고에 반영된다.")
+    void reserveAndFlushTest() {
+        // given
+        Long productId = saveHotProduct(100L);
+        // when
+        Boolean reserved = transactionTemplate.execute(status ->
+                hotStockLedger.reserve(1L, new TreeMap<>(Map.of(productId, 30L))));
+        hotStockLedger.flush();
+        // then
+        assertThat(reserved).isTrue();
+        assertThat(hotStockLedger.getAvailable(productId)).isEqualTo(70L);
+        assertThat(getQuantity(productId)).isEqualTo(70L);
+        assertThat(productStockReservationRepository.sumUnflushedQuantity(productId)).isZero();
+    }
+
+    @Test
+    @DisplayName("주문 트랜잭션이 롤백되면 확보한 재고가 메모리 재고로 돌아간다.")
+    void reserveRollbackTest() {
+        // given
+        Long productId = saveHotProduct(100L);
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            hotStockLedger.reserve(1L, new TreeMap<>(Map.of(productId, 30L)));
+            status.setRollbackOnly();
+        });
+        hotStockLedger.flush();
+        // then
+        assertThat(hotStockLedger.getAvailable(productId)).isEqualTo(100L);
+        assertThat(getQuantity(productId)).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("재고보다 많이 확보할 수 없다.")
+    void reserveOutOfStockTest() {
+        // given
+        Long productId = saveHotProduct(10L);
+        // when
+        Boolean reserved = transactionTemplate.execute(status ->
+                hotStockLedger.reserve(1L, new TreeMap<>(Map.of(productId, 11L))));
+        // then
+        assertThat(reserved).isFalse();
+        assertThat(hotStockLedger.getAvailable(productId)).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("reload 는 반영되지 않은 차감 기록을 먼저 반영하고 제품 재고로 메모리 재고를 다시 맞춘다.")
+    void reloadTest() {
+        // given
+        Long productId = saveHotProduct(100L);
+        transactionTemplate.execute(status ->
+                hotStockLedger.reserve(1L, new TreeMap<>(Map.of(productId, 30L))));
+        // 장부를 거치지 않은 변경
+        productRepository.addQuantities(Map.of(productId, 5L));
+        // when
+        hotStockLedger.reload(productId);
+        // then
+        assertThat(hotStockLedger.getAvailable(productId)).isEqualTo(75L);
+        assertThat(getQuantity(productId)).isEqualTo(75L);
+    }
+
+    @Test
+    @DisplayName("관리자 재고 수정은 차이만 반영하므로, 그사이 판매된 수량을 덮어쓰지 않는다.")
+    void adjustTest() {
+        // given
+        Long productId = saveHotProduct(100L);
+        // 관리자가 재고 100 을 보고 150 으로 수정하는 사이에 30 이 팔렸다.
+        transactionTemplate.execute(status ->
+                hotStockLedger.reserve(1L, new TreeMap<>(Map.of(productId, 30L))));
+        hotStockLedger.flush();
+        // when
+        transactionTemplate.executeWithoutResult(status -> hotStockLedger.adjust(productId, 150L - 100L));
+        hotStockLedger.reload(productId);
+        // then
+        assertThat(getQuantity(productId)).isEqualTo(120L);
+        assertThat(hotStockLedger.getAvailable(productId)).isEqualTo(120L);
+    }
+
+    @Test
+    @DisplayName("주문 외 차감과 증가는 제품 재고를 상대값으로 바꾸고 메모리 재고도 맞춘다.")
+    void decreaseAndIncreaseTest() {
+        // given
+        Long hotId = saveHotProduct(100L);
+        Long normalId = saveProduct(5L, false);
+        TreeMap<Long, Long> quantities = new TreeMap<>(Map.of(hotId, 10L, normalId, 5L));
+        // when
+        Boolean decreased = transactionTemplate.execute(status -> hotStockLedger.decrease(quantities));
+        long decreasedHot = hotStockLedger.getAvailable(hotId);
+        long decreasedNormal = getQuantity(normalId);
+
+        transactionTemplate.executeWithoutResult(status -> hotStockLedger.increase(quantities));
+        // then
+        assertThat(decreased).isTrue();
+        assertThat(decreasedHot).isEqualTo(90L);
+        assertThat(decreasedNormal).isZero();
+        assertThat(getQuantity(hotId)).isEqualTo(100L);
+        assertThat(getQuantity(normalId)).isEqualTo(5L);
+        assertThat(hotStockLedger.getAvailable(hotId)).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("주문 외 차감에 실패해 롤백하면 메모리 재고와 제품 재고 모두 그대로다.")
+    void decreaseRollbackTest() {
+        // given
+        Long hotId = saveHotProduct(100L);
+        Long normalId = saveProduct(1L, false);
+        TreeMap<Long, Long> quantities = new TreeMap<>(Map.of(hotId, 10L, normalId, 2L));
+        // when
+        Boolean decreased = transactionTemplate.execute(status -> {
+            boolean result = hotStockLedger.decrease(quantities);
+            if (!result) {
+                status.setRollbackOnly();
+            }
+            return result;
+        });
+        // then
+        assertThat(decreased).isFalse();
+        assertThat(hotStockLedger.getAvailable(hotId)).isEqualTo(100L);
+        assertThat(getQuantity(hotId)).isEqualTo(100L);
+        assertThat(getQuantity(normalId)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("임대가 없는 인스턴스는 재고 분산 관리 제품을 판매하지 않는다.")
+    void reserveWithoutLeaseTest() {
+        // given
+        Long productId = saveHotProduct(100L);
+        HotStockLedger otherInstance = new HotStockLedger(productRepository, productStockReservationRepository,
+                hotStockLeaseRepository, transactionManager);
+        otherInstance.reload(productId);
+        // when
+        boolean leased = otherInstance.renewLease();
+        BusinessException exception = assertThrows(BusinessException.class, () -> transactionTemplate.execute(status ->
+                otherInstance.reserve(1L, new TreeMap<>(Map.of(productId, 40L)))));
+        // then
+        assertThat(leased).isFalse();
+        assertThat(otherInstance.isHot(productId)).isTrue();
+        assertThat(exception.getStatus()).isEqualTo(HttpResponse.Fail.HOT_STOCK_UNAVAILABLE.getStatus());
+        assertThat(exception.getMessage()).isEqualTo(HttpResponse.Fail.HOT_STOCK_UNAVAILABLE.getMessage());
+        assertThat(hotStockLedger.getAvailable(productId)).isEqualTo(100L);
+        assertThat(getQuantity(productId)).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("임대를 내려놓으면 다른 인스턴스가 임대를 넘겨받고 DB 기준으로 메모리 재고를 다시 만든다.")
+    void leaseTakeoverTest() {
+        // given
+        Long productId = saveHotProduct(100L);
+        transactionTemplate.execute(status ->
+                hotStockLedger.reserve(1L, new TreeMap<>(Map.of(productId, 40L))));
+        HotStockLedger otherInstance = new HotStockLedger(productRepository, productStockReservationRepository,
+                hotStockLeaseRepository, transactionManager);
+        otherInstance.reload(productId);
+        // when
+        hotStockLedger.releaseLease();
+        boolean leased = otherInstance.renewLease();
+        // then
+        assertThat(leased).isTrue();
+        assertThat(hotStockLedger.isLeased()).isFalse();
+        assertThat(otherInstance.getAvailable(productId)).isEqualTo(60L);
+
+        otherInstance.releaseLease();
+    }
+
+    @Test
+    @DisplayName("판매 중에 reload 해도 메모리 재고가 어긋나지 않아 재고보다 많이 팔리지 않는다.")
+    void reloadWhileReservingTest() throws InterruptedException {
+        // given
+        long stock = 300L;
+        int threadCount = 8;
+        Long productId = saveHotProduct(stock);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount + 1);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicLong reservedTotal = new AtomicLong();
+        AtomicBoolean selling = new AtomicBoolean(true);
+        // when
+        executorService.submit(() -> {
+            while (selling.get()) {
+                hotStockLedger.reload(productId);
+            }
+        });
+        for (int i = 0; i < threadCount; i++) {
+            long orderId = i;
+            executorService.submit(() -> {
+                try {
+                    Boolean reserved;
+                    do {
+                        reserved = transactionTemplate.execute(status ->
+                                hotStockLedger.reserve(orderId, new TreeMap<>(Map.of(productId, 1L))));
+                        if (Boolean.TRUE.equals(reserved)) {
+                            reservedTotal.incrementAndGet();
+                        }
+                    } while (Boolean.TRUE.equals(reserved));
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        selling.set(false);
+        executorService.shutdown();
+        hotStockLedger.reload(productId);
+        // then
+        assertThat(reservedTotal.get()).isEqualTo(stock);
+        assertThat(getQuantity(productId)).isZero();
+        assertThat(hotStockLedger.getAvailable(productId)).isZero();
+    }
+
+    @Test
+    @DisplayName("재고 분산 관리가 해제된 제품은 reconcile 로 장부에서 빠진다.")
+    void reconcileRemoveTest() {
+        // given
+        Long productId = saveHotProduct(100L);
+        productRepository.save(productRepository.findById(productId).get().toBuilder().hotStock(false).build());
+        // when
+        hotStockLedger.reconcile();
+        // then
+        assertThat(hotStockLedger.isHot(productId)).isFalse();
+    }
+
+    private Long saveHotProduct(Long quantity) {
+        Long productId = saveProduct(quantity, true);
+        hotStockLedger.reload(productId);
+        return productId;
+    }
+
+    private Long saveProduct(Long quantity, boolean hotStock) {
+        return productRepository.save(Product.builder()
+                .name("재고 분산 관리 제품")
+                .quantity(quantity)
+                .hotStock(hotStock)
+                .alcohol(17D)
+                .build()).getId();
+    }
+
+    private long getQuantity(Long productId) {
+        return productRepository.findById(productId).get().getQuantity();
+    }
+}
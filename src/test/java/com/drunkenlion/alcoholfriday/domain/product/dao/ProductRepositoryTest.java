@@ -0,0 +1,111 @@
+package com.drunkenlion.alcoholfriday.domain.product.dao;
+
+import com.drunkenlion.alcoholfriday.domain.product.entity.Product;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class ProductRepositoryTest {
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void afterEach() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동시에 같은 제품 재고를 차감해도 재고보다 많이 팔리지 않는다.")
+    void decreaseQuantitiesConcurrentlyTest() throws Exception {
+        // given
+        Long productId = saveProduct("동시 주문 제품", 100L).getId();
+
+        int threadCount = 32;
+        int ordersPerThread = 5;
+        long orderQuantity = 3L;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executorService.submit(() -> {
+                start.await();
+                for (int j = 0; j < ordersPerThread; j++) {
+                    Boolean decreased = transactionTemplate.execute(status ->
+                            productRepository.decreaseQuantities(new TreeMap<>(Map.of(productId, orderQuantity))));
+                    if (Boolean.TRUE.equals(decreased)) {
+                        succeeded.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        // then
+        // 100 / 3 = 33 건만 성공하고 재고는 음수가 되지 않는다.
+        assertThat(succeeded.get()).isEqualTo(33);
+        assertThat(productRepository.findById(productId).get().getQuantity()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("한 제품이라도 재고가 부족하면 차감에 실패하고, 트랜잭션을 롤백하면 다른 제품 재고도 되돌아간다.")
+    void decreaseQuantitiesRollbackTest() {
+        // given
+        Long enoughId = saveProduct("재고 충분 제품", 10L).getId();
+        Long shortId = saveProduct("재고 부족 제품", 1L).getId();
+
+        // when
+        Boolean decreased = transactionTemplate.execute(status -> {
+            TreeMap<Long, Long> quantities = new TreeMap<>();
+            quantities.put(enoughId, 5L);
+            quantities.put(shortId, 2L);
+
+            boolean result = productRepository.decreaseQuantities(quantities);
+            if (!result) {
+                status.setRollbackOnly();
+            }
+            return result;
+        });
+
+        // then
+        assertThat(decreased).isFalse();
+        assertThat(productRepository.findById(enoughId).get().getQuantity()).isEqualTo(10L);
+        assertThat(productRepository.findById(shortId).get().getQuantity()).isEqualTo(1L);
+    }
+
+    private Product saveProduct(String name, Long quantity) {
+        return productRepository.save(Product.builder()
+                .name(name)
+                .quantity(quantity)
+                .alcohol(17D)
+                .build());
+    }
+}
@@ -0,0 +1,71 @@
+package com.drunkenlion.alcoholfriday.domain.product.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedStockCounterTest {
+    @Test
+    @DisplayName("한 칸에 수량이 모자라면 여러 칸에서 모아 차감하고, 전체 수량이 모자라면 차감하지 않는다.")
+    void tryDecreaseTest() {
+        StripedStockCounter counter = new StripedStockCounter(4, 10);
+
+        assertThat(counter.tryDecrease(7)).isTrue();
+        assertThat(counter.available()).isEqualTo(3);
+
+        assertThat(counter.tryDecrease(4)).isFalse();
+        assertThat(counter.available()).isEqualTo(3);
+
+        counter.increase(2);
+        counter.adjust(-10);
+        assertThat(counter.available()).isZero();
+
+        counter.adjust(5);
+        assertThat(counter.tryDecrease(5)).isTrue();
+        assertThat(counter.available()).isZero();
+    }
+
+    @Test
+    @DisplayName("동시에 차감해도 전체 수량보다 많이 차감되지 않는다.")
+    void tryDecreaseConcurrentlyTest() throws Exception {
+        StripedStockCounter counter = new StripedStockCounter(16, 10_000);
+
+        int threadCount = 32;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong decreased = new AtomicLong();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < threadCount; i++) {
+            long quantity = i % 3 + 1;
+            futures.add(executorService.submit(() -> {
+                start.await();
+                for (int j = 0; j < 1_000; j++) {
+                    if (counter.tryDecrease(quantity)) {
+                        decreased.addAndGet(quantity);
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        assertThat(decreased.get()).isLessThanOrEqualTo(10_000);
+        assertThat(decreased.get() + counter.available()).isEqualTo(10_000);
+    }
+}
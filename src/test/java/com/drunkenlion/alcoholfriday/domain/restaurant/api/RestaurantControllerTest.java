@@ -6,6 +6,7 @@ import com.drunkenlion.alcoholfriday.domain.member.entity.Member;
 import com.drunkenlion.alcoholfriday.domain.member.enumerated.MemberRole;
 import com.drunkenlion.alcoholfriday.domain.product.dao.ProductRepository;
 import com.drunkenlion.alcoholfriday.domain.product.entity.Product;
+import com.drunkenlion.alcoholfriday.domain.restaurant.application.RestaurantSpatialIndexer;
 import com.drunkenlion.alcoholfriday.domain.restaurant.dao.RestaurantRepository;
 import com.drunkenlion.alcoholfriday.domain.restaurant.dao.RestaurantStockRepository;
 import com.drunkenlion.alcoholfriday.domain.restaurant.entity.Restaurant;
@@ -33,6 +34,7 @@ import java.time.LocalTime;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -57,6 +59,9 @@ public class RestaurantControllerTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private RestaurantSpatialIndexer restaurantSpatialIndexer;
+
     private final GeometryFactory geometryFactory = new GeometryFactory();
 
     private double neLatitude = 37.5567635;
@@ -140,6 +145,8 @@ public class RestaurantControllerTest {
 
         restaurantStockRepository.save(stock1);
         restaurantStockRepository.save(stock2);
+
+        restaurantSpatialIndexer.rebuild();
     }
 
     @AfterEach
@@ -228,4 +235,25 @@ public class RestaurantControllerTest {
                 .andExpect(jsonPath("$.[0].productResponses[1].quantity", notNullValue()));
     }
 
+    @Test
+    public void clusters() throws Exception {
+
+        ResultActions resultActions = mvc.perform(get("/v1/restaurants/clusters")
+                        .param("neLatitude", String.valueOf(neLatitude))
+                        .param("neLongitude", String.valueOf(neLongitude))
+                        .param("swLatitude", String.valueOf(swLatitude))
+                        .param("swLongitude", String.valueOf(swLongitude))
+                        .param("zoom", "12"))
+                .andDo(print());
+
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(handler().handlerType(RestaurantController.class))
+                .andExpect(handler().methodName("getClusters"))
+                .andExpect(jsonPath("$.length()", is(1)))
+                .andExpect(jsonPath("$.[0].restaurantId", notNullValue()))
+                .andExpect(jsonPath("$.[0].latitude", notNullValue()))
+                .andExpect(jsonPath("$.[0].longitude", notNullValue()))
+                .andExpect(jsonPath("$.[0].count", is(1)));
+    }
 }
@@ -0,0 +1,119 @@
+package com.drunkenlion.alcoholfriday.domain.restaurant.application;
+
+import com.drunkenlion.alcoholfriday.domain.restaurant.dao.RestaurantRepository;
+import com.drunkenlion.alcoholfriday.domain.restaurant.entity.Restaurant;
+import com.drunkenlion.alcoholfriday.domain.restaurant.enumerated.DayInfo;
+import com.drunkenlion.alcoholfriday.domain.restaurant.util.BusinessHours;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantIndexEvent;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.TimeData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RestaurantBusinessHoursCacheTest {
+    @InjectMocks
+    private RestaurantBusinessHoursCache restaurantBusinessHoursCache;
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    private final Long restaurantId = 1L;
+    private final LocalTime noon = LocalTime.of(12, 0);
+
+    @Test
+    @DisplayName("조회한 영업표는 캐시하고, 매장 변경 커밋 후에는 다시 조회한다.")
+    void evictTest() {
+        // given
+        when(restaurantRepository.findTimesByIdIn(List.of(restaurantId)))
+                .thenReturn(timeOf(true))
+                .thenReturn(timeOf(false));
+
+        // when
+        boolean before = isOpen(restaurantBusinessHoursCache.getAllByIds(List.of(restaurantId)));
+        boolean cached = isOpen(restaurantBusinessHoursCache.getAllByIds(List.of(restaurantId)));
+        restaurantBusinessHoursCache.onChanged(RestaurantIndexEvent.of(restaurantId));
+        boolean after = isOpen(restaurantBusinessHoursCache.getAllByIds(List.of(restaurantId)));
+
+        // then
+        assertThat(before).isTrue();
+        assertThat(cached).isTrue();
+        assertThat(after).isFalse();
+        verify(restaurantRepository, times(2)).findTimesByIdIn(List.of(restaurantId));
+    }
+
+    @Test
+    @DisplayName("영업시간을 읽는 사이에 매장 변경이 커밋되면 읽은 영업표를 캐시에 남기지 않는다.")
+    void evictWhileLoadingTest() {
+        // given
+        when(restaurantRepository.findTimesByIdIn(List.of(restaurantId)))
+                .thenAnswer(invocation -> {
+                    // 수정 전 영업시간을 읽은 직후 수정이 커밋된다.
+                    Map<Long, Map<String, Object>> stale = timeOf(true);
+                    restaurantBusinessHoursCache.onChanged(RestaurantIndexEvent.of(restaurantId));
+                    return stale;
+                })
+                .thenReturn(timeOf(false));
+
+        // when
+        boolean stale = isOpen(restaurantBusinessHoursCache.getAllByIds(List.of(restaurantId)));
+        boolean reloaded = isOpen(restaurantBusinessHoursCache.getAllByIds(List.of(restaurantId)));
+
+        // then
+        assertThat(stale).isTrue();
+        assertThat(reloaded).isFalse();
+    }
+
+    @Test
+    @DisplayName("매장을 조회한 뒤 매장 변경이 커밋되면, 조회해 둔 매장의 영업시간을 캐시에 넣지 않는다.")
+    void staleRestaurantTest() {
+        // given
+        long generation = restaurantBusinessHoursCache.generation();
+        Restaurant stale = Restaurant.builder()
+                .id(restaurantId)
+                .time(timeOf(true).get(restaurantId))
+                .build();
+        restaurantBusinessHoursCache.onChanged(RestaurantIndexEvent.of(restaurantId));
+
+        when(restaurantRepository.findTimesByIdIn(List.of(restaurantId))).thenReturn(timeOf(false));
+
+        // when
+        boolean staleOpen = isOpen(restaurantBusinessHoursCache.getAll(List.of(stale), generation));
+        boolean reloaded = isOpen(restaurantBusinessHoursCache.getAllByIds(List.of(restaurantId)));
+
+        // then
+        assertThat(staleOpen).isTrue();
+        assertThat(reloaded).isFalse();
+    }
+
+    private boolean isOpen(Map<Long, BusinessHours> businessHours) {
+        return businessHours.get(restaurantId).isOpen(DayOfWeek.MONDAY, noon);
+    }
+
+    private Map<Long, Map<String, Object>> timeOf(boolean businessStatus) {
+        Map<String, Object> time = new HashMap<>();
+        time.put(DayInfo.MONDAY.toString(), TimeData.builder()
+                .businessStatus(businessStatus)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(22, 0))
+                .breakBusinessStatus(false)
+                .build());
+
+        Map<Long, Map<String, Object>> times = new HashMap<>();
+        times.put(restaurantId, time);
+        return times;
+    }
+}
@@ -13,6 +13,8 @@ import com.drunkenlion.alcoholfriday.domain.restaurant.enumerated.Provision;
 import com.drunkenlion.alcoholfriday.domain.restaurant.enumerated.TimeOption;
 import com.drunkenlion.alcoholfriday.domain.restaurant.vo.TimeData;
 import com.drunkenlion.alcoholfriday.global.file.application.FileService;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.NcpFileResponse;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.locationtech.jts.geom.Coordinate;
@@ -34,6 +36,7 @@ import java.util.Map;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,6 +48,12 @@ public class RestaurantServiceTest {
     private FileService fileService;
     @Mock
     private RestaurantRepository restaurantRepository;
+    @Mock
+    private RestaurantSpatialIndexer restaurantSpatialIndexer;
+    @Mock
+    private RestaurantBusinessHoursCache restaurantBusinessHoursCache;
+    @Mock
+    private RestaurantStockIndexer restaurantStockIndexer;
 
     private final GeometryFactory geometryFactory = new GeometryFactory();
     private final double restaurantLatitude = 37.549636;
@@ -86,6 +95,30 @@ public class RestaurantServiceTest {
         assertThat(restaurantLocationResponses.get(0).getProductResponses().get(0).getQuantity()).isEqualTo(quantitys);
     }
 
+    @Test
+    @DisplayName("레스토랑 목록 조회 - 제품 이미지는 제품마다 한 번 조회하고, 각 레스토랑에는 자기 재고 제품 이미지만 담는다.")
+    public void getProductImagesPerRestaurant() {
+        Restaurant first = this.getRestaurantData();
+        Restaurant second = this.getRestaurantData().toBuilder()
+                .id(restaurantId + 1)
+                .restaurantStocks(first.getRestaurantStocks().subList(1, 2))
+                .build();
+
+        NcpFileResponse secondProductImage = NcpFileResponse.builder()
+                .entityId(productSecondId)
+                .entityType("product")
+                .build();
+
+        when(restaurantRepository.getRestaurant(anyDouble(), anyDouble(), anyDouble(), anyDouble())).thenReturn(List.of(first, second));
+        when(fileService.findAllImages(argThat(products -> products.size() == 2))).thenReturn(Map.of(productSecondId, secondProductImage));
+
+        List<RestaurantLocationResponse> responses = restaurantService.getRestaurants(1, 1, 0, 0);
+
+        assertThat(responses.get(0).getFiles()).containsExactly(secondProductImage);
+        assertThat(responses.get(1).getProductResponses()).hasSize(1);
+        assertThat(responses.get(1).getFiles()).containsExactly(secondProductImage);
+    }
+
     private List<Restaurant> of() {
         return List.of(this.getRestaurantData());
     }
@@ -0,0 +1,69 @@
+package com.drunkenlion.alcoholfriday.domain.restaurant.application;
+
+import com.drunkenlion.alcoholfriday.domain.restaurant.dao.RestaurantRepository;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantIndexEvent;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class RestaurantSpatialIndexerTest {
+    @InjectMocks
+    private RestaurantSpatialIndexer restaurantSpatialIndexer;
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    private final RestaurantPoint before = new RestaurantPoint(1L, 37.5500, 126.8400);
+    private final RestaurantPoint after = new RestaurantPoint(1L, 35.1500, 129.0500);
+
+    @Test
+    @DisplayName("전체 색인을 만드는 동안 커밋된 매장 이동은 색인을 교체한 뒤 다시 반영되어 사라지지 않는다.")
+    void rebuildWithConcurrentChangeTest() {
+        // given
+        // 전체 조회는 변경 커밋 전의 위치를 읽고, 조회가 끝나기 전에 변경 커밋 이벤트가 들어온다.
+        Mockito.when(restaurantRepository.findAllPoints()).thenAnswer(invocation -> {
+            restaurantSpatialIndexer.onChanged(RestaurantIndexEvent.of(1L));
+            return List.of(before);
+        });
+        Mockito.when(restaurantRepository.findPoint(1L)).thenReturn(Optional.of(after));
+
+        // when
+        restaurantSpatialIndexer.rebuild();
+
+        // then
+        assertThat(restaurantSpatialIndexer.isReady()).isTrue();
+        assertThat(restaurantSpatialIndexer.search(35.2, 129.1, 35.1, 129.0))
+                .extracting(RestaurantPoint::getRestaurantId).containsExactly(1L);
+        assertThat(restaurantSpatialIndexer.search(37.6, 126.9, 37.5, 126.8)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전체 색인을 만들지 않는 동안의 변경은 바로 반영하고, 다음 전체 색인 때 다시 반영하지 않는다.")
+    void onChangedTest() {
+        // given
+        Mockito.when(restaurantRepository.findAllPoints()).thenReturn(List.of(before));
+        Mockito.when(restaurantRepository.findPoint(1L)).thenReturn(Optional.of(after));
+        restaurantSpatialIndexer.rebuild();
+
+        // when
+        restaurantSpatialIndexer.onChanged(RestaurantIndexEvent.of(1L));
+        List<RestaurantPoint> moved = restaurantSpatialIndexer.search(35.2, 129.1, 35.1, 129.0);
+        restaurantSpatialIndexer.rebuild();
+
+        // then
+        assertThat(moved).extracting(RestaurantPoint::getRestaurantId).containsExactly(1L);
+        assertThat(restaurantSpatialIndexer.search(37.6, 126.9, 37.5, 126.8))
+                .extracting(RestaurantPoint::getRestaurantId).containsExactly(1L);
+        Mockito.verify(restaurantRepository, Mockito.times(1)).findPoint(1L);
+    }
+}
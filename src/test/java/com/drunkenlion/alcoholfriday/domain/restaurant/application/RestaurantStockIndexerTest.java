@@ -0,0 +1,144 @@
+package com.drunkenlion.alcoholfriday.domain.restaurant.application;
+
+import com.drunkenlion.alcoholfriday.domain.product.entity.Product;
+import com.drunkenlion.alcoholfriday.domain.restaurant.dao.RestaurantStockRepository;
+import com.drunkenlion.alcoholfriday.domain.restaurant.entity.Restaurant;
+import com.drunkenlion.alcoholfriday.domain.restaurant.entity.RestaurantStock;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantPoint;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantStockDistance;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantStockEvent;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantStockQuantity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RestaurantStockIndexerTest {
+    @InjectMocks
+    private RestaurantStockIndexer restaurantStockIndexer;
+    @Mock
+    private RestaurantStockRepository restaurantStockRepository;
+    @Mock
+    private RestaurantSpatialIndexer restaurantSpatialIndexer;
+
+    private final Long productId = 1L;
+    private final List<RestaurantPoint> points = List.of(
+            new RestaurantPoint(1L, 37.5500, 126.8400),
+            new RestaurantPoint(2L, 37.5600, 126.9000),
+            new RestaurantPoint(3L, 37.5510, 126.8410),
+            new RestaurantPoint(4L, 37.6500, 127.0500));
+
+    @Test
+    @DisplayName("제품 재고가 있는 매장 중 가까운 순으로 조회한다.")
+    void findNearestTest() {
+        // given
+        when(restaurantStockRepository.findAllInStock()).thenReturn(List.of(
+                new RestaurantStockQuantity(1L, productId, 5L),
+                new RestaurantStockQuantity(2L, productId, 3L),
+                new RestaurantStockQuantity(3L, productId, 1L),
+                new RestaurantStockQuantity(4L, productId, 7L),
+                new RestaurantStockQuantity(1L, 2L, 9L)));
+        when(restaurantSpatialIndexer.findAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return points.stream().filter(point -> ids.contains(point.getRestaurantId())).toList();
+        });
+
+        restaurantStockIndexer.rebuild();
+
+        // when
+        List<RestaurantStockDistance> nearest = restaurantStockIndexer.findNearest(productId, 37.5505, 126.8405, 3);
+
+        // then
+        assertThat(nearest).extracting(RestaurantStockDistance::getRestaurantId).containsExactly(1L, 3L, 2L);
+        assertThat(nearest).extracting(RestaurantStockDistance::getQuantity).containsExactly(5L, 1L, 3L);
+        assertThat(nearest.get(0).getDistance()).isLessThan(100);
+    }
+
+    @Test
+    @DisplayName("색인이 준비되기 전에는 제품 재고와 매장 위치를 DB에서 읽어 가까운 순으로 조회한다.")
+    void loadNearestTest() {
+        // given
+        when(restaurantStockRepository.findInStockByProductId(productId)).thenReturn(List.of(
+                new RestaurantStockQuantity(1L, productId, 5L),
+                new RestaurantStockQuantity(2L, productId, 3L),
+                new RestaurantStockQuantity(3L, productId, 1L),
+                new RestaurantStockQuantity(4L, productId, 7L)));
+        when(restaurantSpatialIndexer.loadAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return points.stream().filter(point -> ids.contains(point.getRestaurantId())).toList();
+        });
+
+        // when
+        List<RestaurantStockDistance> nearest = restaurantStockIndexer.loadNearest(productId, 37.5505, 126.8405, 3);
+
+        // then
+        assertThat(restaurantStockIndexer.isReady()).isFalse();
+        assertThat(nearest).extracting(RestaurantStockDistance::getRestaurantId).containsExactly(1L, 3L, 2L);
+        assertThat(nearest).extracting(RestaurantStockDistance::getQuantity).containsExactly(5L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("전체 색인을 만드는 동안 커밋된 재고 변경은 색인을 교체한 뒤 다시 반영되어 사라지지 않는다.")
+    void rebuildWithConcurrentChangeTest() {
+        // given
+        // 전체 조회는 품절 커밋 전의 재고를 읽고, 조회가 끝나기 전에 품절 커밋 이벤트가 들어온다.
+        when(restaurantStockRepository.findAllInStock()).thenAnswer(invocation -> {
+            restaurantStockIndexer.onChanged(RestaurantStockEvent.of(getRestaurantStock(1L, 0L)));
+            return List.of(
+                    new RestaurantStockQuantity(1L, productId, 5L),
+                    new RestaurantStockQuantity(3L, productId, 1L));
+        });
+        when(restaurantSpatialIndexer.findAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return points.stream().filter(point -> ids.contains(point.getRestaurantId())).toList();
+        });
+
+        // when
+        restaurantStockIndexer.rebuild();
+
+        // then
+        assertThat(restaurantStockIndexer.findNearest(productId, 37.5505, 126.8405, 3))
+                .extracting(RestaurantStockDistance::getRestaurantId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("재고가 0 이 된 매장은 조회되지 않는다.")
+    void soldOutTest() {
+        // given
+        when(restaurantStockRepository.findAllInStock()).thenReturn(List.of(
+                new RestaurantStockQuantity(1L, productId, 5L),
+                new RestaurantStockQuantity(3L, productId, 1L)));
+        when(restaurantSpatialIndexer.findAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return points.stream().filter(point -> ids.contains(point.getRestaurantId())).toList();
+        });
+
+        restaurantStockIndexer.rebuild();
+
+        // when
+        restaurantStockIndexer.onChanged(RestaurantStockEvent.of(getRestaurantStock(1L, 0L)));
+
+        // then
+        assertThat(restaurantStockIndexer.findNearest(productId, 37.5505, 126.8405, 3))
+                .extracting(RestaurantStockDistance::getRestaurantId).containsExactly(3L);
+        assertThat(restaurantStockIndexer.findNearest(2L, 37.5505, 126.8405, 3)).isEmpty();
+    }
+
+    private RestaurantStock getRestaurantStock(Long restaurantId, Long quantity) {
+        return RestaurantStock.builder()
+                .restaurant(Restaurant.builder().id(restaurantId).build())
+                .product(Product.builder().id(productId).build())
+                .quantity(quantity)
+                .build();
+    }
+}
@@ -7,12 +7,16 @@ import com.drunkenlion.alcoholfriday.domain.member.enumerated.MemberRole;
 import com.drunkenlion.alcoholfriday.domain.product.dao.ProductRepository;
 import com.drunkenlion.alcoholfriday.domain.product.entity.Product;
 import com.drunkenlion.alcoholfriday.domain.restaurant.application.RestaurantService;
+import com.drunkenlion.alcoholfriday.domain.restaurant.application.RestaurantSpatialIndexer;
 import com.drunkenlion.alcoholfriday.domain.restaurant.dto.response.RestaurantLocationResponse;
 import com.drunkenlion.alcoholfriday.domain.restaurant.entity.Restaurant;
 import com.drunkenlion.alcoholfriday.domain.restaurant.entity.RestaurantStock;
 import com.drunkenlion.alcoholfriday.domain.restaurant.enumerated.DayInfo;
 import com.drunkenlion.alcoholfriday.domain.restaurant.enumerated.Provision;
 import com.drunkenlion.alcoholfriday.domain.restaurant.enumerated.TimeOption;
+import com.drunkenlion.alcoholfriday.domain.restaurant.util.RestaurantSpatialIndex;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantCluster;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantPoint;
 import com.drunkenlion.alcoholfriday.domain.restaurant.vo.TimeData;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -201,6 +205,95 @@ public class RestaurantRepositoryTest {
         assertThat(restaurants.get(0).getProductResponses().get(1).getPrice()).isEqualByComparingTo(productPrice1);
     }
 
+    @Test
+    @DisplayName("SQL 영역 조회도 메모리 색인과 같이 경계 위의 매장을 포함하고, 바깥의 매장은 제외한다.")
+    public void boundaryRestaurant() {
+        // given
+        double ne = 35.16;
+        double sw = 35.15;
+        double neLng = 129.06;
+        double swLng = 129.05;
+
+        List<Long> inside = List.of(
+                saveLocation(sw, swLng),
+                saveLocation(ne, neLng),
+                saveLocation(sw, neLng),
+                saveLocation(ne, swLng),
+                saveLocation(35.155, swLng),
+                saveLocation(ne, 129.055),
+                saveLocation(35.155, 129.055));
+        saveLocation(Math.nextDown(sw), 129.055);
+        saveLocation(35.155, 129.0601);
+
+        RestaurantSpatialIndex index = new RestaurantSpatialIndex();
+        index.rebuild(restaurantRepository.findAllPoints());
+
+        // when
+        List<Long> sqlIds = restaurantRepository.getRestaurant(ne, neLng, sw, swLng).stream()
+                .map(Restaurant::getId)
+                .sorted()
+                .toList();
+        List<Long> indexIds = index.search(ne, neLng, sw, swLng).stream()
+                .map(RestaurantPoint::getRestaurantId)
+                .toList();
+
+        // then
+        assertThat(sqlIds).isEqualTo(inside);
+        assertThat(indexIds).isEqualTo(sqlIds);
+    }
+
+    @Test
+    @DisplayName("지수 표기가 되는 작은 좌표도 영역 조회 조건에 그대로 넣는다.")
+    public void smallCoordinateRestaurant() {
+        // given
+        // Double.toString(0.0001) == "1.0E-4"
+        Long insideId = saveLocation(0.0005, 0.0005);
+        saveLocation(0.002, 0.0005);
+
+        // when
+        List<RestaurantPoint> points = restaurantRepository.findPointsIn(0.001, 0.001, 0.0001, 0.0001);
+
+        // then
+        assertThat(points).extracting(RestaurantPoint::getRestaurantId).containsExactly(insideId);
+    }
+
+    @Test
+    @DisplayName("색인이 준비되기 전의 묶음 조회는 영역 밖이라도 같은 묶음 격자의 매장을 포함해 색인과 같은 결과를 돌려준다.")
+    public void loadClusters() {
+        // given
+        double ne = 35.16;
+        double sw = 35.15;
+        double neLng = 129.06;
+        double swLng = 129.05;
+        int zoom = 12;
+
+        Long representativeId = saveLocation(35.14, 129.055);
+        saveLocation(35.155, 129.055);
+        saveLocation(35.158, 129.059);
+        saveLocation(36.0, 129.055);
+
+        RestaurantSpatialIndex index = new RestaurantSpatialIndex();
+        index.rebuild(restaurantRepository.findAllPoints());
+        RestaurantSpatialIndexer notReadyIndexer = new RestaurantSpatialIndexer(restaurantRepository);
+
+        // when
+        List<RestaurantCluster> loaded = notReadyIndexer.loadClusters(ne, neLng, sw, swLng, zoom);
+        List<RestaurantCluster> indexed = index.searchClusters(ne, neLng, sw, swLng, zoom);
+
+        // then
+        assertThat(notReadyIndexer.isReady()).isFalse();
+        assertThat(loaded).extracting(RestaurantCluster::getRestaurantId, RestaurantCluster::getCount)
+                .contains(tuple(representativeId, 2));
+        assertThat(loaded).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(indexed);
+    }
+
+    private Long saveLocation(double latitude, double longitude) {
+        return restaurantRepository.save(Restaurant.builder()
+                .name("경계 매장")
+                .location(geometryFactory.createPoint(new Coordinate(longitude, latitude)))
+                .build()).getId();
+    }
+
     @AfterEach
     @Transactional
     void afterEach() {
@@ -0,0 +1,96 @@
+package com.drunkenlion.alcoholfriday.domain.restaurant.util;
+
+import com.drunkenlion.alcoholfriday.domain.restaurant.enumerated.DayInfo;
+import com.drunkenlion.alcoholfriday.domain.restaurant.enumerated.TimeOption;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.TimeData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BusinessHoursTest {
+    @Test
+    @DisplayName("요일별 영업시간과 브레이크 타임으로 영업 상태를 판단한다.")
+    void getStatusTest() {
+        Map<String, Object> time = new LinkedHashMap<>();
+        time.put(TimeOption.HOLIDAY.toString(), true);
+        time.put(TimeOption.ETC.toString(), "일요일 휴무");
+
+        for (DayInfo day : DayInfo.values()) {
+            time.put(day.toString(), TimeData.builder()
+                    .businessStatus(day != DayInfo.SUNDAY)
+                    .startTime(LocalTime.of(9, 0))
+                    .endTime(LocalTime.of(22, 0))
+                    .breakBusinessStatus(day != DayInfo.SATURDAY)
+                    .breakStartTime(LocalTime.of(15, 0))
+                    .breakEndTime(LocalTime.of(17, 0))
+                    .build());
+        }
+
+        BusinessHours businessHours = BusinessHours.compile(time);
+
+        assertThat(businessHours.getStatus(DayOfWeek.MONDAY, LocalTime.of(9, 0))).isEqualTo(BusinessHours.OPEN);
+        assertThat(businessHours.getStatus(DayOfWeek.MONDAY, LocalTime.of(16, 0))).isEqualTo(BusinessHours.BREAK_TIME);
+        assertThat(businessHours.getStatus(DayOfWeek.MONDAY, LocalTime.of(22, 0, 1))).isEqualTo(BusinessHours.CLOSE);
+        assertThat(businessHours.getStatus(DayOfWeek.SATURDAY, LocalTime.of(16, 0))).isEqualTo(BusinessHours.OPEN);
+        assertThat(businessHours.isOpen(DayOfWeek.SUNDAY, LocalTime.of(12, 0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("JSON 으로 저장된 영업시간([시, 분])도 변환하고, 영업시간이 없으면 영업 종료로 본다.")
+    void compileJsonTest() {
+        Map<String, Object> monday = new LinkedHashMap<>();
+        monday.put("businessStatus", true);
+        monday.put("startTime", List.of(18, 0));
+        monday.put("endTime", List.of(23, 30));
+        monday.put("breakBusinessStatus", false);
+
+        BusinessHours businessHours = BusinessHours.compile(Map.of(DayInfo.MONDAY.toString(), monday));
+
+        assertThat(businessHours.isOpen(DayOfWeek.MONDAY, LocalTime.of(23, 0))).isTrue();
+        assertThat(businessHours.isOpen(DayOfWeek.TUESDAY, LocalTime.of(23, 0))).isFalse();
+        assertThat(BusinessHours.compile(null).isOpen(DayOfWeek.MONDAY, LocalTime.of(23, 0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("영업 종료가 영업 시작보다 이르면 자정을 넘겨 다음 날 새벽까지 영업한다.")
+    void overnightTest() {
+        Map<String, Object> time = new LinkedHashMap<>();
+        // 금요일 18:00 ~ 토요일 02:00, 브레이크 타임 00:30 ~ 01:00
+        time.put(DayInfo.FRIDAY.toString(), TimeData.builder()
+                .businessStatus(true)
+                .startTime(LocalTime.of(18, 0))
+                .endTime(LocalTime.of(2, 0))
+                .breakBusinessStatus(true)
+                .breakStartTime(LocalTime.of(0, 30))
+                .breakEndTime(LocalTime.of(1, 0))
+                .build());
+        // 일요일 23:00 ~ 월요일 01:00 (월요일은 휴무)
+        time.put(DayInfo.SUNDAY.toString(), TimeData.builder()
+                .businessStatus(true)
+                .startTime(LocalTime.of(23, 0))
+                .endTime(LocalTime.of(1, 0))
+                .breakBusinessStatus(false)
+                .build());
+
+        BusinessHours businessHours = BusinessHours.compile(time);
+
+        assertThat(businessHours.getStatus(DayOfWeek.FRIDAY, LocalTime.of(17, 59))).isEqualTo(BusinessHours.CLOSE);
+        assertThat(businessHours.getStatus(DayOfWeek.FRIDAY, LocalTime.of(23, 59))).isEqualTo(BusinessHours.OPEN);
+        assertThat(businessHours.getStatus(DayOfWeek.SATURDAY, LocalTime.MIDNIGHT)).isEqualTo(BusinessHours.OPEN);
+        assertThat(businessHours.getStatus(DayOfWeek.SATURDAY, LocalTime.of(0, 45))).isEqualTo(BusinessHours.BREAK_TIME);
+        assertThat(businessHours.getStatus(DayOfWeek.SATURDAY, LocalTime.of(2, 0))).isEqualTo(BusinessHours.OPEN);
+        assertThat(businessHours.getStatus(DayOfWeek.SATURDAY, LocalTime.of(2, 0, 1))).isEqualTo(BusinessHours.CLOSE);
+        assertThat(businessHours.getStatus(DayOfWeek.SATURDAY, LocalTime.of(18, 0))).isEqualTo(BusinessHours.CLOSE);
+
+        // 일요일 영업이 주를 넘겨 월요일 새벽까지 이어진다.
+        assertThat(businessHours.isOpen(DayOfWeek.MONDAY, LocalTime.of(0, 30))).isTrue();
+        assertThat(businessHours.isOpen(DayOfWeek.MONDAY, LocalTime.of(1, 30))).isFalse();
+    }
+}
@@ -0,0 +1,144 @@
+package com.drunkenlion.alcoholfriday.domain.restaurant.util;
+
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantCluster;
+import com.drunkenlion.alcoholfriday.domain.restaurant.vo.RestaurantPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class RestaurantSpatialIndexTest {
+    // 서울 시내 영역
+    private static final double MIN_LATITUDE = 37.45;
+    private static final double MAX_LATITUDE = 37.70;
+    private static final double MIN_LONGITUDE = 126.80;
+    private static final double MAX_LONGITUDE = 127.15;
+
+    @Test
+    @DisplayName("영역 안의 매장만 식별자 순으로 조회하고, 수정/삭제가 반영된다.")
+    void searchTest() {
+        RestaurantSpatialIndex index = new RestaurantSpatialIndex();
+        index.rebuild(List.of(
+                new RestaurantPoint(3L, 37.549636, 126.842299),
+                new RestaurantPoint(1L, 37.550000, 126.850000),
+                new RestaurantPoint(2L, 37.600000, 127.000000)));
+
+        assertThat(ids(index.search(37.5567635, 126.8529193, 37.5482577, 126.8421905))).containsExactly(1L, 3L);
+
+        // 경계 위의 매장도 포함
+        assertThat(ids(index.search(37.55, 126.85, 37.55, 126.85))).containsExactly(1L);
+
+        index.upsert(1L, new RestaurantPoint(1L, 37.600100, 127.000100));
+        index.upsert(3L, null);
+
+        assertThat(ids(index.search(37.5567635, 126.8529193, 37.5482577, 126.8421905))).isEmpty();
+        assertThat(ids(index.search(37.61, 127.01, 37.59, 126.99))).containsExactly(1L, 2L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("경계(모서리, 꼭짓점) 위의 매장은 포함하고, 경계 바로 바깥의 매장은 제외한다.")
+    void searchBoundaryTest() {
+        // 남서 (37.55, 126.85), 북동 (37.56, 126.86) - 경계가 격자 경계와 겹친다.
+        double ne = 37.56;
+        double sw = 37.55;
+        double neLng = 126.86;
+        double swLng = 126.85;
+
+        RestaurantSpatialIndex index = new RestaurantSpatialIndex();
+        index.rebuild(List.of(
+                // 꼭짓점
+                new RestaurantPoint(1L, sw, swLng),
+                new RestaurantPoint(2L, ne, neLng),
+                new RestaurantPoint(3L, sw, neLng),
+                new RestaurantPoint(4L, ne, swLng),
+                // 모서리
+                new RestaurantPoint(5L, 37.555, swLng),
+                new RestaurantPoint(6L, ne, 126.855),
+                // 경계 바로 바깥
+                new RestaurantPoint(7L, Math.nextDown(sw), 126.855),
+                new RestaurantPoint(8L, 37.555, Math.nextUp(neLng))));
+
+        // 격자를 순회하는 경우
+        assertThat(ids(index.search(ne, neLng, sw, swLng))).containsExactly(1L, 2L, 3L, 4L, 5L, 6L);
+
+        // 전체 매장을 순회하는 경우 (영역에 걸친 격자 수가 매장 수보다 많다)
+        RestaurantSpatialIndex scanIndex = new RestaurantSpatialIndex();
+        scanIndex.rebuild(List.of(new RestaurantPoint(1L, sw, swLng), new RestaurantPoint(2L, ne, neLng)));
+        assertThat(ids(scanIndex.search(ne, neLng, sw, swLng))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("확대 수준별 격자마다 매장 수, 평균 위치, 대표 매장을 집계하고 매장 변경을 반영한다.")
+    void searchClustersTest() {
+        RestaurantSpatialIndex index = new RestaurantSpatialIndex();
+        index.rebuild(List.of(
+                new RestaurantPoint(3L, 37.5500, 126.8400),
+                new RestaurantPoint(1L, 37.5510, 126.8410),
+                new RestaurantPoint(2L, 37.6500, 127.0500)));
+
+        // zoom 6 격자 (약 1.4도) 안에 세 매장이 모두 모인다.
+        List<RestaurantCluster> zoomedOut = index.searchClusters(38.0, 127.5, 37.0, 126.5, 6);
+        assertThat(zoomedOut).hasSize(1);
+        assertThat(zoomedOut.get(0).getCount()).isEqualTo(3);
+        assertThat(zoomedOut.get(0).getRestaurantId()).isEqualTo(1L);
+        assertThat(zoomedOut.get(0).getLatitude()).isCloseTo((37.5500 + 37.5510 + 37.6500) / 3, within(1e-9));
+
+        // zoom 12 격자 (약 0.02도) 에서는 멀리 떨어진 매장이 나뉜다.
+        List<RestaurantCluster> zoomedIn = index.searchClusters(38.0, 127.5, 37.0, 126.5, 12);
+        assertThat(zoomedIn).extracting(RestaurantCluster::getRestaurantId).containsExactly(1L, 2L);
+        assertThat(zoomedIn).extracting(RestaurantCluster::getCount).containsExactly(2, 1);
+
+        // 대표 매장이 빠지면 남은 매장 중에서 다시 고른다.
+        index.upsert(1L, null);
+        assertThat(index.searchClusters(38.0, 127.5, 37.0, 126.5, 12))
+                .extracting(RestaurantCluster::getRestaurantId).containsExactly(2L, 3L);
+
+        // 지원하지 않는 확대 수준은 가장 가까운 수준으로 보정
+        assertThat(index.searchClusters(38.0, 127.5, 37.0, 126.5, 1)).hasSize(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10_000, 100_000})
+    @DisplayName("영역 조회 결과는 전체 매장을 순회한 결과와 같다.")
+    void searchMatchesScanTest(int restaurantCount) {
+        Random random = new Random(restaurantCount);
+        List<RestaurantPoint> points = new ArrayList<>();
+        for (long id = 1; id <= restaurantCount; id++) {
+            points.add(new RestaurantPoint(id,
+                    MIN_LATITUDE + random.nextDouble() * (MAX_LATITUDE - MIN_LATITUDE),
+                    MIN_LONGITUDE + random.nextDouble() * (MAX_LONGITUDE - MIN_LONGITUDE)));
+        }
+
+        RestaurantSpatialIndex index = new RestaurantSpatialIndex();
+        index.rebuild(points);
+
+        // 동네 단위 화면부터 서울 전체 화면까지
+        double[] spans = {0.005, 0.01, 0.05, 0.3};
+        for (double span : spans) {
+            double swLatitude = MIN_LATITUDE + random.nextDouble() * (MAX_LATITUDE - MIN_LATITUDE - span);
+            double swLongitude = MIN_LONGITUDE + random.nextDouble() * (MAX_LONGITUDE - MIN_LONGITUDE - span);
+            double neLatitude = swLatitude + span;
+            double neLongitude = swLongitude + span;
+
+            List<Long> expected = points.stream()
+                    .filter(point -> point.getLatitude() >= swLatitude && point.getLatitude() <= neLatitude
+                            && point.getLongitude() >= swLongitude && point.getLongitude() <= neLongitude)
+                    .map(RestaurantPoint::getRestaurantId)
+                    .toList();
+
+            assertThat(ids(index.search(neLatitude, neLongitude, swLatitude, swLongitude))).isEqualTo(expected);
+        }
+    }
+
+    private List<Long> ids(List<RestaurantPoint> points) {
+        return points.stream().map(RestaurantPoint::getRestaurantId).toList();
+    }
+}
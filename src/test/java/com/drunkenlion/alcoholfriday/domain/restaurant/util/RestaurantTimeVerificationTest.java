@@ -4,7 +4,10 @@ import com.drunkenlion.alcoholfriday.domain.auth.enumerated.ProviderType;
 import com.drunkenlion.alcoholfriday.domain.member.entity.Member;
 import com.drunkenlion.alcoholfriday.domain.member.enumerated.MemberRole;
 import com.drunkenlion.alcoholfriday.domain.product.entity.Product;
+import com.drunkenlion.alcoholfriday.domain.restaurant.application.RestaurantBusinessHoursCache;
 import com.drunkenlion.alcoholfriday.domain.restaurant.application.RestaurantServiceImpl;
+import com.drunkenlion.alcoholfriday.domain.restaurant.application.RestaurantSpatialIndexer;
+import com.drunkenlion.alcoholfriday.domain.restaurant.application.RestaurantStockIndexer;
 import com.drunkenlion.alcoholfriday.domain.restaurant.dao.RestaurantRepository;
 import com.drunkenlion.alcoholfriday.domain.restaurant.dto.response.RestaurantLocationResponse;
 import com.drunkenlion.alcoholfriday.domain.restaurant.entity.Restaurant;
@@ -43,6 +46,12 @@ public class RestaurantTimeVerificationTest {
     private FileService fileService;
     @Mock
     private RestaurantRepository restaurantRepository;
+    @Mock
+    private RestaurantSpatialIndexer restaurantSpatialIndexer;
+    @Mock
+    private RestaurantBusinessHoursCache restaurantBusinessHoursCache;
+    @Mock
+    private RestaurantStockIndexer restaurantStockIndexer;
 
     private final GeometryFactory geometryFactory = new GeometryFactory();
     private final double restaurantLatitude = 37.549636;
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 
+import com.drunkenlion.alcoholfriday.domain.item.application.ItemRatingService;
 import com.drunkenlion.alcoholfriday.domain.item.entity.Item;
 import com.drunkenlion.alcoholfriday.domain.member.entity.Member;
 import com.drunkenlion.alcoholfriday.domain.order.dao.OrderDetailRepository;
@@ -50,6 +51,8 @@ class ReviewServiceImplTest {
     private OrderDetailRepository orderDetailRepository;
     @Mock
     private FileService fileService;
+    @Mock
+    private ItemRatingService itemRatingService;
 
     @AfterEach
     @Transactional
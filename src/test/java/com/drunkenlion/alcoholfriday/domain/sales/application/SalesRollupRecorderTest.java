@@ -0,0 +1,236 @@
+package com.drunkenlion.alcoholfriday.domain.sales.application;
+
+import com.drunkenlion.alcoholfriday.domain.category.entity.Category;
+import com.drunkenlion.alcoholfriday.domain.item.dao.ItemRepository;
+import com.drunkenlion.alcoholfriday.domain.item.entity.Item;
+import com.drunkenlion.alcoholfriday.domain.item.entity.ItemProduct;
+import com.drunkenlion.alcoholfriday.domain.maker.entity.Maker;
+import com.drunkenlion.alcoholfriday.domain.order.dao.OrderDetailRepository;
+import com.drunkenlion.alcoholfriday.domain.order.dao.OrderRepository;
+import com.drunkenlion.alcoholfriday.domain.order.entity.Order;
+import com.drunkenlion.alcoholfriday.domain.order.entity.OrderDetail;
+import com.drunkenlion.alcoholfriday.domain.order.vo.OrderStatusEvent;
+import com.drunkenlion.alcoholfriday.domain.product.entity.Product;
+import com.drunkenlion.alcoholfriday.domain.sales.dao.SalesDailyRollupRepository;
+import com.drunkenlion.alcoholfriday.domain.sales.entity.SalesDailyRollup;
+import com.drunkenlion.alcoholfriday.domain.sales.enumerated.SalesDimension;
+import com.drunkenlion.alcoholfriday.global.common.enumerated.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SalesRollupRecorderTest {
+    @InjectMocks
+    private SalesRollupRecorder salesRollupRecorder;
+    @Mock
+    private OrderRepository orderRepository;
+    @Mock
+    private OrderDetailRepository orderDetailRepository;
+    @Mock
+    private ItemRepository itemRepository;
+    @Mock
+    private SalesDailyRollupRepository salesDailyRollupRepository;
+
+    private final Long orderId = 1L;
+    private final Long itemId = 10L;
+    private final Long categoryId = 20L;
+    private final Long makerId = 30L;
+    private final Long otherMakerId = 31L;
+    private final LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 10, 0);
+
+    @Test
+    @DisplayName("결제 완료되면 전체, 상품, 카테고리, 제조사 매출에 더한다.")
+    void paymentCompletedTest() {
+        // given
+        mockOrder();
+
+        // when
+        salesRollupRecorder.onOrderStatusChanged(
+                OrderStatusEvent.of(orderId, OrderStatus.ORDER_RECEIVED, OrderStatus.PAYMENT_COMPLETED));
+
+        // then
+        verify(orderRepository).updateSalesRecorded(orderId, true);
+        List<SalesDailyRollup> rollups = captureRollups();
+        assertThat(rollups).extracting(SalesDailyRollup::getSalesDate).containsOnly(LocalDate.of(2024, 3, 1));
+        assertThat(rollups).extracting(SalesDailyRollup::getOrderCount).containsOnly(1L);
+        assertThat(rollups).extracting(SalesDailyRollup::getDimension, SalesDailyRollup::getDimensionId)
+                .containsExactly(
+                        tuple(SalesDimension.TOTAL, 0L),
+                        tuple(SalesDimension.ITEM, itemId),
+                        tuple(SalesDimension.CATEGORY, categoryId),
+                        tuple(SalesDimension.MAKER, makerId),
+                        tuple(SalesDimension.MAKER, otherMakerId));
+
+        // 상품 2개 x 10,000원, 상품 하나에 제품 3병 (제조사 2병, 다른 제조사 1병)
+        assertThat(rollups.get(0).getQuantity()).isEqualTo(2L);
+        assertThat(rollups.get(0).getAmount()).isEqualByComparingTo("20000");
+        assertThat(rollups.get(3).getQuantity()).isEqualTo(4L);
+        assertThat(rollups.get(3).getAmount()).isEqualByComparingTo("13333.333");
+        assertThat(rollups.get(4).getQuantity()).isEqualTo(2L);
+        assertThat(rollups.get(4).getAmount()).isEqualByComparingTo("6666.667");
+    }
+
+    @Test
+    @DisplayName("결제 이후 취소되면 매출에서 뺀다.")
+    void cancelledAfterPaymentTest() {
+        // given
+        mockOrder();
+
+        // when
+        salesRollupRecorder.onOrderStatusChanged(
+                OrderStatusEvent.of(orderId, OrderStatus.SHIPPED, OrderStatus.CANCELLED));
+
+        // then
+        verify(orderRepository).updateSalesRecorded(orderId, false);
+        List<SalesDailyRollup> rollups = captureRollups();
+        assertThat(rollups).extracting(SalesDailyRollup::getOrderCount).containsOnly(-1L);
+        assertThat(rollups.get(0).getQuantity()).isEqualTo(-2L);
+        assertThat(rollups.get(0).getAmount()).isEqualByComparingTo("-20000");
+    }
+
+    @Test
+    @DisplayName("결제 전 취소, 매출 상태 사이의 변경은 반영하지 않는다.")
+    void notChangedTest() {
+        // when
+        salesRollupRecorder.onOrderStatusChanged(
+                OrderStatusEvent.of(orderId, OrderStatus.ORDER_RECEIVED, OrderStatus.CANCELLED));
+        salesRollupRecorder.onOrderStatusChanged(
+                OrderStatusEvent.of(orderId, OrderStatus.PAYMENT_COMPLETED, OrderStatus.DELIVERED));
+
+        // then
+        verifyNoInteractions(orderRepository);
+        verify(salesDailyRollupRepository, never()).addAll(any());
+    }
+
+    @Test
+    @DisplayName("이상 감지로 바뀌어도 매출 여부는 그대로이므로, 결제 전 주문이 매출에 더해지지 않는다.")
+    void issueDetectedTest() {
+        // when
+        salesRollupRecorder.onOrderStatusChanged(
+                OrderStatusEvent.of(orderId, OrderStatus.ORDER_RECEIVED, OrderStatus.ISSUE_DETECTED));
+        salesRollupRecorder.onOrderStatusChanged(
+                OrderStatusEvent.of(orderId, OrderStatus.SHIPPED, OrderStatus.ISSUE_DETECTED));
+
+        // then
+        verifyNoInteractions(orderRepository);
+        verify(salesDailyRollupRepository, never()).addAll(any());
+    }
+
+    @Test
+    @DisplayName("이상 감지에서 결제 완료로 바뀌면, 아직 반영되지 않은 주문을 매출에 더한다.")
+    void paymentCompletedAfterIssueTest() {
+        // given
+        mockOrder();
+
+        // when
+        salesRollupRecorder.onOrderStatusChanged(
+                OrderStatusEvent.of(orderId, OrderStatus.ISSUE_DETECTED, OrderStatus.PAYMENT_COMPLETED));
+
+        // then
+        verify(orderRepository).updateSalesRecorded(orderId, true);
+        assertThat(captureRollups()).extracting(SalesDailyRollup::getOrderCount).containsOnly(1L);
+    }
+
+    @Test
+    @DisplayName("이미 반영된 주문을 다시 더하거나, 반영되지 않은 주문을 빼지 않는다.")
+    void alreadyRecordedTest() {
+        // given
+        Order order = Order.builder()
+                .id(orderId)
+                .orderStatus(OrderStatus.PAYMENT_COMPLETED)
+                .createdAt(createdAt)
+                .build();
+
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.updateSalesRecorded(eq(orderId), anyBoolean())).thenReturn(false);
+
+        // when
+        salesRollupRecorder.onOrderStatusChanged(
+                OrderStatusEvent.of(orderId, OrderStatus.ISSUE_DETECTED, OrderStatus.CANCELLED));
+        salesRollupRecorder.onOrderStatusChanged(
+                OrderStatusEvent.of(orderId, OrderStatus.ORDER_RECEIVED, OrderStatus.PAYMENT_COMPLETED));
+
+        // then
+        verifyNoInteractions(orderDetailRepository, itemRepository);
+        verify(salesDailyRollupRepository, never()).addAll(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<SalesDailyRollup> captureRollups() {
+        ArgumentCaptor<List<SalesDailyRollup>> captor = ArgumentCaptor.forClass(List.class);
+        verify(salesDailyRollupRepository).addAll(captor.capture());
+        return captor.getValue();
+    }
+
+    private void mockOrder() {
+        Category category = Category.builder()
+                .id(categoryId)
+                .lastName("탁주")
+                .build();
+
+        Item item = Item.builder()
+                .id(itemId)
+                .name("막걸리 세트")
+                .price(BigDecimal.valueOf(10000))
+                .category(category)
+                .itemProducts(List.of(
+                        ItemProduct.builder()
+                                .product(getProductData(makerId))
+                                .quantity(2L)
+                                .build(),
+                        ItemProduct.builder()
+                                .product(getProductData(otherMakerId))
+                                .build()))
+                .build();
+
+        Order order = Order.builder()
+                .id(orderId)
+                .orderStatus(OrderStatus.PAYMENT_COMPLETED)
+                .createdAt(createdAt)
+                .build();
+
+        OrderDetail orderDetail = OrderDetail.builder()
+                .itemPrice(item.getPrice())
+                .quantity(2L)
+                .totalPrice(BigDecimal.valueOf(20000))
+                .item(item)
+                .order(order)
+                .build();
+
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.updateSalesRecorded(eq(orderId), anyBoolean())).thenReturn(true);
+        when(orderDetailRepository.findByOrderAndDeletedAtIsNull(order)).thenReturn(List.of(orderDetail));
+        when(itemRepository.findAllWithProductsByIdIn(any())).thenReturn(List.of(item));
+    }
+
+    private Product getProductData(Long makerId) {
+        return Product.builder()
+                .name("막걸리_" + makerId)
+                .maker(Maker.builder()
+                        .id(makerId)
+                        .name("제조사_" + makerId)
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,140 @@
+package com.drunkenlion.alcoholfriday.domain.sales.dao;
+
+import com.drunkenlion.alcoholfriday.domain.order.dao.OrderRepository;
+import com.drunkenlion.alcoholfriday.domain.order.entity.Order;
+import com.drunkenlion.alcoholfriday.domain.sales.entity.SalesDailyRollup;
+import com.drunkenlion.alcoholfriday.domain.sales.enumerated.SalesDimension;
+import com.drunkenlion.alcoholfriday.global.common.enumerated.OrderStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class SalesDailyRollupRepositoryTest {
+    @Autowired
+    private SalesDailyRollupRepository salesDailyRollupRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final LocalDate salesDate = LocalDate.of(2024, 3, 1);
+
+    @AfterEach
+    void afterEach() {
+        salesDailyRollupRepository.deleteAll();
+        orderRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 날짜, 집계 대상의 집계는 더하고, 없는 집계는 만든다.")
+    void addAllTest() {
+        // given
+        transactionTemplate.executeWithoutResult(status -> salesDailyRollupRepository.addAll(List.of(
+                delta(SalesDimension.TOTAL, 0L, 1L, 2L, "20000"),
+                delta(SalesDimension.ITEM, 10L, 1L, 2L, "20000"))));
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> salesDailyRollupRepository.addAll(List.of(
+                delta(SalesDimension.TOTAL, 0L, -1L, -2L, "-20000"),
+                delta(SalesDimension.ITEM, 11L, 1L, 3L, "15000"))));
+
+        // then
+        assertThat(find(SalesDimension.TOTAL))
+                .extracting(SalesDailyRollup::getDimensionId, SalesDailyRollup::getOrderCount, SalesDailyRollup::getQuantity)
+                .containsExactly(tuple(0L, 0L, 0L));
+        assertThat(find(SalesDimension.TOTAL).get(0).getAmount()).isEqualByComparingTo("0");
+        assertThat(find(SalesDimension.ITEM))
+                .extracting(SalesDailyRollup::getDimensionId, SalesDailyRollup::getOrderCount, SalesDailyRollup::getQuantity)
+                .containsExactly(tuple(10L, 1L, 2L), tuple(11L, 1L, 3L));
+    }
+
+    @Test
+    @DisplayName("같은 집계를 동시에 더해도 집계 row 는 하나이고 누락되지 않는다.")
+    void addAllConcurrentlyTest() throws Exception {
+        // given
+        int threadCount = 16;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executorService.submit(() -> {
+                start.await();
+                transactionTemplate.executeWithoutResult(status -> salesDailyRollupRepository.addAll(List.of(
+                        delta(SalesDimension.TOTAL, 0L, 1L, 2L, "10000.5"),
+                        delta(SalesDimension.ITEM, 10L, 1L, 2L, "10000.5"))));
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        // then
+        List<SalesDailyRollup> totals = find(SalesDimension.TOTAL);
+        assertThat(totals).hasSize(1);
+        assertThat(totals.get(0).getOrderCount()).isEqualTo(16L);
+        assertThat(totals.get(0).getQuantity()).isEqualTo(32L);
+        assertThat(totals.get(0).getAmount()).isEqualByComparingTo("160008");
+        assertThat(find(SalesDimension.ITEM)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("주문의 매출 집계 반영 여부는 값이 다를 때만 바뀐다.")
+    void updateSalesRecordedTest() {
+        // given
+        Long orderId = orderRepository.save(Order.builder()
+                .orderNo("매출 집계 주문")
+                .orderStatus(OrderStatus.PAYMENT_COMPLETED)
+                .build()).getId();
+
+        // when
+        boolean unrecordedRemoved = orderRepository.updateSalesRecorded(orderId, false);
+        boolean recorded = orderRepository.updateSalesRecorded(orderId, true);
+        boolean recordedAgain = orderRepository.updateSalesRecorded(orderId, true);
+        boolean removed = orderRepository.updateSalesRecorded(orderId, false);
+
+        // then
+        assertThat(unrecordedRemoved).isFalse();
+        assertThat(recorded).isTrue();
+        assertThat(recordedAgain).isFalse();
+        assertThat(removed).isTrue();
+    }
+
+    private List<SalesDailyRollup> find(SalesDimension dimension) {
+        return salesDailyRollupRepository.findAllByDimensionAndSalesDateBetweenOrderBySalesDateAscDimensionIdAsc(
+                dimension, salesDate, salesDate);
+    }
+
+    private SalesDailyRollup delta(SalesDimension dimension, Long dimensionId, Long orderCount, Long quantity, String amount) {
+        return SalesDailyRollup.builder()
+                .dimension(dimension)
+                .salesDate(salesDate)
+                .dimensionId(dimensionId)
+                .orderCount(orderCount)
+                .quantity(quantity)
+                .amount(new BigDecimal(amount))
+                .build();
+    }
+}
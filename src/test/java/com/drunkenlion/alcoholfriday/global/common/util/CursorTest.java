@@ -0,0 +1,73 @@
+package com.drunkenlion.alcoholfriday.global.common.util;
+
+import com.drunkenlion.alcoholfriday.global.common.response.CursorPage;
+import com.drunkenlion.alcoholfriday.global.common.response.HttpResponse;
+import com.drunkenlion.alcoholfriday.global.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CursorTest {
+    @Test
+    @DisplayName("인코딩한 커서는 같은 값으로 복원된다.")
+    void encodeTest() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 14, 22, 16, 28);
+
+        Cursor cursor = Cursor.decode(Cursor.of(createdAt, 10L).encode());
+
+        assertThat(cursor.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(cursor.getId()).isEqualTo(10L);
+        assertThat(Cursor.decode(Cursor.of(6, 3L).encode()).getScore()).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지로 보고, 잘못된 커서는 예외가 발생한다.")
+    void decodeTest() {
+        assertThat(Cursor.decode("")).isNull();
+
+        BusinessException exception = assertThrows(BusinessException.class, () -> Cursor.decode("not-a-cursor"));
+        assertThat(exception.getStatus()).isEqualTo(HttpResponse.Fail.INVALID_CURSOR.getStatus());
+
+        Cursor scoreCursor = Cursor.decode(Cursor.of(6, 3L).encode());
+        assertThrows(BusinessException.class, scoreCursor::getCreatedAt);
+    }
+
+    @Test
+    @DisplayName("커서는 정렬 기준을 함께 담고, 다른 정렬 기준의 값은 꺼낼 수 없다.")
+    void typeTest() {
+        Cursor idCursor = Cursor.decode(Cursor.of(3L).encode());
+        Cursor scoreCursor = Cursor.decode(Cursor.of(0, 3L).encode());
+        Cursor createdAtCursor = Cursor.decode(Cursor.of(LocalDateTime.of(2024, 3, 14, 22, 16), 3L).encode());
+
+        assertThat(idCursor.is(Cursor.Type.ID)).isTrue();
+        assertThat(idCursor.getId()).isEqualTo(3L);
+        assertThat(scoreCursor.is(Cursor.Type.SCORE)).isTrue();
+        assertThat(createdAtCursor.is(Cursor.Type.CREATED_AT)).isTrue();
+
+        // 같은 식별자라도 정렬 기준이 다르면 다른 커서
+        assertThat(idCursor.encode()).isNotEqualTo(scoreCursor.encode());
+        assertThrows(BusinessException.class, idCursor::getScore);
+        assertThrows(BusinessException.class, createdAtCursor::getScore);
+        assertThrows(BusinessException.class, idCursor::getCreatedAt);
+    }
+
+    @Test
+    @DisplayName("size 보다 많이 조회되면 다음 커서를 만들고, 아니면 마지막 페이지로 본다.")
+    void cursorPageTest() {
+        CursorPage<Long> page = CursorPage.of(List.of(5L, 4L, 3L), 2, Cursor::of);
+
+        assertThat(page.getContent()).containsExactly(5L, 4L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(Cursor.decode(page.getNext()).getId()).isEqualTo(4L);
+
+        CursorPage<Long> last = CursorPage.of(List.of(2L, 1L), 2, Cursor::of);
+
+        assertThat(last.getContent()).containsExactly(2L, 1L);
+        assertThat(last.hasNext()).isFalse();
+    }
+}
@@ -0,0 +1,120 @@
+package com.drunkenlion.alcoholfriday.global.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SnowflakeIdGeneratorTest {
+    @Test
+    @DisplayName("식별자에서 발급 시각, 노드, 순번을 꺼낼 수 있다.")
+    void decodeTest() {
+        long now = Instant.parse("2024-03-01T12:34:56.789Z").toEpochMilli();
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7L, Clock.fixed(Instant.ofEpochMilli(now), ZoneOffset.UTC));
+
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        assertThat(SnowflakeIdGenerator.getEpochMilli(first)).isEqualTo(now);
+        assertThat(SnowflakeIdGenerator.getNodeId(first)).isEqualTo(7L);
+        assertThat(SnowflakeIdGenerator.getSequence(first)).isEqualTo(0L);
+        assertThat(SnowflakeIdGenerator.getSequence(second)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 식별자는 계속 증가한다.")
+    void clockRegressionTest() {
+        AtomicLong millis = new AtomicLong(Instant.parse("2024-03-01T00:00:00Z").toEpochMilli());
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1L, new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(millis.get());
+            }
+        });
+
+        long before = generator.nextId();
+        millis.addAndGet(-5_000);
+        long after = generator.nextId();
+
+        assertThat(after).isGreaterThan(before);
+        assertThat(SnowflakeIdGenerator.getEpochMilli(after)).isEqualTo(SnowflakeIdGenerator.getEpochMilli(before));
+    }
+
+    @Test
+    @DisplayName("같은 밀리초에 순번이 넘치면 다음 밀리초로 넘어간다.")
+    void sequenceOverflowTest() {
+        long now = Instant.parse("2024-03-01T00:00:00Z").toEpochMilli();
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0L, Clock.fixed(Instant.ofEpochMilli(now), ZoneOffset.UTC));
+
+        long last = 0L;
+        for (int i = 0; i <= 4096; i++) {
+            last = generator.nextId();
+        }
+
+        assertThat(SnowflakeIdGenerator.getEpochMilli(last)).isEqualTo(now + 1);
+        assertThat(SnowflakeIdGenerator.getSequence(last)).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("동시에 발급해도 식별자가 겹치지 않는다.")
+    void nextIdConcurrentlyTest() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3L, Clock.systemUTC());
+
+        int threadCount = 16;
+        int idsPerThread = 10_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executorService.submit(() -> {
+                start.await();
+                for (int j = 0; j < idsPerThread; j++) {
+                    ids.add(generator.nextId());
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        assertThat(ids).hasSize(threadCount * idsPerThread);
+    }
+
+    @Test
+    @DisplayName("노드 번호가 범위를 벗어나면 생성할 수 없다.")
+    void invalidNodeIdTest() {
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(1024L, Clock.systemUTC()));
+    }
+}
@@ -0,0 +1,54 @@
+package com.drunkenlion.alcoholfriday.global.common.vo;
+
+import com.drunkenlion.alcoholfriday.global.common.response.HttpResponse;
+import com.drunkenlion.alcoholfriday.global.exception.BusinessException;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+    @Test
+    @DisplayName("DB 에서 읽은 소수 세 자리 금액도 원 단위로 계산하고 BigDecimal 로 돌려준다.")
+    void arithmeticTest() {
+        Money price = Money.of(new BigDecimal("10000.000"));
+
+        assertThat(price.getAmount()).isEqualTo(10_000L);
+        assertThat(Money.of(new BigDecimal("99999999999999999.000")).getAmount()).isEqualTo(99_999_999_999_999_999L);
+        assertThat(price.times(3).plus(Money.of(2500)).toBigDecimal()).isEqualTo(new BigDecimal("32500"));
+        assertThat(price.minus(Money.of(new BigDecimal("3850.0"))).getAmount()).isEqualTo(6150L);
+        assertThat(Money.sum(List.of(new BigDecimal("50000"), new BigDecimal("100000.000")), value -> value))
+                .isEqualTo(Money.of(150_000L));
+        assertThat(Money.sum(List.<BigDecimal>of(), value -> value)).isSameAs(Money.ZERO);
+    }
+
+    @Test
+    @DisplayName("원 아래 금액이 있거나 계산이 넘치면 잘못된 가격값 예외가 발생한다.")
+    void exactTest() {
+        assertInvalidAmount(() -> Money.of(new BigDecimal("100.5")));
+        assertInvalidAmount(() -> Money.of(new BigDecimal("8796093022207.999")));
+        assertInvalidAmount(() -> Money.of(Long.MAX_VALUE).plus(Money.of(1)));
+        assertInvalidAmount(() -> Money.of(Long.MIN_VALUE).minus(Money.of(1)));
+        assertInvalidAmount(() -> Money.of(Long.MAX_VALUE / 2 + 1).times(2));
+        assertInvalidAmount(() -> Money.sum(List.of(BigDecimal.valueOf(Long.MAX_VALUE), BigDecimal.ONE), value -> value));
+    }
+
+    @Test
+    @DisplayName("저장할 가격은 원 아래 금액이 없을 때만 그대로 돌려준다.")
+    void requireWonTest() {
+        assertThat(Money.requireWon(new BigDecimal("10000.000"))).isEqualTo(new BigDecimal("10000.000"));
+        assertThat(Money.requireWon(null)).isNull();
+        assertInvalidAmount(() -> Money.requireWon(new BigDecimal("9900.5")));
+    }
+
+    private void assertInvalidAmount(ThrowingCallable callable) {
+        assertThatThrownBy(callable)
+                .isInstanceOfSatisfying(BusinessException.class, e ->
+                        assertThat(e.getStatus()).isEqualTo(HttpResponse.Fail.BAD_REQUEST_AMOUNT.getStatus()));
+    }
+}
@@ -0,0 +1,145 @@
+package com.drunkenlion.alcoholfriday.global.file.application;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.drunkenlion.alcoholfriday.global.common.enumerated.EntityTypeV2;
+import com.drunkenlion.alcoholfriday.global.file.config.FileSweepProperties;
+import com.drunkenlion.alcoholfriday.global.file.dao.FileObjectRepository;
+import com.drunkenlion.alcoholfriday.global.file.dao.FileRepository;
+import com.drunkenlion.alcoholfriday.global.file.entity.FileObject;
+import com.drunkenlion.alcoholfriday.global.ncp.application.NcpObjectDeleter;
+import com.drunkenlion.alcoholfriday.global.ncp.config.NcpS3Properties;
+import com.drunkenlion.alcoholfriday.global.ncp.util.FakeS3Server;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 참조하지 않는 bucket 파일 정리를 로컬 저장소 서버(FakeS3Server)로 확인한다.
+ */
+class FileObjectSweeperTest {
+    private final String bucketName = "test-bucket";
+    private final Instant old = Instant.now().minus(Duration.ofDays(2));
+
+    private final FileObjectRepository fileObjectRepository = mock(FileObjectRepository.class);
+    private final FileRepository fileRepository = mock(FileRepository.class);
+    private final FileSweepProperties fileSweepProperties = new FileSweepProperties();
+
+    private FakeS3Server fakeS3Server;
+    private AmazonS3Client amazonS3Client;
+    private FileObjectSweeper fileObjectSweeper;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        fakeS3Server = FakeS3Server.start();
+
+        NcpS3Properties ncpS3Properties = new NcpS3Properties();
+        NcpS3Properties.S3 s3 = new NcpS3Properties.S3();
+        s3.setBucketName(bucketName);
+        s3.setEndPoint(fakeS3Server.getEndpoint());
+        s3.setRegion("kr-standard");
+        s3.setPathStyleAccess(true);
+        ncpS3Properties.setS3(s3);
+
+        amazonS3Client = (AmazonS3Client) AmazonS3ClientBuilder.standard()
+                .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(s3.getEndPoint(), s3.getRegion()))
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("access", "secret")))
+                .withPathStyleAccessEnabled(s3.isPathStyleAccess())
+                .build();
+
+        fileSweepProperties.setPageDelay(Duration.ZERO);
+        fileObjectSweeper = new FileObjectSweeper(amazonS3Client, ncpS3Properties, fileObjectRepository,
+                fileRepository, new NcpObjectDeleter(amazonS3Client, ncpS3Properties), fileSweepProperties);
+    }
+
+    @AfterEach
+    void afterEach() {
+        fileObjectSweeper.shutdown();
+        amazonS3Client.shutdown();
+        fakeS3Server.close();
+    }
+
+    @Test
+    @DisplayName("file_object 가 참조하지 않는 오래된 파일만 지운다.")
+    void sweepTest() throws Exception {
+        // given
+        String referenced = "item/2024/01/item+1_uuid_a.png";
+        String orphan = "item/2024/01/item+1_uuid_b.png";
+        String orphanVariant = "item/2024/01/item+1_uuid_b_w160.jpg";
+        String recent = "item/2024/01/item+2_uuid_c.png";
+        String unknown = "item/readme.txt";
+        String notice = "notice/2024/01/notice+1_uuid_n.png";
+        String orphanReview = "review/2024/01/review+3_uuid_사진 1.png";
+
+        List.of(referenced, orphan, orphanVariant, unknown, notice, orphanReview)
+                .forEach(keyName -> fakeS3Server.put(bucketName, keyName, new byte[]{1}, old));
+        fakeS3Server.put(bucketName, recent, new byte[]{1});
+
+        when(fileObjectRepository.findAllByEntityTypeAndEntityIdIn(eq(EntityTypeV2.ITEM.getEntityType()), anyCollection()))
+                .thenReturn(List.of(FileObject.builder()
+                        .entityType(EntityTypeV2.ITEM.getEntityType()).entityId(1L).seq(1).keyName(referenced)
+                        .build()));
+        // when
+        int deleted = fileObjectSweeper.sweep();
+        // then
+        assertThat(deleted).isEqualTo(3);
+        assertThat(fakeS3Server.exists(bucketName, orphan)).isFalse();
+        assertThat(fakeS3Server.exists(bucketName, orphanVariant)).isFalse();
+        assertThat(fakeS3Server.exists(bucketName, orphanReview)).isFalse();
+        List.of(referenced, recent, unknown, notice)
+                .forEach(keyName -> assertThat(fakeS3Server.exists(bucketName, keyName)).isTrue());
+    }
+
+    @Test
+    @DisplayName("목록을 1000개씩 나눠 읽고, 한 번에 지울 수 있는 수를 넘기지 않는다.")
+    void sweepLimitTest() throws Exception {
+        // given
+        for (int i = 0; i < 1500; i++) {
+            fakeS3Server.put(bucketName, "product/2024/01/product+%d_uuid_%04d.png".formatted(i, i), new byte[]{1}, old);
+        }
+        fileSweepProperties.setMaxDeletes(1200);
+        // when
+        int deleted = fileObjectSweeper.sweep();
+        // then
+        assertThat(deleted).isEqualTo(1200);
+        assertThat(fakeS3Server.keys()).hasSize(300);
+    }
+
+    @Test
+    @DisplayName("ncp_file 이관이 끝나지 않았으면 정리하지 않는다.")
+    void sweepBeforeMigrationTest() throws Exception {
+        // given
+        fakeS3Server.put(bucketName, "item/2024/01/item+1_uuid_b.png", new byte[]{1}, old);
+        when(fileRepository.countByMigratedAtIsNull()).thenReturn(1L);
+        // when
+        int deleted = fileObjectSweeper.sweep();
+        // then
+        assertThat(deleted).isZero();
+        assertThat(fakeS3Server.keys()).hasSize(1);
+        verify(fileObjectRepository, never()).findAllByEntityTypeAndEntityIdIn(eq("item"), anyCollection());
+    }
+
+    @Test
+    @DisplayName("key 규칙에 맞는 파일에서만 entity 식별자를 읽는다.")
+    void parseEntityIdTest() {
+        assertThat(FileObjectSweeper.parseEntityId(EntityTypeV2.ITEM, "item/2024/01/item+12_uuid_a/b.png")).isEqualTo(12L);
+        assertThat(FileObjectSweeper.parseEntityId(EntityTypeV2.ITEM, "item/2024/01/review+12_uuid_a.png")).isNull();
+        assertThat(FileObjectSweeper.parseEntityId(EntityTypeV2.ITEM, "item/readme.txt")).isNull();
+    }
+}
@@ -1,25 +1,38 @@
 package com.drunkenlion.alcoholfriday.global.file.application;
 
+import com.drunkenlion.alcoholfriday.domain.item.entity.Item;
 import com.drunkenlion.alcoholfriday.global.common.enumerated.EntityType;
 import com.drunkenlion.alcoholfriday.global.common.response.HttpResponse;
 import com.drunkenlion.alcoholfriday.global.exception.BusinessException;
-import com.drunkenlion.alcoholfriday.global.file.dao.FileRepository;
+import com.drunkenlion.alcoholfriday.global.file.config.FileCacheProperties;
+import com.drunkenlion.alcoholfriday.global.file.dao.FileObjectRepository;
+import com.drunkenlion.alcoholfriday.global.file.entity.FileObject;
+import com.drunkenlion.alcoholfriday.global.ncp.application.NcpObjectDeleter;
 import com.drunkenlion.alcoholfriday.global.ncp.application.NcpS3ServiceImpl;
 import com.drunkenlion.alcoholfriday.global.ncp.dto.NcpFileResponse;
-import com.drunkenlion.alcoholfriday.global.ncp.entity.NcpFile;
+import com.drunkenlion.alcoholfriday.global.ncp.util.vo.FileInfo;
+import com.drunkenlion.alcoholfriday.global.ncp.util.vo.NcpFileUploadEvent;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,9 +41,16 @@ class FileServiceImplTest {
     @InjectMocks
     private FileServiceImpl fileService;
     @Mock
-    private FileRepository fileRepository;
+    private FileObjectRepository fileObjectRepository;
     @Mock
     private NcpS3ServiceImpl ncpS3Service;
+    @Mock
+    private NcpObjectDeleter ncpObjectDeleter;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Spy
+    private EntityImageCache entityImageCache =
+            new EntityImageCache(new FileCacheProperties(), mock(ApplicationEventPublisher.class));
 
     // test를 위한 임의 변수
     private final String keyName = "test";
@@ -41,7 +61,7 @@ class FileServiceImplTest {
     @DisplayName("여러 EntityId를 가진 file이 있을 경우의 테스트")
     void listTest() {
         // given
-        when(this.fileRepository.findAllByEntityIdInAndEntityType(anyList(), anyString())).thenReturn(
+        when(this.fileObjectRepository.findAllByEntityTypeAndEntityIdIn(anyString(), anyList())).thenReturn(
                 this.getList(entityIds, EntityType.ITEM.getEntityName()));
         // when
         List<NcpFileResponse> files = this.fileService.findAllByEntityIds(entityIds, EntityType.ITEM.getEntityName());
@@ -56,11 +76,204 @@ class FileServiceImplTest {
         }
     }
 
+    @Test
+    @DisplayName("여러 entity의 첫 번째 이미지를 한 번의 조회로 가져온다.")
+    void findFirstImagesTest() {
+        // given
+        List<Item> items = entityIds.stream()
+                .map(entityId -> Item.builder().id(entityId).build())
+                .toList();
+
+        when(this.fileObjectRepository.findAllByEntityTypeAndEntityIdIn(eq(EntityType.ITEM.getEntityName()), anyList()))
+                .thenReturn(this.getList(entityIds, EntityType.ITEM.getEntityName()));
+        // when
+        Map<Long, NcpFileResponse> images = this.fileService.findFirstImages(items);
+        // then
+        assertThat(images).containsOnlyKeys(entityIds);
+        for (NcpFileResponse fileResponse : images.values()) {
+            assertThat(fileResponse.getFile().size()).isEqualTo(1);
+            assertThat(fileResponse.getFile().get(0).getSeq()).isEqualTo(1);
+        }
+        verify(this.fileObjectRepository, times(1)).findAllByEntityTypeAndEntityIdIn(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("한 번 읽은 entity 이미지는 캐시에서 돌려주고, 캐시에 없는 entity만 조회한다.")
+    void cacheHitTest() {
+        // given
+        Item item = Item.builder().id(entityIds.get(0)).build();
+        List<Item> items = entityIds.stream()
+                .map(entityId -> Item.builder().id(entityId).build())
+                .toList();
+
+        when(this.fileObjectRepository.findAllByEntityTypeAndEntityId(EntityType.ITEM.getEntityName(), item.getId()))
+                .thenReturn(this.getFileObjects(item.getId(), EntityType.ITEM.getEntityName()));
+        when(this.fileObjectRepository.findAllByEntityTypeAndEntityIdIn(eq(EntityType.ITEM.getEntityName()), anyList()))
+                .thenReturn(this.getFileObjects(entityIds.get(1), EntityType.ITEM.getEntityName()));
+        // when
+        NcpFileResponse first = this.fileService.findAll(item);
+        NcpFileResponse second = this.fileService.findOne(item);
+        Map<Long, NcpFileResponse> images = this.fileService.findFirstImages(items);
+        Map<Long, NcpFileResponse> cachedImages = this.fileService.findFirstImages(items);
+        // then
+        assertThat(first.getFile().size()).isEqualTo(2);
+        assertThat(second.getFile().size()).isEqualTo(1);
+        // 이미지가 없는 entity 도 빈 응답으로 기억한다.
+        assertThat(images).containsOnlyKeys(entityIds.get(0), entityIds.get(1));
+        assertThat(cachedImages).containsOnlyKeys(entityIds.get(0), entityIds.get(1));
+
+        verify(this.fileObjectRepository, times(1)).findAllByEntityTypeAndEntityId(anyString(), anyLong());
+        ArgumentCaptor<List<Long>> captor = ArgumentCaptor.forClass(List.class);
+        verify(this.fileObjectRepository, times(1)).findAllByEntityTypeAndEntityIdIn(anyString(), captor.capture());
+        assertThat(captor.getValue()).containsExactlyInAnyOrder(entityIds.get(1), entityIds.get(2));
+        assertThat(this.entityImageCache.getStats().hitCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("파일을 지우면 캐시를 비워 다음 조회에서 다시 읽고, bucket 파일은 커밋 후 지우도록 넘긴다.")
+    void cacheEvictTest() {
+        // given
+        Item item = Item.builder().id(entityIds.get(0)).build();
+        List<FileObject> fileObjects = this.getFileObjects(item.getId(), EntityType.ITEM.getEntityName());
+
+        when(this.fileObjectRepository.findAllByEntityTypeAndEntityId(EntityType.ITEM.getEntityName(), item.getId()))
+                .thenReturn(fileObjects)
+                .thenReturn(fileObjects)
+                .thenReturn(this.getEmptyList());
+        // when
+        NcpFileResponse before = this.fileService.findAll(item);
+        this.fileService.deleteFiles(item);
+        NcpFileResponse after = this.fileService.findAll(item);
+        // then
+        assertThat(before.getFile().size()).isEqualTo(2);
+        assertThat(after).isNull();
+        verify(this.fileObjectRepository).deleteAllByEntity(EntityType.ITEM.getEntityName(), item.getId());
+        verify(this.ncpObjectDeleter).deleteAfterCommit(List.of(keyName, keyName));
+        verify(this.fileObjectRepository, times(3)).findAllByEntityTypeAndEntityId(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("여러 entity의 전체 이미지를 조회하고, 이미지가 없는 entity는 결과에 포함하지 않는다.")
+    void findAllImagesTest() {
+        // given
+        List<Item> items = entityIds.stream()
+                .map(entityId -> Item.builder().id(entityId).build())
+                .toList();
+
+        when(this.fileObjectRepository.findAllByEntityTypeAndEntityIdIn(eq(EntityType.ITEM.getEntityName()), anyList()))
+                .thenReturn(this.getFileObjects(entityIds.get(0), EntityType.ITEM.getEntityName()));
+        // when
+        Map<Long, NcpFileResponse> images = this.fileService.findAllImages(items);
+        // then
+        assertThat(images).containsOnlyKeys(entityIds.get(0));
+        assertThat(images.get(entityIds.get(0)).getFile().size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("사본은 같은 seq 원본의 variants 로 묶이고, 가장 작은 사본이 썸네일이 된다.")
+    void findAllWithVariantsTest() {
+        // given
+        Item item = Item.builder().id(entityIds.get(0)).build();
+        List<FileObject> fileObjects = new ArrayList<>(this.getFileObjects(item.getId(), EntityType.ITEM.getEntityName()));
+        fileObjects.add(this.getVariant(item.getId(), 1, 480));
+        fileObjects.add(this.getVariant(item.getId(), 1, 160));
+
+        when(this.fileObjectRepository.findAllByEntityTypeAndEntityId(EntityType.ITEM.getEntityName(), item.getId()))
+                .thenReturn(fileObjects);
+        // when
+        NcpFileResponse response = this.fileService.findAll(item);
+        // then
+        assertThat(response.getFile()).extracting(FileInfo::getSeq).containsExactly(1, 2);
+        assertThat(response.getFile().get(0).getVariants()).extracting("width").containsExactly(160, 480);
+        assertThat(response.getFile().get(0).getThumbnailPath()).isEqualTo("https://test.com/test_w160.jpg");
+        assertThat(response.getFile().get(1).getThumbnailPath()).isEqualTo(path);
+    }
+
+    @Test
+    @DisplayName("이미지를 지우면 크기별 사본도 지우고, 추가한 이미지만 사본 생성 이벤트로 발행한다.")
+    void updateFilesTest() {
+        // given
+        Item item = Item.builder().id(entityIds.get(0)).build();
+        String entityType = EntityType.ITEM.getEntityName();
+
+        FileObject removed = FileObject.builder()
+                .entityType(entityType).entityId(item.getId()).seq(1)
+                .keyName("removed.png").path("https://test.com/removed.png")
+                .build();
+        FileObject removedVariant = FileObject.builder()
+                .entityType(entityType).entityId(item.getId()).seq(1).variant(true).width(160)
+                .keyName("removed_w160.jpg").path("https://test.com/removed_w160.jpg")
+                .build();
+        FileObject remained = FileObject.builder()
+                .entityType(entityType).entityId(item.getId()).seq(2)
+                .keyName("remained.png").path("https://test.com/remained.png")
+                .build();
+        FileObject added = FileObject.builder()
+                .entityType(entityType).entityId(item.getId()).seq(2)
+                .keyName("added.png").path("https://test.com/added.png")
+                .build();
+
+        MultipartFile multipartFile = new MockMultipartFile("files", "added.png", "image/png", new byte[]{1});
+
+        when(this.fileObjectRepository.findAllByEntityTypeAndEntityId(entityType, item.getId()))
+                .thenReturn(List.of(removed, removedVariant, remained));
+        when(this.ncpS3Service.updateFile(item, 2, multipartFile)).thenReturn(added);
+        // when
+        NcpFileResponse response = this.fileService.updateFiles(item, List.of(1), List.of(multipartFile));
+        // then
+        verify(this.ncpObjectDeleter).deleteAfterCommit(List.of("removed.png", "removed_w160.jpg"));
+        verify(this.fileObjectRepository).deleteAllByEntityAndSeqIn(entityType, item.getId(), Set.of(1));
+        verify(this.fileObjectRepository).saveAllInBatch(List.of(added));
+
+        ArgumentCaptor<NcpFileUploadEvent> captor = ArgumentCaptor.forClass(NcpFileUploadEvent.class);
+        verify(this.eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getKeyNames()).containsExactly("added.png");
+
+        assertThat(remained.getSeq()).isEqualTo(1);
+        assertThat(response.getFile()).extracting(FileInfo::getKeyName).containsExactly("remained.png", "added.png");
+        assertThat(response.getFile()).extracting(FileInfo::getSeq).containsExactly(1, 2);
+        // 사본이 아직 없으면 원본을 썸네일로 쓴다.
+        assertThat(response.getFile().get(0).getThumbnailPath()).isEqualTo("https://test.com/remained.png");
+    }
+
+    @Test
+    @DisplayName("직접 업로드한 파일은 기존 이미지 뒤에 붙고, 이미 저장한 keyName 은 다시 저장하지 않는다.")
+    void completeUploadsTest() {
+        // given
+        Item item = Item.builder().id(entityIds.get(0)).build();
+        String entityType = EntityType.ITEM.getEntityName();
+
+        FileObject saved = FileObject.builder()
+                .entityType(entityType).entityId(item.getId()).seq(1)
+                .keyName("saved.png").path("https://test.com/saved.png")
+                .build();
+        FileObject uploaded = FileObject.builder()
+                .entityType(entityType).entityId(item.getId()).seq(2)
+                .keyName("uploaded.png").path("https://test.com/uploaded.png")
+                .build();
+
+        when(this.fileObjectRepository.findAllByEntityTypeAndEntityId(entityType, item.getId()))
+                .thenReturn(List.of(saved));
+        when(this.ncpS3Service.completeUpload(item, 2, "uploaded.png")).thenReturn(uploaded);
+        // when
+        NcpFileResponse response = this.fileService.completeUploads(item,
+                List.of("uploaded.png", "saved.png", "uploaded.png"));
+        // then
+        verify(this.ncpS3Service, times(1)).completeUpload(any(), anyInt(), anyString());
+        verify(this.fileObjectRepository).saveAllInBatch(List.of(uploaded));
+
+        ArgumentCaptor<NcpFileUploadEvent> captor = ArgumentCaptor.forClass(NcpFileUploadEvent.class);
+        verify(this.eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getKeyNames()).containsExactly("uploaded.png");
+
+        assertThat(response.getFile()).extracting(FileInfo::getKeyName).containsExactly("saved.png", "uploaded.png");
+    }
+
     // @Test
     @DisplayName("여러 EntityId를 가진 file이 없을 경우 테스트")
     void listEmptyTest() {
         // given
-        when(this.fileRepository.findAllByEntityIdInAndEntityType(anyList(), anyString())).thenReturn(
+        when(this.fileObjectRepository.findAllByEntityTypeAndEntityIdIn(anyString(), anyList())).thenReturn(
                 this.getEmptyList());
         // when
         List<NcpFileResponse> files = this.fileService.findAllByEntityIds(entityIds, EntityType.ITEM.getEntityName());
@@ -75,8 +288,8 @@ class FileServiceImplTest {
     @DisplayName("하나의 EntityId를 가진 file이 있을 경우의 테스트")
     void getTest() {
         // given
-        when(this.fileRepository.findByEntityIdAndEntityType(anyLong(), anyString()))
-                .thenReturn(Optional.ofNullable(this.getNcpFile(entityIds.get(0), EntityType.ITEM.getEntityName())));
+        when(this.fileObjectRepository.findAllByEntityTypeAndEntityId(anyString(), anyLong()))
+                .thenReturn(this.getFileObjects(entityIds.get(0), EntityType.ITEM.getEntityName()));
         // when
         NcpFileResponse ncpFileResponse = this.fileService.findByEntityId(entityIds.get(0),
                 EntityType.ITEM.getEntityName());
@@ -90,9 +303,8 @@ class FileServiceImplTest {
     @DisplayName("하나의 EntityId를 가진 file이 없을 경우의 테스트")
     void getEmptyTest() {
         // given
-        when(this.fileRepository.findByEntityIdAndEntityType(anyLong(), anyString()))
-                .thenReturn(
-                        Optional.ofNullable(this.getEmptyNcpFile(entityIds.get(0), EntityType.ITEM.getEntityName())));
+        when(this.fileObjectRepository.findAllByEntityTypeAndEntityId(anyString(), anyLong()))
+                .thenReturn(this.getEmptyList());
         // when
         BusinessException businessException = assertThrows(BusinessException.class,
                 () -> this.fileService.findByEntityId(entityIds.get(0), EntityType.ITEM.getEntityName()));
@@ -101,44 +313,51 @@ class FileServiceImplTest {
         assertThat(businessException.getMessage()).isEqualTo(HttpResponse.Fail.NOT_FOUND_FILE.getMessage());
     }
 
-    private List<NcpFile> getEmptyList() {
-        List<NcpFile> list = new ArrayList<>();
-        list.add(null);
-
-        return list;
+    private List<FileObject> getEmptyList() {
+        return new ArrayList<>();
     }
 
-    private List<NcpFile> getList(List<Long> entityIds, String entityType) {
-        List<NcpFile> list = new ArrayList<>();
+    private List<FileObject> getList(List<Long> entityIds, String entityType) {
+        List<FileObject> list = new ArrayList<>();
 
         int count = 0;
         while (count < 3) {
-            list.add(this.getNcpFile(entityIds.get(count), entityType));
+            list.addAll(this.getFileObjects(entityIds.get(count), entityType));
             count++;
         }
 
         return list;
     }
 
-    private NcpFile getEmptyNcpFile(Long entityId, String entityType) {
-        return null;
-    }
-
-    private NcpFile getNcpFile(Long entityId, String entityType) {
-        List<Map<String, Object>> s3Files = new ArrayList<>();
+    private List<FileObject> getFileObjects(Long entityId, String entityType) {
+        List<FileObject> fileObjects = new ArrayList<>();
 
         for (int seq = 1; seq < 3; seq++) {
-            Map<String, Object> map = new HashMap<>();
-            map.put("keyName", keyName);
-            map.put("path", path);
-            map.put("seq", seq);
-            s3Files.add(map);
+            fileObjects.add(this.getFileObject(entityId, entityType, seq));
         }
 
-        return NcpFile.builder()
+        return fileObjects;
+    }
+
+    private FileObject getFileObject(Long entityId, String entityType, int seq) {
+        return FileObject.builder()
                 .entityId(entityId)
                 .entityType(entityType)
-                .s3Files(s3Files)
+                .seq(seq)
+                .keyName(keyName)
+                .path(path)
+                .build();
+    }
+
+    private FileObject getVariant(Long entityId, int seq, int width) {
+        return FileObject.builder()
+                .entityId(entityId)
+                .entityType(EntityType.ITEM.getEntityName())
+                .seq(seq)
+                .variant(true)
+                .keyName("test_w%d.jpg".formatted(width))
+                .path("https://test.com/test_w%d.jpg".formatted(width))
+                .width(width)
                 .build();
     }
-}
\ No newline at end of file
+}
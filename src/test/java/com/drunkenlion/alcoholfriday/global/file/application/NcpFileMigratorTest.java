@@ -0,0 +1,176 @@
+package com.drunkenlion.alcoholfriday.global.file.application;
+
+import com.drunkenlion.alcoholfriday.global.file.dao.FileObjectRepository;
+import com.drunkenlion.alcoholfriday.global.file.dao.FileRepository;
+import com.drunkenlion.alcoholfriday.global.file.entity.FileObject;
+import com.drunkenlion.alcoholfriday.global.ncp.entity.NcpFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class NcpFileMigratorTest {
+    @Autowired
+    private NcpFileMigrator ncpFileMigrator;
+    @Autowired
+    private FileRepository fileRepository;
+    @Autowired
+    private FileObjectRepository fileObjectRepository;
+
+    private final String entityType = "item";
+
+    @AfterEach
+    void afterEach() {
+        fileRepository.deleteAll();
+        fileObjectRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("ncp_file 의 JSON 항목을 사본까지 file_object row 로 옮기고, 옮긴 ncp_file 은 지우지 않고 표시한다.")
+    void migrateTest() {
+        // given
+        Map<String, Object> variant = new LinkedHashMap<>();
+        variant.put("width", 160);
+        variant.put("keyName", "item/first_w160.jpg");
+        variant.put("path", "https://test.com/item/first_w160.jpg");
+
+        Map<String, Object> first = createFile(1, "item/first.png");
+        first.put("variants", List.of(variant));
+        saveNcpFile(1L, List.of(first, createFile(2, "item/second.png")));
+
+        // 이미 file_object 에 파일이 있는 entity 는 옮기지 않는다.
+        saveNcpFile(2L, List.of(createFile(1, "item/old.png")));
+        fileObjectRepository.saveAllInBatch(List.of(FileObject.builder()
+                .entityType(entityType)
+                .entityId(2L)
+                .seq(1)
+                .keyName("item/new.png")
+                .path("https://test.com/item/new.png")
+                .build()));
+
+        // when
+        ncpFileMigrator.migrate();
+
+        // then
+        assertThat(fileRepository.count()).isEqualTo(2L);
+        assertThat(fileRepository.countByMigratedAtIsNull()).isZero();
+        assertThat(fileObjectRepository.findAllByEntityTypeAndEntityId(entityType, 1L))
+                .extracting(FileObject::getSeq, FileObject::isVariant, FileObject::getKeyName, FileObject::getWidth)
+                .containsExactlyInAnyOrder(
+                        tuple(1, false, "item/first.png", null),
+                        tuple(1, true, "item/first_w160.jpg", 160),
+                        tuple(2, false, "item/second.png", null));
+        assertThat(fileObjectRepository.findAllByEntityTypeAndEntityId(entityType, 2L))
+                .extracting(FileObject::getKeyName)
+                .containsExactly("item/new.png");
+    }
+
+    @Test
+    @DisplayName("중간에 멈췄다가 다시 시작하면 표시되지 않은 ncp_file 만 이어서 옮긴다.")
+    void migrateResumeTest() {
+        // given
+        saveNcpFile(1L, List.of(createFile(1, "item/first.png")));
+        ncpFileMigrator.migrate();
+        saveNcpFile(2L, List.of(createFile(1, "item/second.png")));
+        // when
+        ncpFileMigrator.migrate();
+        ncpFileMigrator.migrate();
+        // then
+        assertThat(fileRepository.countByMigratedAtIsNull()).isZero();
+        assertThat(fileObjectRepository.findAll())
+                .extracting(FileObject::getEntityId, FileObject::getKeyName)
+                .containsExactlyInAnyOrder(
+                        tuple(1L, "item/first.png"),
+                        tuple(2L, "item/second.png"));
+    }
+
+    @Test
+    @DisplayName("같은 entity 의 ncp_file 이 여러 개면 먼저 저장된 것만 옮긴다.")
+    void migrateDuplicateEntityTest() {
+        // given
+        saveNcpFile(1L, List.of(createFile(1, "item/first.png")));
+        saveNcpFile(1L, List.of(createFile(1, "item/duplicate.png")));
+        // when
+        ncpFileMigrator.migrate();
+        // then
+        assertThat(fileRepository.countByMigratedAtIsNull()).isZero();
+        assertThat(fileObjectRepository.findAllByEntityTypeAndEntityId(entityType, 1L))
+                .extracting(FileObject::getKeyName)
+                .containsExactly("item/first.png");
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 이관 잠금을 가지고 있으면 옮기지 않는다.")
+    void migrateLockedTest() {
+        // given
+        saveNcpFile(1L, List.of(createFile(1, "item/first.png")));
+        // when
+        boolean locked = fileRepository.executeWithMigrationLock(() -> ncpFileMigrator.migrate());
+        // then
+        assertThat(locked).isTrue();
+        assertThat(fileRepository.countByMigratedAtIsNull()).isEqualTo(1L);
+        assertThat(fileObjectRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 인스턴스가 동시에 시작해도 같은 파일을 두 번 옮기지 않는다.")
+    void migrateConcurrentlyTest() throws Exception {
+        // given
+        for (long entityId = 1; entityId <= 1200; entityId++) {
+            saveNcpFile(entityId, List.of(createFile(1, "item/" + entityId + ".png")));
+        }
+
+        int threadCount = 4;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executorService.submit(() -> {
+                start.await();
+                ncpFileMigrator.migrate();
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+        // then
+        assertThat(fileRepository.countByMigratedAtIsNull()).isZero();
+        assertThat(fileObjectRepository.count()).isEqualTo(1200L);
+    }
+
+    private Map<String, Object> createFile(int seq, String keyName) {
+        Map<String, Object> file = new LinkedHashMap<>();
+        file.put("seq", seq);
+        file.put("keyName", keyName);
+        file.put("path", "https://test.com/" + keyName);
+        return file;
+    }
+
+    private void saveNcpFile(Long entityId, List<Map<String, Object>> s3Files) {
+        fileRepository.save(NcpFile.builder()
+                .entityId(entityId)
+                .entityType(entityType)
+                .s3Files(new ArrayList<>(s3Files))
+                .build());
+    }
+}
@@ -0,0 +1,91 @@
+package com.drunkenlion.alcoholfriday.global.idempotency.application;
+
+import com.drunkenlion.alcoholfriday.global.idempotency.vo.IdempotencyClaim;
+import com.drunkenlion.alcoholfriday.global.idempotency.vo.IdempotentResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryIdempotencyStoreTest {
+    private final IdempotentResponse response = IdempotentResponse.builder()
+            .status(201)
+            .body(new byte[0])
+            .build();
+
+    @Test
+    @DisplayName("만료된 키는 다시 선점할 수 있다.")
+    void ttlTest() {
+        MutableClock clock = new MutableClock();
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(10, Duration.ofMinutes(1), clock);
+
+        IdempotencyClaim first = store.claim("key", "hash");
+        store.complete(first, response);
+        assertThat(store.claim("key", "hash").isOwner()).isFalse();
+
+        clock.millis += Duration.ofMinutes(1).toMillis() + 1;
+
+        assertThat(store.claim("key", "hash").isOwner()).isTrue();
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래된 키부터 밀려나고, 밀려난 처리 중인 키를 기다리던 요청도 응답을 받는다.")
+    void maxSizeTest() {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(2, Duration.ofMinutes(1), new MutableClock());
+
+        IdempotencyClaim oldest = store.claim("key-1", "hash");
+        IdempotencyClaim waiting = store.claim("key-1", "hash");
+        store.claim("key-2", "hash");
+        store.claim("key-3", "hash");
+
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.claim("key-1", "hash").isOwner()).isTrue();
+
+        store.complete(oldest, response);
+        assertThat(waiting.getResponse()).isCompletedWithValue(response);
+    }
+
+    @Test
+    @DisplayName("실패한 키는 지워지고 기다리던 요청은 실패 응답을 받는다.")
+    void releaseTest() {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(10, Duration.ofMinutes(1), new MutableClock());
+
+        IdempotencyClaim owner = store.claim("key", "hash");
+        IdempotencyClaim waiting = store.claim("key", "hash");
+        store.release(owner, null);
+
+        assertThat(waiting.getResponse()).isCompletedWithValue(null);
+        assertThat(store.claim("key", "hash").isOwner()).isTrue();
+    }
+
+    private static class MutableClock extends Clock {
+        private long millis = Instant.parse("2024-03-01T00:00:00Z").toEpochMilli();
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+    }
+}
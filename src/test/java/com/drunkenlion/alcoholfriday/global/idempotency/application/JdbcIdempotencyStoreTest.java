@@ -0,0 +1,68 @@
+package com.drunkenlion.alcoholfriday.global.idempotency.application;
+
+import com.drunkenlion.alcoholfriday.global.idempotency.dao.IdempotencyRecordRepository;
+import com.drunkenlion.alcoholfriday.global.idempotency.entity.IdempotencyRecord;
+import com.drunkenlion.alcoholfriday.global.idempotency.vo.IdempotencyClaim;
+import com.drunkenlion.alcoholfriday.global.idempotency.vo.IdempotentResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class JdbcIdempotencyStoreTest {
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private final IdempotentResponse response = IdempotentResponse.builder()
+            .status(201)
+            .body(new byte[0])
+            .build();
+
+    @AfterEach
+    void afterEach() {
+        idempotencyRecordRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("잠금이 남은 처리 중인 키는 선점할 수 없다.")
+    void claimInProgressTest() {
+        JdbcIdempotencyStore store = new JdbcIdempotencyStore(idempotencyRecordRepository, Duration.ofHours(24), Duration.ofSeconds(30));
+
+        IdempotencyClaim first = store.claim("key", "hash");
+        IdempotencyClaim second = store.claim("key", "hash");
+
+        assertThat(first.isOwner()).isTrue();
+        assertThat(second.isOwner()).isFalse();
+        assertThat(second.getResponse()).isNull();
+    }
+
+    @Test
+    @DisplayName("잠금이 지난 처리 중인 키는 새 요청이 넘겨받고, 늦게 끝난 이전 요청은 넘겨받은 기록을 고치지 않는다.")
+    void claimExpiredLockTest() {
+        // 잠금이 이미 지난 선점
+        JdbcIdempotencyStore expiredStore = new JdbcIdempotencyStore(idempotencyRecordRepository, Duration.ofHours(24), Duration.ofSeconds(-1));
+        JdbcIdempotencyStore store = new JdbcIdempotencyStore(idempotencyRecordRepository, Duration.ofHours(24), Duration.ofSeconds(30));
+
+        IdempotencyClaim stale = expiredStore.claim("key", "hash");
+        IdempotencyClaim taken = store.claim("key", "hash");
+
+        expiredStore.complete(stale, response);
+        expiredStore.release(stale, null);
+
+        assertThat(taken.isOwner()).isTrue();
+        assertThat(taken.getRecordId()).isNotEqualTo(stale.getRecordId());
+
+        IdempotencyRecord record = idempotencyRecordRepository.findByScopeKey("key").get();
+        assertThat(record.getId()).isEqualTo(taken.getRecordId());
+        assertThat(record.getCompletedAt()).isNull();
+
+        store.complete(taken, response);
+        assertThat(store.claim("key", "hash").getResponse()).isCompletedWithValueMatching(replayed -> replayed.getStatus() == 201);
+    }
+}
@@ -0,0 +1,180 @@
+package com.drunkenlion.alcoholfriday.global.idempotency.filter;
+
+import com.drunkenlion.alcoholfriday.global.idempotency.application.InMemoryIdempotencyStore;
+import com.drunkenlion.alcoholfriday.global.idempotency.config.IdempotencyProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyFilterTest {
+    private IdempotencyFilter idempotencyFilter;
+    private final AtomicInteger executed = new AtomicInteger();
+
+    @BeforeEach
+    void beforeEach() {
+        IdempotencyProperties idempotencyProperties = new IdempotencyProperties();
+        idempotencyFilter = new IdempotencyFilter(
+                new InMemoryIdempotencyStore(100, Duration.ofMinutes(10), Clock.systemUTC()),
+                idempotencyProperties);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("test@example.com", null, List.of()));
+    }
+
+    @AfterEach
+    void afterEach() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("같은 키로 다시 요청하면 실행하지 않고 처음 응답을 내려준다.")
+    void replayTest() throws Exception {
+        // given
+        FilterChain filterChain = created();
+
+        // when
+        MockHttpServletResponse first = execute("key-1", "{\"itemId\":1}", filterChain);
+        MockHttpServletResponse second = execute("key-1", "{\"itemId\":1}", filterChain);
+
+        // then
+        assertThat(executed.get()).isEqualTo(1);
+        assertThat(second.getStatus()).isEqualTo(201);
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(second.getHeader("Location")).isEqualTo("/v1/orders/1");
+        assertThat(second.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED)).isEqualTo("true");
+        assertThat(first.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED)).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 키로 본문이 다른 요청을 보내면 422")
+    void reusedKeyTest() throws Exception {
+        // given
+        FilterChain filterChain = created();
+        execute("key-1", "{\"itemId\":1}", filterChain);
+
+        // when
+        MockHttpServletResponse response = execute("key-1", "{\"itemId\":2}", filterChain);
+
+        // then
+        assertThat(executed.get()).isEqualTo(1);
+        assertThat(response.getStatus()).isEqualTo(422);
+    }
+
+    @Test
+    @DisplayName("서버 에러 응답은 저장하지 않으므로 같은 키로 다시 실행할 수 있다.")
+    void serverErrorTest() throws Exception {
+        // given
+        FilterChain filterChain = (request, response) -> {
+            executed.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(500);
+        };
+
+        // when
+        execute("key-1", "{}", filterChain);
+        execute("key-1", "{}", filterChain);
+
+        // then
+        assertThat(executed.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("처리 중인 키로 동시에 들어온 요청은 처음 요청이 끝날 때까지 기다렸다가 같은 응답을 받는다.")
+    void coalesceTest() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain created = created();
+        FilterChain filterChain = (request, response) -> {
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            created.doFilter(request, response);
+        };
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        Future<MockHttpServletResponse> first = executorService.submit(() -> {
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken("test@example.com", null, List.of()));
+            return execute("key-1", "{}", filterChain);
+        });
+        started.await(10, TimeUnit.SECONDS);
+
+        // when
+        Future<MockHttpServletResponse> second = executorService.submit(() -> {
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken("test@example.com", null, List.of()));
+            return execute("key-1", "{}", filterChain);
+        });
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        assertThat(second.get(10, TimeUnit.SECONDS).getContentAsString())
+                .isEqualTo(first.get(10, TimeUnit.SECONDS).getContentAsString());
+        assertThat(executed.get()).isEqualTo(1);
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("회원이 다르면 같은 키라도 따로 실행한다.")
+    void otherMemberTest() throws Exception {
+        // given
+        FilterChain filterChain = created();
+        execute("key-1", "{}", filterChain);
+
+        // when
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("test2@example.com", null, List.of()));
+        execute("key-1", "{}", filterChain);
+
+        // then
+        assertThat(executed.get()).isEqualTo(2);
+    }
+
+    private FilterChain created() {
+        return (request, response) -> {
+            int id = executed.incrementAndGet();
+            request.getInputStream().readAllBytes();
+
+            HttpServletResponse httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(201);
+            httpResponse.setHeader("Location", "/v1/orders/" + id);
+            httpResponse.setContentType("application/json");
+            httpResponse.getOutputStream().write(("{\"id\":" + id + "}").getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private MockHttpServletResponse execute(String key, String body, FilterChain filterChain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v1/orders");
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY, key);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        idempotencyFilter.doFilter(request, response, filterChain);
+        return response;
+    }
+}
@@ -0,0 +1,107 @@
+package com.drunkenlion.alcoholfriday.global.ncp.application;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.drunkenlion.alcoholfriday.global.ncp.config.NcpS3Properties;
+import com.drunkenlion.alcoholfriday.global.ncp.util.FakeS3Server;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커밋 후 모아서 지우는 bucket 파일 삭제를 로컬 저장소 서버(FakeS3Server)로 확인한다.
+ */
+class NcpObjectDeleterTest {
+    private final String bucketName = "test-bucket";
+
+    private FakeS3Server fakeS3Server;
+    private AmazonS3Client amazonS3Client;
+    private NcpObjectDeleter ncpObjectDeleter;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        fakeS3Server = FakeS3Server.start();
+
+        NcpS3Properties ncpS3Properties = new NcpS3Properties();
+        NcpS3Properties.S3 s3 = new NcpS3Properties.S3();
+        s3.setBucketName(bucketName);
+        s3.setEndPoint(fakeS3Server.getEndpoint());
+        s3.setRegion("kr-standard");
+        s3.setPathStyleAccess(true);
+        ncpS3Properties.setS3(s3);
+
+        amazonS3Client = (AmazonS3Client) AmazonS3ClientBuilder.standard()
+                .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(s3.getEndPoint(), s3.getRegion()))
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("access", "secret")))
+                .withPathStyleAccessEnabled(s3.isPathStyleAccess())
+                .build();
+
+        ncpObjectDeleter = new NcpObjectDeleter(amazonS3Client, ncpS3Properties);
+    }
+
+    @AfterEach
+    void afterEach() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        amazonS3Client.shutdown();
+        fakeS3Server.close();
+    }
+
+    @Test
+    @DisplayName("대기열의 파일을 1000개씩 나눠 모두 지운다.")
+    void flushTest() {
+        // given
+        List<String> keyNames = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            String keyName = "item/2024/01/item+1_uuid_%04d.png".formatted(i);
+            fakeS3Server.put(bucketName, keyName, new byte[]{1});
+            keyNames.add(keyName);
+        }
+        fakeS3Server.put(bucketName, "item/2024/01/item+1_uuid_remained.png", new byte[]{1});
+        // when
+        ncpObjectDeleter.deleteAfterCommit(keyNames);
+        ncpObjectDeleter.flush();
+        // then
+        assertThat(fakeS3Server.keys()).containsExactly("/" + bucketName + "/item/2024/01/item+1_uuid_remained.png");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 지운 파일은 커밋된 후에만 지운다.")
+    void deleteAfterCommitTest() {
+        // given
+        String committed = "item/2024/01/item+1_uuid_committed.png";
+        String rolledBack = "item/2024/01/item+1_uuid_rolledBack.png";
+        fakeS3Server.put(bucketName, committed, new byte[]{1});
+        fakeS3Server.put(bucketName, rolledBack, new byte[]{1});
+        // when
+        TransactionSynchronizationManager.initSynchronization();
+        ncpObjectDeleter.deleteAfterCommit(List.of(rolledBack));
+        ncpObjectDeleter.flush();
+        boolean existsBeforeCompletion = fakeS3Server.exists(bucketName, rolledBack);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TransactionSynchronizationManager.initSynchronization();
+        ncpObjectDeleter.deleteAfterCommit(List.of(committed));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+        ncpObjectDeleter.flush();
+        // then
+        assertThat(existsBeforeCompletion).isTrue();
+        assertThat(fakeS3Server.exists(bucketName, rolledBack)).isTrue();
+        assertThat(fakeS3Server.exists(bucketName, committed)).isFalse();
+    }
+}
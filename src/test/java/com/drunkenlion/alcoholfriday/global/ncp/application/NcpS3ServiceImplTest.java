@@ -0,0 +1,114 @@
+package com.drunkenlion.alcoholfriday.global.ncp.application;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.Upload;
+import com.drunkenlion.alcoholfriday.domain.item.entity.Item;
+import com.drunkenlion.alcoholfriday.global.file.entity.FileObject;
+import com.drunkenlion.alcoholfriday.global.ncp.config.NcpS3Properties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.net.URL;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NcpS3ServiceImplTest {
+    @InjectMocks
+    private NcpS3ServiceImpl ncpS3Service;
+    @Mock
+    private NcpS3Properties ncpS3Properties;
+    @Mock
+    private AmazonS3Client amazonS3Client;
+    @Mock
+    private TransferManager transferManager;
+    @Mock
+    private Upload upload;
+    @Mock
+    private Upload failedUpload;
+
+    private final String bucketName = "test-bucket";
+    private final Item item = Item.builder().id(1L).build();
+    private final List<MultipartFile> files = List.of(
+            new MockMultipartFile("files", "first.jpg", "image/jpeg", new byte[]{1}),
+            new MockMultipartFile("files", "second.jpg", "image/jpeg", new byte[]{2}),
+            new MockMultipartFile("files", "third.jpg", "image/jpeg", new byte[]{3}));
+
+    @BeforeEach
+    void beforeEach() {
+        NcpS3Properties.S3 s3 = new NcpS3Properties.S3();
+        s3.setBucketName(bucketName);
+        when(ncpS3Properties.getS3()).thenReturn(s3);
+    }
+
+    @Test
+    @DisplayName("여러 파일을 동시에 업로드해도 seq 는 요청한 파일 순서대로 붙는다.")
+    void saveFilesTest() throws Exception {
+        // given
+        when(transferManager.upload(any(PutObjectRequest.class))).thenReturn(upload);
+        when(amazonS3Client.getUrl(eq(bucketName), anyString()))
+                .thenAnswer(invocation -> new URL("https://test.com/" + invocation.getArgument(1)));
+
+        // when
+        List<FileObject> fileObjects = ncpS3Service.saveFiles(item, files);
+
+        // then
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(transferManager, times(3)).upload(captor.capture());
+        verify(upload, times(3)).waitForUploadResult();
+        verify(amazonS3Client, never()).deleteObjects(any(DeleteObjectsRequest.class));
+
+        assertThat(fileObjects).extracting(FileObject::getEntityId).containsOnly(1L);
+        assertThat(fileObjects).extracting(FileObject::getEntityType).containsOnly("item");
+        assertThat(fileObjects).extracting(FileObject::getSeq).containsExactly(1, 2, 3);
+        assertThat(fileObjects).extracting(FileObject::getKeyName)
+                .containsExactlyElementsOf(captor.getAllValues().stream().map(PutObjectRequest::getKey).toList());
+        assertThat(fileObjects.get(0).getKeyName()).endsWith("first.jpg");
+        assertThat(fileObjects.get(2).getPath()).endsWith("third.jpg");
+        assertThat(captor.getValue().getMetadata().getContentLength()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("업로드 중 하나라도 실패하면 나머지 업로드를 취소하고 올린 파일을 한 번에 지운다.")
+    void saveFilesFailTest() throws Exception {
+        // given
+        when(transferManager.upload(any(PutObjectRequest.class))).thenReturn(upload, failedUpload, upload);
+        when(failedUpload.waitForUploadResult()).thenThrow(new AmazonClientException("upload fail"));
+
+        // when
+        assertThrows(SdkClientException.class, () -> ncpS3Service.saveFiles(item, files));
+
+        // then
+        ArgumentCaptor<DeleteObjectsRequest> captor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(amazonS3Client, times(1)).deleteObjects(captor.capture());
+        verify(upload, times(2)).abort();
+        verify(failedUpload, times(1)).abort();
+        verify(amazonS3Client, never()).getUrl(anyString(), anyString());
+
+        assertThat(captor.getValue().getBucketName()).isEqualTo(bucketName);
+        assertThat(captor.getValue().getKeys()).hasSize(3);
+        assertThat(captor.getValue().getQuiet()).isTrue();
+    }
+}
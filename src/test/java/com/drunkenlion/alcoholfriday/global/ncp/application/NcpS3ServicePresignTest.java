@@ -0,0 +1,147 @@
+package com.drunkenlion.alcoholfriday.global.ncp.application;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.drunkenlion.alcoholfriday.domain.item.entity.Item;
+import com.drunkenlion.alcoholfriday.global.common.response.HttpResponse;
+import com.drunkenlion.alcoholfriday.global.exception.BusinessException;
+import com.drunkenlion.alcoholfriday.global.file.entity.FileObject;
+import com.drunkenlion.alcoholfriday.global.ncp.config.NcpS3Properties;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadInfo;
+import com.drunkenlion.alcoholfriday.global.ncp.dto.FileUploadResponse;
+import com.drunkenlion.alcoholfriday.global.ncp.util.FakeS3Server;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 직접 업로드(서명된 URL) 흐름을 로컬 저장소 서버(FakeS3Server)로 확인한다.
+ */
+class NcpS3ServicePresignTest {
+    private final String bucketName = "test-bucket";
+    private final Item item = Item.builder().id(1L).build();
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private FakeS3Server fakeS3Server;
+    private AmazonS3Client amazonS3Client;
+    private NcpS3ServiceImpl ncpS3Service;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        fakeS3Server = FakeS3Server.start();
+
+        NcpS3Properties ncpS3Properties = new NcpS3Properties();
+        NcpS3Properties.S3 s3 = new NcpS3Properties.S3();
+        s3.setBucketName(bucketName);
+        s3.setEndPoint(fakeS3Server.getEndpoint());
+        s3.setRegion("kr-standard");
+        s3.setPathStyleAccess(true);
+        ncpS3Properties.setS3(s3);
+        ncpS3Properties.getPresign().setMaxSize(DataSize.ofBytes(4));
+
+        amazonS3Client = (AmazonS3Client) AmazonS3ClientBuilder.standard()
+                .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(s3.getEndPoint(), s3.getRegion()))
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("access", "secret")))
+                .withPathStyleAccessEnabled(s3.isPathStyleAccess())
+                .build();
+
+        ncpS3Service = new NcpS3ServiceImpl(null, ncpS3Properties, amazonS3Client, null);
+    }
+
+    @AfterEach
+    void afterEach() {
+        amazonS3Client.shutdown();
+        fakeS3Server.close();
+    }
+
+    @Test
+    @DisplayName("발급한 URL 로 올린 파일은 업로드 완료 후 공개되고 파일 row 가 된다.")
+    void uploadTest() throws Exception {
+        // given
+        FileUploadResponse upload = ncpS3Service.createUploadUrl(item, getFileUploadInfo("../사진 1.png", 3L));
+
+        // when
+        int status = put(upload, new byte[]{1, 2, 3});
+        boolean publicBeforeComplete = fakeS3Server.isPublic(bucketName, upload.getKeyName());
+        FileObject fileObject = ncpS3Service.completeUpload(item, 3, upload.getKeyName());
+
+        // then
+        assertThat(status).isEqualTo(200);
+        assertThat(upload.getKeyName()).startsWith("item/").endsWith("_사진 1.png").doesNotContain("..");
+        assertThat(publicBeforeComplete).isFalse();
+        assertThat(fakeS3Server.isPublic(bucketName, upload.getKeyName())).isTrue();
+        assertThat(fileObject.getSeq()).isEqualTo(3);
+        assertThat(fileObject.getEntityType()).isEqualTo("item");
+        assertThat(fileObject.getEntityId()).isEqualTo(item.getId());
+        assertThat(fileObject.getKeyName()).isEqualTo(upload.getKeyName());
+    }
+
+    @Test
+    @DisplayName("허용 크기를 넘는 파일은 URL 을 발급하지 않고, 올린 파일이 크면 지운다.")
+    void sizeExceededTest() throws Exception {
+        // given
+        FileUploadResponse upload = ncpS3Service.createUploadUrl(item, getFileUploadInfo("image.png", 3L));
+        put(upload, new byte[]{1, 2, 3, 4, 5});
+
+        // when
+        BusinessException presignException = assertThrows(BusinessException.class,
+                () -> ncpS3Service.createUploadUrl(item, getFileUploadInfo("image.png", 5L)));
+        BusinessException completeException = assertThrows(BusinessException.class,
+                () -> ncpS3Service.completeUpload(item, 1, upload.getKeyName()));
+
+        // then
+        assertThat(presignException.getStatus()).isEqualTo(HttpResponse.Fail.FILE_SIZE_EXCEEDED.getStatus());
+        assertThat(completeException.getStatus()).isEqualTo(HttpResponse.Fail.FILE_SIZE_EXCEEDED.getStatus());
+        assertThat(fakeS3Server.exists(bucketName, upload.getKeyName())).isFalse();
+    }
+
+    @Test
+    @DisplayName("올리지 않은 파일이나 다른 entity 의 파일은 완료할 수 없다.")
+    void notFoundTest() throws Exception {
+        // given
+        Item other = Item.builder().id(2L).build();
+        FileUploadResponse notUploaded = ncpS3Service.createUploadUrl(item, getFileUploadInfo("image.png", 3L));
+        FileUploadResponse otherUpload = ncpS3Service.createUploadUrl(other, getFileUploadInfo("image.png", 3L));
+        put(otherUpload, new byte[]{1, 2, 3});
+
+        // when
+        BusinessException notUploadedException = assertThrows(BusinessException.class,
+                () -> ncpS3Service.completeUpload(item, 1, notUploaded.getKeyName()));
+        BusinessException otherException = assertThrows(BusinessException.class,
+                () -> ncpS3Service.completeUpload(item, 1, otherUpload.getKeyName()));
+
+        // then
+        assertThat(notUploadedException.getStatus()).isEqualTo(HttpResponse.Fail.NOT_FOUND_FILE.getStatus());
+        assertThat(otherException.getStatus()).isEqualTo(HttpResponse.Fail.NOT_FOUND_FILE.getStatus());
+        assertThat(fakeS3Server.isPublic(bucketName, otherUpload.getKeyName())).isFalse();
+    }
+
+    private FileUploadInfo getFileUploadInfo(String fileName, Long size) {
+        return FileUploadInfo.builder()
+                .fileName(fileName)
+                .contentType("image/png")
+                .size(size)
+                .build();
+    }
+
+    private int put(FileUploadResponse upload, byte[] bytes) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(upload.getUploadUrl()))
+                .header("Content-Type", upload.getContentType())
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(bytes))
+                .build();
+        return httpClient.send(request, BodyHandlers.discarding()).statusCode();
+    }
+}
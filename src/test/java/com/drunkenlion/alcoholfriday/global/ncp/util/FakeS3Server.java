@@ -0,0 +1,372 @@
+package com.drunkenlion.alcoholfriday.global.ncp.util;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 테스트용 로컬 저장소 서버 (S3 호환, path-style)
+ * - 객체 PUT/GET/HEAD/DELETE, 목록 조회(GET ?list-type=2), 여러 객체 삭제(POST ?delete), ACL 변경(PUT ?acl)만 흉내 낸다.
+ * - 서명은 검증하지 않고, 인증 헤더나 서명 파라미터가 없는 요청만 403 으로 거절한다.
+ */
+public class FakeS3Server implements AutoCloseable {
+    private static final Pattern DELETE_KEY = Pattern.compile("<Key>(.*?)</Key>", Pattern.DOTALL);
+
+    private final HttpServer server;
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+
+    private FakeS3Server() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext("/", this::handle);
+    }
+
+    public static FakeS3Server start() throws IOException {
+        FakeS3Server fakeS3Server = new FakeS3Server();
+        fakeS3Server.server.start();
+        return fakeS3Server;
+    }
+
+    public String getEndpoint() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public boolean exists(String bucketName, String keyName) {
+        return objects.containsKey(path(bucketName, keyName));
+    }
+
+    public boolean isPublic(String bucketName, String keyName) {
+        StoredObject object = objects.get(path(bucketName, keyName));
+        return object != null && object.publicRead;
+    }
+
+    public Set<String> keys() {
+        return objects.keySet();
+    }
+
+    public void put(String bucketName, String keyName, byte[] bytes) {
+        put(bucketName, keyName, bytes, Instant.now());
+    }
+
+    public void put(String bucketName, String keyName, byte[] bytes, Instant lastModified) {
+        StoredObject object = new StoredObject(bytes, "application/octet-stream", false);
+        object.lastModified = lastModified;
+        objects.put(path(bucketName, keyName), object);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            URI uri = exchange.getRequestURI();
+            String query = uri.getRawQuery() == null ? "" : uri.getRawQuery();
+            String path = URLDecoder.decode(uri.getRawPath().replace("+", "%2B"), StandardCharsets.UTF_8);
+
+            if (!isAuthorized(exchange, query)) {
+                respond(exchange, 403, "");
+                return;
+            }
+
+            switch (exchange.getRequestMethod()) {
+                case "PUT" -> {
+                    if (query.contains("acl")) {
+                        putAcl(exchange, path);
+                    } else {
+                        putObject(exchange, path);
+                    }
+                }
+                case "GET" -> {
+                    if (query.contains("list-type=2")) {
+                        listObjects(exchange, path, query);
+                    } else {
+                        getObject(exchange, path);
+                    }
+                }
+                case "HEAD" -> headObject(exchange, path);
+                case "DELETE" -> {
+                    objects.remove(path);
+                    respond(exchange, 204, null);
+                }
+                case "POST" -> deleteObjects(exchange, path, query);
+                default -> respond(exchange, 405, "");
+            }
+        }
+    }
+
+    private boolean isAuthorized(HttpExchange exchange, String query) {
+        return exchange.getRequestHeaders().containsKey("Authorization")
+                || query.contains("X-Amz-Signature=")
+                || query.contains("Signature=");
+    }
+
+    private void putObject(HttpExchange exchange, String path) throws IOException {
+        byte[] bytes = readBody(exchange);
+        String contentSha256 = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+        if (contentSha256 != null && contentSha256.startsWith("STREAMING-")) {
+            bytes = decodeChunked(bytes);
+        }
+
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        boolean publicRead = "public-read".equals(exchange.getRequestHeaders().getFirst("x-amz-acl"));
+
+        objects.put(path, new StoredObject(bytes, contentType, publicRead));
+        // SDK 가 올린 내용의 MD5 와 비교한다.
+        exchange.getResponseHeaders().set("ETag", "\"" + md5(bytes) + "\"");
+        respond(exchange, 200, "");
+    }
+
+    private void putAcl(HttpExchange exchange, String path) throws IOException {
+        readBody(exchange);
+        StoredObject object = objects.get(path);
+        if (object == null) {
+            respond(exchange, 404, notFound());
+            return;
+        }
+
+        object.publicRead = "public-read".equals(exchange.getRequestHeaders().getFirst("x-amz-acl"));
+        respond(exchange, 200, "");
+    }
+
+    private void getObject(HttpExchange exchange, String path) throws IOException {
+        StoredObject object = objects.get(path);
+        if (object == null) {
+            respond(exchange, 404, notFound());
+            return;
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", object.contentType);
+        exchange.sendResponseHeaders(200, object.bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(object.bytes);
+        }
+    }
+
+    // HEAD 응답은 본문이 없으므로 Content-Length 를 헤더에 직접 쓴다.
+    private void headObject(HttpExchange exchange, String path) throws IOException {
+        StoredObject object = objects.get(path);
+        if (object == null) {
+            exchange.sendResponseHeaders(404, -1);
+            return;
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", object.contentType);
+        exchange.getResponseHeaders().set("Content-Length", String.valueOf(object.bytes.length));
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    // ListObjectsV2 - key 순서로 max-keys 개씩 돌려주고, 마지막 key(Base64)를 다음 페이지 토큰으로 쓴다.
+    private void listObjects(HttpExchange exchange, String path, String query) throws IOException {
+        Map<String, String> params = parseQuery(query);
+        String bucketPath = (path.endsWith("/") ? path.substring(0, path.length() - 1) : path) + "/";
+        String prefix = params.getOrDefault("prefix", "");
+        String after = params.containsKey("continuation-token")
+                ? new String(Base64.getUrlDecoder().decode(params.get("continuation-token")), StandardCharsets.UTF_8)
+                : params.getOrDefault("start-after", "");
+        int maxKeys = Integer.parseInt(params.getOrDefault("max-keys", "1000"));
+        boolean urlEncoding = "url".equals(params.get("encoding-type"));
+
+        List<String> keyNames = objects.keySet().stream()
+                .filter(objectPath -> objectPath.startsWith(bucketPath + prefix))
+                .map(objectPath -> objectPath.substring(bucketPath.length()))
+                .filter(keyName -> keyName.compareTo(after) > 0)
+                .sorted()
+                .toList();
+        List<String> page = keyNames.subList(0, Math.min(maxKeys, keyNames.size()));
+        boolean truncated = keyNames.size() > page.size();
+
+        StringBuilder body = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                + "<ListBucketResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">")
+                .append("<Name>").append(bucketPath, 1, bucketPath.length() - 1).append("</Name>")
+                .append("<Prefix>").append(encodeKey(prefix, urlEncoding)).append("</Prefix>")
+                .append("<KeyCount>").append(page.size()).append("</KeyCount>")
+                .append("<MaxKeys>").append(maxKeys).append("</MaxKeys>")
+                .append("<IsTruncated>").append(truncated).append("</IsTruncated>");
+        if (urlEncoding) {
+            body.append("<EncodingType>url</EncodingType>");
+        }
+        if (truncated) {
+            body.append("<NextContinuationToken>")
+                    .append(Base64.getUrlEncoder().withoutPadding()
+                            .encodeToString(page.get(page.size() - 1).getBytes(StandardCharsets.UTF_8)))
+                    .append("</NextContinuationToken>");
+        }
+        for (String keyName : page) {
+            StoredObject object = objects.get(bucketPath + keyName);
+            if (object == null) {
+                continue;
+            }
+
+            body.append("<Contents>")
+                    .append("<Key>").append(encodeKey(keyName, urlEncoding)).append("</Key>")
+                    .append("<LastModified>").append(object.lastModified.truncatedTo(ChronoUnit.MILLIS)).append("</LastModified>")
+                    .append("<ETag>&quot;").append(md5(object.bytes)).append("&quot;</ETag>")
+                    .append("<Size>").append(object.bytes.length).append("</Size>")
+                    .append("<StorageClass>STANDARD</StorageClass>")
+                    .append("</Contents>");
+        }
+        body.append("</ListBucketResult>");
+
+        respond(exchange, 200, body.toString());
+    }
+
+    private void deleteObjects(HttpExchange exchange, String path, String query) throws IOException {
+        if (!query.contains("delete")) {
+            respond(exchange, 405, "");
+            return;
+        }
+
+        String bucketPath = path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+        Matcher matcher = DELETE_KEY.matcher(new String(readBody(exchange), StandardCharsets.UTF_8));
+        while (matcher.find()) {
+            objects.remove(bucketPath + "/" + unescapeXml(matcher.group(1)));
+        }
+
+        respond(exchange, 200, "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                + "<DeleteResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\"></DeleteResult>");
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        if (!body.isEmpty()) {
+            exchange.getResponseHeaders().set("Content-Type", "application/xml");
+        }
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(bytes);
+            }
+        }
+    }
+
+    private String notFound() {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                + "<Error><Code>NoSuchKey</Code><Message>The specified key does not exist.</Message></Error>";
+    }
+
+    private byte[] readBody(HttpExchange exchange) throws IOException {
+        try (InputStream inputStream = exchange.getRequestBody()) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    // SDK 는 http 로 올릴 때 본문을 서명된 조각(aws-chunked)으로 나눠 보낸다. "크기;chunk-signature=...\r\n내용\r\n"
+    private static byte[] decodeChunked(byte[] body) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        int position = 0;
+        while (position < body.length) {
+            int lineEnd = indexOfCrlf(body, position);
+            String header = new String(body, position, lineEnd - position, StandardCharsets.US_ASCII);
+            int size = Integer.parseInt(header.split(";")[0].trim(), 16);
+            if (size == 0) {
+                break;
+            }
+
+            outputStream.write(body, lineEnd + 2, size);
+            position = lineEnd + 2 + size + 2;
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static int indexOfCrlf(byte[] body, int from) {
+        for (int i = from; i < body.length - 1; i++) {
+            if (body[i] == '\r' && body[i + 1] == '\n') {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("aws-chunked 형식이 아닙니다.");
+    }
+
+    private static String md5(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> params = new HashMap<>();
+        for (String param : query.split("&")) {
+            if (param.isEmpty()) {
+                continue;
+            }
+
+            int equals = param.indexOf('=');
+            String name = equals < 0 ? param : param.substring(0, equals);
+            String value = equals < 0 ? "" : param.substring(equals + 1);
+            params.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    // SDK 는 encoding-type=url 로 요청하고 받은 key 를 다시 디코딩한다.
+    private static String encodeKey(String keyName, boolean urlEncoding) {
+        if (!urlEncoding) {
+            return escapeXml(keyName);
+        }
+        return URLEncoder.encode(keyName, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    private static String escapeXml(String value) {
+        return value.replace("&", "&amp;")
+                .replace("<", "&lt;")
+                .replace(">", "&gt;")
+                .replace("\"", "&quot;")
+                .replace("'", "&apos;");
+    }
+
+    private static String unescapeXml(String value) {
+        return value.replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&apos;", "'")
+                .replace("&amp;", "&");
+    }
+
+    private static String path(String bucketName, String keyName) {
+        return "/" + bucketName + "/" + keyName;
+    }
+
+    private static class StoredObject {
+        private final byte[] bytes;
+        private final String contentType;
+        private volatile boolean publicRead;
+        private Instant lastModified = Instant.now();
+
+        private StoredObject(byte[] bytes, String contentType, boolean publicRead) {
+            this.bytes = bytes;
+            this.contentType = contentType == null ? "application/octet-stream" : contentType;
+            this.publicRead = publicRead;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.drunkenlion.alcoholfriday.global.ncp.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ImageResizerTest {
+    @Test
+    @DisplayName("비율을 유지한 채 너비를 줄이고, 투명한 부분은 흰색으로 채운다.")
+    void resizeTest() {
+        BufferedImage source = new BufferedImage(1000, 500, BufferedImage.TYPE_INT_ARGB);
+
+        BufferedImage resized = ImageResizer.resize(source, 160);
+
+        assertThat(resized.getWidth()).isEqualTo(160);
+        assertThat(resized.getHeight()).isEqualTo(80);
+        assertThat(resized.getRGB(0, 0)).isEqualTo(0xFFFFFFFF);
+    }
+
+    @Test
+    @DisplayName("원본보다 큰 너비로는 늘리지 않는다.")
+    void resizeSmallerTest() {
+        BufferedImage source = new BufferedImage(100, 30, BufferedImage.TYPE_INT_RGB);
+
+        BufferedImage resized = ImageResizer.resize(source, 160);
+
+        assertThat(resized.getWidth()).isEqualTo(100);
+        assertThat(resized.getHeight()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("JPEG 으로 변환한 이미지는 다시 읽을 수 있다.")
+    void toJpegTest() throws Exception {
+        BufferedImage image = ImageResizer.resize(new BufferedImage(480, 320, BufferedImage.TYPE_INT_RGB), 160);
+
+        byte[] jpeg = ImageResizer.toJpeg(image, 0.8f);
+        BufferedImage read = ImageIO.read(new ByteArrayInputStream(jpeg));
+
+        assertThat(read.getWidth()).isEqualTo(160);
+        assertThat(read.getHeight()).isEqualTo(107);
+    }
+
+    @Test
+    @DisplayName("픽셀 수가 최대값 이하인 이미지는 읽고, 이미지가 아니면 null 을 돌려준다.")
+    void readTest() throws Exception {
+        byte[] png = toPng(new BufferedImage(400, 300, BufferedImage.TYPE_INT_RGB));
+
+        BufferedImage read = ImageResizer.read(new ByteArrayInputStream(png), 400 * 300);
+        BufferedImage notImage = ImageResizer.read(new ByteArrayInputStream("text".getBytes()), 400 * 300);
+
+        assertThat(read.getWidth()).isEqualTo(400);
+        assertThat(read.getHeight()).isEqualTo(300);
+        assertThat(notImage).isNull();
+    }
+
+    @Test
+    @DisplayName("헤더의 픽셀 수가 최대값을 넘으면 디코딩하지 않는다.")
+    void readTooLargeTest() throws Exception {
+        byte[] png = toPng(new BufferedImage(400, 300, BufferedImage.TYPE_INT_RGB));
+
+        assertThrows(IOException.class, () -> ImageResizer.read(new ByteArrayInputStream(png), 400 * 300 - 1));
+    }
+
+    @Test
+    @DisplayName("EXIF Orientation 이 있는 JPEG 은 보이는 방향으로 돌려서 읽는다.")
+    void readOrientationTest() throws Exception {
+        // 왼쪽 위가 빨간 400 x 200 사진을 시계 방향 90도로 돌려 보여주도록 저장 (Orientation 6)
+        BufferedImage source = new BufferedImage(400, 200, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = source.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, 400, 200);
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, 40, 40);
+        graphics.dispose();
+        byte[] jpeg = withExifOrientation(ImageResizer.toJpeg(source, 0.9f), 6);
+
+        BufferedImage read = ImageResizer.read(new ByteArrayInputStream(jpeg), 400 * 200);
+
+        // 돌린 뒤에는 200 x 400 이고 빨간 부분이 오른쪽 위에 있다.
+        assertThat(read.getWidth()).isEqualTo(200);
+        assertThat(read.getHeight()).isEqualTo(400);
+        assertThat(new Color(read.getRGB(180, 20)).getRed()).isGreaterThan(200);
+        assertThat(new Color(read.getRGB(180, 20)).getGreen()).isLessThan(60);
+        assertThat(new Color(read.getRGB(20, 20)).getGreen()).isGreaterThan(200);
+    }
+
+    @Test
+    @DisplayName("EXIF Orientation 은 바이트 순서와 관계없이 읽고, 없거나 잘못된 값이면 1 이다.")
+    void readExifOrientationTest() {
+        assertThat(ImageResizer.readExifOrientation(exif(8, false))).isEqualTo(8);
+        assertThat(ImageResizer.readExifOrientation(exif(3, true))).isEqualTo(3);
+        assertThat(ImageResizer.readExifOrientation(exif(9, true))).isEqualTo(1);
+        assertThat(ImageResizer.readExifOrientation("http://ns.adobe.com/xap/1.0/".getBytes())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("좌우, 상하 반전과 회전은 픽셀 위치를 EXIF Orientation 정의대로 옮긴다.")
+    void orientTest() {
+        BufferedImage source = new BufferedImage(3, 2, BufferedImage.TYPE_INT_RGB);
+        source.setRGB(0, 0, 0xFF0000);
+
+        assertThat(ImageResizer.orient(source, 1)).isSameAs(source);
+        assertThat(ImageResizer.orient(source, 2).getRGB(2, 0) & 0xFFFFFF).isEqualTo(0xFF0000);
+        assertThat(ImageResizer.orient(source, 3).getRGB(2, 1) & 0xFFFFFF).isEqualTo(0xFF0000);
+        assertThat(ImageResizer.orient(source, 4).getRGB(0, 1) & 0xFFFFFF).isEqualTo(0xFF0000);
+        assertThat(ImageResizer.orient(source, 5).getRGB(0, 0) & 0xFFFFFF).isEqualTo(0xFF0000);
+        assertThat(ImageResizer.orient(source, 6).getRGB(1, 0) & 0xFFFFFF).isEqualTo(0xFF0000);
+        assertThat(ImageResizer.orient(source, 7).getRGB(1, 2) & 0xFFFFFF).isEqualTo(0xFF0000);
+        assertThat(ImageResizer.orient(source, 8).getRGB(0, 2) & 0xFFFFFF).isEqualTo(0xFF0000);
+        assertThat(ImageResizer.orient(source, 6).getWidth()).isEqualTo(2);
+        assertThat(ImageResizer.orient(source, 6).getHeight()).isEqualTo(3);
+    }
+
+    // JFIF APP0 바로 뒤에 Orientation 만 담은 APP1 (EXIF) 세그먼트를 넣는다.
+    private byte[] withExifOrientation(byte[] jpeg, int orientation) {
+        byte[] exif = exif(orientation, false);
+        int app0End = 4 + (((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.write(jpeg, 0, app0End);
+        outputStream.write(0xFF);
+        outputStream.write(0xE1);
+        outputStream.write((exif.length + 2) >> 8);
+        outputStream.write((exif.length + 2) & 0xFF);
+        outputStream.write(exif, 0, exif.length);
+        outputStream.write(jpeg, app0End, jpeg.length - app0End);
+        return outputStream.toByteArray();
+    }
+
+    // "Exif\0\0" + TIFF 헤더 + Orientation 항목 하나짜리 IFD
+    private byte[] exif(int orientation, boolean littleEndian) {
+        ByteBuffer buffer = ByteBuffer.allocate(6 + 8 + 2 + 12 + 4)
+                .order(littleEndian ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        buffer.put(new byte[]{'E', 'x', 'i', 'f', 0, 0});
+        buffer.put(littleEndian ? new byte[]{'I', 'I'} : new byte[]{'M', 'M'});
+        buffer.putShort((short) 42);
+        buffer.putInt(8);
+        buffer.putShort((short) 1);
+        buffer.putShort((short) 0x0112);
+        buffer.putShort((short) 3);
+        buffer.putInt(1);
+        buffer.putShort((short) orientation);
+        buffer.putShort((short) 0);
+        buffer.putInt(0);
+        return buffer.array();
+    }
+
+    private byte[] toPng(BufferedImage image) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+        return outputStream.toByteArray();
+    }
+}